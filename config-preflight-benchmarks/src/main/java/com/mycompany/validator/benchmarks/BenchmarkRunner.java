@@ -0,0 +1,40 @@
+package com.mycompany.validator.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Point d'entrée de target/benchmarks.jar.
+ *
+ * Accepte les options habituelles de JMH (filtre, -p keys=1000, -f, -wi...) et ajoute toujours
+ * le profileur d'allocations (-prof gc) : gc.alloc.rate.norm (octets alloués par opération)
+ * figure dans chaque résultat, écrit en JSON dans jmh-result.json sauf si -rf ou -rff est fourni.
+ *
+ * Exemples :
+ * - java -jar target/benchmarks.jar
+ * - java -jar target/benchmarks.jar SpringValidatorBenchmark -p keys=10000 -p nesting=0
+ */
+public final class BenchmarkRunner {
+    
+    private BenchmarkRunner() {
+    }
+    
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(commandLine);
+        builder.addProfiler(GCProfiler.class);
+        if (!commandLine.getResult().hasValue() && !commandLine.getResultFormat().hasValue()) {
+            builder.result("jmh-result.json");
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        
+        Options options = builder.build();
+        new Runner(options).run();
+    }
+}
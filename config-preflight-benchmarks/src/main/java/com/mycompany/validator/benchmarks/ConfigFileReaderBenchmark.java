@@ -0,0 +1,93 @@
+package com.mycompany.validator.benchmarks;
+
+import com.mycompany.validator.core.source.ConfigFileReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lecture des fichiers de configuration : lecteur en flux du core comparé aux chargeurs
+ * de référence (java.util.Properties, SnakeYAML qui construit l'arbre du document).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigFileReaderBenchmark {
+    
+    @Param({"100", "1000", "10000"})
+    public int keys;
+    
+    private String properties;
+    private String yaml;
+    
+    @Setup
+    public void setUp() {
+        Map<String, Object> configuration = SyntheticConfiguration.generate(keys, 0.3, 1);
+        
+        StringBuilder propertiesContent = new StringBuilder();
+        StringBuilder yamlContent = new StringBuilder();
+        String[] previous = new String[0];
+        for (Map.Entry<String, Object> entry : configuration.entrySet()) {
+            propertiesContent.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+            
+            // Arborescence YAML : seuls les segments qui changent par rapport à la clé précédente sont écrits
+            String[] segments = entry.getKey().split("\\.");
+            int common = 0;
+            while (common < previous.length && common < segments.length - 1 && previous[common].equals(segments[common])) {
+                common++;
+            }
+            for (int level = common; level < segments.length; level++) {
+                yamlContent.append("  ".repeat(level)).append(segments[level]).append(':');
+                yamlContent.append(level < segments.length - 1 ? "\n" : " \"" + entry.getValue() + "\"\n");
+            }
+            previous = segments;
+        }
+        properties = propertiesContent.toString();
+        yaml = yamlContent.toString();
+    }
+    
+    @Benchmark
+    public void streamProperties(Blackhole blackhole) throws IOException {
+        ConfigFileReader.readProperties(properties, (key, value, line, column) -> blackhole.consume(value));
+    }
+    
+    @Benchmark
+    public Properties loadProperties() throws IOException {
+        Properties loaded = new Properties();
+        loaded.load(new StringReader(properties));
+        return loaded;
+    }
+    
+    @Benchmark
+    public void streamYaml(Blackhole blackhole) throws IOException {
+        ConfigFileReader.readYaml(yaml, (key, value, line, column) -> blackhole.consume(value));
+    }
+    
+    @Benchmark
+    public void snakeYaml(Blackhole blackhole) {
+        for (Object document : new Yaml(new SafeConstructor(new LoaderOptions())).loadAll(yaml)) {
+            blackhole.consume(document);
+        }
+    }
+}
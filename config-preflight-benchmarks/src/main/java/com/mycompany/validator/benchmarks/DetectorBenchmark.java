@@ -0,0 +1,81 @@
+package com.mycompany.validator.benchmarks;
+
+import com.mycompany.validator.core.detector.PlaceholderDetector;
+import com.mycompany.validator.core.detector.PropertyBindingResolver;
+import com.mycompany.validator.core.detector.SecretDetector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Détecteurs du core appelés une fois par propriété au démarrage.
+ *
+ * Chaque invocation traite un lot de valeurs/noms issus d'une configuration synthétique,
+ * afin de mesurer un mélange réaliste plutôt qu'une seule chaîne.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DetectorBenchmark {
+    
+    private static final int BATCH = 1000;
+    
+    private final PlaceholderDetector placeholderDetector = new PlaceholderDetector();
+    private final SecretDetector secretDetector = new SecretDetector();
+    private final PropertyBindingResolver bindingResolver = new PropertyBindingResolver();
+    
+    private List<String> names;
+    private List<String> values;
+    
+    @Setup
+    public void setUp() {
+        Map<String, Object> properties = SyntheticConfiguration.generate(BATCH, 0.3, 1);
+        names = new ArrayList<>(properties.keySet());
+        values = new ArrayList<>();
+        for (Object value : properties.values()) {
+            values.add((String) value);
+        }
+        
+        // Quelques noms sensibles, comme dans une vraie configuration
+        for (int i = 0; i < names.size(); i += 10) {
+            names.set(i, names.get(i) + (i % 20 == 0 ? ".password" : ".api-key"));
+        }
+    }
+    
+    @Benchmark
+    public void detectRequiredPlaceholders(Blackhole blackhole) {
+        for (String value : values) {
+            blackhole.consume(placeholderDetector.detectRequiredPlaceholders(value));
+        }
+    }
+    
+    @Benchmark
+    public void isSensitive(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(secretDetector.isSensitive(name));
+        }
+    }
+    
+    @Benchmark
+    public void getAllVariants(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(bindingResolver.getAllVariants(name));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.mycompany.validator.benchmarks;
+
+import com.mycompany.validator.core.api.ValidationResult;
+import com.mycompany.validator.core.formatter.BeautifulErrorFormatter;
+import com.mycompany.validator.core.model.ConfigurationError;
+import com.mycompany.validator.core.model.ErrorType;
+import com.mycompany.validator.core.model.PropertySource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendu du rapport d'erreurs : mesuré avec des erreurs variées (sensibles, suggestions
+ * multi-lignes, positions dans les fichiers), comme un démarrage en échec.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatterBenchmark {
+    
+    @Param({"10", "100", "1000"})
+    public int errorCount;
+    
+    private final BeautifulErrorFormatter formatter = new BeautifulErrorFormatter();
+    
+    private ValidationResult result;
+    
+    @Setup
+    public void setUp() {
+        ErrorType[] types = {ErrorType.MISSING_PROPERTY, ErrorType.UNRESOLVED_PLACEHOLDER, ErrorType.EMPTY_VALUE};
+        List<ConfigurationError> errors = new ArrayList<>(errorCount);
+        
+        for (int i = 0; i < errorCount; i++) {
+            String propertyName = SyntheticConfiguration.keyName(i) + (i % 5 == 0 ? ".password" : ".url");
+            errors.add(ConfigurationError.builder()
+                .type(types[i % types.length])
+                .propertyName(propertyName)
+                .source(new PropertySource("application-dev.yml", "classpath:application-dev.yml",
+                    PropertySource.SourceType.APPLICATION_YAML, i + 1, 5))
+                .errorMessage("Property '" + propertyName + "' is not set")
+                .suggestion("Add to application.yml: " + propertyName + ": <value>\n"
+                    + "OR set environment variable: export " + propertyName.replace('.', '_').toUpperCase() + "=<value>")
+                .isSensitive(i % 5 == 0)
+                .build());
+        }
+        
+        result = new ValidationResult(errors);
+    }
+    
+    @Benchmark
+    public String format() {
+        return formatter.format(result);
+    }
+    
+    /**
+     * Rendu en flux, tel qu'utilisé au démarrage (System.err) : sans chaîne intermédiaire.
+     */
+    @Benchmark
+    public void formatToWriter() throws IOException {
+        formatter.format(result, Writer.nullWriter());
+    }
+}
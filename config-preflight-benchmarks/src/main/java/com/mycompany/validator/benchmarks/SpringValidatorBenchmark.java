@@ -0,0 +1,89 @@
+package com.mycompany.validator.benchmarks;
+
+import com.mycompany.validator.core.api.ValidationResult;
+import com.mycompany.validator.core.engine.ValidationEngine;
+import com.mycompany.validator.springboot.SpringBootConfigurationValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation complète des placeholders Spring Boot sur des environnements synthétiques :
+ * graphe de dépendances, détection de cycles, scan et résolution de chaque valeur.
+ *
+ * Les sources système sont retirées pour que les résultats ne dépendent pas de la machine.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SpringValidatorBenchmark {
+    
+    @Param({"1000", "10000", "100000"})
+    public int keys;
+    
+    /**
+     * Part des valeurs contenant un placeholder.
+     */
+    @Param({"0.1", "0.5"})
+    public double density;
+    
+    /**
+     * Profondeur des valeurs par défaut imbriquées.
+     */
+    @Param({"0", "3"})
+    public int nesting;
+    
+    /**
+     * Threads du {@link ValidationEngine} (1 = séquentiel).
+     */
+    @Param({"1", "4"})
+    public int parallelism;
+    
+    private SpringBootConfigurationValidator validator;
+    
+    @Setup
+    public void setUp() {
+        StandardEnvironment environment = new StandardEnvironment();
+        MutablePropertySources sources = environment.getPropertySources();
+        sources.remove(StandardEnvironment.SYSTEM_PROPERTIES_PROPERTY_SOURCE_NAME);
+        sources.remove(StandardEnvironment.SYSTEM_ENVIRONMENT_PROPERTY_SOURCE_NAME);
+        
+        Map<String, Object> properties = SyntheticConfiguration.generate(keys, density, nesting);
+        sources.addFirst(new MapPropertySource(
+            "Config resource 'class path resource [application.yml]' via location 'optional:classpath:/'",
+            properties));
+        sources.addFirst(new MapPropertySource("benchmark",
+            Collections.singletonMap(ValidationEngine.PARALLELISM_PROPERTY, String.valueOf(parallelism))));
+        
+        validator = new SpringBootConfigurationValidator(environment);
+        
+        // Configuration valide par construction : une erreur fausserait la mesure
+        ValidationResult result = validator.validatePlaceholders();
+        if (result.hasErrors()) {
+            throw new IllegalStateException("Synthetic configuration is invalid: " + result.getErrorCount() + " error(s)");
+        }
+    }
+    
+    @Benchmark
+    public ValidationResult validatePlaceholders() {
+        return validator.validatePlaceholders();
+    }
+}
@@ -0,0 +1,64 @@
+package com.mycompany.validator.benchmarks;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Génère des configurations synthétiques reproductibles pour les benchmarks.
+ *
+ * Les clés suivent une arborescence réaliste (app.module3.group7.key3712), les valeurs sont
+ * des littéraux ou des placeholders vers d'autres clés, selon :
+ * - density : part des valeurs contenant un placeholder (0.0 à 1.0)
+ * - nesting : profondeur des valeurs par défaut imbriquées (${a:${b:${c}}})
+ *
+ * Tous les placeholders sont résolubles : on mesure le chemin d'une configuration valide,
+ * celui de chaque démarrage en production.
+ */
+final class SyntheticConfiguration {
+    
+    private static final long SEED = 42L;
+    
+    private SyntheticConfiguration() {
+    }
+    
+    /**
+     * @param keys Nombre de clés
+     * @param density Part des valeurs contenant un placeholder
+     * @param nesting Profondeur des valeurs par défaut imbriquées (0 = placeholder simple)
+     * @return Propriétés, dans l'ordre de génération
+     */
+    static Map<String, Object> generate(int keys, double density, int nesting) {
+        Random random = new Random(SEED);
+        Map<String, Object> properties = new LinkedHashMap<>(keys * 2);
+        
+        for (int i = 0; i < keys; i++) {
+            String value;
+            // La clé 0 reste littérale : toute référence vers une clé précédente est résoluble
+            if (i > 0 && random.nextDouble() < density) {
+                value = placeholder(keyName(random.nextInt(i)), nesting);
+            } else {
+                value = "value-" + i;
+            }
+            properties.put(keyName(i), value);
+        }
+        
+        return properties;
+    }
+    
+    /**
+     * @return Nom de la clé i (app.module{i/1000}.group{i/100 % 10}.key{i})
+     */
+    static String keyName(int i) {
+        return "app.module" + (i / 1000) + ".group" + (i / 100 % 10) + ".key" + i;
+    }
+    
+    private static String placeholder(String target, int nesting) {
+        // ${optional.n:${optional.n-1:...${target}}} : seule la cible doit être définie
+        String value = "${" + target + "}";
+        for (int level = 0; level < nesting; level++) {
+            value = "${optional.level" + level + ":" + value + "}";
+        }
+        return "jdbc:" + value + "/db";
+    }
+}
@@ -0,0 +1,68 @@
+package com.mycompany.validator.core.api;
+
+import com.mycompany.validator.core.model.ConfigurationError;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Implémentation des trois modes de {@link ErrorSink} : au plus maxErrors erreurs conservées,
+ * puis arrêt du scan (fail-fast) ou simple comptage des suivantes (cap, collect-all).
+ */
+final class BoundedErrorSink implements ErrorSink {
+    
+    private final int maxErrors;
+    private final boolean stopAtLimit;
+    private final List<ConfigurationError> errors = new ArrayList<>();
+    private int suppressed;
+    private volatile boolean stopped;
+    
+    BoundedErrorSink(int maxErrors, boolean stopAtLimit) {
+        this.maxErrors = maxErrors;
+        this.stopAtLimit = stopAtLimit;
+    }
+    
+    @Override
+    public synchronized boolean accept(Supplier<ConfigurationError> error) {
+        if (stopped) {
+            return false;
+        }
+        if (errors.size() < maxErrors) {
+            errors.add(error.get());
+            if (stopAtLimit && errors.size() == maxErrors) {
+                stopped = true;
+            }
+        } else {
+            suppressed++;
+        }
+        return !stopped;
+    }
+    
+    @Override
+    public boolean isStopped() {
+        return stopped;
+    }
+    
+    @Override
+    public boolean isCollectingAll() {
+        return maxErrors == Integer.MAX_VALUE;
+    }
+    
+    @Override
+    public synchronized ValidationResult toResult() {
+        return new ValidationResult(errors, suppressed);
+    }
+    
+    static int parseMaxErrors(String value) {
+        if (value == null) {
+            return DEFAULT_MAX_ERRORS;
+        }
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            return parsed > 0 ? parsed : DEFAULT_MAX_ERRORS;
+        } catch (NumberFormatException e) {
+            return DEFAULT_MAX_ERRORS;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.mycompany.validator.core.api;
+
+import com.mycompany.validator.core.model.ConfigurationError;
+
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Destination des erreurs trouvées pendant un scan, au fil de l'eau.
+ *
+ * Les erreurs sont transmises sous forme de {@link Supplier} : une erreur qui ne sera pas
+ * conservée n'est jamais construite (message, suggestion...). Trois modes :
+ * - collect-all : toutes les erreurs sont conservées (comportement historique)
+ * - fail-fast : le scan s'arrête à la première erreur
+ * - cap : au plus N erreurs conservées, les suivantes sont seulement comptées
+ *
+ * Configuration (propriétés lues par {@link #fromProperties(Function)}) :
+ * - configuration.validator.error-mode : collect-all (défaut), fail-fast ou cap
+ * - configuration.validator.max-errors : nombre d'erreurs conservées en mode cap
+ */
+public interface ErrorSink {
+    
+    String MODE_PROPERTY = "configuration.validator.error-mode";
+    String MAX_ERRORS_PROPERTY = "configuration.validator.max-errors";
+    
+    /**
+     * Nombre d'erreurs conservées en mode cap, si max-errors est absent.
+     */
+    int DEFAULT_MAX_ERRORS = 100;
+    
+    /**
+     * Reçoit une erreur ; le fournisseur n'est appelé que si l'erreur est conservée.
+     *
+     * @param error Construction de l'erreur
+     * @return false si le scan doit s'arrêter
+     */
+    boolean accept(Supplier<ConfigurationError> error);
+    
+    /**
+     * Reçoit une erreur déjà construite.
+     *
+     * @return false si le scan doit s'arrêter
+     */
+    default boolean accept(ConfigurationError error) {
+        return accept(() -> error);
+    }
+    
+    /**
+     * @return true si le scan doit s'arrêter (aucune erreur ne sera plus conservée ni comptée)
+     */
+    boolean isStopped();
+    
+    /**
+     * Indique si toutes les erreurs sont conservées, dans l'ordre où elles sont reçues :
+     * le {@link com.mycompany.validator.core.engine.ValidationEngine} peut alors répartir le scan
+     * sur plusieurs threads. Sinon, le scan reste séquentiel pour respecter la limite dans l'ordre des clés.
+     */
+    default boolean isCollectingAll() {
+        return false;
+    }
+    
+    /**
+     * @return Résultat : erreurs conservées et nombre d'erreurs écartées
+     */
+    ValidationResult toResult();
+    
+    /**
+     * Conserve toutes les erreurs.
+     */
+    static ErrorSink collectAll() {
+        return new BoundedErrorSink(Integer.MAX_VALUE, false);
+    }
+    
+    /**
+     * Conserve la première erreur et arrête le scan.
+     */
+    static ErrorSink failFast() {
+        return new BoundedErrorSink(1, true);
+    }
+    
+    /**
+     * Conserve les maxErrors premières erreurs et compte les suivantes sans les construire.
+     */
+    static ErrorSink capped(int maxErrors) {
+        if (maxErrors < 1) {
+            throw new IllegalArgumentException("Max errors must be positive: " + maxErrors);
+        }
+        return new BoundedErrorSink(maxErrors, false);
+    }
+    
+    /**
+     * Construit le mode configuré à partir des propriétés du framework.
+     * Une valeur absente ou invalide conserve le mode collect-all.
+     *
+     * @param properties Accès aux propriétés (retourne null si absente)
+     * @return Nouveau sink, à utiliser pour un seul scan
+     */
+    static ErrorSink fromProperties(Function<String, String> properties) {
+        String mode = properties.apply(MODE_PROPERTY);
+        if (mode == null) {
+            return collectAll();
+        }
+        switch (mode.trim().toLowerCase(Locale.ROOT)) {
+            case "fail-fast":
+                return failFast();
+            case "cap":
+                return capped(BoundedErrorSink.parseMaxErrors(properties.apply(MAX_ERRORS_PROPERTY)));
+            default:
+                return collectAll();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.mycompany.validator.core.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Différence entre deux validations successives, publiée après un rafraîchissement
+ * de la configuration (revalidation incrémentale).
+ */
+public class ValidationDelta {
+    
+    private final Set<String> changedKeys;
+    private final List<String> revalidatedProperties;
+    private final ValidationResult newErrors;
+    private final ValidationResult resolvedErrors;
+    private final ValidationResult currentResult;
+    
+    public ValidationDelta(Set<String> changedKeys,
+                           List<String> revalidatedProperties,
+                           ValidationResult newErrors,
+                           ValidationResult resolvedErrors,
+                           ValidationResult currentResult) {
+        this.changedKeys = Collections.unmodifiableSet(changedKeys);
+        this.revalidatedProperties = Collections.unmodifiableList(new ArrayList<>(revalidatedProperties));
+        this.newErrors = newErrors;
+        this.resolvedErrors = resolvedErrors;
+        this.currentResult = currentResult;
+    }
+    
+    /**
+     * @return Clés modifiées ayant déclenché la revalidation
+     */
+    public Set<String> getChangedKeys() {
+        return changedKeys;
+    }
+    
+    /**
+     * @return Propriétés revérifiées : clés modifiées et propriétés qui en dépendent
+     */
+    public List<String> getRevalidatedProperties() {
+        return revalidatedProperties;
+    }
+    
+    /**
+     * @return Erreurs apparues avec ce changement
+     */
+    public ValidationResult getNewErrors() {
+        return newErrors;
+    }
+    
+    /**
+     * @return Erreurs disparues avec ce changement
+     */
+    public ValidationResult getResolvedErrors() {
+        return resolvedErrors;
+    }
+    
+    /**
+     * @return État complet après le changement
+     */
+    public ValidationResult getCurrentResult() {
+        return currentResult;
+    }
+    
+    /**
+     * @return true si des erreurs sont apparues ou ont disparu
+     */
+    public boolean hasChanges() {
+        return newErrors.hasErrors() || resolvedErrors.hasErrors();
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("ValidationDelta: %d key(s) changed, %d new error(s), %d resolved",
+            changedKeys.size(), newErrors.getErrorCount(), resolvedErrors.getErrorCount());
+    }
+}
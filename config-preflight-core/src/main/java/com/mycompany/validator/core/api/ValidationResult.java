@@ -3,94 +3,217 @@ package com.mycompany.validator.core.api;
 import com.mycompany.validator.core.model.ConfigurationError;
 import com.mycompany.validator.core.model.ErrorType;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Résultat d'une validation de configuration.
  * Contient toutes les erreurs trouvées et des méthodes utilitaires.
+ *
+ * Immuable : les erreurs sont copiées une seule fois à la construction et le nombre
+ * d'erreurs par type est calculé à ce moment-là. {@link #merge(ValidationResult)} ne copie
+ * rien (nœud de fusion, en O(1)) : la liste complète n'est reconstituée qu'au premier
+ * {@link #getErrors()}, puis conservée, comme les vues par type.
  */
 public class ValidationResult {
     
-    private final List<ConfigurationError> errors;
+    private static final ErrorType[] TYPES = ErrorType.values();
+    
+    /**
+     * Opérandes d'un nœud de fusion ; null pour un résultat construit à partir d'une liste.
+     */
+    private final ValidationResult left;
+    private final ValidationResult right;
+    
+    private final int size;
+    private final int[] countsByType;
+    private final int suppressedErrorCount;
+    
+    /**
+     * Erreurs dans l'ordre : renseignées à la construction, ou au premier accès pour un nœud de fusion.
+     */
+    private volatile List<ConfigurationError> errors;
+    private volatile Map<ErrorType, List<ConfigurationError>> errorsByType;
     
     public ValidationResult(List<ConfigurationError> errors) {
-        this.errors = errors != null ? new ArrayList<>(errors) : new ArrayList<>();
+        this(errors, 0);
+    }
+    
+    /**
+     * @param errors Erreurs conservées
+     * @param suppressedErrorCount Erreurs trouvées au-delà de la limite d'un {@link ErrorSink}, non construites
+     */
+    public ValidationResult(List<ConfigurationError> errors, int suppressedErrorCount) {
+        List<ConfigurationError> copy = errors != null ? new ArrayList<>(errors) : new ArrayList<>();
+        this.left = null;
+        this.right = null;
+        this.size = copy.size();
+        this.countsByType = new int[TYPES.length];
+        for (ConfigurationError error : copy) {
+            if (error.getType() != null) {
+                countsByType[error.getType().ordinal()]++;
+            }
+        }
+        this.suppressedErrorCount = suppressedErrorCount;
+        this.errors = Collections.unmodifiableList(copy);
+    }
+    
+    private ValidationResult(ValidationResult left, ValidationResult right) {
+        this.left = left;
+        this.right = right;
+        this.size = left.size + right.size;
+        this.countsByType = new int[TYPES.length];
+        for (int i = 0; i < TYPES.length; i++) {
+            countsByType[i] = left.countsByType[i] + right.countsByType[i];
+        }
+        this.suppressedErrorCount = left.suppressedErrorCount + right.suppressedErrorCount;
     }
     
     /**
      * @return true si aucune erreur n'a été trouvée
      */
     public boolean isValid() {
-        return errors.isEmpty();
+        return size == 0;
     }
     
     /**
      * @return true si des erreurs ont été trouvées
      */
     public boolean hasErrors() {
-        return !errors.isEmpty();
+        return size > 0;
     }
     
     /**
-     * @return Liste de toutes les erreurs
+     * @return Liste de toutes les erreurs (non modifiable)
      */
     public List<ConfigurationError> getErrors() {
-        return new ArrayList<>(errors);
+        List<ConfigurationError> flattened = errors;
+        if (flattened == null) {
+            flattened = Collections.unmodifiableList(flatten());
+            errors = flattened;
+        }
+        return flattened;
     }
     
     /**
      * @return Nombre total d'erreurs
      */
     public int getErrorCount() {
-        return errors.size();
+        return size;
+    }
+    
+    /**
+     * @param type Type d'erreur
+     * @return Nombre d'erreurs de ce type, sans parcourir les erreurs
+     */
+    public int getErrorCount(ErrorType type) {
+        return countsByType[type.ordinal()];
+    }
+    
+    /**
+     * @return Nombre d'erreurs écartées par la limite du mode cap (non incluses dans {@link #getErrors()})
+     */
+    public int getSuppressedErrorCount() {
+        return suppressedErrorCount;
     }
     
     /**
      * Filtre les erreurs par type.
-     * 
+     *
      * @param type Type d'erreur à filtrer
-     * @return Liste des erreurs du type spécifié
+     * @return Liste des erreurs du type spécifié (non modifiable)
      */
     public List<ConfigurationError> getErrorsByType(ErrorType type) {
-        return errors.stream()
-                .filter(error -> error.getType() == type)
-                .collect(Collectors.toList());
+        if (countsByType[type.ordinal()] == 0) {
+            return Collections.emptyList();
+        }
+        return getErrorsGroupedByType().get(type);
     }
     
     /**
      * Groupe les erreurs par type.
-     * 
-     * @return Map des erreurs groupées par type
+     *
+     * @return Map des erreurs groupées par type (non modifiable, types présents uniquement)
      */
     public Map<ErrorType, List<ConfigurationError>> getErrorsGroupedByType() {
-        return errors.stream()
-                .collect(Collectors.groupingBy(ConfigurationError::getType));
+        Map<ErrorType, List<ConfigurationError>> grouped = errorsByType;
+        if (grouped == null) {
+            grouped = Collections.unmodifiableMap(groupByType());
+            errorsByType = grouped;
+        }
+        return grouped;
     }
     
     /**
-     * @return Nombre d'erreurs par type
+     * @return Nombre d'erreurs par type (types présents uniquement)
      */
     public Map<ErrorType, Long> getErrorCountByType() {
-        return errors.stream()
-                .collect(Collectors.groupingBy(
-                        ConfigurationError::getType,
-                        Collectors.counting()
-                ));
+        Map<ErrorType, Long> counts = new EnumMap<>(ErrorType.class);
+        for (ErrorType type : TYPES) {
+            if (countsByType[type.ordinal()] > 0) {
+                counts.put(type, (long) countsByType[type.ordinal()]);
+            }
+        }
+        return counts;
     }
     
     /**
-     * Combine ce résultat avec un autre.
-     * 
+     * Combine ce résultat avec un autre, sans copier les erreurs.
+     *
      * @param other Autre résultat à combiner
      * @return Nouveau résultat contenant toutes les erreurs
      */
     public ValidationResult merge(ValidationResult other) {
-        List<ConfigurationError> allErrors = new ArrayList<>(this.errors);
-        allErrors.addAll(other.errors);
-        return new ValidationResult(allErrors);
+        if (other.size == 0 && other.suppressedErrorCount == 0) {
+            return this;
+        }
+        if (size == 0 && suppressedErrorCount == 0) {
+            return other;
+        }
+        return new ValidationResult(this, other);
+    }
+    
+    /**
+     * Parcours itératif des feuilles de gauche à droite (les chaînes de fusion peuvent être profondes).
+     */
+    private List<ConfigurationError> flatten() {
+        List<ConfigurationError> all = new ArrayList<>(size);
+        Deque<ValidationResult> pending = new ArrayDeque<>();
+        pending.push(this);
+        while (!pending.isEmpty()) {
+            ValidationResult node = pending.pop();
+            List<ConfigurationError> known = node.errors;
+            if (known != null) {
+                all.addAll(known);
+            } else {
+                pending.push(node.right);
+                pending.push(node.left);
+            }
+        }
+        return all;
+    }
+    
+    private Map<ErrorType, List<ConfigurationError>> groupByType() {
+        Map<ErrorType, List<ConfigurationError>> grouped = new EnumMap<>(ErrorType.class);
+        for (ErrorType type : TYPES) {
+            if (countsByType[type.ordinal()] > 0) {
+                grouped.put(type, new ArrayList<>(countsByType[type.ordinal()]));
+            }
+        }
+        for (ConfigurationError error : getErrors()) {
+            if (error.getType() != null) {
+                grouped.get(error.getType()).add(error);
+            }
+        }
+        for (Map.Entry<ErrorType, List<ConfigurationError>> entry : grouped.entrySet()) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+        return grouped;
     }
     
     @Override
@@ -98,6 +221,9 @@ public class ValidationResult {
         if (isValid()) {
             return "ValidationResult: SUCCESS (no errors)";
         }
+        if (suppressedErrorCount > 0) {
+            return String.format("ValidationResult: FAILED (%d errors, %d more suppressed)", getErrorCount(), suppressedErrorCount);
+        }
         return String.format("ValidationResult: FAILED (%d errors)", getErrorCount());
     }
 }
@@ -0,0 +1,202 @@
+package com.mycompany.validator.core.detector;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Index des propriétés connues, clé par forme canonique, construit une fois par validation.
+ *
+ * La forme canonique (voir {@link #normalize(CharSequence)}) est commune à toutes les
+ * variantes de binding : app.database.url, APP_DATABASE_URL, app_database_url,
+ * appDatabaseUrl, app-database-url et app.database-url donnent tous "app.database.url".
+ * Les limites de segments sont conservées : a.bc et ab.c restent distincts.
+ * Une requête d'existence ou de valeur coûte donc une seule recherche dans une table de hachage,
+ * au lieu de générer et tester chaque variante.
+ *
+ * Chaque entrée garde la clé d'origine et la source qui l'ont emporté : les sources doivent
+ * être ajoutées par ordre de précédence (la première définition gagne). Seules les sources
+ * ajoutées sont indexées : les variables d'environnement n'en font partie que si
+ * l'environnement du framework les expose.
+ */
+public final class CanonicalPropertyIndex {
+    
+    private final Map<String, Entry> entries;
+    
+    private CanonicalPropertyIndex(Map<String, Entry> entries) {
+        this.entries = entries;
+    }
+    
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    /**
+     * Calcule la forme canonique d'un nom de propriété : segments en minuscules séparés par '.'.
+     * Les séparateurs ('.', '-', '_'), les crochets d'index ('[', ']') et le passage
+     * d'une minuscule ou d'un chiffre à une majuscule (camelCase) marquent une limite de segment ;
+     * des limites consécutives n'en font qu'une.
+     *
+     * Exemples :
+     * - app.database.url → app.database.url
+     * - APP_DATABASE_URL → app.database.url
+     * - app.databaseUrl → app.database.url
+     * - my.list[0].name → my.list.0.name (MY_LIST_0_NAME)
+     * - app.databaseurl → app.databaseurl (distinct de appdatabase.url)
+     *
+     * @param name Nom de propriété sous n'importe quelle forme
+     * @return Forme canonique
+     */
+    public static String normalize(CharSequence name) {
+        int length = name.length();
+        StringBuilder canonical = new StringBuilder(length + 4);
+        boolean boundary = false;
+        char previous = 0;
+        for (int i = 0; i < length; i++) {
+            char c = name.charAt(i);
+            if (c == '.' || c == '-' || c == '_' || c == '[' || c == ']') {
+                boundary = true;
+            } else {
+                boolean upper = c >= 'A' && c <= 'Z' || c >= 0x80 && Character.isUpperCase(c);
+                if (upper && (previous >= 'a' && previous <= 'z' || previous >= '0' && previous <= '9')) {
+                    boundary = true;
+                }
+                if (boundary && canonical.length() > 0) {
+                    canonical.append('.');
+                }
+                boundary = false;
+                canonical.append(c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : Character.toLowerCase(c));
+            }
+            previous = c;
+        }
+        return canonical.toString();
+    }
+    
+    /**
+     * Vérifie si une propriété est définie sous n'importe quelle variante de nom.
+     *
+     * @param propertyName Nom de la propriété
+     * @return true si une source la définit
+     */
+    public boolean contains(String propertyName) {
+        return find(propertyName) != null;
+    }
+    
+    /**
+     * Recherche la définition qui l'emporte pour une propriété.
+     *
+     * @param propertyName Nom de la propriété sous n'importe quelle forme
+     * @return Entrée trouvée, ou null si la propriété n'est pas définie
+     */
+    public Entry find(String propertyName) {
+        if (propertyName == null || propertyName.isEmpty()) {
+            return null;
+        }
+        return entries.get(normalize(propertyName));
+    }
+    
+    /**
+     * @param propertyName Nom de la propriété
+     * @return Valeur brute (non résolue), ou null si la propriété n'est pas définie
+     */
+    public String getValue(String propertyName) {
+        Entry entry = find(propertyName);
+        return entry != null ? entry.getValue() : null;
+    }
+    
+    /**
+     * @return Nombre de propriétés distinctes (par forme canonique)
+     */
+    public int size() {
+        return entries.size();
+    }
+    
+    /**
+     * Définition d'une propriété : clé d'origine, valeur brute et source.
+     */
+    public static final class Entry {
+        
+        private final String key;
+        private final String value;
+        private final String sourceName;
+        
+        private Entry(String key, String value, String sourceName) {
+            this.key = key;
+            this.value = value;
+            this.sourceName = sourceName;
+        }
+        
+        /**
+         * @return Clé telle que définie dans la source (ex: APP_DATABASE_URL)
+         */
+        public String getKey() {
+            return key;
+        }
+        
+        /**
+         * @return Valeur brute, placeholders non résolus ; null si la valeur n'est pas une chaîne
+         *         (nombre, liste, objet structuré...)
+         */
+        public String getValue() {
+            return value;
+        }
+        
+        /**
+         * @return Nom de la source qui l'a emporté
+         */
+        public String getSourceName() {
+            return sourceName;
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("Entry{key='%s', source='%s'}", key, sourceName);
+        }
+    }
+    
+    /**
+     * Construit l'index. Non thread-safe ; l'index construit est immuable.
+     */
+    public static final class Builder {
+        
+        private final Map<String, Entry> entries = new HashMap<>();
+        
+        private Builder() {
+        }
+        
+        /**
+         * Ajoute une définition, ignorée si une source plus prioritaire définit déjà la propriété.
+         *
+         * @param sourceName Nom de la source
+         * @param key Clé telle que définie dans la source
+         * @param value Valeur brute ; seul le texte est conservé (voir {@link Entry#getValue()})
+         * @return ce builder
+         */
+        public Builder add(String sourceName, String key, Object value) {
+            if (key == null || key.isEmpty()) {
+                return this;
+            }
+            String text = value instanceof CharSequence ? value.toString() : null;
+            entries.putIfAbsent(normalize(key), new Entry(key, text, sourceName));
+            return this;
+        }
+        
+        /**
+         * Ajoute toutes les propriétés d'une source.
+         *
+         * @param sourceName Nom de la source
+         * @param properties Propriétés de la source
+         * @return ce builder
+         */
+        public Builder addAll(String sourceName, Map<String, ?> properties) {
+            for (Map.Entry<String, ?> property : properties.entrySet()) {
+                add(sourceName, property.getKey(), property.getValue());
+            }
+            return this;
+        }
+        
+        public CanonicalPropertyIndex build() {
+            return new CanonicalPropertyIndex(Collections.unmodifiableMap(new HashMap<>(entries)));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.mycompany.validator.core.detector;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Automate d'Aho-Corasick compilé à partir d'un ensemble de mots-clés ASCII.
+ *
+ * Les liens d'échec sont intégrés dans une table de transitions complète : la recherche
+ * coûte un accès tableau par caractère, quel que soit le nombre de mots-clés.
+ * La comparaison est insensible à la casse sans créer de copie en minuscules.
+ *
+ * Immuable et donc partageable entre threads.
+ */
+final class KeywordAutomaton {
+    
+    private static final int ALPHABET = 128;
+    
+    private final int[] transitions;
+    private final boolean[] accepting;
+    
+    private KeywordAutomaton(int[] transitions, boolean[] accepting) {
+        this.transitions = transitions;
+        this.accepting = accepting;
+    }
+    
+    /**
+     * Compile l'automate. Les mots-clés doivent être en minuscules ; les caractères
+     * non ASCII ne peuvent pas apparaître dans un mot-clé.
+     *
+     * @param keywords Mots-clés à rechercher
+     * @return Automate compilé
+     */
+    static KeywordAutomaton compile(Collection<String> keywords) {
+        // 1. Trie des mots-clés
+        List<int[]> trie = new ArrayList<>();
+        List<Boolean> output = new ArrayList<>();
+        trie.add(newState());
+        output.add(false);
+        
+        for (String keyword : keywords) {
+            int state = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = keyword.charAt(i);
+                if (c >= ALPHABET) {
+                    throw new IllegalArgumentException("Keyword must be ASCII: " + keyword);
+                }
+                int next = trie.get(state)[c];
+                if (next < 0) {
+                    next = trie.size();
+                    trie.add(newState());
+                    output.add(false);
+                    trie.get(state)[c] = next;
+                }
+                state = next;
+            }
+            output.set(state, true);
+        }
+        
+        // 2. Liens d'échec en largeur, repliés dans la table de transitions
+        int stateCount = trie.size();
+        int[] transitions = new int[stateCount * ALPHABET];
+        boolean[] accepting = new boolean[stateCount];
+        int[] failure = new int[stateCount];
+        Deque<Integer> queue = new ArrayDeque<>();
+        
+        for (int c = 0; c < ALPHABET; c++) {
+            int next = trie.get(0)[c];
+            if (next > 0) {
+                failure[next] = 0;
+                transitions[c] = next;
+                queue.add(next);
+            } else {
+                transitions[c] = 0;
+            }
+        }
+        accepting[0] = output.get(0);
+        
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            // Un état est final si lui-même ou un de ses suffixes est un mot-clé
+            accepting[state] = output.get(state) || accepting[failure[state]];
+            
+            int[] children = trie.get(state);
+            for (int c = 0; c < ALPHABET; c++) {
+                int next = children[c];
+                if (next > 0) {
+                    failure[next] = transitions[failure[state] * ALPHABET + c];
+                    transitions[state * ALPHABET + c] = next;
+                    queue.add(next);
+                } else {
+                    transitions[state * ALPHABET + c] = transitions[failure[state] * ALPHABET + c];
+                }
+            }
+        }
+        
+        return new KeywordAutomaton(transitions, accepting);
+    }
+    
+    /**
+     * Vérifie si le texte contient au moins un des mots-clés (insensible à la casse).
+     *
+     * @param text Texte à analyser
+     * @return true dès qu'un mot-clé est trouvé
+     */
+    boolean containsAny(CharSequence text) {
+        int state = 0;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+            } else if (c >= ALPHABET) {
+                // Aucun mot-clé ne contient de caractère non ASCII
+                state = 0;
+                continue;
+            }
+            state = transitions[state * ALPHABET + c];
+            if (accepting[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static int[] newState() {
+        int[] children = new int[ALPHABET];
+        Arrays.fill(children, -1);
+        return children;
+    }
+}
@@ -2,43 +2,68 @@ package com.mycompany.validator.core.detector;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
 /**
  * Détecte les placeholders dans les valeurs de propriétés.
  * Supporte les formats : ${property}, ${property:defaultValue}, #{expression}
+ * 
+ * La détection des ${...} s'appuie sur {@link PlaceholderScanner} (mono-passe, sans regex),
+ * qui gère les valeurs par défaut imbriquées et l'échappement.
  */
 public class PlaceholderDetector {
     
-    // Pattern pour détecter ${...}
-    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\$\\{([^}:]+)(?::([^}]*))?\\}");
+    // Un scanner par thread : la pile interne est réutilisée d'une valeur à l'autre
+    private static final ThreadLocal<PlaceholderScanner> SCANNERS = ThreadLocal.withInitial(PlaceholderScanner::new);
     
     // Pattern pour détecter #{...} (Spring Expression Language)
     private static final Pattern SPEL_PATTERN = Pattern.compile("#\\{([^}]+)\\}");
     
+    /**
+     * Parcourt tous les placeholders d'une valeur sans construire de liste.
+     * Le curseur passé au visiteur n'est valide que pendant l'appel.
+     * 
+     * @param value Valeur à analyser
+     * @param visitor Visiteur appelé pour chaque placeholder
+     */
+    public void forEachPlaceholder(CharSequence value, PlaceholderScanner.Visitor visitor) {
+        if (!PlaceholderScanner.mayContainPlaceholder(value)) {
+            return;
+        }
+        scanner().scan(value, visitor);
+    }
+    
+    /**
+     * Parcourt uniquement les placeholders obligatoires d'une valeur (voir
+     * {@link #detectRequiredPlaceholders(String)}) sans construire de liste.
+     * 
+     * @param value Valeur à analyser
+     * @param action Action appelée avec le nom de chaque propriété obligatoire
+     */
+    public void forEachRequiredPlaceholder(CharSequence value, Consumer<String> action) {
+        forEachPlaceholder(value, placeholder -> {
+            if (placeholder.isRequired()) {
+                action.accept(placeholder.name());
+            }
+        });
+    }
+    
     /**
      * Détecte tous les placeholders dans une valeur.
+     * Les placeholders imbriqués sont retournés avant celui qui les contient ;
+     * ceux dont le nom est dynamique (${${env}.host}) sont ignorés.
      * 
      * @param value Valeur à analyser
      * @return Liste des noms de propriétés référencées
      */
     public List<String> detectPlaceholders(String value) {
         List<String> placeholders = new ArrayList<>();
-        
-        if (value == null || value.isEmpty()) {
-            return placeholders;
-        }
-        
-        // Détecter ${property} et ${property:default}
-        Matcher matcher = PLACEHOLDER_PATTERN.matcher(value);
-        while (matcher.find()) {
-            String propertyName = matcher.group(1).trim();
-            if (!propertyName.isEmpty()) {
-                placeholders.add(propertyName);
+        forEachPlaceholder(value, placeholder -> {
+            if (!placeholder.hasDynamicName()) {
+                placeholders.add(placeholder.name());
             }
-        }
-        
+        });
         return placeholders;
     }
     
@@ -49,29 +74,14 @@ public class PlaceholderDetector {
      * Exemples :
      * - ${DATABASE_URL} → Retourné (obligatoire)
      * - ${DATABASE_URL:jdbc:h2:mem} → Non retourné (a une valeur par défaut)
+     * - ${APP_URL:${BASE_URL}} → Non retourné (BASE_URL n'est utilisé qu'en l'absence de APP_URL)
      * 
      * @param value Valeur à analyser
      * @return Liste des noms de propriétés obligatoires
      */
     public List<String> detectRequiredPlaceholders(String value) {
         List<String> requiredPlaceholders = new ArrayList<>();
-        
-        if (value == null || value.isEmpty()) {
-            return requiredPlaceholders;
-        }
-        
-        // Détecter ${property} et ${property:default}
-        Matcher matcher = PLACEHOLDER_PATTERN.matcher(value);
-        while (matcher.find()) {
-            String propertyName = matcher.group(1).trim();
-            String defaultValue = matcher.group(2); // Peut être null
-            
-            // Ajouter uniquement si pas de valeur par défaut
-            if (!propertyName.isEmpty() && defaultValue == null) {
-                requiredPlaceholders.add(propertyName);
-            }
-        }
-        
+        forEachRequiredPlaceholder(value, requiredPlaceholders::add);
         return requiredPlaceholders;
     }
     
@@ -82,10 +92,10 @@ public class PlaceholderDetector {
      * @return true si la valeur contient au moins un placeholder
      */
     public boolean hasPlaceholders(String value) {
-        if (value == null || value.isEmpty()) {
+        if (!PlaceholderScanner.mayContainPlaceholder(value)) {
             return false;
         }
-        return PLACEHOLDER_PATTERN.matcher(value).find();
+        return scanner().scan(value, null) > 0;
     }
     
     /**
@@ -108,12 +118,16 @@ public class PlaceholderDetector {
      * @return Valeur par défaut ou null si non définie
      */
     public String extractDefaultValue(String placeholder) {
-        Matcher matcher = PLACEHOLDER_PATTERN.matcher(placeholder);
-        if (matcher.find()) {
-            String defaultValue = matcher.group(2);
-            return defaultValue != null ? defaultValue.trim() : null;
-        }
-        return null;
+        String[] defaultValue = new String[1];
+        boolean[] found = new boolean[1];
+        forEachPlaceholder(placeholder, p -> {
+            // Le placeholder de premier niveau est rapporté après ses placeholders imbriqués
+            if (p.depth() == 0 && !found[0]) {
+                found[0] = true;
+                defaultValue[0] = p.defaultValue();
+            }
+        });
+        return defaultValue[0];
     }
     
     /**
@@ -125,4 +139,10 @@ public class PlaceholderDetector {
     public boolean hasDefaultValue(String placeholder) {
         return extractDefaultValue(placeholder) != null;
     }
+    
+    private static PlaceholderScanner scanner() {
+        PlaceholderScanner scanner = SCANNERS.get();
+        // Appel réentrant depuis un visiteur : ne pas écraser la pile en cours
+        return scanner.isScanning() ? new PlaceholderScanner() : scanner;
+    }
 }
@@ -0,0 +1,683 @@
+package com.mycompany.validator.core.detector;
+
+import com.mycompany.validator.core.model.ConfigurationError;
+import com.mycompany.validator.core.model.ErrorType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Graphe de dépendances entre propriétés, construit en une passe sur les valeurs.
+ *
+ * Un arc "a → b" signifie que la valeur de a contient le placeholder ${b}.
+ * Un placeholder situé dans une valeur par défaut (a=${x:${b}}) donne un arc conditionnel,
+ * suivi uniquement si aucun placeholder englobant (x) n'est défini : c'est le cas que
+ * le framework résout. Les arcs conditionnels non suivis restent dans l'index inverse
+ * mais sont exclus de la détection des cycles.
+ *
+ * Les cycles (a=${b}, b=${a}) sont détectés par l'algorithme de Tarjan (composantes
+ * fortement connexes) en O(V+E), de manière itérative pour ne jamais dépendre
+ * de la profondeur de la pile d'appels.
+ *
+ * Le graphe expose aussi l'index inverse (placeholder → propriétés qui le référencent).
+ * Il est immuable une fois construit.
+ */
+public final class PlaceholderGraph {
+    
+    private final String[] names;
+    private final Map<String, Integer> ids;
+    private final BitSet defined;
+    
+    // Arcs sortants et entrants au format CSR : les voisins du nœud v sont
+    // targets[offsets[v]] .. targets[offsets[v + 1] - 1]
+    private final int[] edgeOffsets;
+    private final int[] edgeTargets;
+    private final int[] reverseOffsets;
+    private final int[] reverseTargets;
+    
+    // Gardes des arcs (dans l'ordre de edgeTargets) : null si l'arc est inconditionnel
+    private final int[][] edgeGuards;
+    
+    // Arcs effectivement suivis à la résolution (mêmes tableaux si aucun n'est écarté)
+    private final int[] activeOffsets;
+    private final int[] activeTargets;
+    private final int[] activeReverseOffsets;
+    private final int[] activeReverseTargets;
+    
+    private final BitSet inCycle;
+    private final BitSet dependsOnCycle;
+    private final List<Cycle> cycles;
+    
+    private PlaceholderGraph(Builder builder) {
+        int nodeCount = builder.names.size();
+        int edgeCount = builder.edgeCount;
+        
+        this.names = builder.names.toArray(new String[0]);
+        this.ids = builder.ids;
+        this.defined = builder.defined;
+        
+        this.edgeOffsets = new int[nodeCount + 1];
+        this.edgeTargets = new int[edgeCount];
+        this.reverseOffsets = new int[nodeCount + 1];
+        this.reverseTargets = new int[edgeCount];
+        int[] order = buildAdjacency(builder.edgeFrom, builder.edgeTo, edgeCount, null, edgeOffsets, edgeTargets);
+        buildAdjacency(builder.edgeTo, builder.edgeFrom, edgeCount, null, reverseOffsets, reverseTargets);
+        
+        this.edgeGuards = new int[edgeCount][];
+        BitSet skipped = new BitSet(edgeCount);
+        for (int i = 0; i < edgeCount; i++) {
+            int[] guards = builder.edgeGuards[order[i]];
+            edgeGuards[i] = guards;
+            if (!isFollowed(guards)) {
+                skipped.set(order[i]);
+            }
+        }
+        
+        if (skipped.isEmpty()) {
+            this.activeOffsets = edgeOffsets;
+            this.activeTargets = edgeTargets;
+            this.activeReverseOffsets = reverseOffsets;
+            this.activeReverseTargets = reverseTargets;
+        } else {
+            int activeCount = edgeCount - skipped.cardinality();
+            this.activeOffsets = new int[nodeCount + 1];
+            this.activeTargets = new int[activeCount];
+            this.activeReverseOffsets = new int[nodeCount + 1];
+            this.activeReverseTargets = new int[activeCount];
+            buildAdjacency(builder.edgeFrom, builder.edgeTo, edgeCount, skipped, activeOffsets, activeTargets);
+            buildAdjacency(builder.edgeTo, builder.edgeFrom, edgeCount, skipped, activeReverseOffsets, activeReverseTargets);
+        }
+        
+        this.inCycle = new BitSet(nodeCount);
+        this.cycles = Collections.unmodifiableList(findCycles());
+        this.dependsOnCycle = findCycleDependents();
+    }
+    
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    /**
+     * @return true si au moins une référence circulaire a été détectée
+     */
+    public boolean hasCycles() {
+        return !cycles.isEmpty();
+    }
+    
+    /**
+     * Retourne toutes les références circulaires, une par composante fortement connexe,
+     * dans l'ordre de déclaration de leur première propriété.
+     *
+     * @return Liste immuable des cycles
+     */
+    public List<Cycle> getCycles() {
+        return cycles;
+    }
+    
+    /**
+     * Vérifie si une propriété fait partie d'une référence circulaire.
+     * Sa résolution par le framework échouerait (ou bouclerait) : inutile de la tenter.
+     *
+     * @param name Nom de la propriété
+     * @return true si la propriété appartient à un cycle
+     */
+    public boolean isInCycle(String name) {
+        Integer id = ids.get(name);
+        return id != null && inCycle.get(id);
+    }
+    
+    /**
+     * Vérifie si la résolution d'une propriété traverse une référence circulaire :
+     * elle est dans un cycle, ou référence (transitivement) une propriété d'un cycle.
+     *
+     * @param name Nom de la propriété
+     * @return true si la propriété ne peut pas être résolue à cause d'un cycle
+     */
+    public boolean dependsOnCycle(String name) {
+        Integer id = ids.get(name);
+        return id != null && dependsOnCycle.get(id);
+    }
+    
+    /**
+     * Convertit chaque cycle en erreur CIRCULAR_REFERENCE, avec la chaîne complète.
+     *
+     * @param secretDetector Détecteur utilisé pour marquer les cycles contenant une propriété sensible
+     * @return Une erreur par cycle
+     */
+    public List<ConfigurationError> toCircularReferenceErrors(SecretDetector secretDetector) {
+        List<ConfigurationError> errors = new ArrayList<>(cycles.size());
+        for (Cycle cycle : cycles) {
+            boolean isSensitive = false;
+            for (String property : cycle.getProperties()) {
+                isSensitive |= secretDetector.isSensitive(property);
+            }
+            
+            errors.add(ConfigurationError.builder()
+                .type(ErrorType.CIRCULAR_REFERENCE)
+                .propertyName(cycle.getChain().get(0))
+                .errorMessage("Circular placeholder reference: " + cycle.describe())
+                .suggestion("Replace one of these references with a literal value: "
+                    + String.join(", ", cycle.getProperties()))
+                .isSensitive(isSensitive)
+                .build());
+        }
+        return errors;
+    }
+    
+    /**
+     * @param name Nom de la propriété
+     * @return true si la propriété a une valeur dans le graphe
+     */
+    public boolean isDefined(String name) {
+        Integer id = ids.get(name);
+        return id != null && defined.get(id);
+    }
+    
+    /**
+     * @return Noms des nœuds : propriétés définies et placeholders référencés, dans l'ordre de déclaration
+     */
+    public List<String> getNames() {
+        return Collections.unmodifiableList(Arrays.asList(names));
+    }
+    
+    /**
+     * Index inverse : propriétés dont la valeur contient ${placeholder}.
+     *
+     * @param placeholder Nom du placeholder
+     * @return Propriétés qui le référencent, dans l'ordre de déclaration
+     */
+    public List<String> getReferencingProperties(String placeholder) {
+        Integer id = ids.get(placeholder);
+        if (id == null) {
+            return Collections.emptyList();
+        }
+        return namesOf(reverseTargets, reverseOffsets[id], reverseOffsets[id + 1]);
+    }
+    
+    /**
+     * @param property Nom de la propriété
+     * @return Placeholders référencés par sa valeur, dans l'ordre du scan
+     */
+    public List<String> getReferencedPlaceholders(String property) {
+        Integer id = ids.get(property);
+        if (id == null) {
+            return Collections.emptyList();
+        }
+        return namesOf(edgeTargets, edgeOffsets[id], edgeOffsets[id + 1]);
+    }
+    
+    /**
+     * Fermeture transitive de l'index inverse : propriétés dont la résolution passe
+     * par l'une des propriétés données (elles-mêmes comprises).
+     *
+     * @param properties Propriétés modifiées
+     * @return Propriétés impactées, dans l'ordre de déclaration
+     */
+    public List<String> getDependents(Collection<String> properties) {
+        BitSet reached = new BitSet(names.length);
+        int[] queue = new int[names.length];
+        int tail = 0;
+        for (String property : properties) {
+            Integer id = ids.get(property);
+            if (id != null && !reached.get(id)) {
+                reached.set(id);
+                queue[tail++] = id;
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            int v = queue[head];
+            for (int i = reverseOffsets[v]; i < reverseOffsets[v + 1]; i++) {
+                int referencing = reverseTargets[i];
+                if (!reached.get(referencing)) {
+                    reached.set(referencing);
+                    queue[tail++] = referencing;
+                }
+            }
+        }
+        
+        List<String> result = new ArrayList<>(tail);
+        for (int v = reached.nextSetBit(0); v >= 0; v = reached.nextSetBit(v + 1)) {
+            result.add(names[v]);
+        }
+        return result;
+    }
+    
+    /**
+     * Construit un nouveau graphe où seules les valeurs modifiées sont rescannées :
+     * les arcs des autres propriétés sont recopiés tels quels.
+     *
+     * @param changes Nouvelle valeur brute de chaque propriété modifiée (null si elle a été supprimée)
+     * @return Nouveau graphe, cycles recalculés
+     */
+    public PlaceholderGraph withChanges(Map<String, ? extends CharSequence> changes) {
+        Builder builder = new Builder();
+        for (int v = 0; v < names.length; v++) {
+            String name = names[v];
+            if (changes.containsKey(name)) {
+                CharSequence value = changes.get(name);
+                if (value != null) {
+                    builder.addProperty(name, value);
+                }
+            } else if (defined.get(v)) {
+                builder.copyProperty(name, names, edgeTargets, edgeGuards, edgeOffsets[v], edgeOffsets[v + 1]);
+            }
+        }
+        // Propriétés apparues depuis la construction du graphe
+        for (Map.Entry<String, ? extends CharSequence> change : changes.entrySet()) {
+            if (change.getValue() != null) {
+                builder.addProperty(change.getKey(), change.getValue());
+            }
+        }
+        return builder.build();
+    }
+    
+    /**
+     * @return Nombre de propriétés ayant une valeur
+     */
+    public int getPropertyCount() {
+        return defined.cardinality();
+    }
+    
+    /**
+     * @return Nombre de références ${...} entre propriétés
+     */
+    public int getReferenceCount() {
+        return edgeTargets.length;
+    }
+    
+    private List<String> namesOf(int[] targets, int from, int to) {
+        List<String> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add(names[targets[i]]);
+        }
+        return result;
+    }
+    
+    /**
+     * Un arc conditionnel n'est suivi que si aucune de ses gardes n'est définie ;
+     * une garde au nom dynamique (-1) peut l'être : l'arc n'est pas suivi.
+     */
+    private boolean isFollowed(int[] guards) {
+        if (guards == null) {
+            return true;
+        }
+        for (int guard : guards) {
+            if (guard < 0 || defined.get(guard)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * @param skipped Arcs à écarter, ou null pour tous les garder
+     * @return Pour chaque position de targets, l'indice de l'arc d'origine
+     */
+    private static int[] buildAdjacency(int[] from, int[] to, int edgeCount, BitSet skipped,
+                                        int[] offsets, int[] targets) {
+        // Tri par comptage : les arcs d'un même nœud gardent leur ordre d'insertion
+        for (int i = 0; i < edgeCount; i++) {
+            if (skipped == null || !skipped.get(i)) {
+                offsets[from[i] + 1]++;
+            }
+        }
+        for (int v = 1; v < offsets.length; v++) {
+            offsets[v] += offsets[v - 1];
+        }
+        int[] next = Arrays.copyOf(offsets, offsets.length - 1);
+        int[] order = new int[targets.length];
+        for (int i = 0; i < edgeCount; i++) {
+            if (skipped == null || !skipped.get(i)) {
+                int slot = next[from[i]]++;
+                targets[slot] = to[i];
+                order[slot] = i;
+            }
+        }
+        return order;
+    }
+    
+    /**
+     * Tarjan itératif sur les arcs suivis : chaque nœud et chaque arc ne sont visités qu'une fois.
+     */
+    private List<Cycle> findCycles() {
+        int nodeCount = names.length;
+        int[] index = new int[nodeCount];
+        int[] low = new int[nodeCount];
+        int[] position = new int[nodeCount];
+        int[] component = new int[nodeCount];
+        int[] stack = new int[nodeCount];
+        int[] callStack = new int[nodeCount];
+        boolean[] onStack = new boolean[nodeCount];
+        Arrays.fill(index, -1);
+        
+        List<int[]> components = new ArrayList<>();
+        int counter = 0;
+        int stackSize = 0;
+        
+        for (int root = 0; root < nodeCount; root++) {
+            // Seules les propriétés définies ont des arcs sortants
+            if (index[root] != -1 || activeOffsets[root] == activeOffsets[root + 1]) {
+                continue;
+            }
+            
+            int callSize = 0;
+            callStack[callSize++] = root;
+            index[root] = low[root] = counter++;
+            position[root] = activeOffsets[root];
+            stack[stackSize++] = root;
+            onStack[root] = true;
+            
+            while (callSize > 0) {
+                int v = callStack[callSize - 1];
+                
+                if (position[v] < activeOffsets[v + 1]) {
+                    int w = activeTargets[position[v]++];
+                    if (index[w] == -1) {
+                        index[w] = low[w] = counter++;
+                        position[w] = activeOffsets[w];
+                        stack[stackSize++] = w;
+                        onStack[w] = true;
+                        callStack[callSize++] = w;
+                    } else if (onStack[w]) {
+                        low[v] = Math.min(low[v], index[w]);
+                    }
+                    continue;
+                }
+                
+                callSize--;
+                if (callSize > 0) {
+                    int parent = callStack[callSize - 1];
+                    low[parent] = Math.min(low[parent], low[v]);
+                }
+                
+                if (low[v] == index[v]) {
+                    int start = stackSize;
+                    do {
+                        start--;
+                        onStack[stack[start]] = false;
+                    } while (stack[start] != v);
+                    
+                    int[] members = Arrays.copyOfRange(stack, start, stackSize);
+                    stackSize = start;
+                    if (members.length > 1 || hasSelfLoop(v)) {
+                        Arrays.sort(members);
+                        for (int member : members) {
+                            component[member] = components.size() + 1;
+                            inCycle.set(member);
+                        }
+                        components.add(members);
+                    }
+                }
+            }
+        }
+        
+        if (components.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        components.sort((a, b) -> Integer.compare(a[0], b[0]));
+        int[] parents = new int[nodeCount];
+        int[] queue = new int[nodeCount];
+        List<Cycle> result = new ArrayList<>(components.size());
+        for (int[] members : components) {
+            result.add(new Cycle(shortestChain(members[0], component, parents, queue), namesOf(members)));
+        }
+        return result;
+    }
+    
+    /**
+     * Propage l'appartenance aux cycles le long des arcs suivis de l'index inverse (parcours en largeur).
+     */
+    private BitSet findCycleDependents() {
+        BitSet reached = (BitSet) inCycle.clone();
+        if (reached.isEmpty()) {
+            return reached;
+        }
+        
+        int[] queue = new int[names.length];
+        int tail = 0;
+        for (int v = reached.nextSetBit(0); v >= 0; v = reached.nextSetBit(v + 1)) {
+            queue[tail++] = v;
+        }
+        for (int head = 0; head < tail; head++) {
+            int v = queue[head];
+            for (int i = activeReverseOffsets[v]; i < activeReverseOffsets[v + 1]; i++) {
+                int referencing = activeReverseTargets[i];
+                if (!reached.get(referencing)) {
+                    reached.set(referencing);
+                    queue[tail++] = referencing;
+                }
+            }
+        }
+        return reached;
+    }
+    
+    private boolean hasSelfLoop(int v) {
+        for (int i = activeOffsets[v]; i < activeOffsets[v + 1]; i++) {
+            if (activeTargets[i] == v) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Plus court chemin root → ... → root restreint à la composante (parcours en largeur).
+     */
+    private List<String> shortestChain(int root, int[] component, int[] parents, int[] queue) {
+        int componentId = component[root];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = root;
+        parents[root] = -1;
+        
+        // Les nœuds visités sont marqués en inversant leur numéro de composante
+        component[root] = -componentId;
+        int last = -1;
+        
+        search:
+        while (head < tail) {
+            int v = queue[head++];
+            for (int i = activeOffsets[v]; i < activeOffsets[v + 1]; i++) {
+                int w = activeTargets[i];
+                if (w == root) {
+                    last = v;
+                    break search;
+                }
+                if (component[w] == componentId) {
+                    component[w] = -componentId;
+                    parents[w] = v;
+                    queue[tail++] = w;
+                }
+            }
+        }
+        
+        List<String> chain = new ArrayList<>();
+        chain.add(names[root]);
+        for (int v = last; v != -1 && v != root; v = parents[v]) {
+            chain.add(names[v]);
+        }
+        chain.add(names[root]);
+        // Le chemin a été remonté depuis la fin : remettre les nœuds intermédiaires dans l'ordre
+        Collections.reverse(chain.subList(1, chain.size() - 1));
+        return chain;
+    }
+    
+    private List<String> namesOf(int[] members) {
+        List<String> result = new ArrayList<>(members.length);
+        for (int member : members) {
+            result.add(names[member]);
+        }
+        return result;
+    }
+    
+    /**
+     * Référence circulaire détectée entre plusieurs propriétés.
+     */
+    public static final class Cycle {
+        
+        private final List<String> chain;
+        private final List<String> properties;
+        
+        private Cycle(List<String> chain, List<String> properties) {
+            this.chain = Collections.unmodifiableList(chain);
+            this.properties = Collections.unmodifiableList(properties);
+        }
+        
+        /**
+         * @return Chaîne complète, qui se referme sur sa première propriété (ex: [a, b, a])
+         */
+        public List<String> getChain() {
+            return chain;
+        }
+        
+        /**
+         * @return Toutes les propriétés de la composante, dans l'ordre de déclaration
+         */
+        public List<String> getProperties() {
+            return properties;
+        }
+        
+        /**
+         * @return Chaîne lisible (ex: "a -> b -> a")
+         */
+        public String describe() {
+            return String.join(" -> ", chain);
+        }
+        
+        @Override
+        public String toString() {
+            return "Cycle{" + describe() + "}";
+        }
+    }
+    
+    /**
+     * Construit le graphe en une passe sur les valeurs de propriétés.
+     * Non thread-safe.
+     */
+    public static final class Builder {
+        
+        private final List<String> names = new ArrayList<>();
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final BitSet defined = new BitSet();
+        private final PlaceholderDetector placeholderDetector = new PlaceholderDetector();
+        
+        private int[] edgeFrom = new int[16];
+        private int[] edgeTo = new int[16];
+        private int[][] edgeGuards = new int[16][];
+        private int edgeCount;
+        
+        private Builder() {
+        }
+        
+        /**
+         * Ajoute une propriété et les placeholders de sa valeur.
+         * La première définition d'un nom l'emporte : les sources doivent être
+         * parcourues par ordre de précédence.
+         *
+         * @param name Nom de la propriété
+         * @param value Valeur brute (non résolue), peut être null
+         * @return ce builder
+         */
+        public Builder addProperty(String name, CharSequence value) {
+            int from = idOf(name);
+            if (defined.get(from)) {
+                return this;
+            }
+            defined.set(from);
+            
+            int firstEdge = edgeCount;
+            placeholderDetector.forEachPlaceholder(value, placeholder -> {
+                // Un nom dynamique (${${env}.host}) ne désigne pas de propriété connue statiquement
+                if (!placeholder.hasDynamicName()) {
+                    addEdge(from, idOf(placeholder.name()), guardsOf(placeholder), firstEdge);
+                }
+            });
+            return this;
+        }
+        
+        public PlaceholderGraph build() {
+            return new PlaceholderGraph(this);
+        }
+        
+        /**
+         * Recopie une propriété et ses arcs depuis un graphe existant, sans rescanner sa valeur.
+         */
+        private void copyProperty(String name, String[] targetNames, int[] targets, int[][] guards, int from, int to) {
+            int id = idOf(name);
+            if (defined.get(id)) {
+                return;
+            }
+            defined.set(id);
+            
+            int firstEdge = edgeCount;
+            for (int i = from; i < to; i++) {
+                int[] copiedGuards = null;
+                if (guards[i] != null) {
+                    copiedGuards = new int[guards[i].length];
+                    for (int g = 0; g < copiedGuards.length; g++) {
+                        copiedGuards[g] = guards[i][g] < 0 ? -1 : idOf(targetNames[guards[i][g]]);
+                    }
+                }
+                addEdge(id, idOf(targetNames[targets[i]]), copiedGuards, firstEdge);
+            }
+        }
+        
+        /**
+         * @return Identifiants des placeholders englobants (-1 si dynamique), ou null hors valeur par défaut
+         */
+        private int[] guardsOf(PlaceholderScanner.Placeholder placeholder) {
+            if (!placeholder.isInDefault()) {
+                return null;
+            }
+            List<String> enclosing = placeholder.enclosingDefaults();
+            int[] guards = new int[enclosing.size()];
+            for (int i = 0; i < guards.length; i++) {
+                String guard = enclosing.get(i);
+                guards[i] = guard == null ? -1 : idOf(guard);
+            }
+            return guards;
+        }
+        
+        private int idOf(String name) {
+            Integer id = ids.get(name);
+            if (id == null) {
+                id = names.size();
+                names.add(name);
+                ids.put(name, id);
+            }
+            return id;
+        }
+        
+        private void addEdge(int from, int to, int[] guards, int firstEdge) {
+            // Les arcs d'une même valeur sont contigus : ${a}${a} ne compte qu'une fois,
+            // et une référence inconditionnelle remplace les références conditionnelles
+            for (int i = firstEdge; i < edgeCount; i++) {
+                if (edgeTo[i] == to) {
+                    if (guards == null || edgeGuards[i] == null) {
+                        edgeGuards[i] = null;
+                        return;
+                    }
+                    if (Arrays.equals(edgeGuards[i], guards)) {
+                        return;
+                    }
+                }
+            }
+            if (edgeCount == edgeFrom.length) {
+                edgeFrom = Arrays.copyOf(edgeFrom, edgeCount * 2);
+                edgeTo = Arrays.copyOf(edgeTo, edgeCount * 2);
+                edgeGuards = Arrays.copyOf(edgeGuards, edgeCount * 2);
+            }
+            edgeFrom[edgeCount] = from;
+            edgeTo[edgeCount] = to;
+            edgeGuards[edgeCount] = guards;
+            edgeCount++;
+        }
+    }
+}
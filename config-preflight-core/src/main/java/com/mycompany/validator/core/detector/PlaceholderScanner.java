@@ -0,0 +1,420 @@
+package com.mycompany.validator.core.detector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Scanner mono-passe des placeholders ${...}, écrit à la main (sans regex).
+ *
+ * Contrairement à l'ancien pattern, il gère correctement :
+ * - les valeurs par défaut imbriquées : ${a:${b:c}}
+ * - les noms dynamiques : ${${env}.host}
+ * - les accolades simples dans une valeur par défaut : ${json:{"k":1}}
+ * - l'échappement par backslash : \${literal} et \: dans un nom (retiré du nom rapporté)
+ *
+ * Les placeholders sont rapportés au {@link Visitor} via un curseur {@link Placeholder}
+ * réutilisé : aucune liste ni chaîne n'est allouée tant que le visiteur ne demande pas
+ * explicitement {@link Placeholder#name()} ou {@link Placeholder#defaultValue()}.
+ * Un placeholder imbriqué est rapporté avant celui qui le contient.
+ *
+ * Une instance n'est pas thread-safe : la pile interne est réutilisée d'un appel à l'autre.
+ */
+public final class PlaceholderScanner {
+    
+    /**
+     * Le placeholder possède une valeur par défaut (${name:default}).
+     */
+    public static final int HAS_DEFAULT = 1;
+    
+    /**
+     * Le placeholder se trouve dans la valeur par défaut d'un placeholder englobant :
+     * il n'est évalué que si ce dernier est absent.
+     */
+    public static final int IN_DEFAULT = 2;
+    
+    /**
+     * Le nom du placeholder contient lui-même un placeholder (${${env}.host}) :
+     * il ne peut pas être vérifié statiquement.
+     */
+    public static final int DYNAMIC_NAME = 4;
+    
+    private static final int INITIAL_DEPTH = 4;
+    
+    /**
+     * Reçoit chaque placeholder trouvé pendant un scan.
+     */
+    @FunctionalInterface
+    public interface Visitor {
+        
+        /**
+         * @param placeholder Curseur sur le placeholder courant, valide uniquement pendant l'appel
+         */
+        void visit(Placeholder placeholder);
+    }
+    
+    // Pile des placeholders ouverts : position du '$', du ':' (-1 si absent),
+    // profondeur d'accolades simples et flags
+    private int[] starts = new int[INITIAL_DEPTH];
+    private int[] separators = new int[INITIAL_DEPTH];
+    private int[] braces = new int[INITIAL_DEPTH];
+    private int[] flags = new int[INITIAL_DEPTH];
+    private int depth;
+    private boolean scanning;
+    
+    private final Placeholder cursor = new Placeholder(this);
+    
+    /**
+     * Vérifie rapidement si une valeur peut contenir un placeholder.
+     *
+     * @param value Valeur à vérifier
+     * @return false si la valeur ne contient aucune séquence "${"
+     */
+    public static boolean mayContainPlaceholder(CharSequence value) {
+        if (value == null || value.length() < 3) {
+            return false;
+        }
+        if (value instanceof String) {
+            return ((String) value).indexOf("${") >= 0;
+        }
+        for (int i = 0, last = value.length() - 1; i < last; i++) {
+            if (value.charAt(i) == '$' && value.charAt(i + 1) == '{') {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Indique si un scan est en cours sur cette instance (appel réentrant depuis un visiteur).
+     */
+    public boolean isScanning() {
+        return scanning;
+    }
+    
+    /**
+     * Scanne une valeur et rapporte chaque placeholder au visiteur.
+     *
+     * @param value Valeur à analyser
+     * @param visitor Visiteur, ou null pour simplement compter les placeholders
+     * @return Nombre de placeholders trouvés
+     */
+    public int scan(CharSequence value, Visitor visitor) {
+        if (!mayContainPlaceholder(value)) {
+            return 0;
+        }
+        if (scanning) {
+            throw new IllegalStateException("PlaceholderScanner is not reentrant");
+        }
+        
+        scanning = true;
+        depth = 0;
+        int count = 0;
+        try {
+            int length = value.length();
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                
+                if (c == '\\' && i + 1 < length) {
+                    char next = value.charAt(i + 1);
+                    if (next == '$' || next == ':') {
+                        i++; // Caractère échappé : ni préfixe, ni séparateur
+                    }
+                    continue;
+                }
+                
+                if (c == '$' && i + 1 < length && value.charAt(i + 1) == '{') {
+                    push(i);
+                    i++;
+                    continue;
+                }
+                
+                if (depth == 0) {
+                    continue;
+                }
+                
+                int top = depth - 1;
+                if (c == '{') {
+                    braces[top]++;
+                } else if (c == ':') {
+                    if (separators[top] < 0 && braces[top] == 0) {
+                        separators[top] = i;
+                    }
+                } else if (c == '}') {
+                    if (braces[top] > 0) {
+                        braces[top]--;
+                    } else {
+                        depth--;
+                        if (report(value, top, i, visitor)) {
+                            count++;
+                        }
+                    }
+                }
+            }
+        } finally {
+            // Les placeholders non fermés sont ignorés, comme le ferait le framework
+            depth = 0;
+            scanning = false;
+        }
+        return count;
+    }
+    
+    private void push(int start) {
+        if (depth == starts.length) {
+            int newLength = depth * 2;
+            starts = Arrays.copyOf(starts, newLength);
+            separators = Arrays.copyOf(separators, newLength);
+            braces = Arrays.copyOf(braces, newLength);
+            flags = Arrays.copyOf(flags, newLength);
+        }
+        
+        int frameFlags = 0;
+        if (depth > 0) {
+            int parent = depth - 1;
+            if (separators[parent] >= 0) {
+                frameFlags = IN_DEFAULT;
+            } else {
+                flags[parent] |= DYNAMIC_NAME;
+            }
+            frameFlags |= flags[parent] & IN_DEFAULT;
+        }
+        
+        starts[depth] = start;
+        separators[depth] = -1;
+        braces[depth] = 0;
+        flags[depth] = frameFlags;
+        depth++;
+    }
+    
+    private boolean report(CharSequence value, int frame, int end, Visitor visitor) {
+        int separator = separators[frame];
+        int nameStart = starts[frame] + 2;
+        int nameEnd = separator >= 0 ? separator : end;
+        
+        // Trim du nom sans allocation
+        while (nameStart < nameEnd && Character.isWhitespace(value.charAt(nameStart))) {
+            nameStart++;
+        }
+        while (nameEnd > nameStart && Character.isWhitespace(value.charAt(nameEnd - 1))) {
+            nameEnd--;
+        }
+        if (nameStart == nameEnd) {
+            return false; // ${} ou ${:default}
+        }
+        
+        if (visitor != null) {
+            int frameFlags = flags[frame] | (separator >= 0 ? HAS_DEFAULT : 0);
+            cursor.set(value, starts[frame], end + 1, nameStart, nameEnd, separator, frameFlags, frame);
+            visitor.visit(cursor);
+        }
+        return true;
+    }
+    
+    private static String trimmedNameOf(CharSequence value, int nameStart, int nameEnd) {
+        while (nameStart < nameEnd && Character.isWhitespace(value.charAt(nameStart))) {
+            nameStart++;
+        }
+        while (nameEnd > nameStart && Character.isWhitespace(value.charAt(nameEnd - 1))) {
+            nameEnd--;
+        }
+        return nameOf(value, nameStart, nameEnd);
+    }
+    
+    /**
+     * Nom sans les backslashs d'échappement (alloue une chaîne).
+     */
+    private static String nameOf(CharSequence value, int nameStart, int nameEnd) {
+        int escape = nameStart;
+        while (escape < nameEnd && !isEscape(value, escape, nameEnd)) {
+            escape++;
+        }
+        if (escape == nameEnd) {
+            return value.subSequence(nameStart, nameEnd).toString();
+        }
+        
+        StringBuilder name = new StringBuilder(nameEnd - nameStart);
+        name.append(value, nameStart, escape);
+        for (int i = escape; i < nameEnd; i++) {
+            if (isEscape(value, i, nameEnd)) {
+                i++;
+            }
+            name.append(value.charAt(i));
+        }
+        return name.toString();
+    }
+    
+    /**
+     * Backslash échappant un '$' ou un ':' du nom, comme dans {@link #scan}.
+     */
+    private static boolean isEscape(CharSequence value, int index, int nameEnd) {
+        if (value.charAt(index) != '\\' || index + 1 >= nameEnd) {
+            return false;
+        }
+        char next = value.charAt(index + 1);
+        return next == '$' || next == ':';
+    }
+    
+    /**
+     * Vue mutable sur un placeholder trouvé par le scanner.
+     * Les positions sont relatives à la valeur scannée.
+     */
+    public static final class Placeholder {
+        
+        private final PlaceholderScanner scanner;
+        private CharSequence value;
+        private int start;
+        private int end;
+        private int nameStart;
+        private int nameEnd;
+        private int separator;
+        private int flags;
+        private int depth;
+        
+        private Placeholder(PlaceholderScanner scanner) {
+            this.scanner = scanner;
+        }
+        
+        private void set(CharSequence value, int start, int end, int nameStart, int nameEnd,
+                         int separator, int flags, int depth) {
+            this.value = value;
+            this.start = start;
+            this.end = end;
+            this.nameStart = nameStart;
+            this.nameEnd = nameEnd;
+            this.separator = separator;
+            this.flags = flags;
+            this.depth = depth;
+        }
+        
+        /**
+         * @return Valeur scannée
+         */
+        public CharSequence value() {
+            return value;
+        }
+        
+        /**
+         * @return Position du '$' ouvrant
+         */
+        public int start() {
+            return start;
+        }
+        
+        /**
+         * @return Position suivant le '}' fermant
+         */
+        public int end() {
+            return end;
+        }
+        
+        public int nameStart() {
+            return nameStart;
+        }
+        
+        public int nameEnd() {
+            return nameEnd;
+        }
+        
+        /**
+         * @return Profondeur d'imbrication (0 pour un placeholder de premier niveau)
+         */
+        public int depth() {
+            return depth;
+        }
+        
+        /**
+         * @return Combinaison de {@link #HAS_DEFAULT}, {@link #IN_DEFAULT} et {@link #DYNAMIC_NAME}
+         */
+        public int flags() {
+            return flags;
+        }
+        
+        public boolean hasDefault() {
+            return (flags & HAS_DEFAULT) != 0;
+        }
+        
+        public boolean isInDefault() {
+            return (flags & IN_DEFAULT) != 0;
+        }
+        
+        public boolean hasDynamicName() {
+            return (flags & DYNAMIC_NAME) != 0;
+        }
+        
+        /**
+         * Un placeholder est obligatoire s'il n'a pas de valeur par défaut, qu'il n'est pas
+         * lui-même dans une valeur par défaut et que son nom est statique.
+         *
+         * @return true si la propriété référencée doit être définie
+         */
+        public boolean isRequired() {
+            return flags == 0;
+        }
+        
+        /**
+         * Compare le nom du placeholder (échappements retirés) sans allouer de chaîne.
+         */
+        public boolean nameEquals(CharSequence name) {
+            if (name == null) {
+                return false;
+            }
+            int matched = 0;
+            for (int i = nameStart; i < nameEnd; i++) {
+                if (isEscape(value, i, nameEnd)) {
+                    i++;
+                }
+                if (matched == name.length() || value.charAt(i) != name.charAt(matched)) {
+                    return false;
+                }
+                matched++;
+            }
+            return matched == name.length();
+        }
+        
+        /**
+         * @return Nom de la propriété référencée, sans les backslashs d'échappement
+         *         (${key\:part} → key:part) (alloue une chaîne)
+         */
+        public String name() {
+            return nameOf(value, nameStart, nameEnd);
+        }
+        
+        /**
+         * Placeholders dont la valeur par défaut contient celui-ci, du plus proche au plus lointain :
+         * il n'est évalué que si aucun d'eux n'est défini (${x:${a}} : a n'est lu que si x est absent).
+         * Un englobant au nom dynamique est rapporté par null.
+         *
+         * @return Noms des placeholders englobants, vide si {@link #isInDefault()} est faux (alloue une liste)
+         */
+        public List<String> enclosingDefaults() {
+            if (!isInDefault()) {
+                return Collections.emptyList();
+            }
+            List<String> enclosing = new ArrayList<>(depth);
+            for (int frame = depth - 1; frame >= 0; frame--) {
+                // Séparateur déjà vu à l'ouverture du niveau suivant : on est dans la valeur par défaut
+                if (scanner.separators[frame] >= 0) {
+                    enclosing.add((scanner.flags[frame] & DYNAMIC_NAME) != 0 ? null
+                        : trimmedNameOf(value, scanner.starts[frame] + 2, scanner.separators[frame]));
+                }
+            }
+            return enclosing;
+        }
+        
+        /**
+         * @return Valeur par défaut (trimmée), ou null si absente (alloue une chaîne)
+         */
+        public String defaultValue() {
+            if (separator < 0) {
+                return null;
+            }
+            return value.subSequence(separator + 1, end - 1).toString().trim();
+        }
+        
+        @Override
+        public String toString() {
+            return value.subSequence(start, end).toString();
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package com.mycompany.validator.core.detector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Trie des noms de propriétés par segments, pour l'attribution des sources.
+ *
+ * Répond à "quelles sources définissent quelque chose sous le préfixe X, par ordre de précédence"
+ * en un parcours proportionnel à la longueur du préfixe, au lieu de tester startsWith sur
+ * toutes les clés de toutes les sources.
+ *
+ * Représentation compacte :
+ * - chaque segment distinct (app, database, 0...) est encodé une seule fois, toutes sources confondues
+ * - les arcs sont une table de hachage ouverte (nœud, segment) → nœud, sans objet par nœud
+ * - chaque nœud porte un masque des sources qui définissent ce nœud ou un descendant
+ *
+ * Les noms sont découpés sur '.' et sur les index ('a[0].b' → a, 0, b) ; la comparaison est exacte.
+ * Immuable une fois construit, donc partageable entre threads.
+ */
+public final class PropertyPrefixTrie {
+    
+    private static final int ROOT = 0;
+    private static final int NO_NODE = -1;
+    
+    private final List<String> sourceNames;
+    private final Map<String, Integer> segmentIds;
+    private final EdgeTable edges;
+    private final long[] masks;
+    private final int words;
+    private final int nodeCount;
+    
+    private PropertyPrefixTrie(List<String> sourceNames, Map<String, Integer> segmentIds, EdgeTable edges,
+                               long[] masks, int words, int nodeCount) {
+        this.sourceNames = sourceNames;
+        this.segmentIds = segmentIds;
+        this.edges = edges;
+        this.masks = masks;
+        this.words = words;
+        this.nodeCount = nodeCount;
+    }
+    
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    /**
+     * Sources qui définissent le préfixe lui-même ou une propriété en dessous.
+     *
+     * @param prefix Préfixe (ex: app.database)
+     * @return Noms des sources, par ordre de précédence ; vide si aucune
+     */
+    public List<String> findSources(String prefix) {
+        int node = find(prefix, false);
+        return node == NO_NODE || node == ROOT ? Collections.emptyList() : sourcesOf(node);
+    }
+    
+    /**
+     * Sources du plus proche ancêtre défini d'une propriété, elle-même exclue.
+     * Utile pour attribuer une propriété absente au fichier qui définit ses voisines
+     * (app.database.url absente → sources de app.database, sinon de app).
+     *
+     * @param propertyName Nom de la propriété
+     * @return Noms des sources, par ordre de précédence ; vide si aucun ancêtre n'est défini
+     */
+    public List<String> findClosestSources(String propertyName) {
+        int node = find(propertyName, true);
+        return node == NO_NODE || node == ROOT ? Collections.emptyList() : sourcesOf(node);
+    }
+    
+    /**
+     * @param prefix Préfixe
+     * @return true si au moins une source définit quelque chose sous ce préfixe
+     */
+    public boolean containsPrefix(String prefix) {
+        int node = find(prefix, false);
+        return node != NO_NODE && node != ROOT;
+    }
+    
+    public int getSourceCount() {
+        return sourceNames.size();
+    }
+    
+    /**
+     * @return Nombre de nœuds (racine comprise)
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+    
+    /**
+     * @return Nombre de segments distincts
+     */
+    public int getSegmentCount() {
+        return segmentIds.size();
+    }
+    
+    /**
+     * Descend le long des segments du nom.
+     *
+     * @param closestParent true pour s'arrêter au dernier ancêtre existant (le dernier segment est ignoré)
+     */
+    private int find(String name, boolean closestParent) {
+        if (name == null || name.isEmpty()) {
+            return NO_NODE;
+        }
+        int node = ROOT;
+        int length = name.length();
+        int start = 0;
+        int lastSegment = closestParent ? lastSegmentStart(name) : length;
+        
+        while (start < length) {
+            int end = segmentEnd(name, start);
+            if (end > start) {
+                if (closestParent && start >= lastSegment) {
+                    break;
+                }
+                Integer segment = segmentIds.get(name.substring(start, end));
+                int child = segment == null ? NO_NODE : edges.get(node, segment);
+                if (child == NO_NODE) {
+                    return closestParent ? node : NO_NODE;
+                }
+                node = child;
+            }
+            start = end + 1;
+        }
+        return node;
+    }
+    
+    private List<String> sourcesOf(int node) {
+        List<String> sources = new ArrayList<>();
+        int base = node * words;
+        for (int word = 0; word < words; word++) {
+            long mask = masks[base + word];
+            while (mask != 0) {
+                int bit = Long.numberOfTrailingZeros(mask);
+                sources.add(sourceNames.get(word * 64 + bit));
+                mask &= mask - 1;
+            }
+        }
+        return sources;
+    }
+    
+    /**
+     * Fin du segment commençant à start : prochain '.', '[' ou ']'.
+     */
+    private static int segmentEnd(String name, int start) {
+        int i = start;
+        while (i < name.length()) {
+            char c = name.charAt(i);
+            if (c == '.' || c == '[' || c == ']') {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+    
+    private static int lastSegmentStart(String name) {
+        int i = name.length() - 1;
+        // Index final (a.list[0]) : le segment est entre crochets
+        if (i >= 0 && name.charAt(i) == ']') {
+            i--;
+        }
+        while (i >= 0) {
+            char c = name.charAt(i);
+            if (c == '.' || c == '[' || c == ']') {
+                return i + 1;
+            }
+            i--;
+        }
+        return 0;
+    }
+    
+    /**
+     * Table de hachage ouverte (nœud parent, segment) → nœud enfant.
+     */
+    private static final class EdgeTable {
+        
+        private long[] keys;
+        private int[] values;
+        private int size;
+        
+        EdgeTable(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(16, expected * 2 - 1)) << 1;
+            keys = new long[capacity];
+            values = new int[capacity];
+            Arrays.fill(values, NO_NODE);
+        }
+        
+        int get(int parent, int segment) {
+            long key = key(parent, segment);
+            int mask = keys.length - 1;
+            for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+                if (values[i] == NO_NODE) {
+                    return NO_NODE;
+                }
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+        }
+        
+        /**
+         * @return Nœud existant, ou newNode s'il vient d'être inséré
+         */
+        int getOrPut(int parent, int segment, int newNode) {
+            if ((size + 1) * 2 > keys.length) {
+                resize();
+            }
+            long key = key(parent, segment);
+            int mask = keys.length - 1;
+            for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+                if (values[i] == NO_NODE) {
+                    keys[i] = key;
+                    values[i] = newNode;
+                    size++;
+                    return newNode;
+                }
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+        }
+        
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldValues.length * 2];
+            Arrays.fill(values, NO_NODE);
+            int mask = keys.length - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldValues[j] != NO_NODE) {
+                    int i = hash(oldKeys[j]) & mask;
+                    while (values[i] != NO_NODE) {
+                        i = (i + 1) & mask;
+                    }
+                    keys[i] = oldKeys[j];
+                    values[i] = oldValues[j];
+                }
+            }
+        }
+        
+        private static long key(int parent, int segment) {
+            return ((long) parent << 32) | (segment & 0xFFFFFFFFL);
+        }
+        
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+    
+    /**
+     * Construit le trie. Les sources doivent être ajoutées par ordre de précédence.
+     */
+    public static final class Builder {
+        
+        private final List<String> sourceNames = new ArrayList<>();
+        private final List<Iterable<String>> sourceProperties = new ArrayList<>();
+        
+        private Builder() {
+        }
+        
+        /**
+         * @param sourceName Nom de la source
+         * @param propertyNames Noms des propriétés qu'elle définit
+         * @return ce builder
+         */
+        public Builder addSource(String sourceName, Iterable<String> propertyNames) {
+            sourceNames.add(sourceName);
+            sourceProperties.add(propertyNames);
+            return this;
+        }
+        
+        public PropertyPrefixTrie build() {
+            int words = Math.max(1, (sourceNames.size() + 63) / 64);
+            Map<String, Integer> segmentIds = new HashMap<>();
+            EdgeTable edges = new EdgeTable(256);
+            long[] masks = new long[64 * words];
+            int nodeCount = 1;
+            
+            for (int source = 0; source < sourceNames.size(); source++) {
+                int word = source / 64;
+                long bit = 1L << (source % 64);
+                
+                for (String name : sourceProperties.get(source)) {
+                    if (name == null) {
+                        continue;
+                    }
+                    int node = ROOT;
+                    int start = 0;
+                    int length = name.length();
+                    while (start < length) {
+                        int end = segmentEnd(name, start);
+                        if (end > start) {
+                            String text = name.substring(start, end);
+                            Integer segment = segmentIds.get(text);
+                            if (segment == null) {
+                                segment = segmentIds.size();
+                                segmentIds.put(text, segment);
+                            }
+                            int child = edges.getOrPut(node, segment, nodeCount);
+                            if (child == nodeCount) {
+                                nodeCount++;
+                                if (nodeCount * words > masks.length) {
+                                    masks = Arrays.copyOf(masks, masks.length * 2);
+                                }
+                            }
+                            node = child;
+                            // Le masque de chaque ancêtre couvre ses descendants
+                            masks[node * words + word] |= bit;
+                        }
+                        start = end + 1;
+                    }
+                }
+            }
+            
+            return new PropertyPrefixTrie(Collections.unmodifiableList(new ArrayList<>(sourceNames)),
+                segmentIds, edges, Arrays.copyOf(masks, nodeCount * words), words, nodeCount);
+        }
+    }
+}
@@ -1,29 +1,39 @@
 package com.mycompany.validator.core.detector;
 
 import java.util.Arrays;
-import java.util.List;
-import java.util.regex.Pattern;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
 
 /**
  * Détecte et masque les propriétés sensibles (secrets, mots de passe, clés API).
  * Empêche l'affichage de valeurs sensibles dans les logs.
+ * 
+ * La détection utilise un automate d'Aho-Corasick compilé à partir d'un ensemble
+ * immuable de mots-clés : un seul parcours du nom, sans cache des verdicts.
+ * Les mots-clés par défaut sont compilés une fois et partagés ; l'ajout de mots-clés
+ * recompile un nouvel instantané propre à l'instance.
  */
 public class SecretDetector {
     
     // Mots-clés indiquant une propriété sensible
-    private static final List<String> SENSITIVE_KEYWORDS = Arrays.asList(
+    private static final Set<String> DEFAULT_SENSITIVE_KEYWORDS = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(
         "password", "passwd", "pwd",
         "secret", "token", "key", "apikey", "api-key", "api_key",
         "credential", "auth", "authorization",
         "private", "certificate", "cert",
         "salt", "hash"
-    );
+    )));
     
-    // Pattern pour détecter les propriétés sensibles
-    private static final Pattern SENSITIVE_PATTERN = buildSensitivePattern();
+    // Automate des mots-clés par défaut, immuable et partagé par toutes les instances
+    private static final KeywordSnapshot DEFAULT_SNAPSHOT = new KeywordSnapshot(DEFAULT_SENSITIVE_KEYWORDS);
     
     private static final String MASKED_VALUE = "***MASKED***";
     
+    // Instantané de cette instance, remplacé (jamais modifié) par addSensitiveKeywords
+    private volatile KeywordSnapshot snapshot = DEFAULT_SNAPSHOT;
+    
     /**
      * Vérifie si un nom de propriété est sensible.
      * 
@@ -40,8 +50,7 @@ public class SecretDetector {
             return false;
         }
         
-        String lowerName = propertyName.toLowerCase();
-        return SENSITIVE_PATTERN.matcher(lowerName).find();
+        return snapshot.automaton.containsAny(propertyName);
     }
     
     /**
@@ -114,30 +123,46 @@ public class SecretDetector {
     }
     
     /**
-     * Construit le pattern de détection des propriétés sensibles.
+     * Ajoute des mots-clés personnalisés pour la détection de secrets.
+     * Utile pour des propriétés spécifiques à votre application.
+     * 
+     * Les mots-clés ne s'appliquent qu'à cette instance : un nouvel automate est compilé
+     * et remplace l'ancien de manière atomique, les autres détecteurs gardent le leur.
+     * 
+     * @param keywords Mots-clés supplémentaires
+     * @throws IllegalArgumentException si un mot-clé contient des caractères non ASCII
      */
-    private static Pattern buildSensitivePattern() {
-        StringBuilder patternBuilder = new StringBuilder();
-        patternBuilder.append("(");
-        
-        for (int i = 0; i < SENSITIVE_KEYWORDS.size(); i++) {
-            if (i > 0) {
-                patternBuilder.append("|");
+    public synchronized void addSensitiveKeywords(String... keywords) {
+        KeywordSnapshot current = snapshot;
+        Set<String> merged = new LinkedHashSet<>(current.keywords);
+        for (String keyword : keywords) {
+            if (keyword != null && !keyword.trim().isEmpty()) {
+                merged.add(keyword.trim().toLowerCase(Locale.ROOT));
             }
-            patternBuilder.append(Pattern.quote(SENSITIVE_KEYWORDS.get(i)));
         }
-        
-        patternBuilder.append(")");
-        return Pattern.compile(patternBuilder.toString(), Pattern.CASE_INSENSITIVE);
+        if (merged.size() != current.keywords.size()) {
+            snapshot = new KeywordSnapshot(merged);
+        }
     }
     
     /**
-     * Ajoute des mots-clés personnalisés pour la détection de secrets.
-     * Utile pour des propriétés spécifiques à votre application.
-     * 
-     * @param keywords Mots-clés supplémentaires
+     * @return Mots-clés actuellement utilisés pour la détection (ensemble immuable)
+     */
+    public Set<String> getSensitiveKeywords() {
+        return snapshot.keywords;
+    }
+    
+    /**
+     * Ensemble immuable de mots-clés et son automate compilé.
      */
-    public void addSensitiveKeywords(String... keywords) {
-        SENSITIVE_KEYWORDS.addAll(Arrays.asList(keywords));
+    private static final class KeywordSnapshot {
+        
+        private final Set<String> keywords;
+        private final KeywordAutomaton automaton;
+        
+        private KeywordSnapshot(Set<String> keywords) {
+            this.keywords = Collections.unmodifiableSet(new LinkedHashSet<>(keywords));
+            this.automaton = KeywordAutomaton.compile(this.keywords);
+        }
     }
 }
@@ -0,0 +1,188 @@
+package com.mycompany.validator.core.engine;
+
+import com.mycompany.validator.core.api.ValidationDelta;
+import com.mycompany.validator.core.api.ValidationResult;
+import com.mycompany.validator.core.detector.CanonicalPropertyIndex;
+import com.mycompany.validator.core.detector.PlaceholderGraph;
+import com.mycompany.validator.core.detector.SecretDetector;
+import com.mycompany.validator.core.model.ConfigurationError;
+import com.mycompany.validator.core.model.ErrorType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Revalidation incrémentale des placeholders après un rafraîchissement de configuration.
+ *
+ * Garde le graphe des placeholders et les erreurs de la dernière validation, par propriété.
+ * À chaque changement, seules les clés modifiées et les propriétés qui en dépendent
+ * (fermeture de l'index inverse du graphe) sont revérifiées ; les autres valeurs ne sont
+ * ni relues ni rescannées. Une clé modifiée atteint aussi les nœuds du graphe de même forme
+ * canonique : un changement de APP_URL revérifie les propriétés qui référencent ${app.url}.
+ *
+ * Thread-safe : les revalidations sont sérialisées.
+ */
+public final class IncrementalValidator {
+    
+    private final PropertyCheck check;
+    private final SecretDetector secretDetector;
+    
+    private PlaceholderGraph graph;
+    private List<ConfigurationError> cycleErrors = Collections.emptyList();
+    private final Map<String, List<ConfigurationError>> errorsByProperty = new LinkedHashMap<>();
+    
+    /**
+     * @param check Vérification des placeholders d'une propriété, fournie par l'adaptateur
+     * @param secretDetector Détecteur utilisé pour les erreurs de référence circulaire
+     */
+    public IncrementalValidator(PropertyCheck check, SecretDetector secretDetector) {
+        this.check = check;
+        this.secretDetector = secretDetector;
+    }
+    
+    /**
+     * Enregistre l'état de référence, issu d'une validation complète.
+     *
+     * @param graph Graphe des placeholders de la configuration courante
+     * @param errors Erreurs de la validation complète
+     */
+    public synchronized void initialize(PlaceholderGraph graph, List<ConfigurationError> errors) {
+        this.graph = graph;
+        this.cycleErrors = new ArrayList<>();
+        this.errorsByProperty.clear();
+        for (ConfigurationError error : errors) {
+            if (error.getType() == ErrorType.CIRCULAR_REFERENCE) {
+                cycleErrors.add(error);
+            } else {
+                errorsByProperty.computeIfAbsent(error.getPropertyName(), name -> new ArrayList<>()).add(error);
+            }
+        }
+    }
+    
+    public synchronized boolean isInitialized() {
+        return graph != null;
+    }
+    
+    /**
+     * Revalide les clés modifiées et leurs dépendants.
+     *
+     * @param changes Nouvelle valeur brute de chaque clé modifiée (null si elle a été supprimée)
+     * @return Différence avec l'état précédent
+     * @throws IllegalStateException si {@link #initialize} n'a pas été appelé
+     */
+    public synchronized ValidationDelta revalidate(Map<String, ? extends CharSequence> changes) {
+        if (graph == null) {
+            throw new IllegalStateException("IncrementalValidator has not been initialized");
+        }
+        
+        PlaceholderGraph previous = graph;
+        graph = previous.withChanges(changes);
+        
+        // Dépendants avant ET après le changement : une référence peut être apparue ou avoir disparu
+        Set<String> affected = new LinkedHashSet<>(previous.getDependents(withAliases(previous, changes.keySet())));
+        affected.addAll(graph.getDependents(withAliases(graph, changes.keySet())));
+        
+        List<ConfigurationError> added = new ArrayList<>();
+        List<ConfigurationError> resolved = new ArrayList<>();
+        
+        List<ConfigurationError> newCycleErrors = graph.toCircularReferenceErrors(secretDetector);
+        diff(cycleErrors, newCycleErrors, added, resolved);
+        cycleErrors = newCycleErrors;
+        
+        for (String property : affected) {
+            List<ConfigurationError> before = errorsByProperty.getOrDefault(property, Collections.emptyList());
+            List<ConfigurationError> after = new ArrayList<>();
+            if (graph.isDefined(property)) {
+                check.check(property, graph, after);
+            }
+            diff(before, after, added, resolved);
+            
+            if (after.isEmpty()) {
+                errorsByProperty.remove(property);
+            } else {
+                errorsByProperty.put(property, after);
+            }
+        }
+        
+        return new ValidationDelta(new LinkedHashSet<>(changes.keySet()), new ArrayList<>(affected),
+            new ValidationResult(added), new ValidationResult(resolved), currentResult());
+    }
+    
+    /**
+     * @return Erreurs de la configuration courante, cycles en premier
+     */
+    public synchronized ValidationResult getCurrentResult() {
+        return currentResult();
+    }
+    
+    private ValidationResult currentResult() {
+        List<ConfigurationError> errors = new ArrayList<>(cycleErrors);
+        for (List<ConfigurationError> propertyErrors : errorsByProperty.values()) {
+            errors.addAll(propertyErrors);
+        }
+        return new ValidationResult(errors);
+    }
+    
+    /**
+     * Clés modifiées et nœuds du graphe qui les désignent sous une autre forme de binding
+     * (APP_URL pour app.url, app.databaseUrl pour app.database-url...).
+     */
+    private static Set<String> withAliases(PlaceholderGraph graph, Set<String> keys) {
+        Set<String> canonicalKeys = new HashSet<>();
+        for (String key : keys) {
+            canonicalKeys.add(CanonicalPropertyIndex.normalize(key));
+        }
+        Set<String> result = new LinkedHashSet<>(keys);
+        for (String name : graph.getNames()) {
+            if (canonicalKeys.contains(CanonicalPropertyIndex.normalize(name))) {
+                result.add(name);
+            }
+        }
+        return result;
+    }
+    
+    private static void diff(List<ConfigurationError> before, List<ConfigurationError> after,
+                             List<ConfigurationError> added, List<ConfigurationError> resolved) {
+        Set<String> beforeKeys = new HashSet<>();
+        for (ConfigurationError error : before) {
+            beforeKeys.add(keyOf(error));
+        }
+        Set<String> afterKeys = new HashSet<>();
+        for (ConfigurationError error : after) {
+            afterKeys.add(keyOf(error));
+            if (!beforeKeys.contains(keyOf(error))) {
+                added.add(error);
+            }
+        }
+        for (ConfigurationError error : before) {
+            if (!afterKeys.contains(keyOf(error))) {
+                resolved.add(error);
+            }
+        }
+    }
+    
+    private static String keyOf(ConfigurationError error) {
+        return error.getType() + "|" + error.getPropertyName() + "|" + error.getErrorMessage();
+    }
+    
+    /**
+     * Vérification des placeholders d'une propriété, fournie par l'adaptateur.
+     * Appelée avec la configuration déjà rafraîchie.
+     */
+    @FunctionalInterface
+    public interface PropertyCheck {
+        
+        /**
+         * @param propertyName Propriété à revérifier
+         * @param graph Graphe à jour (pour ignorer les propriétés prises dans un cycle)
+         * @param errors Erreurs trouvées pour cette propriété
+         */
+        void check(String propertyName, PlaceholderGraph graph, List<ConfigurationError> errors);
+    }
+}
@@ -0,0 +1,325 @@
+package com.mycompany.validator.core.engine;
+
+import com.mycompany.validator.core.api.ErrorSink;
+import com.mycompany.validator.core.api.ValidationResult;
+import com.mycompany.validator.core.model.ConfigurationError;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Moteur d'exécution des vérifications, partagé par les adaptateurs.
+ *
+ * L'espace des clés à valider est découpé en blocs exécutés sur un {@link ForkJoinPool} :
+ * - en dessous du seuil, tout s'exécute dans le thread appelant (aucun coût de parallélisation)
+ * - les erreurs de chaque bloc sont fusionnées dans l'ordre des clés : le résultat est
+ *   identique, erreur pour erreur, à celui d'une boucle séquentielle
+ *
+ * Les vérifications doivent donc être thread-safe (les détecteurs du core le sont).
+ *
+ * Configuration (propriétés lues par {@link #fromProperties(Function)}) :
+ * - configuration.validator.parallelism : nombre de threads (1 = séquentiel)
+ * - configuration.validator.parallel-threshold : nombre de clés par bloc
+ *
+ * Un parallélisme différent de celui du pool commun utilise un pool dédié, créé une fois
+ * par niveau de parallélisme et réutilisé par toutes les validations (ses threads, démons,
+ * s'arrêtent d'eux-mêmes lorsqu'ils sont inactifs). Un moteur ne détient donc aucune ressource
+ * à libérer.
+ */
+public final class ValidationEngine {
+    
+    public static final String PARALLELISM_PROPERTY = "configuration.validator.parallelism";
+    public static final String THRESHOLD_PROPERTY = "configuration.validator.parallel-threshold";
+    
+    /**
+     * Nombre de clés par bloc : en dessous, le coût des tâches dépasse le gain.
+     */
+    public static final int DEFAULT_THRESHOLD = 1024;
+    
+    // Pools dédiés, un par niveau de parallélisme, partagés par tous les moteurs
+    private static final Map<Integer, ForkJoinPool> DEDICATED_POOLS = new ConcurrentHashMap<>();
+    
+    private final ForkJoinPool pool;
+    private final int threshold;
+    
+    private ValidationEngine(ForkJoinPool pool, int threshold) {
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+    
+    /**
+     * Moteur par défaut : pool commun, seuil {@link #DEFAULT_THRESHOLD}.
+     */
+    public static ValidationEngine defaultEngine() {
+        return new ValidationEngine(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+    
+    /**
+     * Moteur strictement séquentiel (thread appelant uniquement).
+     */
+    public static ValidationEngine sequential() {
+        return new ValidationEngine(null, Integer.MAX_VALUE);
+    }
+    
+    /**
+     * Construit le moteur à partir des propriétés de configuration du framework.
+     * Une valeur absente ou invalide conserve le comportement par défaut.
+     *
+     * @param properties Accès aux propriétés (retourne null si absente)
+     * @return Moteur configuré
+     */
+    public static ValidationEngine fromProperties(Function<String, String> properties) {
+        Builder builder = builder();
+        Integer parallelism = parsePositive(properties.apply(PARALLELISM_PROPERTY));
+        if (parallelism != null) {
+            builder.parallelism(parallelism);
+        }
+        Integer threshold = parsePositive(properties.apply(THRESHOLD_PROPERTY));
+        if (threshold != null) {
+            builder.threshold(threshold);
+        }
+        return builder.build();
+    }
+    
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    /**
+     * Exécute une vérification sur chaque élément et retourne les erreurs dans l'ordre des éléments.
+     *
+     * @param items Éléments à vérifier (clés, entrées de sources...)
+     * @param check Vérification, appelée une fois par élément, éventuellement en parallèle
+     * @param <T> Type des éléments
+     * @return Erreurs trouvées, dans l'ordre des éléments
+     */
+    public <T> List<ConfigurationError> run(List<T> items, Check<? super T> check) {
+        if (items.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (pool == null || items.size() <= threshold) {
+            return runRange(items, check, 0, items.size());
+        }
+        return pool.invoke(new ChunkTask<>(items, check, 0, items.size(), threshold));
+    }
+    
+    /**
+     * Exécute une vérification sur chaque élément en transmettant les erreurs au sink, dans l'ordre des éléments.
+     *
+     * Le scan s'arrête dès que le sink le demande (fail-fast). Seul un sink qui conserve toutes
+     * les erreurs ({@link ErrorSink#isCollectingAll()}) est réparti sur le pool : une limite
+     * s'applique dans l'ordre des clés, le scan reste donc séquentiel.
+     *
+     * @param items Éléments à vérifier
+     * @param sink Destination des erreurs
+     * @param check Vérification, appelée une fois par élément tant que le sink n'est pas arrêté
+     * @param <T> Type des éléments
+     */
+    public <T> void run(List<T> items, ErrorSink sink, SinkCheck<? super T> check) {
+        if (items.isEmpty() || sink.isStopped()) {
+            return;
+        }
+        if (pool == null || items.size() <= threshold || !sink.isCollectingAll()) {
+            for (T item : items) {
+                if (sink.isStopped()) {
+                    return;
+                }
+                check.check(item, sink);
+            }
+            return;
+        }
+        
+        List<ConfigurationError> errors = pool.invoke(new ChunkTask<T>(items,
+            (item, chunkErrors) -> check.check(item, new ListSink(chunkErrors)), 0, items.size(), threshold));
+        for (ConfigurationError error : errors) {
+            sink.accept(error);
+        }
+    }
+    
+    /**
+     * @return Nombre de threads utilisés (1 si séquentiel)
+     */
+    public int getParallelism() {
+        return pool != null ? pool.getParallelism() : 1;
+    }
+    
+    public int getThreshold() {
+        return threshold;
+    }
+    
+    ForkJoinPool getPool() {
+        return pool;
+    }
+    
+    private static <T> List<ConfigurationError> runRange(List<T> items, Check<? super T> check, int from, int to) {
+        List<ConfigurationError> errors = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            check.check(items.get(i), errors);
+        }
+        return errors;
+    }
+    
+    private static Integer parsePositive(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            return parsed > 0 ? parsed : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * Vérification appliquée à un élément.
+     *
+     * @param <T> Type des éléments
+     */
+    @FunctionalInterface
+    public interface Check<T> {
+        
+        /**
+         * @param item Élément à vérifier
+         * @param errors Erreurs du bloc courant (non partagées entre threads)
+         */
+        void check(T item, List<ConfigurationError> errors);
+    }
+    
+    /**
+     * Vérification appliquée à un élément, dont les erreurs vont directement au sink.
+     *
+     * @param <T> Type des éléments
+     */
+    @FunctionalInterface
+    public interface SinkCheck<T> {
+        
+        /**
+         * @param item Élément à vérifier
+         * @param sink Destination des erreurs (propre au bloc courant en exécution parallèle)
+         */
+        void check(T item, ErrorSink sink);
+    }
+    
+    /**
+     * Sink d'un bloc parallèle : conserve tout, fusionné ensuite dans l'ordre des blocs.
+     */
+    private static final class ListSink implements ErrorSink {
+        
+        private final List<ConfigurationError> errors;
+        
+        ListSink(List<ConfigurationError> errors) {
+            this.errors = errors;
+        }
+        
+        @Override
+        public boolean accept(Supplier<ConfigurationError> error) {
+            errors.add(error.get());
+            return true;
+        }
+        
+        @Override
+        public boolean isStopped() {
+            return false;
+        }
+        
+        @Override
+        public boolean isCollectingAll() {
+            return true;
+        }
+        
+        @Override
+        public ValidationResult toResult() {
+            return new ValidationResult(errors);
+        }
+    }
+    
+    /**
+     * Bloc [from, to) : découpé en deux tant qu'il dépasse le seuil.
+     * La moitié gauche est fusionnée avant la droite, ce qui préserve l'ordre.
+     */
+    private static final class ChunkTask<T> extends RecursiveTask<List<ConfigurationError>> {
+        
+        private final List<T> items;
+        private final Check<? super T> check;
+        private final int from;
+        private final int to;
+        private final int threshold;
+        
+        ChunkTask(List<T> items, Check<? super T> check, int from, int to, int threshold) {
+            this.items = items;
+            this.check = check;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+        
+        @Override
+        protected List<ConfigurationError> compute() {
+            if (to - from <= threshold) {
+                return runRange(items, check, from, to);
+            }
+            
+            int middle = (from + to) >>> 1;
+            ChunkTask<T> right = new ChunkTask<>(items, check, middle, to, threshold);
+            right.fork();
+            List<ConfigurationError> errors = new ChunkTask<>(items, check, from, middle, threshold).compute();
+            errors.addAll(right.join());
+            return errors;
+        }
+    }
+    
+    public static class Builder {
+        private ForkJoinPool pool;
+        private int parallelism;
+        private int threshold = DEFAULT_THRESHOLD;
+        
+        /**
+         * Pool fourni par l'application, qui en garde la gestion : le moteur ne l'arrête jamais.
+         */
+        public Builder pool(ForkJoinPool pool) {
+            this.pool = pool;
+            return this;
+        }
+        
+        /**
+         * Nombre de threads : 1 pour une exécution séquentielle ; une valeur différente
+         * de celle du pool commun utilise un pool dédié, créé au premier usage de ce niveau
+         * de parallélisme puis réutilisé.
+         */
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+        
+        public Builder threshold(int threshold) {
+            if (threshold < 1) {
+                throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+            }
+            this.threshold = threshold;
+            return this;
+        }
+        
+        public ValidationEngine build() {
+            if (pool != null) {
+                return new ValidationEngine(pool, threshold);
+            }
+            if (parallelism == 1) {
+                return new ValidationEngine(null, threshold);
+            }
+            if (parallelism == 0 || parallelism == ForkJoinPool.getCommonPoolParallelism()) {
+                return new ValidationEngine(ForkJoinPool.commonPool(), threshold);
+            }
+            return new ValidationEngine(DEDICATED_POOLS.computeIfAbsent(parallelism, ForkJoinPool::new), threshold);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.mycompany.validator.core.engine;
+
+import com.mycompany.validator.core.api.ValidationResult;
+import com.mycompany.validator.core.detector.PlaceholderGraph;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Résultats partagés par les phases d'une même validation (un "run").
+ *
+ * Un adaptateur valide la configuration en plusieurs phases (avant le contexte, sur les beans,
+ * au démarrage...). Son coordinateur énumère les sources une seule fois par run et y dépose
+ * ce qui en est dérivé (graphe des placeholders, trie des sources, résultat du scan) :
+ * la phase suivante le retrouve ici au lieu de le recalculer et n'ajoute que ses propres vérifications.
+ *
+ * Un run correspond à un état des sources ; quand elles changent (rafraîchissement),
+ * le coordinateur en ouvre un nouveau et les résultats précédents sont abandonnés.
+ *
+ * Thread-safe.
+ */
+public final class ValidationRun {
+    
+    /**
+     * Graphe des placeholders de la configuration du run.
+     */
+    public static final Key<PlaceholderGraph> PLACEHOLDER_GRAPH = Key.named("placeholder-graph");
+    
+    /**
+     * Scan complet des placeholders. N'est déposé que s'il est complet : sans erreur,
+     * ou collecté sans arrêt anticipé (un scan fail-fast interrompu ne peut pas être réutilisé).
+     */
+    public static final Key<ValidationResult> PLACEHOLDER_SCAN = Key.named("placeholder-scan");
+    
+    private final ConcurrentMap<Key<?>, Object> results = new ConcurrentHashMap<>();
+    
+    /**
+     * Résultat déjà calculé dans ce run, ou calculé et conservé.
+     *
+     * Le calcul a lieu hors du verrou de la map : il peut lui-même consulter le run
+     * (le scan a besoin du graphe). Si deux phases calculent en même temps, la première valeur déposée gagne.
+     *
+     * @param key Clé du résultat
+     * @param supplier Calcul du résultat, ne doit pas retourner null
+     */
+    public <T> T computeIfAbsent(Key<T> key, Supplier<? extends T> supplier) {
+        T value = get(key);
+        if (value != null) {
+            return value;
+        }
+        T computed = Objects.requireNonNull(supplier.get(), key.name);
+        Object previous = results.putIfAbsent(key, computed);
+        return previous != null ? key.cast(previous) : computed;
+    }
+    
+    /**
+     * @return Résultat déposé par une phase précédente, null s'il n'a pas encore été calculé
+     */
+    public <T> T get(Key<T> key) {
+        return key.cast(results.get(key));
+    }
+    
+    /**
+     * Dépose un résultat calculé par une phase, s'il n'y en a pas déjà un.
+     */
+    public <T> void put(Key<T> key, T value) {
+        results.putIfAbsent(key, Objects.requireNonNull(value, key.name));
+    }
+    
+    public boolean contains(Key<?> key) {
+        return results.containsKey(key);
+    }
+    
+    /**
+     * Clé typée d'un résultat. Les clés sont comparées par identité : chacune est une constante
+     * de l'adaptateur qui la dépose.
+     */
+    public static final class Key<T> {
+        
+        private final String name;
+        
+        private Key(String name) {
+            this.name = Objects.requireNonNull(name, "name");
+        }
+        
+        public static <T> Key<T> named(String name) {
+            return new Key<>(name);
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        @SuppressWarnings("unchecked")
+        private T cast(Object value) {
+            return (T) value;
+        }
+        
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
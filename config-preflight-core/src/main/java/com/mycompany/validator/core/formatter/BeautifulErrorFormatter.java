@@ -5,143 +5,249 @@ import com.mycompany.validator.core.detector.SecretDetector;
 import com.mycompany.validator.core.model.ConfigurationError;
 import com.mycompany.validator.core.model.ErrorType;
 
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Formatte les erreurs de validation de manière lisible et esthétique.
  * Masque automatiquement les valeurs sensibles (mots de passe, secrets, clés API).
+ *
+ * Le rapport est écrit au fil de l'eau dans un {@link Appendable} (System.err, Writer...) :
+ * aucune chaîne intermédiaire de la taille du rapport n'est construite. Les lignes sont
+ * alignées sur leur largeur d'affichage (voir {@link DisplayWidth}), pas sur String.length().
+ *
+ * Configuration (propriété lue par {@link #withProperties(Function)}) :
+ * - configuration.validator.report.max-rendered-errors : nombre d'erreurs détaillées dans la box ;
+ *   les suivantes sont résumées par type en pied de rapport (toutes par défaut)
  */
 public class BeautifulErrorFormatter {
     
+    public static final String MAX_RENDERED_ERRORS_PROPERTY = "configuration.validator.report.max-rendered-errors";
+    
     private static final int BOX_WIDTH = 80;
+    private static final int INNER_WIDTH = BOX_WIDTH - 2; // -2 pour les bordures
+    private static final int ERROR_PADDING = 3;
     private static final String TOP_LINE = "╔══════════════════════════════════════════════════════════════════════════════╗";
     private static final String MIDDLE_LINE = "╠══════════════════════════════════════════════════════════════════════════════╣";
     private static final String BOTTOM_LINE = "╚══════════════════════════════════════════════════════════════════════════════╝";
     private static final String BOX_SIDE = "║";
+    private static final String EMPTY_LINE = BOX_SIDE + " ".repeat(INNER_WIDTH) + BOX_SIDE;
+    private static final String ELLIPSIS = "...";
+    
+    /**
+     * Espaces de padding : une ligne n'en utilise qu'une sous-séquence, sans allocation.
+     */
+    private static final String SPACES = " ".repeat(INNER_WIDTH);
     
     private final SecretDetector secretDetector;
+    private final int maxRenderedErrors;
     
     public BeautifulErrorFormatter() {
-        this.secretDetector = new SecretDetector();
+        this(Integer.MAX_VALUE);
+    }
+    
+    /**
+     * @param maxRenderedErrors Nombre maximum d'erreurs détaillées dans le rapport
+     */
+    public BeautifulErrorFormatter(int maxRenderedErrors) {
+        this(new SecretDetector(), maxRenderedErrors);
+    }
+    
+    private BeautifulErrorFormatter(SecretDetector secretDetector, int maxRenderedErrors) {
+        if (maxRenderedErrors < 1) {
+            throw new IllegalArgumentException("Max rendered errors must be positive: " + maxRenderedErrors);
+        }
+        this.secretDetector = secretDetector;
+        this.maxRenderedErrors = maxRenderedErrors;
+    }
+    
+    /**
+     * Applique la limite configurée dans les propriétés du framework.
+     * Une valeur absente ou invalide conserve la limite de ce formatter.
+     *
+     * @param properties Accès aux propriétés (retourne null si absente)
+     * @return Ce formatter, ou une copie avec la limite configurée
+     */
+    public BeautifulErrorFormatter withProperties(Function<String, String> properties) {
+        String value = properties.apply(MAX_RENDERED_ERRORS_PROPERTY);
+        if (value == null) {
+            return this;
+        }
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            return parsed > 0 && parsed != maxRenderedErrors ? new BeautifulErrorFormatter(secretDetector, parsed) : this;
+        } catch (NumberFormatException e) {
+            return this;
+        }
     }
     
     /**
      * Formatte le résultat de validation en une chaîne lisible.
      * Utilise un format "box" avec des bordures doubles.
-     * 
+     *
      * @param result Résultat de validation
      * @return Chaîne formatée
      */
     public String format(ValidationResult result) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            format(result, sb);
+        } catch (IOException e) {
+            // StringBuilder ne lève jamais d'IOException
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
+    
+    /**
+     * Écrit le rapport dans la sortie, ligne par ligne.
+     *
+     * @param result Résultat de validation
+     * @param out Destination du rapport
+     * @throws IOException Si l'écriture échoue
+     */
+    public void format(ValidationResult result, Appendable out) throws IOException {
         if (result.isValid()) {
-            return formatSuccess();
+            formatSuccess(out);
+            return;
         }
         
-        StringBuilder sb = new StringBuilder();
-        
         // En-tête
-        sb.append("\n").append(TOP_LINE).append("\n");
-        sb.append(formatBoxLine("❌  CONFIGURATION VALIDATION FAILED  ❌", true)).append("\n");
-        sb.append(MIDDLE_LINE).append("\n");
-        sb.append(formatBoxLine("", false)).append("\n");
+        out.append('\n').append(TOP_LINE).append('\n');
+        appendCentered(out, "❌  CONFIGURATION VALIDATION FAILED  ❌");
+        out.append(MIDDLE_LINE).append('\n');
+        out.append(EMPTY_LINE).append('\n');
         
-        // Chaque erreur
-        for (ConfigurationError error : result.getErrors()) {
-            sb.append(formatError(error));
+        // Chaque erreur, dans la limite configurée
+        List<ConfigurationError> errors = result.getErrors();
+        int rendered = Math.min(errors.size(), maxRenderedErrors);
+        for (int i = 0; i < rendered; i++) {
+            formatError(errors.get(i), out);
         }
         
-        // Ligne vide finale
-        sb.append(formatBoxLine("", false)).append("\n");
-        sb.append(BOTTOM_LINE).append("\n");
+        // Erreurs non détaillées : limite d'affichage et erreurs écartées (mode cap)
+        int notShown = errors.size() - rendered + result.getSuppressedErrorCount();
+        if (notShown > 0) {
+            formatSummary(result, notShown, out);
+        }
         
-        return sb.toString();
+        // Ligne vide finale
+        out.append(EMPTY_LINE).append('\n');
+        out.append(BOTTOM_LINE).append('\n');
     }
     
     /**
-     * Formatte une ligne dans la box avec padding approprié.
+     * Écrit le rapport dans un flux d'affichage (System.err en général).
+     *
+     * @param result Résultat de validation
+     * @param out Flux de sortie
      */
-    private String formatBoxLine(String content, boolean center) {
-        int contentLength = content.length();
-        int padding = BOX_WIDTH - 2 - contentLength; // -2 pour les bordures
-        
-        if (center) {
-            int leftPad = padding / 2;
-            int rightPad = padding - leftPad;
-            return BOX_SIDE + " ".repeat(leftPad) + content + " ".repeat(rightPad) + BOX_SIDE;
-        } else {
-            return BOX_SIDE + " ".repeat(BOX_WIDTH - 2) + BOX_SIDE;
+    public void print(ValidationResult result, PrintStream out) {
+        try {
+            format(result, (Appendable) out);
+        } catch (IOException e) {
+            // PrintStream ne lève jamais d'IOException (voir checkError())
+            throw new UncheckedIOException(e);
         }
+        out.flush();
     }
     
-    private String formatSuccess() {
-        StringBuilder sb = new StringBuilder();
-        sb.append("\n").append(TOP_LINE).append("\n");
-        sb.append(formatBoxLine("✅  CONFIGURATION VALIDATION PASSED  ✅", true)).append("\n");
-        sb.append(BOTTOM_LINE).append("\n");
-        return sb.toString();
+    private void formatSuccess(Appendable out) throws IOException {
+        out.append('\n').append(TOP_LINE).append('\n');
+        appendCentered(out, "✅  CONFIGURATION VALIDATION PASSED  ✅");
+        out.append(BOTTOM_LINE).append('\n');
     }
     
-    
-    private String formatError(ConfigurationError error) {
-        StringBuilder sb = new StringBuilder();
-        
+    private void formatError(ConfigurationError error, Appendable out) throws IOException {
         // Ligne: 👉 Property: xxx [SENSITIVE]
         String propertyName = error.getPropertyName() != null ? error.getPropertyName() : "unknown";
         String propertyLine = "👉 Property: " + propertyName;
         if (error.isSensitive()) {
             propertyLine += " 🔒 [SENSITIVE]";
         }
-        sb.append(formatBoxLine(propertyLine, false, 3)).append("\n");
+        appendLine(out, propertyLine, ERROR_PADDING);
         
         // Ligne: Source: xxx
-        String sourceName = error.getSource() != null ? error.getSource().getName() : "unknown";
-        String sourceLine = "   Source:   " + sourceName;
-        sb.append(formatBoxLine(sourceLine, false, 3)).append("\n");
+        String sourceName = error.getSource() != null ? error.getSource().getDisplayName() : "unknown";
+        appendLine(out, "   Source:   " + sourceName, ERROR_PADDING);
         
         // Ligne: Error: xxx
         String errorMessage = error.getErrorMessage();
         if (error.isSensitive()) {
             errorMessage = secretDetector.sanitizeErrorMessage(error.getPropertyName(), errorMessage);
         }
-        String errorLine = "   Error:    " + errorMessage;
-        sb.append(formatBoxLine(errorLine, false, 3)).append("\n");
+        appendLine(out, "   Error:    " + errorMessage, ERROR_PADDING);
         
         // Ligne: 💡 Fix: xxx
         if (error.getSuggestion() != null && !error.getSuggestion().isEmpty()) {
             String[] suggestionLines = error.getSuggestion().split("\n");
-            String fixLine = "   💡 Fix:   " + suggestionLines[0];
-            sb.append(formatBoxLine(fixLine, false, 3)).append("\n");
+            appendLine(out, "   💡 Fix:   " + suggestionLines[0], ERROR_PADDING);
             
             // Lignes supplémentaires de suggestion
             for (int i = 1; i < suggestionLines.length; i++) {
-                String additionalLine = "             " + suggestionLines[i].trim();
-                sb.append(formatBoxLine(additionalLine, false, 3)).append("\n");
+                appendLine(out, "             " + suggestionLines[i].trim(), ERROR_PADDING);
             }
         }
         
         // Ligne vide entre les erreurs
-        sb.append(formatBoxLine("", false)).append("\n");
+        out.append(EMPTY_LINE).append('\n');
+    }
+    
+    /**
+     * Pied de rapport : nombre d'erreurs non détaillées et total par type.
+     */
+    private void formatSummary(ValidationResult result, int notShown, Appendable out) throws IOException {
+        appendCentered(out, String.format("… and %d more error(s) not shown", notShown));
+        if (notShown == result.getSuppressedErrorCount()) {
+            // Seules les erreurs écartées manquent : leur type n'est pas connu
+            return;
+        }
         
-        return sb.toString();
+        out.append(EMPTY_LINE).append('\n');
+        appendLine(out, "Total: " + (result.getErrorCount() + result.getSuppressedErrorCount()) + " error(s)", ERROR_PADDING);
+        for (Map.Entry<ErrorType, Long> entry : result.getErrorCountByType().entrySet()) {
+            appendLine(out, "   " + getIconForErrorType(entry.getKey()) + " "
+                + entry.getKey().getDisplayName() + ": " + entry.getValue(), ERROR_PADDING);
+        }
+        if (result.getSuppressedErrorCount() > 0) {
+            appendLine(out, "   … " + result.getSuppressedErrorCount() + " more beyond the error cap", ERROR_PADDING);
+        }
     }
     
     /**
-     * Formatte une ligne dans la box avec un contenu aligné à gauche et padding.
+     * Écrit une ligne centrée dans la box.
      */
-    private String formatBoxLine(String content, boolean center, int leftPadding) {
+    private static void appendCentered(Appendable out, String content) throws IOException {
+        int padding = Math.max(0, INNER_WIDTH - DisplayWidth.of(content));
+        int leftPad = padding / 2;
+        out.append(BOX_SIDE).append(SPACES, 0, leftPad)
+            .append(content)
+            .append(SPACES, 0, padding - leftPad).append(BOX_SIDE).append('\n');
+    }
+    
+    /**
+     * Écrit une ligne alignée à gauche dans la box, tronquée si elle dépasse la largeur disponible.
+     */
+    private static void appendLine(Appendable out, String content, int leftPadding) throws IOException {
         // Calculer l'espace disponible (80 - 2 bordures - padding gauche)
-        int availableWidth = BOX_WIDTH - 2 - leftPadding;
+        int availableWidth = INNER_WIDTH - leftPadding;
+        out.append(BOX_SIDE).append(SPACES, 0, leftPadding);
         
-        // Tronquer le contenu si trop long
-        String displayContent = content;
-        if (content.length() > availableWidth) {
-            displayContent = content.substring(0, availableWidth - 3) + "...";
+        int width = DisplayWidth.of(content);
+        if (width > availableWidth) {
+            // Tronquer sur la largeur d'affichage, sans couper un code point
+            int end = DisplayWidth.fit(content, availableWidth - ELLIPSIS.length());
+            out.append(content, 0, end).append(ELLIPSIS);
+            width = DisplayWidth.of(content.subSequence(0, end)) + ELLIPSIS.length();
+        } else {
+            out.append(content);
         }
         
-        // Calculer le padding à droite
-        int rightPadding = availableWidth - displayContent.length();
-        
-        return BOX_SIDE + " ".repeat(leftPadding) + displayContent + " ".repeat(rightPadding) + BOX_SIDE;
+        out.append(SPACES, 0, availableWidth - width).append(BOX_SIDE).append('\n');
     }
     
     private String getIconForErrorType(ErrorType type) {
@@ -167,7 +273,7 @@ public class BeautifulErrorFormatter {
     
     /**
      * Formatte une liste d'erreurs en format compact (une ligne par erreur).
-     * 
+     *
      * @param result Résultat de validation
      * @return Chaîne formatée compacte
      */
@@ -181,13 +287,20 @@ public class BeautifulErrorFormatter {
           .append(result.getErrorCount())
           .append(" error(s):\n");
         
-        for (ConfigurationError error : result.getErrors()) {
+        List<ConfigurationError> errors = result.getErrors();
+        int rendered = Math.min(errors.size(), maxRenderedErrors);
+        for (int i = 0; i < rendered; i++) {
+            ConfigurationError error = errors.get(i);
             sb.append("  - [").append(error.getType().getDisplayName()).append("] ");
             if (error.getPropertyName() != null) {
                 sb.append(error.getPropertyName()).append(": ");
             }
             sb.append(error.getErrorMessage()).append("\n");
         }
+        int notShown = errors.size() - rendered + result.getSuppressedErrorCount();
+        if (notShown > 0) {
+            sb.append("  … and ").append(notShown).append(" more error(s) not shown\n");
+        }
         
         return sb.toString();
     }
@@ -0,0 +1,146 @@
+package com.mycompany.validator.core.formatter;
+
+import java.util.Arrays;
+
+/**
+ * Largeur d'affichage d'un texte dans un terminal, en colonnes.
+ *
+ * String.length() compte des unités UTF-16 : un emoji du plan multilingue de base (❌, ✅)
+ * compte 1 alors qu'il occupe 2 colonnes, ce qui décale la bordure droite de la box.
+ * Ici, chaque code point compte 0 (marques combinantes, sélecteurs de variante, ZWJ),
+ * 1 ou 2 (emoji, caractères CJK pleine chasse). La largeur des code points du plan de base
+ * est mise en cache dans une table remplie au premier usage.
+ */
+final class DisplayWidth {
+    
+    private static final int VARIATION_SELECTOR_16 = 0xFE0F;
+    private static final byte UNKNOWN = -1;
+    
+    /**
+     * Largeur des code points du plan de base, UNKNOWN tant qu'elle n'a pas été calculée.
+     * Les écritures concurrentes sont sans danger : elles écrivent toutes la même valeur.
+     */
+    private static final byte[] BMP_WIDTHS = new byte[0x10000];
+    
+    static {
+        Arrays.fill(BMP_WIDTHS, UNKNOWN);
+    }
+    
+    private DisplayWidth() {
+    }
+    
+    /**
+     * @return Nombre de colonnes occupées par le texte
+     */
+    static int of(CharSequence text) {
+        int length = text.length();
+        int width = 0;
+        int previous = 0;
+        for (int i = 0; i < length; ) {
+            int codePoint = Character.codePointAt(text, i);
+            int current = next(codePoint, previous);
+            width += current;
+            previous = current;
+            i += Character.charCount(codePoint);
+        }
+        return width;
+    }
+    
+    /**
+     * Index de fin du plus long préfixe du texte tenant dans maxWidth colonnes,
+     * sans couper un code point.
+     */
+    static int fit(CharSequence text, int maxWidth) {
+        int length = text.length();
+        int width = 0;
+        int previous = 0;
+        int i = 0;
+        while (i < length) {
+            int codePoint = Character.codePointAt(text, i);
+            int current = next(codePoint, previous);
+            width += current;
+            if (width > maxWidth) {
+                break;
+            }
+            previous = current;
+            i += Character.charCount(codePoint);
+        }
+        return i;
+    }
+    
+    /**
+     * Largeur d'un code point compte tenu de la largeur du précédent.
+     */
+    private static int next(int codePoint, int previous) {
+        if (codePoint == VARIATION_SELECTOR_16 && previous == 1) {
+            // ⚠️ : présentation emoji demandée, le caractère de base passe à 2 colonnes
+            return 1;
+        }
+        return codePoint(codePoint);
+    }
+    
+    /**
+     * @return Largeur d'un code point : 0, 1 ou 2 colonnes
+     */
+    static int codePoint(int codePoint) {
+        if (codePoint < 0x7F) {
+            return codePoint < 0x20 ? 0 : 1;
+        }
+        if (codePoint < BMP_WIDTHS.length) {
+            byte width = BMP_WIDTHS[codePoint];
+            if (width == UNKNOWN) {
+                width = (byte) compute(codePoint);
+                BMP_WIDTHS[codePoint] = width;
+            }
+            return width;
+        }
+        return compute(codePoint);
+    }
+    
+    private static int compute(int codePoint) {
+        switch (Character.getType(codePoint)) {
+            case Character.NON_SPACING_MARK:
+            case Character.ENCLOSING_MARK:
+            case Character.FORMAT:
+            case Character.CONTROL:
+                return 0;
+            default:
+                return isWide(codePoint) ? 2 : 1;
+        }
+    }
+    
+    /**
+     * Plages pleine chasse et emoji affichés en présentation emoji par défaut.
+     */
+    private static boolean isWide(int c) {
+        return (c >= 0x1100 && c <= 0x115F)
+            || c == 0x231A || c == 0x231B
+            || (c >= 0x23E9 && c <= 0x23EC) || c == 0x23F0 || c == 0x23F3
+            || c == 0x25FD || c == 0x25FE
+            || c == 0x2614 || c == 0x2615
+            || (c >= 0x2648 && c <= 0x2653)
+            || c == 0x267F || c == 0x2693 || c == 0x26A1 || c == 0x26AA || c == 0x26AB
+            || c == 0x26BD || c == 0x26BE || c == 0x26C4 || c == 0x26C5 || c == 0x26CE || c == 0x26D4
+            || c == 0x26EA || c == 0x26F2 || c == 0x26F3 || c == 0x26F5 || c == 0x26FA || c == 0x26FD
+            || c == 0x2705 || c == 0x270A || c == 0x270B || c == 0x2728
+            || c == 0x274C || c == 0x274E || (c >= 0x2753 && c <= 0x2755) || c == 0x2757
+            || (c >= 0x2795 && c <= 0x2797) || c == 0x27B0 || c == 0x27BF
+            || c == 0x2B1B || c == 0x2B1C || c == 0x2B50 || c == 0x2B55
+            || (c >= 0x2E80 && c <= 0x303E)
+            || (c >= 0x3041 && c <= 0xA4CF)
+            || (c >= 0xAC00 && c <= 0xD7A3)
+            || (c >= 0xF900 && c <= 0xFAFF)
+            || (c >= 0xFE30 && c <= 0xFE4F)
+            || (c >= 0xFF00 && c <= 0xFF60)
+            || (c >= 0xFFE0 && c <= 0xFFE6)
+            || c == 0x1F004 || c == 0x1F0CF || c == 0x1F18E
+            || (c >= 0x1F191 && c <= 0x1F19A)
+            || (c >= 0x1F200 && c <= 0x1F251)
+            || (c >= 0x1F300 && c <= 0x1F64F)
+            || (c >= 0x1F680 && c <= 0x1F6FF)
+            || (c >= 0x1F7E0 && c <= 0x1F7EB)
+            || (c >= 0x1F90C && c <= 0x1F9FF)
+            || (c >= 0x1FA70 && c <= 0x1FAFF)
+            || (c >= 0x20000 && c <= 0x3FFFD);
+    }
+}
@@ -0,0 +1,85 @@
+package com.mycompany.validator.core.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Événement JFR d'une vérification : une phase complète ou un bean @ConfigurationProperties.
+ *
+ * La durée est celle de l'événement (begin/end). Sans enregistrement JFR actif,
+ * {@link #shouldCommit()} est faux et les champs ne sont pas renseignés.
+ */
+@Name("com.mycompany.validator.Check")
+@Label("Config Preflight Check")
+@Category("Config Preflight")
+@Description("Validation phase or single @ConfigurationProperties bean check")
+@StackTrace(false)
+public final class ConfigPreflightCheckEvent extends Event {
+    
+    @Label("Framework")
+    String framework;
+    
+    @Label("Phase")
+    String phase;
+    
+    @Label("Bean Class")
+    @Description("Checked @ConfigurationProperties class, null for a whole phase")
+    String target;
+    
+    @Label("Keys Scanned")
+    long keysScanned;
+    
+    @Label("Placeholders Evaluated")
+    long placeholdersEvaluated;
+    
+    @Label("Errors")
+    int errorCount;
+    
+    private ConfigPreflightCheckEvent(String framework, ValidationPhase phase) {
+        this.framework = framework;
+        this.phase = phase.getTagValue();
+    }
+    
+    /**
+     * Démarre une vérification.
+     *
+     * @param framework Framework (voir les constantes FRAMEWORK_* de {@link ValidationMetrics})
+     * @param phase Phase à laquelle appartient la vérification
+     * @return Événement démarré, à terminer avec {@link #finish} ou {@link #finishBean}
+     */
+    public static ConfigPreflightCheckEvent start(String framework, ValidationPhase phase) {
+        ConfigPreflightCheckEvent event = new ConfigPreflightCheckEvent(framework, phase);
+        event.begin();
+        return event;
+    }
+    
+    /**
+     * Termine une vérification de phase et l'enregistre si JFR est actif.
+     */
+    public void finish(long keys, long placeholders, int errors) {
+        end();
+        if (shouldCommit()) {
+            keysScanned = keys;
+            placeholdersEvaluated = placeholders;
+            errorCount = errors;
+            commit();
+        }
+    }
+    
+    /**
+     * Termine la vérification d'un bean et l'enregistre si JFR est actif.
+     */
+    public void finishBean(Class<?> beanClass, long keys, int errors) {
+        end();
+        if (shouldCommit()) {
+            target = beanClass.getName();
+            keysScanned = keys;
+            errorCount = errors;
+            commit();
+        }
+    }
+}
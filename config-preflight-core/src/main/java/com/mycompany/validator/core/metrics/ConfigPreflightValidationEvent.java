@@ -0,0 +1,75 @@
+package com.mycompany.validator.core.metrics;
+
+import com.mycompany.validator.core.api.ValidationResult;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Événement JFR d'un appel à un ConfigurationValidator (validateAll, validateRequired, validatePlaceholders).
+ *
+ * La durée est celle de l'événement (begin/end). Sans enregistrement JFR actif,
+ * {@link #shouldCommit()} est faux et les champs ne sont pas renseignés.
+ */
+@Name("com.mycompany.validator.Validation")
+@Label("Config Preflight Validation")
+@Category("Config Preflight")
+@Description("ConfigurationValidator run")
+@StackTrace(false)
+public final class ConfigPreflightValidationEvent extends Event {
+    
+    public static final String VALIDATE_ALL = "validateAll";
+    public static final String VALIDATE_REQUIRED = "validateRequired";
+    public static final String VALIDATE_PLACEHOLDERS = "validatePlaceholders";
+    
+    @Label("Framework")
+    String framework;
+    
+    @Label("Operation")
+    String operation;
+    
+    @Label("Keys")
+    @Description("Property keys checked by the run")
+    long keyCount;
+    
+    @Label("Errors")
+    int errorCount;
+    
+    private ConfigPreflightValidationEvent(String framework, String operation) {
+        this.framework = framework;
+        this.operation = operation;
+    }
+    
+    /**
+     * Démarre une validation.
+     *
+     * @param framework Framework (voir les constantes FRAMEWORK_* de {@link ValidationMetrics})
+     * @param operation Méthode appelée (VALIDATE_ALL, VALIDATE_REQUIRED, VALIDATE_PLACEHOLDERS)
+     * @return Événement démarré, à terminer avec {@link #finish(long, ValidationResult)}
+     */
+    public static ConfigPreflightValidationEvent start(String framework, String operation) {
+        ConfigPreflightValidationEvent event = new ConfigPreflightValidationEvent(framework, operation);
+        event.begin();
+        return event;
+    }
+    
+    /**
+     * Termine la validation et l'enregistre si JFR est actif.
+     *
+     * @param keys Nombre de clés vérifiées
+     * @param result Résultat de la validation
+     * @return le résultat, inchangé
+     */
+    public ValidationResult finish(long keys, ValidationResult result) {
+        end();
+        if (shouldCommit()) {
+            keyCount = keys;
+            errorCount = result.getErrorCount();
+            commit();
+        }
+        return result;
+    }
+}
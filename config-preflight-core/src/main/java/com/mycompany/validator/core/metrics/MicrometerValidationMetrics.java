@@ -0,0 +1,94 @@
+package com.mycompany.validator.core.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publie les mesures de validation dans un {@link MeterRegistry}.
+ *
+ * Métriques (tags communs : framework, phase) :
+ * - config.preflight.phase : timer, durée de chaque phase
+ * - config.preflight.keys.scanned : compteur de clés parcourues
+ * - config.preflight.placeholders.evaluated : compteur de placeholders évalués
+ * - config.preflight.errors : compteur d'erreurs, tags source.type et error.type en plus
+ *
+ * Micrometer est une dépendance optionnelle : cette classe ne doit être chargée que si
+ * {@link ValidationMetrics#isMicrometerPresent()} est vrai.
+ */
+public final class MicrometerValidationMetrics implements ValidationMetrics.Listener {
+    
+    public static final String PHASE_TIMER = "config.preflight.phase";
+    public static final String KEYS_SCANNED = "config.preflight.keys.scanned";
+    public static final String PLACEHOLDERS_EVALUATED = "config.preflight.placeholders.evaluated";
+    public static final String ERRORS = "config.preflight.errors";
+    
+    private final MeterRegistry registry;
+    
+    public MicrometerValidationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+    
+    /**
+     * Enregistre un listener sur le registre donné (mesures conservées comprises).
+     *
+     * @return Enregistrement à fermer avec le contexte propriétaire du registre
+     */
+    public static ValidationMetrics.Registration bindTo(MeterRegistry registry) {
+        return ValidationMetrics.register(new MicrometerValidationMetrics(registry));
+    }
+    
+    /**
+     * Enregistre un listener sur {@link Metrics#globalRegistry}, auquel Quarkus ajoute ses registres.
+     *
+     * @return Enregistrement à fermer à l'arrêt de l'application
+     */
+    public static ValidationMetrics.Registration bindToGlobalRegistry() {
+        return bindTo(Metrics.globalRegistry);
+    }
+    
+    @Override
+    public void onPhase(PhaseRecord record) {
+        String framework = record.getFramework();
+        String phase = record.getPhase().getTagValue();
+        
+        Timer.builder(PHASE_TIMER)
+            .description("Duration of a configuration validation phase")
+            .tag("framework", framework)
+            .tag("phase", phase)
+            .register(registry)
+            .record(record.getDurationNanos(), TimeUnit.NANOSECONDS);
+        
+        if (record.getKeysScanned() > 0) {
+            Counter.builder(KEYS_SCANNED)
+                .description("Configuration keys scanned by the validator")
+                .tag("framework", framework)
+                .tag("phase", phase)
+                .register(registry)
+                .increment(record.getKeysScanned());
+        }
+        
+        if (record.getPlaceholdersEvaluated() > 0) {
+            Counter.builder(PLACEHOLDERS_EVALUATED)
+                .description("Placeholders evaluated by the validator")
+                .tag("framework", framework)
+                .tag("phase", phase)
+                .register(registry)
+                .increment(record.getPlaceholdersEvaluated());
+        }
+        
+        for (PhaseRecord.ErrorCount errorCount : record.getErrorCounts()) {
+            Counter.builder(ERRORS)
+                .description("Configuration errors found by the validator")
+                .tag("framework", framework)
+                .tag("phase", phase)
+                .tag("source.type", errorCount.getSourceType().name())
+                .tag("error.type", errorCount.getErrorType().name())
+                .register(registry)
+                .increment(errorCount.getCount());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.mycompany.validator.core.metrics;
+
+import com.mycompany.validator.core.model.ErrorType;
+import com.mycompany.validator.core.model.PropertySource;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Mesure d'une phase terminée : durée, volume traité et erreurs par source et par type.
+ */
+public final class PhaseRecord {
+    
+    private final String framework;
+    private final ValidationPhase phase;
+    private final long durationNanos;
+    private final long keysScanned;
+    private final long placeholdersEvaluated;
+    private final List<ErrorCount> errorCounts;
+    
+    PhaseRecord(String framework, ValidationPhase phase, long durationNanos,
+                long keysScanned, long placeholdersEvaluated, List<ErrorCount> errorCounts) {
+        this.framework = framework;
+        this.phase = phase;
+        this.durationNanos = durationNanos;
+        this.keysScanned = keysScanned;
+        this.placeholdersEvaluated = placeholdersEvaluated;
+        this.errorCounts = Collections.unmodifiableList(errorCounts);
+    }
+    
+    public String getFramework() {
+        return framework;
+    }
+    
+    public ValidationPhase getPhase() {
+        return phase;
+    }
+    
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+    
+    public long getKeysScanned() {
+        return keysScanned;
+    }
+    
+    public long getPlaceholdersEvaluated() {
+        return placeholdersEvaluated;
+    }
+    
+    /**
+     * @return Nombre d'erreurs par (type de source, type d'erreur) ; vide si la phase a réussi
+     */
+    public List<ErrorCount> getErrorCounts() {
+        return errorCounts;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("PhaseRecord{framework='%s', phase=%s, durationNanos=%d, keys=%d, placeholders=%d, errors=%s}",
+                framework, phase, durationNanos, keysScanned, placeholdersEvaluated, errorCounts);
+    }
+    
+    /**
+     * Nombre d'erreurs d'un type donné, pour un type de source donné.
+     */
+    public static final class ErrorCount {
+        
+        private final PropertySource.SourceType sourceType;
+        private final ErrorType errorType;
+        private final int count;
+        
+        ErrorCount(PropertySource.SourceType sourceType, ErrorType errorType, int count) {
+            this.sourceType = sourceType;
+            this.errorType = errorType;
+            this.count = count;
+        }
+        
+        public PropertySource.SourceType getSourceType() {
+            return sourceType;
+        }
+        
+        public ErrorType getErrorType() {
+            return errorType;
+        }
+        
+        public int getCount() {
+            return count;
+        }
+        
+        @Override
+        public String toString() {
+            return sourceType.name() + "/" + errorType.name() + "=" + count;
+        }
+    }
+}
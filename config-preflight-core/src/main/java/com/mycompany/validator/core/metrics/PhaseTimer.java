@@ -0,0 +1,124 @@
+package com.mycompany.validator.core.metrics;
+
+import com.mycompany.validator.core.model.ConfigurationError;
+import com.mycompany.validator.core.model.ErrorType;
+import com.mycompany.validator.core.model.PropertySource;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Chronomètre d'une phase, obtenu par {@link ValidationMetrics#start(String, ValidationPhase)}.
+ *
+ * Les compteurs peuvent être incrémentés depuis les threads du ValidationEngine ;
+ * {@link #stop()} est appelé une fois, par le thread qui a démarré la phase.
+ * Chaque phase produit aussi un {@link ConfigPreflightCheckEvent} lorsque JFR enregistre.
+ */
+public final class PhaseTimer {
+    
+    private final String framework;
+    private final ValidationPhase phase;
+    private final long startNanos;
+    private final LongAdder keysScanned = new LongAdder();
+    private final LongAdder placeholdersEvaluated = new LongAdder();
+    private final List<ConfigurationError> errors = new ArrayList<>();
+    private final AtomicBoolean stopped = new AtomicBoolean();
+    private final ConfigPreflightCheckEvent checkEvent;
+    private Class<?> beanClass;
+    
+    PhaseTimer(String framework, ValidationPhase phase, long startNanos) {
+        this.framework = framework;
+        this.phase = phase;
+        this.startNanos = startNanos;
+        this.checkEvent = ConfigPreflightCheckEvent.start(framework, phase);
+    }
+    
+    /**
+     * Rattache la mesure à un seul bean (visible dans l'événement JFR uniquement,
+     * pour ne pas multiplier les séries Micrometer).
+     *
+     * @param checkedClass Classe @ConfigurationProperties vérifiée
+     * @return ce chronomètre
+     */
+    public PhaseTimer bean(Class<?> checkedClass) {
+        this.beanClass = checkedClass;
+        return this;
+    }
+    
+    /**
+     * @param count Nombre de clés parcourues
+     * @return ce chronomètre
+     */
+    public PhaseTimer keysScanned(long count) {
+        keysScanned.add(count);
+        return this;
+    }
+    
+    /**
+     * Compte un placeholder évalué (thread-safe).
+     */
+    public void placeholderEvaluated() {
+        placeholdersEvaluated.increment();
+    }
+    
+    /**
+     * @param phaseErrors Erreurs trouvées pendant la phase (comptées par source et par type)
+     * @return ce chronomètre
+     */
+    public PhaseTimer errors(Collection<ConfigurationError> phaseErrors) {
+        errors.addAll(phaseErrors);
+        return this;
+    }
+    
+    /**
+     * Arrête le chronomètre et publie la mesure ; les appels suivants sont ignorés.
+     *
+     * @return Mesure publiée, ou null si déjà arrêté
+     */
+    public PhaseRecord stop() {
+        if (!stopped.compareAndSet(false, true)) {
+            return null;
+        }
+        long duration = System.nanoTime() - startNanos;
+        if (beanClass != null) {
+            checkEvent.finishBean(beanClass, keysScanned.sum(), errors.size());
+        } else {
+            checkEvent.finish(keysScanned.sum(), placeholdersEvaluated.sum(), errors.size());
+        }
+        PhaseRecord record = new PhaseRecord(framework, phase, duration,
+            keysScanned.sum(), placeholdersEvaluated.sum(), countErrors());
+        ValidationMetrics.publish(record);
+        return record;
+    }
+    
+    private List<PhaseRecord.ErrorCount> countErrors() {
+        if (errors.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        Map<PropertySource.SourceType, Map<ErrorType, Integer>> counts = new EnumMap<>(PropertySource.SourceType.class);
+        for (ConfigurationError error : errors) {
+            if (error.getType() == null) {
+                continue;
+            }
+            PropertySource.SourceType sourceType = error.getSource() != null && error.getSource().getType() != null
+                ? error.getSource().getType()
+                : PropertySource.SourceType.UNKNOWN;
+            counts.computeIfAbsent(sourceType, type -> new EnumMap<>(ErrorType.class))
+                .merge(error.getType(), 1, Integer::sum);
+        }
+        
+        List<PhaseRecord.ErrorCount> result = new ArrayList<>();
+        for (Map.Entry<PropertySource.SourceType, Map<ErrorType, Integer>> bySource : counts.entrySet()) {
+            for (Map.Entry<ErrorType, Integer> byType : bySource.getValue().entrySet()) {
+                result.add(new PhaseRecord.ErrorCount(bySource.getKey(), byType.getKey(), byType.getValue()));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,157 @@
+package com.mycompany.validator.core.metrics;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Point de collecte des mesures de validation, sans dépendance à une bibliothèque de métriques.
+ *
+ * Les adaptateurs chronomètrent chaque phase avec {@link #start(String, ValidationPhase)} ;
+ * les mesures sont transmises aux {@link Listener}s enregistrés (ex: {@link MicrometerValidationMetrics}).
+ *
+ * Les phases précoces (EnvironmentPostProcessor, StartupEvent prioritaire...) s'exécutent avant
+ * que le registre de métriques n'existe : tant qu'aucun listener n'est enregistré, les mesures
+ * sont conservées (au plus {@link #MAX_BUFFERED}) puis publiées à l'enregistrement.
+ * Sans Micrometer, aucun listener n'est jamais enregistré et le coût se limite à ce tampon.
+ *
+ * Global à la JVM : les phases précoces n'ont pas accès au contexte de l'application.
+ * Chaque contexte retire son listener à sa fermeture ({@link Registration#close()}) : un registre
+ * fermé n'est plus référencé et ne reçoit pas les mesures des contextes suivants.
+ */
+public final class ValidationMetrics {
+    
+    public static final String FRAMEWORK_SPRING_BOOT = "spring-boot";
+    public static final String FRAMEWORK_QUARKUS = "quarkus";
+    public static final String FRAMEWORK_MICRONAUT = "micronaut";
+    
+    /**
+     * Nombre maximal de mesures conservées en attendant un listener (les plus anciennes sont écartées).
+     */
+    public static final int MAX_BUFFERED = 256;
+    
+    private static final String MICROMETER_CLASS = "io.micrometer.core.instrument.MeterRegistry";
+    
+    private static final Object lock = new Object();
+    private static final Deque<PhaseRecord> buffer = new ArrayDeque<>();
+    private static final List<Listener> listeners = new ArrayList<>();
+    private static volatile Listener[] activeListeners = new Listener[0];
+    
+    private ValidationMetrics() {
+    }
+    
+    /**
+     * Démarre le chronométrage d'une phase.
+     *
+     * @param framework Framework (voir les constantes FRAMEWORK_*)
+     * @param phase Phase mesurée
+     * @return Chronomètre à arrêter avec {@link PhaseTimer#stop()}
+     */
+    public static PhaseTimer start(String framework, ValidationPhase phase) {
+        return new PhaseTimer(framework, phase, System.nanoTime());
+    }
+    
+    /**
+     * Enregistre un listener et lui transmet les mesures conservées jusque-là.
+     * Les listeners déjà enregistrés restent actifs.
+     *
+     * @param listener Destinataire des mesures
+     * @return Enregistrement à fermer avec le contexte qui l'a créé
+     */
+    public static Registration register(Listener listener) {
+        Objects.requireNonNull(listener, "listener");
+        List<PhaseRecord> pending;
+        synchronized (lock) {
+            listeners.add(listener);
+            activeListeners = listeners.toArray(new Listener[0]);
+            pending = new ArrayList<>(buffer);
+            buffer.clear();
+        }
+        for (PhaseRecord record : pending) {
+            listener.onPhase(record);
+        }
+        return () -> unregister(listener);
+    }
+    
+    private static void unregister(Listener listener) {
+        synchronized (lock) {
+            // Comparaison par identité : un même listener peut être enregistré deux fois
+            for (int i = 0; i < listeners.size(); i++) {
+                if (listeners.get(i) == listener) {
+                    listeners.remove(i);
+                    activeListeners = listeners.toArray(new Listener[0]);
+                    return;
+                }
+            }
+        }
+    }
+    
+    /**
+     * Retire tous les listeners (tests).
+     */
+    static void clearListeners() {
+        synchronized (lock) {
+            listeners.clear();
+            activeListeners = new Listener[0];
+        }
+    }
+    
+    /**
+     * @return true si Micrometer est présent sur le classpath
+     */
+    public static boolean isMicrometerPresent() {
+        try {
+            Class.forName(MICROMETER_CLASS, false, ValidationMetrics.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+    
+    /**
+     * @return Mesures en attente d'un listener (copie)
+     */
+    static List<PhaseRecord> getBuffered() {
+        synchronized (lock) {
+            return new ArrayList<>(buffer);
+        }
+    }
+    
+    static void publish(PhaseRecord record) {
+        Listener[] current = activeListeners;
+        if (current.length == 0) {
+            synchronized (lock) {
+                current = activeListeners;
+                if (current.length == 0) {
+                    if (buffer.size() == MAX_BUFFERED) {
+                        buffer.removeFirst();
+                    }
+                    buffer.addLast(record);
+                    return;
+                }
+            }
+        }
+        for (Listener listener : current) {
+            listener.onPhase(record);
+        }
+    }
+    
+    /**
+     * Reçoit chaque phase terminée.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void onPhase(PhaseRecord record);
+    }
+    
+    /**
+     * Enregistrement d'un listener ; la fermeture le retire (sans effet si déjà fermé).
+     */
+    @FunctionalInterface
+    public interface Registration extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
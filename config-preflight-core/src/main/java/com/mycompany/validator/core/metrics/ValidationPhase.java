@@ -0,0 +1,45 @@
+package com.mycompany.validator.core.metrics;
+
+/**
+ * Phases de validation mesurées, communes aux trois frameworks.
+ */
+public enum ValidationPhase {
+    
+    /**
+     * Scan des placeholders avant l'initialisation des beans.
+     */
+    EARLY_PLACEHOLDER_SCAN("early-placeholder-scan"),
+    
+    /**
+     * Vérification des propriétés requises (définitions, plan de build, métadonnées).
+     */
+    REQUIRED_PROPERTIES("required-properties"),
+    
+    /**
+     * Scan des valeurs null des beans @ConfigurationProperties instanciés.
+     */
+    BEAN_PROPERTIES("bean-properties"),
+    
+    /**
+     * Mise en forme du rapport d'erreurs.
+     */
+    FAILURE_FORMATTING("failure-formatting");
+    
+    private final String tagValue;
+    
+    ValidationPhase(String tagValue) {
+        this.tagValue = tagValue;
+    }
+    
+    /**
+     * @return Valeur du tag "phase" des métriques
+     */
+    public String getTagValue() {
+        return tagValue;
+    }
+    
+    @Override
+    public String toString() {
+        return tagValue;
+    }
+}
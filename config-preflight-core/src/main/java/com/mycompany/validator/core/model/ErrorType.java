@@ -36,7 +36,7 @@ public enum ErrorType {
     INVALID_VALUE_FORMAT("Invalid Value Format"),
     
     /**
-     * Une propriété référence une autre propriété qui n'existe pas.
+     * Des propriétés se référencent mutuellement via leurs placeholders (a=${b}, b=${a}).
      */
     CIRCULAR_REFERENCE("Circular Reference"),
     
@@ -8,11 +8,23 @@ public class PropertySource {
     private final String name;
     private final String location;
     private final SourceType type;
+    private final int line;
+    private final int column;
     
     public PropertySource(String name, String location, SourceType type) {
+        this(name, location, type, 0, 0);
+    }
+    
+    /**
+     * @param line Ligne (à partir de 1), 0 si inconnue
+     * @param column Colonne (à partir de 1), 0 si inconnue
+     */
+    public PropertySource(String name, String location, SourceType type, int line, int column) {
         this.name = name;
         this.location = location;
         this.type = type;
+        this.line = line;
+        this.column = column;
     }
     
     public String getName() {
@@ -27,6 +39,37 @@ public class PropertySource {
         return type;
     }
     
+    /**
+     * @return Ligne de la définition (à partir de 1), 0 si inconnue
+     */
+    public int getLine() {
+        return line;
+    }
+    
+    /**
+     * @return Colonne de la définition (à partir de 1), 0 si inconnue
+     */
+    public int getColumn() {
+        return column;
+    }
+    
+    /**
+     * @return true si la position exacte dans le fichier est connue
+     */
+    public boolean hasPosition() {
+        return line > 0;
+    }
+    
+    /**
+     * @return Nom suivi de la position si elle est connue (ex: application-dev.yml:12:5)
+     */
+    public String getDisplayName() {
+        if (!hasPosition()) {
+            return name;
+        }
+        return column > 0 ? name + ":" + line + ":" + column : name + ":" + line;
+    }
+    
     /**
      * Types de sources de propriétés.
      */
@@ -57,6 +100,10 @@ public class PropertySource {
     
     @Override
     public String toString() {
+        if (hasPosition()) {
+            return String.format("PropertySource{name='%s', location='%s', type=%s, line=%d, column=%d}", 
+                    name, location, type, line, column);
+        }
         return String.format("PropertySource{name='%s', location='%s', type=%s}", 
                 name, location, type);
     }
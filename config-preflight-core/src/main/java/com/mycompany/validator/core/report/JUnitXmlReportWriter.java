@@ -0,0 +1,86 @@
+package com.mycompany.validator.core.report;
+
+import com.mycompany.validator.core.api.ValidationResult;
+import com.mycompany.validator.core.model.ConfigurationError;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Rapport JUnit XML : une suite "config-preflight" avec un cas de test en échec par erreur
+ * (un seul cas réussi si la configuration est valide). Écrit avec StAX, sans DOM.
+ */
+public class JUnitXmlReportWriter implements ReportWriter {
+    
+    static final String SUITE_NAME = "config-preflight";
+    
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+    
+    @Override
+    public void write(ValidationResult result, Writer out) throws IOException {
+        try {
+            XMLStreamWriter xml = OUTPUT_FACTORY.createXMLStreamWriter(out);
+            xml.writeStartDocument("UTF-8", "1.0");
+            xml.writeCharacters("\n");
+            xml.writeStartElement("testsuite");
+            xml.writeAttribute("name", SUITE_NAME);
+            xml.writeAttribute("tests", String.valueOf(Math.max(1, result.getErrorCount())));
+            xml.writeAttribute("failures", String.valueOf(result.getErrorCount()));
+            xml.writeAttribute("errors", "0");
+            xml.writeAttribute("skipped", "0");
+            xml.writeCharacters("\n");
+            
+            if (result.isValid()) {
+                xml.writeEmptyElement("testcase");
+                xml.writeAttribute("classname", SUITE_NAME);
+                xml.writeAttribute("name", "configuration");
+                xml.writeCharacters("\n");
+            }
+            for (ConfigurationError error : result.getErrors()) {
+                writeTestCase(error, xml);
+            }
+            
+            if (result.getSuppressedErrorCount() > 0) {
+                xml.writeStartElement("system-out");
+                xml.writeCharacters(result.getSuppressedErrorCount() + " more error(s) not reported (error cap reached)");
+                xml.writeEndElement();
+                xml.writeCharacters("\n");
+            }
+            
+            xml.writeEndElement();
+            xml.writeCharacters("\n");
+            xml.writeEndDocument();
+            xml.flush();
+        } catch (XMLStreamException e) {
+            throw new IOException("Failed to write JUnit XML report", e);
+        }
+    }
+    
+    private void writeTestCase(ConfigurationError error, XMLStreamWriter xml) throws XMLStreamException {
+        String type = error.getType() != null ? error.getType().getDisplayName() : "Unknown Error";
+        String message = ReportedErrors.message(error);
+        String suggestion = ReportedErrors.suggestion(error);
+        
+        xml.writeStartElement("testcase");
+        xml.writeAttribute("classname", SUITE_NAME + "." + type);
+        xml.writeAttribute("name", error.getPropertyName() != null ? error.getPropertyName() : "unknown");
+        xml.writeStartElement("failure");
+        xml.writeAttribute("type", error.getType() != null ? error.getType().name() : "UNKNOWN");
+        xml.writeAttribute("message", message != null ? message : type);
+        
+        StringBuilder details = new StringBuilder();
+        if (error.getSource() != null) {
+            details.append("Source: ").append(error.getSource().getDisplayName()).append('\n');
+        }
+        if (suggestion != null) {
+            details.append("Fix: ").append(suggestion).append('\n');
+        }
+        xml.writeCharacters(details.toString());
+        xml.writeEndElement();
+        xml.writeEndElement();
+        xml.writeCharacters("\n");
+    }
+}
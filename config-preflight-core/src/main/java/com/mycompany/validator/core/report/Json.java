@@ -0,0 +1,71 @@
+package com.mycompany.validator.core.report;
+
+import java.io.IOException;
+
+/**
+ * Écriture de valeurs JSON directement dans la sortie (pas de bibliothèque JSON dans le core).
+ */
+final class Json {
+    
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    
+    private Json() {
+    }
+    
+    /**
+     * Écrit une chaîne JSON entre guillemets, ou null.
+     */
+    static void string(Appendable out, String value) throws IOException {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        int start = 0;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            // Recopier d'un bloc les caractères sans échappement
+            out.append(value, start, i);
+            start = i + 1;
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    out.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+            }
+        }
+        out.append(value, start, length).append('"');
+    }
+    
+    /**
+     * Écrit "name": suivi d'une chaîne JSON.
+     */
+    static void field(Appendable out, String name, String value) throws IOException {
+        out.append('"').append(name).append("\":");
+        string(out, value);
+    }
+    
+    /**
+     * Écrit "name": suivi d'un nombre ou d'un booléen.
+     */
+    static void field(Appendable out, String name, Object literal) throws IOException {
+        out.append('"').append(name).append("\":").append(String.valueOf(literal));
+    }
+}
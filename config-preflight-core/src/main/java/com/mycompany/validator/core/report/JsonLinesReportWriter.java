@@ -0,0 +1,78 @@
+package com.mycompany.validator.core.report;
+
+import com.mycompany.validator.core.api.ValidationResult;
+import com.mycompany.validator.core.model.ConfigurationError;
+import com.mycompany.validator.core.model.ErrorType;
+import com.mycompany.validator.core.model.PropertySource;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Rapport JSON Lines : une ligne par erreur, puis une ligne de synthèse.
+ *
+ * <pre>
+ * {"record":"error","type":"MISSING_PROPERTY","property":"app.url","message":"...","suggestion":"...","sensitive":false,"source":{...}}
+ * {"record":"summary","valid":false,"errorCount":1,"suppressedErrorCount":0,"errorsByType":{"MISSING_PROPERTY":1}}
+ * </pre>
+ */
+public class JsonLinesReportWriter implements ReportWriter {
+    
+    @Override
+    public void write(ValidationResult result, Writer out) throws IOException {
+        for (ConfigurationError error : result.getErrors()) {
+            writeError(error, out);
+        }
+        
+        out.append("{\"record\":\"summary\",");
+        Json.field(out, "valid", result.isValid());
+        out.append(',');
+        Json.field(out, "errorCount", result.getErrorCount());
+        out.append(',');
+        Json.field(out, "suppressedErrorCount", result.getSuppressedErrorCount());
+        out.append(",\"errorsByType\":{");
+        boolean first = true;
+        for (ErrorType type : ErrorType.values()) {
+            int count = result.getErrorCount(type);
+            if (count > 0) {
+                if (!first) {
+                    out.append(',');
+                }
+                Json.field(out, type.name(), count);
+                first = false;
+            }
+        }
+        out.append("}}\n");
+    }
+    
+    private void writeError(ConfigurationError error, Writer out) throws IOException {
+        out.append("{\"record\":\"error\",");
+        Json.field(out, "type", error.getType() != null ? error.getType().name() : null);
+        out.append(',');
+        Json.field(out, "property", error.getPropertyName());
+        out.append(',');
+        Json.field(out, "message", ReportedErrors.message(error));
+        out.append(',');
+        Json.field(out, "suggestion", ReportedErrors.suggestion(error));
+        out.append(',');
+        Json.field(out, "sensitive", error.isSensitive());
+        
+        PropertySource source = error.getSource();
+        if (source != null) {
+            out.append(",\"source\":{");
+            Json.field(out, "name", source.getName());
+            out.append(',');
+            Json.field(out, "location", source.getLocation());
+            if (source.hasPosition()) {
+                out.append(',');
+                Json.field(out, "line", source.getLine());
+                if (source.getColumn() > 0) {
+                    out.append(',');
+                    Json.field(out, "column", source.getColumn());
+                }
+            }
+            out.append('}');
+        }
+        out.append("}\n");
+    }
+}
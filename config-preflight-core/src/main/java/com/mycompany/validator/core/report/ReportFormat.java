@@ -0,0 +1,84 @@
+package com.mycompany.validator.core.report;
+
+import java.util.Locale;
+
+/**
+ * Formats de rapport disponibles, choisis par configuration.validator.report.format.
+ */
+public enum ReportFormat {
+    
+    /**
+     * Un objet JSON par ligne : une ligne par erreur, puis une ligne de synthèse.
+     */
+    JSON_LINES("json-lines", "config-preflight-report.jsonl"),
+    
+    /**
+     * SARIF 2.1.0, lu par les outils d'analyse de code (GitHub code scanning, IDE...).
+     */
+    SARIF("sarif", "config-preflight-report.sarif"),
+    
+    /**
+     * JUnit XML : un cas de test en échec par erreur, affiché par les serveurs de CI.
+     */
+    JUNIT_XML("junit", "TEST-config-preflight.xml");
+    
+    private final String propertyValue;
+    private final String defaultFileName;
+    
+    ReportFormat(String propertyValue, String defaultFileName) {
+        this.propertyValue = propertyValue;
+        this.defaultFileName = defaultFileName;
+    }
+    
+    /**
+     * @return Valeur de configuration.validator.report.format désignant ce format
+     */
+    public String getPropertyValue() {
+        return propertyValue;
+    }
+    
+    /**
+     * @return Fichier écrit si configuration.validator.report.path n'est pas défini
+     */
+    public String getDefaultFileName() {
+        return defaultFileName;
+    }
+    
+    /**
+     * @return Nouveau writer pour ce format
+     */
+    public ReportWriter newWriter() {
+        switch (this) {
+            case SARIF:
+                return new SarifReportWriter();
+            case JUNIT_XML:
+                return new JUnitXmlReportWriter();
+            default:
+                return new JsonLinesReportWriter();
+        }
+    }
+    
+    /**
+     * Lit un format de configuration (json-lines, jsonl, sarif, junit), sans tenir compte de la casse.
+     *
+     * @param value Valeur de la propriété
+     * @return Format désigné, ou null si la valeur est absente ou inconnue
+     */
+    public static ReportFormat fromPropertyValue(String value) {
+        if (value == null) {
+            return null;
+        }
+        switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "json-lines":
+            case "jsonl":
+                return JSON_LINES;
+            case "sarif":
+                return SARIF;
+            case "junit":
+            case "junit-xml":
+                return JUNIT_XML;
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.mycompany.validator.core.report;
+
+import com.mycompany.validator.core.api.ValidationResult;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.function.Function;
+
+/**
+ * Écrit le rapport lisible par une machine configuré pour l'application.
+ *
+ * Configuration (propriétés lues par {@link #fromProperties(Function)}) :
+ * - configuration.validator.report.format : json-lines, sarif ou junit (aucun rapport par défaut)
+ * - configuration.validator.report.path : fichier écrit (par défaut, un nom propre au format
+ *   dans le répertoire courant)
+ *
+ * Le rapport est écrit à la fin de la validation précoce, même sans erreur, puis remplacé
+ * par toute validation ultérieure qui échoue : le fichier reflète toujours le dernier démarrage.
+ */
+public final class ReportPublisher {
+    
+    public static final String FORMAT_PROPERTY = "configuration.validator.report.format";
+    public static final String PATH_PROPERTY = "configuration.validator.report.path";
+    
+    private static final ReportPublisher DISABLED = new ReportPublisher(null, null);
+    
+    private final ReportFormat format;
+    private final Path path;
+    
+    private ReportPublisher(ReportFormat format, Path path) {
+        this.format = format;
+        this.path = path;
+    }
+    
+    /**
+     * @param format Format du rapport
+     * @param path Fichier écrit
+     */
+    public static ReportPublisher to(ReportFormat format, Path path) {
+        if (format == null || path == null) {
+            throw new IllegalArgumentException("Report format and path are required");
+        }
+        return new ReportPublisher(format, path);
+    }
+    
+    /**
+     * Construit le publisher configuré à partir des propriétés du framework.
+     * Un format absent ou inconnu désactive le rapport.
+     *
+     * @param properties Accès aux propriétés (retourne null si absente)
+     */
+    public static ReportPublisher fromProperties(Function<String, String> properties) {
+        ReportFormat format = ReportFormat.fromPropertyValue(properties.apply(FORMAT_PROPERTY));
+        if (format == null) {
+            return DISABLED;
+        }
+        String path = properties.apply(PATH_PROPERTY);
+        return new ReportPublisher(format, Paths.get(path != null && !path.isBlank() ? path.trim() : format.getDefaultFileName()));
+    }
+    
+    /**
+     * @return true si un rapport est configuré
+     */
+    public boolean isEnabled() {
+        return format != null;
+    }
+    
+    public ReportFormat getFormat() {
+        return format;
+    }
+    
+    public Path getPath() {
+        return path;
+    }
+    
+    /**
+     * Écrit le rapport, si un format est configuré. Un échec d'écriture n'interrompt pas
+     * le démarrage : il est signalé sur la sortie d'erreur.
+     *
+     * @param result Résultat de validation
+     */
+    public void publish(ValidationResult result) {
+        if (format == null) {
+            return;
+        }
+        try {
+            format.newWriter().write(result, path);
+        } catch (IOException e) {
+            System.err.println("⚠️  Could not write configuration validation report to " + path + ": " + e.getMessage());
+        }
+    }
+}
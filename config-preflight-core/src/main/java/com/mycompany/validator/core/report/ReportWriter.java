@@ -0,0 +1,54 @@
+package com.mycompany.validator.core.report;
+
+import com.mycompany.validator.core.api.ValidationResult;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Écrit un {@link ValidationResult} dans un format lisible par une machine (CI, outillage de flotte).
+ *
+ * Les erreurs sont écrites au fil de l'eau, sans arbre intermédiaire (DOM, JSON) :
+ * la mémoire utilisée ne dépend pas du nombre d'erreurs. Les messages des erreurs
+ * {@link com.mycompany.validator.core.model.ConfigurationError#isSensitive() sensibles} sont masqués.
+ */
+public interface ReportWriter {
+    
+    /**
+     * Écrit le rapport. Le writer n'est pas fermé.
+     *
+     * @param result Résultat de validation
+     * @param out Destination du rapport
+     * @throws IOException Si l'écriture échoue
+     */
+    void write(ValidationResult result, Writer out) throws IOException;
+    
+    /**
+     * Écrit le rapport en UTF-8 dans un flux, qui n'est pas fermé.
+     */
+    default void write(ValidationResult result, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        write(result, writer);
+        writer.flush();
+    }
+    
+    /**
+     * Écrit le rapport en UTF-8 dans un fichier, remplacé s'il existe.
+     * Les répertoires parents sont créés si nécessaire.
+     */
+    default void write(ValidationResult result, Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            write(result, writer);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.mycompany.validator.core.report;
+
+import com.mycompany.validator.core.detector.SecretDetector;
+import com.mycompany.validator.core.model.ConfigurationError;
+import com.mycompany.validator.core.model.PropertySource;
+
+/**
+ * Champs d'une erreur tels qu'ils apparaissent dans les rapports, masqués si l'erreur est sensible.
+ */
+final class ReportedErrors {
+    
+    private static final SecretDetector SECRET_DETECTOR = new SecretDetector();
+    
+    private ReportedErrors() {
+    }
+    
+    static String message(ConfigurationError error) {
+        return error.isSensitive()
+            ? SECRET_DETECTOR.sanitizeErrorMessage(error.getPropertyName(), error.getErrorMessage())
+            : error.getErrorMessage();
+    }
+    
+    static String suggestion(ConfigurationError error) {
+        return error.isSensitive()
+            ? SECRET_DETECTOR.sanitizeErrorMessage(error.getPropertyName(), error.getSuggestion())
+            : error.getSuggestion();
+    }
+    
+    /**
+     * @return Chemin du fichier de la source (relatif pour classpath:), ou null si la source n'est pas un fichier
+     */
+    static String fileUri(PropertySource source) {
+        if (source == null || source.getLocation() == null || source.getType() == null) {
+            return null;
+        }
+        switch (source.getType()) {
+            case APPLICATION_PROPERTIES:
+            case APPLICATION_YAML:
+            case IMPORTED_FILE:
+                break;
+            default:
+                return null;
+        }
+        String location = source.getLocation();
+        if (location.startsWith("classpath:")) {
+            location = location.substring("classpath:".length());
+            return location.startsWith("/") ? location.substring(1) : location;
+        }
+        return location;
+    }
+}
@@ -0,0 +1,93 @@
+package com.mycompany.validator.core.report;
+
+import com.mycompany.validator.core.api.ValidationResult;
+import com.mycompany.validator.core.model.ConfigurationError;
+import com.mycompany.validator.core.model.ErrorType;
+import com.mycompany.validator.core.model.PropertySource;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Rapport SARIF 2.1.0 : une règle par {@link ErrorType}, un résultat par erreur.
+ *
+ * Les erreurs dont la source est un fichier portent sa position (physicalLocation) ;
+ * la propriété en cause est toujours indiquée en logicalLocation.
+ */
+public class SarifReportWriter implements ReportWriter {
+    
+    static final String SCHEMA = "https://json.schemastore.org/sarif-2.1.0.json";
+    static final String TOOL_NAME = "config-preflight";
+    
+    @Override
+    public void write(ValidationResult result, Writer out) throws IOException {
+        out.append('{');
+        Json.field(out, "$schema", SCHEMA);
+        out.append(',');
+        Json.field(out, "version", "2.1.0");
+        out.append(",\"runs\":[{\"tool\":{\"driver\":{");
+        Json.field(out, "name", TOOL_NAME);
+        out.append(",\"rules\":[");
+        ErrorType[] types = ErrorType.values();
+        for (int i = 0; i < types.length; i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            out.append('{');
+            Json.field(out, "id", types[i].name());
+            out.append(",\"shortDescription\":{");
+            Json.field(out, "text", types[i].getDisplayName());
+            out.append("},\"defaultConfiguration\":{\"level\":\"error\"}}");
+        }
+        out.append("]}},\"results\":[");
+        
+        boolean first = true;
+        for (ConfigurationError error : result.getErrors()) {
+            if (!first) {
+                out.append(',');
+            }
+            writeResult(error, out);
+            first = false;
+        }
+        
+        out.append("],\"properties\":{");
+        Json.field(out, "suppressedErrorCount", result.getSuppressedErrorCount());
+        out.append("}}]}\n");
+    }
+    
+    private void writeResult(ConfigurationError error, Writer out) throws IOException {
+        ErrorType type = error.getType() != null ? error.getType() : ErrorType.UNKNOWN;
+        out.append("\n{");
+        Json.field(out, "ruleId", type.name());
+        out.append(',');
+        Json.field(out, "ruleIndex", type.ordinal());
+        out.append(",\"level\":\"error\",\"message\":{");
+        Json.field(out, "text", ReportedErrors.message(error));
+        out.append("},\"locations\":[{");
+        
+        PropertySource source = error.getSource();
+        String uri = ReportedErrors.fileUri(source);
+        if (uri != null) {
+            out.append("\"physicalLocation\":{\"artifactLocation\":{");
+            Json.field(out, "uri", uri);
+            out.append('}');
+            if (source.hasPosition()) {
+                out.append(",\"region\":{");
+                Json.field(out, "startLine", source.getLine());
+                if (source.getColumn() > 0) {
+                    out.append(',');
+                    Json.field(out, "startColumn", source.getColumn());
+                }
+                out.append('}');
+            }
+            out.append("},");
+        }
+        out.append("\"logicalLocations\":[{");
+        Json.field(out, "fullyQualifiedName", error.getPropertyName());
+        out.append(",\"kind\":\"member\"}]}],\"properties\":{");
+        Json.field(out, "sensitive", error.isSensitive());
+        out.append(',');
+        Json.field(out, "suggestion", ReportedErrors.suggestion(error));
+        out.append("}}");
+    }
+}
@@ -0,0 +1,38 @@
+package com.mycompany.validator.core.source;
+
+/**
+ * Reçoit les propriétés d'un fichier de configuration au fil de la lecture, sans arbre intermédiaire
+ * (voir {@link ConfigFileReader}).
+ *
+ * Les clés sont déjà aplaties (app.datasource.url, app.hosts[0]) et les valeurs brutes :
+ * les placeholders ${...} ne sont pas résolus.
+ */
+@FunctionalInterface
+public interface ConfigEventHandler {
+    
+    /**
+     * @param key Clé aplatie
+     * @param value Valeur brute ("" pour une valeur YAML nulle ou vide)
+     * @param line Ligne de la clé (à partir de 1)
+     * @param column Colonne de la clé (à partir de 1)
+     */
+    void onProperty(String key, String value, int line, int column);
+    
+    /**
+     * Début d'un document : appelé avant toute propriété, puis à chaque séparateur
+     * (--- en YAML, #--- ou !--- dans un fichier .properties).
+     *
+     * @param index Position du document dans le fichier (à partir de 0)
+     */
+    default void onDocument(int index) {
+    }
+    
+    /**
+     * Profil d'activation du document courant (spring.config.activate.on-profile ou spring.profiles).
+     * Ces clés sont transmises ici plutôt qu'à {@link #onProperty}.
+     *
+     * @param profile Expression de profil, telle qu'écrite
+     */
+    default void onProfile(String profile) {
+    }
+}
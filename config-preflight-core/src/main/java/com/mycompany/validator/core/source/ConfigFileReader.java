@@ -0,0 +1,135 @@
+package com.mycompany.validator.core.source;
+
+import com.mycompany.validator.core.model.PropertySource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Lecteur en flux des fichiers .properties et .yml/.yaml, pour valider une configuration
+ * sans démarrer de framework.
+ *
+ * Chaque propriété est transmise à un {@link ConfigEventHandler} dès qu'elle est lue : pas d'arbre
+ * YAML ni de {@link java.util.Properties} intermédiaire. Le fichier est décodé (UTF-8) en une seule
+ * passe depuis un {@link FileChannel}, projeté en mémoire au-delà de {@link #MAPPING_THRESHOLD} octets.
+ *
+ * YAML : sous-ensemble utilisé pour la configuration (mappings et séquences en bloc, scalaires
+ * simples ou entre guillemets, blocs | et >, collections { } et [ ] sur une ligne, documents ---).
+ * Les ancres, alias, tags et scalaires multi-lignes non quotés sont refusés avec leur ligne.
+ *
+ * Les erreurs de syntaxe sont des {@link IOException} dont le message indique la ligne.
+ */
+public final class ConfigFileReader {
+    
+    /**
+     * Taille à partir de laquelle le fichier est projeté en mémoire plutôt que lu dans un tampon.
+     */
+    public static final int MAPPING_THRESHOLD = 256 * 1024;
+    
+    private static final String[] PROFILE_KEYS = {"spring.config.activate.on-profile", "spring.profiles"};
+    
+    private ConfigFileReader() {
+    }
+    
+    /**
+     * @return Type de source d'après l'extension, null si le fichier n'est pas lisible par ce lecteur
+     */
+    public static PropertySource.SourceType sourceType(String fileName) {
+        if (fileName.endsWith(".properties")) {
+            return PropertySource.SourceType.APPLICATION_PROPERTIES;
+        }
+        if (fileName.endsWith(".yml") || fileName.endsWith(".yaml")) {
+            return PropertySource.SourceType.APPLICATION_YAML;
+        }
+        return null;
+    }
+    
+    /**
+     * Lit un fichier .properties ou .yml/.yaml.
+     *
+     * @param path Fichier à lire
+     * @param handler Destination des propriétés
+     */
+    public static void read(Path path, ConfigEventHandler handler) throws IOException {
+        PropertySource.SourceType type = sourceType(String.valueOf(path.getFileName()));
+        if (type == null) {
+            throw new IOException("Unsupported configuration file: " + path);
+        }
+        CharBuffer text = decode(path);
+        try {
+            parse(type, text.array(), text.arrayOffset() + text.position(), text.arrayOffset() + text.limit(), handler);
+        } catch (IOException e) {
+            throw new IOException(path + ": " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Lit le contenu d'un fichier .properties.
+     */
+    public static void readProperties(CharSequence content, ConfigEventHandler handler) throws IOException {
+        char[] text = content.toString().toCharArray();
+        parse(PropertySource.SourceType.APPLICATION_PROPERTIES, text, 0, text.length, handler);
+    }
+    
+    /**
+     * Lit le contenu d'un fichier YAML.
+     */
+    public static void readYaml(CharSequence content, ConfigEventHandler handler) throws IOException {
+        char[] text = content.toString().toCharArray();
+        parse(PropertySource.SourceType.APPLICATION_YAML, text, 0, text.length, handler);
+    }
+    
+    private static void parse(PropertySource.SourceType type, char[] text, int start, int end,
+                              ConfigEventHandler handler) throws IOException {
+        if (start < end && text[start] == '\uFEFF') {
+            start++;
+        }
+        if (type == PropertySource.SourceType.APPLICATION_PROPERTIES) {
+            new PropertiesEventParser(text, start, end, handler).parse();
+        } else {
+            new YamlEventParser(text, start, end, handler).parse();
+        }
+    }
+    
+    private static CharBuffer decode(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Configuration file too large: " + path);
+            }
+            ByteBuffer bytes;
+            if (size >= MAPPING_THRESHOLD) {
+                bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            } else {
+                bytes = ByteBuffer.allocate((int) size);
+                while (bytes.hasRemaining() && channel.read(bytes) >= 0) {
+                    // lecture jusqu'à la fin du fichier
+                }
+                bytes.flip();
+            }
+            return StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                .decode(bytes);
+        }
+    }
+    
+    /**
+     * Transmet une propriété, ou le profil du document s'il s'agit d'une clé d'activation.
+     */
+    static void emit(ConfigEventHandler handler, String key, String value, int line, int column) {
+        for (String profileKey : PROFILE_KEYS) {
+            if (profileKey.equals(key)) {
+                handler.onProfile(value);
+                return;
+            }
+        }
+        handler.onProperty(key, value, line, column);
+    }
+}
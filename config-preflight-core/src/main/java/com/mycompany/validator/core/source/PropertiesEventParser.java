@@ -0,0 +1,184 @@
+package com.mycompany.validator.core.source;
+
+import java.io.IOException;
+
+/**
+ * Analyse un fichier .properties selon les règles de {@link java.util.Properties#load(java.io.Reader)} :
+ * commentaires # et !, séparateurs =, : ou espace, lignes continuées par \, échappements \t \n \r \f \\uXXXX.
+ *
+ * Une ligne #--- ou !--- sépare deux documents, comme dans Spring Boot.
+ */
+final class PropertiesEventParser {
+    
+    private final char[] text;
+    private final int end;
+    private final ConfigEventHandler handler;
+    private final StringBuilder buffer = new StringBuilder(64);
+    
+    private int pos;
+    private int line;
+    private int lineStart;
+    
+    PropertiesEventParser(char[] text, int start, int end, ConfigEventHandler handler) {
+        this.text = text;
+        this.pos = start;
+        this.end = end;
+        this.handler = handler;
+    }
+    
+    void parse() throws IOException {
+        int document = 0;
+        handler.onDocument(document);
+        while (pos < end) {
+            line++;
+            lineStart = pos;
+            skipBlanks();
+            if (pos == end || isLineEnd()) {
+                skipLineEnd();
+                continue;
+            }
+            char c = text[pos];
+            if (c == '#' || c == '!') {
+                if (pos == lineStart && isDocumentSeparator()) {
+                    handler.onDocument(++document);
+                }
+                skipToLineEnd();
+                skipLineEnd();
+                continue;
+            }
+            
+            int keyLine = line;
+            int keyColumn = pos - lineStart + 1;
+            String key = readKey();
+            skipBlanks();
+            if (pos < end && (text[pos] == '=' || text[pos] == ':')) {
+                pos++;
+                skipBlanks();
+            }
+            String value = readValue();
+            skipLineEnd();
+            ConfigFileReader.emit(handler, key, value, keyLine, keyColumn);
+        }
+    }
+    
+    private String readKey() throws IOException {
+        buffer.setLength(0);
+        while (pos < end && !isLineEnd()) {
+            char c = text[pos];
+            if (c == '=' || c == ':' || c == ' ' || c == '\t' || c == '\f') {
+                break;
+            }
+            if (c == '\\') {
+                readEscape();
+            } else {
+                buffer.append(c);
+                pos++;
+            }
+        }
+        return buffer.toString();
+    }
+    
+    private String readValue() throws IOException {
+        buffer.setLength(0);
+        while (pos < end && !isLineEnd()) {
+            char c = text[pos];
+            if (c == '\\') {
+                readEscape();
+            } else {
+                buffer.append(c);
+                pos++;
+            }
+        }
+        return buffer.toString();
+    }
+    
+    /**
+     * Échappement à la position courante (sur le \) : caractère ajouté au tampon,
+     * ou continuation de ligne (les blancs en tête de la ligne suivante sont ignorés).
+     */
+    private void readEscape() throws IOException {
+        pos++;
+        if (pos >= end) {
+            return;
+        }
+        if (isLineEnd()) {
+            skipLineEnd();
+            line++;
+            lineStart = pos;
+            skipBlanks();
+            return;
+        }
+        char c = text[pos++];
+        switch (c) {
+            case 't':
+                buffer.append('\t');
+                break;
+            case 'n':
+                buffer.append('\n');
+                break;
+            case 'r':
+                buffer.append('\r');
+                break;
+            case 'f':
+                buffer.append('\f');
+                break;
+            case 'u':
+                buffer.append(readUnicode());
+                break;
+            default:
+                buffer.append(c);
+        }
+    }
+    
+    private char readUnicode() throws IOException {
+        if (pos + 4 > end) {
+            throw new IOException("line " + line + ": malformed \\uxxxx encoding");
+        }
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(text[pos++], 16);
+            if (digit < 0) {
+                throw new IOException("line " + line + ": malformed \\uxxxx encoding");
+            }
+            value = (value << 4) | digit;
+        }
+        return (char) value;
+    }
+    
+    private boolean isDocumentSeparator() {
+        int i = pos + 1;
+        if (i + 3 > end || text[i] != '-' || text[i + 1] != '-' || text[i + 2] != '-') {
+            return false;
+        }
+        i += 3;
+        while (i < end && (text[i] == ' ' || text[i] == '\t')) {
+            i++;
+        }
+        return i == end || text[i] == '\n' || text[i] == '\r';
+    }
+    
+    private void skipBlanks() {
+        while (pos < end && (text[pos] == ' ' || text[pos] == '\t' || text[pos] == '\f')) {
+            pos++;
+        }
+    }
+    
+    private void skipToLineEnd() {
+        while (pos < end && !isLineEnd()) {
+            pos++;
+        }
+    }
+    
+    private boolean isLineEnd() {
+        return text[pos] == '\n' || text[pos] == '\r';
+    }
+    
+    private void skipLineEnd() {
+        if (pos < end && text[pos] == '\r') {
+            pos++;
+        }
+        if (pos < end && text[pos] == '\n') {
+            pos++;
+        }
+    }
+}
@@ -0,0 +1,603 @@
+package com.mycompany.validator.core.source;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Analyse ligne à ligne le sous-ensemble YAML des fichiers de configuration, en aplatissant
+ * les clés comme Spring Boot (a.b.c, a.list[0], a[x.y] pour une clé "[x.y]").
+ *
+ * Seule la pile des mappings et séquences ouverts est conservée : chaque scalaire est transmis
+ * dès qu'il est lu. Les scalaires sont transmis tels qu'écrits (010 reste 010), null et ~
+ * deviennent une chaîne vide, comme une valeur absente.
+ */
+final class YamlEventParser {
+    
+    /**
+     * Mapping ou séquence ouvert : indentation de ses entrées et préfixe de leurs clés.
+     */
+    private static final class Frame {
+        
+        final int indent;
+        final String prefix;
+        final boolean sequence;
+        int next;
+        
+        Frame(int indent, String prefix, boolean sequence) {
+            this.indent = indent;
+            this.prefix = prefix;
+            this.sequence = sequence;
+        }
+    }
+    
+    private final char[] text;
+    private final int end;
+    private final ConfigEventHandler handler;
+    private final List<Frame> stack = new ArrayList<>();
+    private final StringBuilder buffer = new StringBuilder(64);
+    
+    private int pos;
+    private int line;
+    private int lineStart;
+    
+    private int document;
+    private boolean documentOpen;
+    private boolean documentEnded;
+    
+    /**
+     * Clé dont la valeur est sur les lignes suivantes (mapping, séquence) ou absente.
+     */
+    private String pendingKey;
+    private int pendingIndent;
+    private boolean pendingCompactSequence;
+    private int pendingLine;
+    private int pendingColumn;
+    
+    YamlEventParser(char[] text, int start, int end, ConfigEventHandler handler) {
+        this.text = text;
+        this.pos = start;
+        this.end = end;
+        this.handler = handler;
+    }
+    
+    void parse() throws IOException {
+        handler.onDocument(document);
+        while (pos < end) {
+            lineStart = pos;
+            int contentEnd = lineEnd(pos);
+            pos = nextLine(contentEnd);
+            line++;
+            
+            int c = lineStart;
+            while (c < contentEnd && text[c] == ' ') {
+                c++;
+            }
+            if (c == contentEnd || text[c] == '#') {
+                continue;
+            }
+            if (text[c] == '\t') {
+                throw error("tabs are not allowed for indentation");
+            }
+            int indent = c - lineStart;
+            if (indent == 0 && isMarker(c, contentEnd, '-')) {
+                if (documentOpen) {
+                    startDocument();
+                }
+                documentOpen = true;
+                continue;
+            }
+            if (indent == 0 && isMarker(c, contentEnd, '.')) {
+                finishDocument();
+                documentEnded = true;
+                continue;
+            }
+            if (indent == 0 && text[c] == '%' && !documentOpen) {
+                // Directive (%YAML, %TAG) : sans effet sur les clés
+                continue;
+            }
+            if (documentEnded) {
+                startDocument();
+            }
+            documentOpen = true;
+            node(indent, c, contentEnd);
+        }
+        finishDocument();
+    }
+    
+    private void startDocument() {
+        finishDocument();
+        documentEnded = false;
+        handler.onDocument(++document);
+    }
+    
+    private void finishDocument() {
+        flushPending();
+        stack.clear();
+    }
+    
+    /**
+     * Traite le contenu d'une ligne (ou la suite d'un élément "- ") à l'indentation donnée.
+     */
+    private void node(int indent, int c, int contentEnd) throws IOException {
+        boolean item = isSequenceItem(c, contentEnd);
+        
+        if (pendingKey != null) {
+            if (indent > pendingIndent || (item && pendingCompactSequence && indent == pendingIndent)) {
+                stack.add(new Frame(indent, pendingKey, item));
+            } else {
+                flushPending();
+            }
+            pendingKey = null;
+        }
+        if (stack.isEmpty()) {
+            stack.add(new Frame(indent, "", item));
+        }
+        
+        Frame top = top();
+        while (stack.size() > 1 && (top.indent > indent || (top.sequence && top.indent == indent && !item))) {
+            stack.remove(stack.size() - 1);
+            top = top();
+        }
+        if (top.indent != indent) {
+            throw error("unexpected indentation (multi-line plain scalars are not supported)");
+        }
+        
+        if (item) {
+            if (!top.sequence) {
+                throw error("sequence item where a mapping key is expected");
+            }
+            String key = top.prefix + "[" + top.next++ + "]";
+            int r = skipSpaces(c + 1, contentEnd);
+            if (r == contentEnd || text[r] == '#') {
+                pending(key, indent, false, c);
+                return;
+            }
+            int itemIndent = indent + (r - c);
+            boolean nestedItem = isSequenceItem(r, contentEnd);
+            if (nestedItem || keyEnd(r, contentEnd) >= 0) {
+                stack.add(new Frame(itemIndent, key, nestedItem));
+                node(itemIndent, r, contentEnd);
+            } else {
+                value(key, indent, r, contentEnd, r);
+            }
+            return;
+        }
+        if (top.sequence) {
+            throw error("mapping key where a sequence item is expected");
+        }
+        
+        int colon = keyEnd(c, contentEnd);
+        if (colon < 0) {
+            throw error("expected 'key: value'");
+        }
+        String key = join(top.prefix, readKey(c, colon));
+        int r = skipSpaces(colon + 1, contentEnd);
+        if (r == contentEnd || text[r] == '#') {
+            pending(key, indent, true, c);
+            return;
+        }
+        value(key, indent, r, contentEnd, c);
+    }
+    
+    private void value(String key, int indent, int r, int contentEnd, int keyPosition) throws IOException {
+        int column = column(keyPosition);
+        char c = text[r];
+        switch (c) {
+            case '|':
+            case '>':
+                int keyLine = line;
+                String block = blockScalar(indent, c == '>', r + 1, contentEnd);
+                ConfigFileReader.emit(handler, key, block, keyLine, column);
+                return;
+            case '[':
+            case '{':
+                expectEnd(flow(key, r, contentEnd, line, column), contentEnd);
+                return;
+            case '&':
+            case '*':
+            case '!':
+                throw error("anchors, aliases and tags are not supported");
+            default:
+                expectEnd(scalar(r, contentEnd, false), contentEnd);
+                ConfigFileReader.emit(handler, key, buffer.toString(), line, column);
+        }
+    }
+    
+    /**
+     * Bloc | (littéral) ou > (replié), avec indicateurs de conservation (+ -) et d'indentation.
+     */
+    private String blockScalar(int parentIndent, boolean folded, int header, int contentEnd) throws IOException {
+        char chomping = ' ';
+        int explicitIndent = 0;
+        int h = header;
+        while (h < contentEnd && text[h] != ' ' && text[h] != '#') {
+            char c = text[h++];
+            if (c == '+' || c == '-') {
+                chomping = c;
+            } else if (c >= '1' && c <= '9') {
+                explicitIndent = c - '0';
+            } else {
+                throw error("invalid block scalar header");
+            }
+        }
+        expectEnd(h, contentEnd);
+        
+        int blockIndent = explicitIndent > 0 ? parentIndent + explicitIndent : -1;
+        buffer.setLength(0);
+        int trailingNewlines = 0;
+        boolean first = true;
+        boolean previousMoreIndented = false;
+        while (pos < end) {
+            int blockLineStart = pos;
+            int lineEnd = lineEnd(pos);
+            int c = blockLineStart;
+            while (c < lineEnd && text[c] == ' ') {
+                c++;
+            }
+            boolean blank = c == lineEnd;
+            int indent = c - blockLineStart;
+            if (!blank && blockIndent < 0) {
+                if (indent <= parentIndent) {
+                    break;
+                }
+                blockIndent = indent;
+            }
+            if (!blank && indent < blockIndent) {
+                break;
+            }
+            pos = nextLine(lineEnd);
+            line++;
+            if (blank) {
+                trailingNewlines++;
+                continue;
+            }
+            
+            int from = blockLineStart + blockIndent;
+            boolean moreIndented = indent > blockIndent;
+            if (!first) {
+                if (folded && trailingNewlines == 0 && !moreIndented && !previousMoreIndented) {
+                    buffer.append(' ');
+                } else {
+                    int newlines = folded && !moreIndented && !previousMoreIndented ? trailingNewlines : trailingNewlines + 1;
+                    for (int i = 0; i < newlines; i++) {
+                        buffer.append('\n');
+                    }
+                }
+            } else {
+                for (int i = 0; i < trailingNewlines; i++) {
+                    buffer.append('\n');
+                }
+            }
+            buffer.append(text, from, lineEnd - from);
+            trailingNewlines = 0;
+            first = false;
+            previousMoreIndented = moreIndented;
+        }
+        
+        if (first) {
+            return "";
+        }
+        if (chomping == '+') {
+            for (int i = 0; i <= trailingNewlines; i++) {
+                buffer.append('\n');
+            }
+        } else if (chomping != '-') {
+            buffer.append('\n');
+        }
+        return buffer.toString();
+    }
+    
+    /**
+     * Collection { } ou [ ] sur une ligne, éventuellement imbriquée.
+     *
+     * @return Position qui suit la collection
+     */
+    private int flow(String key, int p, int contentEnd, int keyLine, int column) throws IOException {
+        boolean sequence = text[p] == '[';
+        char close = sequence ? ']' : '}';
+        int index = 0;
+        p = skipSpaces(p + 1, contentEnd);
+        if (p < contentEnd && text[p] == close) {
+            if (sequence) {
+                ConfigFileReader.emit(handler, key, "", keyLine, column);
+            }
+            return p + 1;
+        }
+        while (true) {
+            if (p >= contentEnd) {
+                throw error("unterminated flow collection (multi-line flow collections are not supported)");
+            }
+            String entryKey;
+            if (sequence) {
+                entryKey = key + "[" + index++ + "]";
+            } else {
+                int keyEndPosition = scalar(p, contentEnd, true);
+                entryKey = join(key, buffer.toString());
+                p = skipSpaces(keyEndPosition, contentEnd);
+                if (p >= contentEnd || text[p] != ':') {
+                    throw error("expected ':' in flow mapping");
+                }
+                p = skipSpaces(p + 1, contentEnd);
+            }
+            if (p < contentEnd && (text[p] == '[' || text[p] == '{')) {
+                p = flow(entryKey, p, contentEnd, keyLine, column);
+            } else if (p < contentEnd && (text[p] == '&' || text[p] == '*' || text[p] == '!')) {
+                throw error("anchors, aliases and tags are not supported");
+            } else {
+                p = scalar(p, contentEnd, true);
+                ConfigFileReader.emit(handler, entryKey, buffer.toString(), keyLine, column);
+            }
+            p = skipSpaces(p, contentEnd);
+            if (p < contentEnd && text[p] == ',') {
+                p = skipSpaces(p + 1, contentEnd);
+                continue;
+            }
+            if (p < contentEnd && text[p] == close) {
+                return p + 1;
+            }
+            if (p < contentEnd) {
+                throw error("expected ',' or '" + close + "' in flow collection");
+            }
+        }
+    }
+    
+    /**
+     * Lit un scalaire dans le tampon.
+     *
+     * @param inFlow Vrai dans une collection { } ou [ ] : , ] } et ": " terminent un scalaire simple
+     * @return Position qui suit le scalaire
+     */
+    private int scalar(int p, int contentEnd, boolean inFlow) throws IOException {
+        buffer.setLength(0);
+        char c = text[p];
+        if (c == '"') {
+            return doubleQuoted(p + 1, contentEnd);
+        }
+        if (c == '\'') {
+            return singleQuoted(p + 1, contentEnd);
+        }
+        int start = p;
+        int last = p;
+        while (p < contentEnd) {
+            c = text[p];
+            if (c == '#' && p > start && (text[p - 1] == ' ' || text[p - 1] == '\t')) {
+                break;
+            }
+            if (inFlow && (c == ',' || c == ']' || c == '}'
+                || (c == ':' && (p + 1 == contentEnd || text[p + 1] == ' ' || text[p + 1] == ',')))) {
+                break;
+            }
+            if (c != ' ' && c != '\t') {
+                last = p + 1;
+            }
+            p++;
+        }
+        int length = last - start;
+        if (!(length == 1 && text[start] == '~') && !(length == 4 && isNull(start))) {
+            buffer.append(text, start, length);
+        }
+        return last;
+    }
+    
+    private boolean isNull(int start) {
+        String word = new String(text, start, 4);
+        return word.equals("null") || word.equals("Null") || word.equals("NULL");
+    }
+    
+    private int singleQuoted(int p, int contentEnd) throws IOException {
+        while (p < contentEnd) {
+            char c = text[p++];
+            if (c == '\'') {
+                if (p < contentEnd && text[p] == '\'') {
+                    buffer.append('\'');
+                    p++;
+                } else {
+                    return p;
+                }
+            } else {
+                buffer.append(c);
+            }
+        }
+        throw error("unterminated quoted scalar (multi-line quoted scalars are not supported)");
+    }
+    
+    private int doubleQuoted(int p, int contentEnd) throws IOException {
+        while (p < contentEnd) {
+            char c = text[p++];
+            if (c == '"') {
+                return p;
+            }
+            if (c != '\\') {
+                buffer.append(c);
+                continue;
+            }
+            if (p >= contentEnd) {
+                break;
+            }
+            char escaped = text[p++];
+            switch (escaped) {
+                case 'n':
+                    buffer.append('\n');
+                    break;
+                case 't':
+                    buffer.append('\t');
+                    break;
+                case 'r':
+                    buffer.append('\r');
+                    break;
+                case '0':
+                    buffer.append('\0');
+                    break;
+                case 'x':
+                    p = hex(p, 2, contentEnd);
+                    break;
+                case 'u':
+                    p = hex(p, 4, contentEnd);
+                    break;
+                case 'U':
+                    p = hex(p, 8, contentEnd);
+                    break;
+                default:
+                    buffer.append(escaped);
+            }
+        }
+        throw error("unterminated quoted scalar (multi-line quoted scalars are not supported)");
+    }
+    
+    private int hex(int p, int digits, int contentEnd) throws IOException {
+        if (p + digits > contentEnd) {
+            throw error("invalid escape sequence");
+        }
+        int codePoint = 0;
+        for (int i = 0; i < digits; i++) {
+            int digit = Character.digit(text[p + i], 16);
+            if (digit < 0) {
+                throw error("invalid escape sequence");
+            }
+            codePoint = (codePoint << 4) | digit;
+        }
+        buffer.appendCodePoint(codePoint);
+        return p + digits;
+    }
+    
+    /**
+     * @return Position du ':' qui termine la clé commençant en p, -1 si la ligne n'est pas une entrée de mapping
+     */
+    private int keyEnd(int p, int contentEnd) {
+        char c = text[p];
+        if (c == '"' || c == '\'') {
+            int q = p + 1;
+            while (q < contentEnd) {
+                if (text[q] == c) {
+                    if (c == '\'' && q + 1 < contentEnd && text[q + 1] == '\'') {
+                        q += 2;
+                        continue;
+                    }
+                    break;
+                }
+                if (c == '"' && text[q] == '\\') {
+                    q++;
+                }
+                q++;
+            }
+            q = skipSpaces(q + 1, contentEnd);
+            return q < contentEnd && text[q] == ':' && (q + 1 == contentEnd || text[q + 1] == ' ') ? q : -1;
+        }
+        if (c == '[' || c == '{' || c == '#' || c == '?') {
+            return -1;
+        }
+        for (int q = p; q < contentEnd; q++) {
+            if (text[q] == '#' && q > p && text[q - 1] == ' ') {
+                return -1;
+            }
+            if (text[q] == ':' && (q + 1 == contentEnd || text[q + 1] == ' ')) {
+                return q;
+            }
+        }
+        return -1;
+    }
+    
+    private String readKey(int p, int colon) throws IOException {
+        char c = text[p];
+        if (c == '"' || c == '\'') {
+            scalar(p, colon, false);
+            return buffer.toString();
+        }
+        int last = colon;
+        while (last > p && text[last - 1] == ' ') {
+            last--;
+        }
+        return new String(text, p, last - p);
+    }
+    
+    /**
+     * Clé enfant : "parent.child", ou "parent[x.y]" pour une clé entre crochets.
+     */
+    private static String join(String prefix, String key) {
+        if (prefix.isEmpty()) {
+            return key;
+        }
+        return key.startsWith("[") ? prefix + key : prefix + "." + key;
+    }
+    
+    private void pending(String key, int indent, boolean compactSequence, int keyPosition) {
+        pendingKey = key;
+        pendingIndent = indent;
+        pendingCompactSequence = compactSequence;
+        pendingLine = line;
+        pendingColumn = column(keyPosition);
+    }
+    
+    /**
+     * Clé sans valeur ni enfants : valeur vide.
+     */
+    private void flushPending() {
+        if (pendingKey != null) {
+            ConfigFileReader.emit(handler, pendingKey, "", pendingLine, pendingColumn);
+            pendingKey = null;
+        }
+    }
+    
+    private Frame top() {
+        return stack.get(stack.size() - 1);
+    }
+    
+    private void expectEnd(int p, int contentEnd) throws IOException {
+        p = skipSpaces(p, contentEnd);
+        if (p < contentEnd && text[p] != '#') {
+            throw error("unexpected content after value");
+        }
+    }
+    
+    private boolean isSequenceItem(int p, int contentEnd) {
+        return text[p] == '-' && (p + 1 == contentEnd || text[p + 1] == ' ');
+    }
+    
+    /**
+     * --- ou ... en début de ligne, seul ou suivi d'un commentaire.
+     */
+    private boolean isMarker(int p, int contentEnd, char c) {
+        if (p + 3 > contentEnd || text[p] != c || text[p + 1] != c || text[p + 2] != c) {
+            return false;
+        }
+        int q = skipSpaces(p + 3, contentEnd);
+        return q == contentEnd || (text[q] == '#' && q > p + 3);
+    }
+    
+    private int skipSpaces(int p, int contentEnd) {
+        while (p < contentEnd && (text[p] == ' ' || text[p] == '\t')) {
+            p++;
+        }
+        return p;
+    }
+    
+    /**
+     * @return Fin du contenu de la ligne commençant en p (avant \r\n ou \n)
+     */
+    private int lineEnd(int p) {
+        while (p < end && text[p] != '\n' && text[p] != '\r') {
+            p++;
+        }
+        return p;
+    }
+    
+    private int nextLine(int lineEnd) {
+        int p = lineEnd;
+        if (p < end && text[p] == '\r') {
+            p++;
+        }
+        if (p < end && text[p] == '\n') {
+            p++;
+        }
+        return p;
+    }
+    
+    private int column(int p) {
+        return p - lineStart + 1;
+    }
+    
+    private IOException error(String message) {
+        return new IOException("line " + line + ": " + message);
+    }
+}
@@ -0,0 +1,93 @@
+package com.mycompany.validator.core.api;
+
+import com.mycompany.validator.core.model.ConfigurationError;
+import com.mycompany.validator.core.model.ErrorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests du résultat immuable : comptes par type, vues par type et fusion sans copie.
+ */
+@DisplayName("ValidationResult")
+class ValidationResultTest {
+    
+    @Test
+    @DisplayName("Comptes et vues par type calculés sans groupingBy")
+    void testCountsAndViewsByType() {
+        ValidationResult result = new ValidationResult(List.of(
+            error(ErrorType.MISSING_PROPERTY, "app.url"),
+            error(ErrorType.UNRESOLVED_PLACEHOLDER, "app.host"),
+            error(ErrorType.MISSING_PROPERTY, "app.port")));
+        
+        assertThat(result.getErrorCount()).isEqualTo(3);
+        assertThat(result.getErrorCount(ErrorType.MISSING_PROPERTY)).isEqualTo(2);
+        assertThat(result.getErrorCount(ErrorType.EMPTY_VALUE)).isZero();
+        assertThat(result.getErrorCountByType())
+            .containsExactly(Map.entry(ErrorType.MISSING_PROPERTY, 2L), Map.entry(ErrorType.UNRESOLVED_PLACEHOLDER, 1L));
+        assertThat(names(result.getErrorsByType(ErrorType.MISSING_PROPERTY))).containsExactly("app.url", "app.port");
+        assertThat(result.getErrorsByType(ErrorType.CIRCULAR_REFERENCE)).isEmpty();
+        assertThat(result.getErrorsGroupedByType()).containsOnlyKeys(ErrorType.MISSING_PROPERTY, ErrorType.UNRESOLVED_PLACEHOLDER);
+    }
+    
+    @Test
+    @DisplayName("Immuable : la liste source et les vues ne modifient pas le résultat")
+    void testImmutable() {
+        List<ConfigurationError> source = new ArrayList<>(List.of(error(ErrorType.MISSING_PROPERTY, "app.url")));
+        ValidationResult result = new ValidationResult(source);
+        source.add(error(ErrorType.MISSING_PROPERTY, "app.port"));
+        
+        assertThat(result.getErrorCount()).isEqualTo(1);
+        assertThatThrownBy(() -> result.getErrors().add(error(ErrorType.EMPTY_VALUE, "app.name")))
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> result.getErrorsByType(ErrorType.MISSING_PROPERTY).clear())
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+    
+    @Test
+    @DisplayName("Fusion de milliers de résultats : ordre, comptes et erreurs écartées conservés")
+    void testMergeManyResults() {
+        ValidationResult merged = new ValidationResult(new ArrayList<>());
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            ErrorType type = i % 2 == 0 ? ErrorType.MISSING_PROPERTY : ErrorType.EMPTY_VALUE;
+            merged = merged.merge(new ValidationResult(List.of(error(type, "app.property" + i)), i == 0 ? 5 : 0));
+            expected.add("app.property" + i);
+        }
+        
+        assertThat(merged.getErrorCount()).isEqualTo(20_000);
+        assertThat(merged.getErrorCount(ErrorType.EMPTY_VALUE)).isEqualTo(10_000);
+        assertThat(merged.getSuppressedErrorCount()).isEqualTo(5);
+        assertThat(names(merged.getErrors())).isEqualTo(expected);
+    }
+    
+    @Test
+    @DisplayName("Fusion avec un résultat vide : aucun nouveau nœud")
+    void testMergeWithEmpty() {
+        ValidationResult result = new ValidationResult(List.of(error(ErrorType.MISSING_PROPERTY, "app.url")));
+        ValidationResult empty = new ValidationResult(null);
+        
+        assertThat(result.merge(empty)).isSameAs(result);
+        assertThat(empty.merge(result)).isSameAs(result);
+        assertThat(empty.isValid()).isTrue();
+    }
+    
+    private static ConfigurationError error(ErrorType type, String propertyName) {
+        return ConfigurationError.builder()
+            .type(type)
+            .propertyName(propertyName)
+            .errorMessage("Property '" + propertyName + "' is invalid")
+            .build();
+    }
+    
+    private static List<String> names(List<ConfigurationError> errors) {
+        return errors.stream().map(ConfigurationError::getPropertyName).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,80 @@
+package com.mycompany.validator.core.detector;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CanonicalPropertyIndexTest {
+    
+    @Test
+    void testNormalizeAllVariants() {
+        String canonical = CanonicalPropertyIndex.normalize("app.database.url");
+        
+        assertEquals("app.database.url", canonical);
+        assertEquals(canonical, CanonicalPropertyIndex.normalize("APP_DATABASE_URL"));
+        assertEquals(canonical, CanonicalPropertyIndex.normalize("app_database_url"));
+        assertEquals(canonical, CanonicalPropertyIndex.normalize("appDatabaseUrl"));
+        assertEquals(canonical, CanonicalPropertyIndex.normalize("app-database-url"));
+        assertEquals(canonical, CanonicalPropertyIndex.normalize("app.database-url"));
+        
+        assertEquals(CanonicalPropertyIndex.normalize("my.list[0].name"),
+            CanonicalPropertyIndex.normalize("MY_LIST_0_NAME"));
+    }
+    
+    @Test
+    void testNormalizeKeepsSegmentBoundaries() {
+        assertNotEquals(CanonicalPropertyIndex.normalize("a.bc"), CanonicalPropertyIndex.normalize("ab.c"));
+        assertNotEquals(CanonicalPropertyIndex.normalize("app.databaseurl"),
+            CanonicalPropertyIndex.normalize("appdatabase.url"));
+        assertEquals("oauth2.client.id", CanonicalPropertyIndex.normalize("oauth2Client_ID"));
+        
+        CanonicalPropertyIndex index = CanonicalPropertyIndex.builder()
+            .add("test", "app.databaseurl", "jdbc:h2:mem")
+            .build();
+        assertTrue(index.contains("APP_DATABASEURL"));
+        assertFalse(index.contains("appdatabase.url"));
+        assertFalse(index.contains("app.database.url"));
+    }
+    
+    @Test
+    void testNonTextValueIsNull() {
+        CanonicalPropertyIndex index = CanonicalPropertyIndex.builder()
+            .add("test", "server.port", 8080)
+            .add("test", "app.name", "demo")
+            .build();
+        
+        assertTrue(index.contains("server.port"));
+        assertNull(index.getValue("server.port"));
+        assertEquals("demo", index.getValue("app.name"));
+    }
+    
+    @Test
+    void testFindReturnsWinningKeyAndSource() {
+        CanonicalPropertyIndex index = CanonicalPropertyIndex.builder()
+            .add("commandLineArgs", "APP_DATABASE_URL", "jdbc:h2:mem:cli")
+            .add("application.properties", "app.database.url", "jdbc:h2:mem:file")
+            .build();
+        
+        // La première source ajoutée l'emporte
+        CanonicalPropertyIndex.Entry entry = index.find("appDatabaseUrl");
+        assertNotNull(entry);
+        assertEquals("APP_DATABASE_URL", entry.getKey());
+        assertEquals("commandLineArgs", entry.getSourceName());
+        assertEquals("jdbc:h2:mem:cli", entry.getValue());
+        assertEquals(1, index.size());
+    }
+    
+    @Test
+    void testMissingProperty() {
+        CanonicalPropertyIndex index = CanonicalPropertyIndex.builder()
+            .addAll("test", Map.of("app.name", "demo"))
+            .build();
+        
+        assertTrue(index.contains("APP_NAME"));
+        assertFalse(index.contains("app.missing"));
+        assertNull(index.getValue("app.missing"));
+        assertNull(index.find(null));
+    }
+}
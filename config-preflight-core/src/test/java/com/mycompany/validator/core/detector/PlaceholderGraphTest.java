@@ -0,0 +1,149 @@
+package com.mycompany.validator.core.detector;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests du graphe de dépendances entre placeholders.
+ */
+@DisplayName("PlaceholderGraph")
+class PlaceholderGraphTest {
+    
+    @Test
+    @DisplayName("Cycle simple a -> b -> a")
+    void testSimpleCycle() {
+        PlaceholderGraph graph = PlaceholderGraph.builder()
+            .addProperty("a", "${b}")
+            .addProperty("b", "prefix-${a}")
+            .addProperty("c", "${a}")
+            .build();
+        
+        assertThat(graph.hasCycles()).isTrue();
+        assertThat(graph.getCycles()).hasSize(1);
+        assertThat(graph.getCycles().get(0).getChain()).containsExactly("a", "b", "a");
+        assertThat(graph.getCycles().get(0).describe()).isEqualTo("a -> b -> a");
+        
+        assertThat(graph.isInCycle("a")).isTrue();
+        assertThat(graph.isInCycle("b")).isTrue();
+        assertThat(graph.isInCycle("c")).isFalse();
+    }
+    
+    @Test
+    @DisplayName("Tous les cycles sont rapportés en une fois, auto-référence comprise")
+    void testMultipleCycles() {
+        PlaceholderGraph graph = PlaceholderGraph.builder()
+            .addProperty("self", "${self}")
+            .addProperty("x", "${y}")
+            .addProperty("y", "${z}")
+            .addProperty("z", "${x:default}")
+            .addProperty("ok", "${missing}")
+            .build();
+        
+        List<PlaceholderGraph.Cycle> cycles = graph.getCycles();
+        assertThat(cycles).hasSize(2);
+        assertThat(cycles.get(0).getChain()).containsExactly("self", "self");
+        assertThat(cycles.get(1).getChain()).containsExactly("x", "y", "z", "x");
+        assertThat(cycles.get(1).getProperties()).containsExactly("x", "y", "z");
+    }
+    
+    @Test
+    @DisplayName("Pas de cycle sur une longue chaîne (pas de récursion)")
+    void testLongChainWithoutCycle() {
+        PlaceholderGraph.Builder builder = PlaceholderGraph.builder();
+        for (int i = 0; i < 100_000; i++) {
+            builder.addProperty("p" + i, "${p" + (i + 1) + "}");
+        }
+        PlaceholderGraph graph = builder.build();
+        
+        assertThat(graph.hasCycles()).isFalse();
+        assertThat(graph.getReferenceCount()).isEqualTo(100_000);
+    }
+    
+    @Test
+    @DisplayName("Index inverse placeholder -> propriétés")
+    void testReverseIndex() {
+        PlaceholderGraph graph = PlaceholderGraph.builder()
+            .addProperty("db.url", "jdbc://${db.host}:${db.port}")
+            .addProperty("db.replica", "jdbc://${db.host}")
+            .addProperty("db.host", "localhost")
+            .addProperty("db.host", "${ignored}") // Première définition conservée
+            .build();
+        
+        assertThat(graph.getReferencingProperties("db.host")).containsExactly("db.url", "db.replica");
+        assertThat(graph.getReferencedPlaceholders("db.url")).containsExactly("db.host", "db.port");
+        assertThat(graph.getReferencedPlaceholders("db.host")).isEmpty();
+        assertThat(graph.isDefined("db.port")).isFalse();
+        assertThat(graph.getPropertyCount()).isEqualTo(3);
+    }
+    
+    @Test
+    @DisplayName("Dépendants transitifs et mise à jour incrémentale du graphe")
+    void testDependentsAndWithChanges() {
+        PlaceholderGraph graph = PlaceholderGraph.builder()
+            .addProperty("base.url", "http://localhost")
+            .addProperty("api.url", "${base.url}/api")
+            .addProperty("client.url", "${api.url}/v1")
+            .addProperty("other", "static")
+            .build();
+        
+        assertThat(graph.getDependents(List.of("base.url")))
+            .containsExactly("base.url", "api.url", "client.url");
+        
+        PlaceholderGraph changed = graph.withChanges(Map.of("base.url", "${client.url}"));
+        
+        assertThat(graph.hasCycles()).isFalse();
+        assertThat(changed.hasCycles()).isTrue();
+        assertThat(changed.isInCycle("api.url")).isTrue();
+        assertThat(changed.isInCycle("other")).isFalse();
+    }
+    
+    @Test
+    @DisplayName("Référence dans une valeur par défaut suivie seulement si la clé englobante est absente")
+    void testDefaultEdgeFollowedOnlyWhenOuterKeyIsUndefined() {
+        PlaceholderGraph resolved = PlaceholderGraph.builder()
+            .addProperty("a", "${x:${a}}")
+            .addProperty("x", "1")
+            .build();
+        
+        assertThat(resolved.hasCycles()).isFalse();
+        assertThat(resolved.dependsOnCycle("a")).isFalse();
+        assertThat(resolved.getReferencedPlaceholders("a")).containsExactly("a", "x");
+        
+        PlaceholderGraph unresolved = PlaceholderGraph.builder()
+            .addProperty("a", "${x:${a}}")
+            .build();
+        
+        assertThat(unresolved.getCycles()).hasSize(1);
+        assertThat(unresolved.getCycles().get(0).getChain()).containsExactly("a", "a");
+    }
+    
+    @Test
+    @DisplayName("Valeurs par défaut imbriquées : toutes les clés englobantes doivent être absentes")
+    void testNestedDefaultGuards() {
+        PlaceholderGraph graph = PlaceholderGraph.builder()
+            .addProperty("a", "${x:${y:${b}}}")
+            .addProperty("b", "${a}")
+            .addProperty("y", "2")
+            .build();
+        
+        assertThat(graph.hasCycles()).isFalse();
+        
+        PlaceholderGraph withoutY = graph.withChanges(Collections.singletonMap("y", null));
+        assertThat(withoutY.getCycles()).hasSize(1);
+        assertThat(withoutY.getCycles().get(0).getProperties()).containsExactly("a", "b");
+        
+        // Une référence directe l'emporte sur la même référence dans une valeur par défaut
+        PlaceholderGraph direct = PlaceholderGraph.builder()
+            .addProperty("a", "${b}-${x:${b}}")
+            .addProperty("b", "${a}")
+            .addProperty("x", "1")
+            .build();
+        assertThat(direct.hasCycles()).isTrue();
+    }
+}
@@ -0,0 +1,106 @@
+package com.mycompany.validator.core.detector;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests du scanner mono-passe de placeholders.
+ */
+@DisplayName("PlaceholderScanner")
+class PlaceholderScannerTest {
+    
+    private final PlaceholderScanner scanner = new PlaceholderScanner();
+    private final PlaceholderDetector detector = new PlaceholderDetector();
+    
+    @Test
+    @DisplayName("Valeur par défaut imbriquée : le placeholder interne est conditionnel")
+    void testNestedDefault() {
+        List<String> seen = new ArrayList<>();
+        int count = scanner.scan("${a:${b}}", p -> seen.add(p.name() + "|" + p.flags() + "|" + p.depth()));
+        
+        assertThat(count).isEqualTo(2);
+        assertThat(seen).containsExactly(
+            "b|" + PlaceholderScanner.IN_DEFAULT + "|1",
+            "a|" + PlaceholderScanner.HAS_DEFAULT + "|0");
+        
+        assertThat(detector.detectRequiredPlaceholders("${a:${b}}")).isEmpty();
+        assertThat(detector.extractDefaultValue("${a:${b}}")).isEqualTo("${b}");
+    }
+    
+    @Test
+    @DisplayName("Nom dynamique : seul le placeholder interne est obligatoire")
+    void testDynamicName() {
+        assertThat(detector.detectRequiredPlaceholders("${${env}.host}"))
+            .containsExactly("env");
+        assertThat(detector.detectPlaceholders("${${env}.host}"))
+            .containsExactly("env");
+    }
+    
+    @Test
+    @DisplayName("Placeholder suivant une valeur par défaut imbriquée")
+    void testPlaceholderAfterNestedDefault() {
+        assertThat(detector.detectRequiredPlaceholders("${a:${b:c}}-${d}"))
+            .containsExactly("d");
+    }
+    
+    @Test
+    @DisplayName("Accolades simples dans la valeur par défaut")
+    void testBracesInDefault() {
+        assertThat(detector.extractDefaultValue("${json:{\"k\":1}}")).isEqualTo("{\"k\":1}");
+        assertThat(detector.detectRequiredPlaceholders("${json:{\"k\":1}} ${other}"))
+            .containsExactly("other");
+    }
+    
+    @Test
+    @DisplayName("Échappement par backslash")
+    void testEscapes() {
+        assertThat(detector.detectRequiredPlaceholders("\\${literal} ${real}"))
+            .containsExactly("real");
+        assertThat(detector.detectRequiredPlaceholders("${key\\:part}"))
+            .containsExactly("key:part");
+    }
+    
+    @Test
+    @DisplayName("Nom échappé comparé sans backslash")
+    void testEscapedNameEquals() {
+        List<Boolean> matches = new ArrayList<>();
+        scanner.scan("${key\\:part}", placeholder -> {
+            matches.add(placeholder.nameEquals("key:part"));
+            matches.add(placeholder.nameEquals("key\\:part"));
+            matches.add(placeholder.nameEquals("key:par"));
+        });
+        
+        assertThat(matches).containsExactly(true, false, false);
+    }
+    
+    @Test
+    @DisplayName("Placeholders englobants d'une valeur par défaut")
+    void testEnclosingDefaults() {
+        List<List<String>> enclosing = new ArrayList<>();
+        scanner.scan("${x:${y:${b}}} ${c}", placeholder -> enclosing.add(placeholder.enclosingDefaults()));
+        
+        assertThat(enclosing).containsExactly(List.of("y", "x"), List.of("x"), List.of(), List.of());
+    }
+    
+    @Test
+    @DisplayName("Placeholder non fermé ignoré")
+    void testUnterminated() {
+        assertThat(scanner.scan("${open", null)).isZero();
+        assertThat(scanner.scan("${a} ${open", null)).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("Fonctionne sur un CharSequence quelconque")
+    void testCharSequence() {
+        StringBuilder value = new StringBuilder("url=${db.url} user=${db.user:sa}");
+        List<String> required = new ArrayList<>();
+        detector.forEachRequiredPlaceholder(value, required::add);
+        
+        assertThat(required).containsExactly("db.url");
+    }
+}
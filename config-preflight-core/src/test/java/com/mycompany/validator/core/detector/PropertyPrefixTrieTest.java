@@ -0,0 +1,74 @@
+package com.mycompany.validator.core.detector;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests du trie de préfixes utilisé pour l'attribution des sources.
+ */
+@DisplayName("PropertyPrefixTrie")
+class PropertyPrefixTrieTest {
+    
+    private final PropertyPrefixTrie trie = PropertyPrefixTrie.builder()
+        .addSource("commandLineArgs", List.of("server.port"))
+        .addSource("application-prod.yml", List.of("app.database.url", "app.servers[0].host"))
+        .addSource("application.yml", List.of("app.database.url", "app.database.username", "app.name"))
+        .build();
+    
+    @Test
+    @DisplayName("Sources d'un préfixe par ordre de précédence")
+    void testFindSources() {
+        assertThat(trie.findSources("app")).containsExactly("application-prod.yml", "application.yml");
+        assertThat(trie.findSources("app.database.username")).containsExactly("application.yml");
+        assertThat(trie.findSources("server")).containsExactly("commandLineArgs");
+        assertThat(trie.findSources("app.servers[0]")).containsExactly("application-prod.yml");
+        assertThat(trie.findSources("app.missing")).isEmpty();
+        assertThat(trie.findSources("")).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("Préfixe de segment partiel non confondu (app.data ≠ app.database)")
+    void testPartialSegment() {
+        assertThat(trie.containsPrefix("app.data")).isFalse();
+        assertThat(trie.containsPrefix("app.database")).isTrue();
+    }
+    
+    @Test
+    @DisplayName("Plus proche ancêtre défini d'une propriété absente")
+    void testFindClosestSources() {
+        assertThat(trie.findClosestSources("app.database.password"))
+            .containsExactly("application-prod.yml", "application.yml");
+        assertThat(trie.findClosestSources("app.cache.host"))
+            .containsExactly("application-prod.yml", "application.yml");
+        assertThat(trie.findClosestSources("app.servers[1]")).containsExactly("application-prod.yml");
+        assertThat(trie.findClosestSources("other.key")).isEmpty();
+        assertThat(trie.findClosestSources("app")).isEmpty();
+    }
+    
+    @Test
+    @DisplayName("Segments partagés entre sources, plus de 64 sources")
+    void testManySources() {
+        PropertyPrefixTrie.Builder builder = PropertyPrefixTrie.builder();
+        for (int i = 0; i < 130; i++) {
+            List<String> names = new ArrayList<>();
+            for (int j = 0; j < 100; j++) {
+                names.add("app.group" + (j % 10) + ".key" + j);
+            }
+            builder.addSource("source" + i, names);
+        }
+        PropertyPrefixTrie many = builder.build();
+        
+        assertThat(many.getSourceCount()).isEqualTo(130);
+        assertThat(many.getSegmentCount()).isEqualTo(1 + 10 + 100);
+        assertThat(many.getNodeCount()).isEqualTo(1 + 1 + 10 + 100);
+        List<String> sources = many.findSources("app.group3.key13");
+        assertThat(sources).hasSize(130);
+        assertThat(sources.get(0)).isEqualTo("source0");
+        assertThat(sources.get(129)).isEqualTo("source129");
+    }
+}
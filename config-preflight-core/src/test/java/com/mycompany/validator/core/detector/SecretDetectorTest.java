@@ -54,4 +54,34 @@ class SecretDetectorTest {
         assertTrue(sanitized.contains("***MASKED***"));
         assertFalse(sanitized.contains("secret123"));
     }
+    
+    @Test
+    void testIsSensitiveIgnoresCase() {
+        assertTrue(detector.isSensitive("DATABASE_PASSWORD"));
+        assertTrue(detector.isSensitive("App.ApiKey"));
+        assertTrue(detector.isSensitive("spring.datasource.PassWord"));
+        assertFalse(detector.isSensitive("SERVER_PORT"));
+        assertFalse(detector.isSensitive("café.menu"));
+    }
+    
+    @Test
+    void testAddSensitiveKeywords() {
+        assertFalse(detector.isSensitive("app.zorglub-id"));
+        
+        detector.addSensitiveKeywords("Zorglub");
+        
+        assertTrue(detector.isSensitive("app.zorglub-id"));
+        assertTrue(detector.isSensitive("APP_ZORGLUB_ID"));
+        assertTrue(detector.getSensitiveKeywords().contains("zorglub"));
+    }
+    
+    @Test
+    void testAddSensitiveKeywordsIsPerInstance() {
+        detector.addSensitiveKeywords("zorglub");
+        
+        SecretDetector other = new SecretDetector();
+        assertFalse(other.isSensitive("app.zorglub-id"));
+        assertFalse(other.getSensitiveKeywords().contains("zorglub"));
+        assertTrue(other.isSensitive("app.password"));
+    }
 }
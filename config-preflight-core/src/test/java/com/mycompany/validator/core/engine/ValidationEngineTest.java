@@ -0,0 +1,175 @@
+package com.mycompany.validator.core.engine;
+
+import com.mycompany.validator.core.api.ErrorSink;
+import com.mycompany.validator.core.api.ValidationResult;
+import com.mycompany.validator.core.model.ConfigurationError;
+import com.mycompany.validator.core.model.ErrorType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationEngineTest {
+    
+    private static final ValidationEngine.Check<String> EVERY_THIRD_IS_MISSING = (name, errors) -> {
+        if (name.hashCode() % 3 == 0) {
+            errors.add(ConfigurationError.builder()
+                .type(ErrorType.MISSING_PROPERTY)
+                .propertyName(name)
+                .errorMessage("Property '" + name + "' is required but not defined")
+                .build());
+        }
+    };
+    
+    @Test
+    void testParallelRunKeepsSequentialOrder() {
+        List<String> names = IntStream.range(0, 10_000)
+            .mapToObj(i -> "app.property" + i)
+            .collect(Collectors.toList());
+        
+        List<ConfigurationError> expected = ValidationEngine.sequential().run(names, EVERY_THIRD_IS_MISSING);
+        
+        ValidationEngine engine = ValidationEngine.builder().parallelism(4).threshold(16).build();
+        List<ConfigurationError> actual = engine.run(names, EVERY_THIRD_IS_MISSING);
+        
+        assertEquals(4, engine.getParallelism());
+        assertFalse(expected.isEmpty());
+        assertEquals(names(expected), names(actual));
+    }
+    
+    @Test
+    void testSmallInputRunsOnCallingThread() {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        
+        ValidationEngine engine = ValidationEngine.builder().parallelism(4).threshold(100).build();
+        engine.run(List.of("a", "b", "c"), (name, errors) -> threads.add(Thread.currentThread()));
+        
+        assertEquals(Set.of(Thread.currentThread()), threads);
+    }
+    
+    @Test
+    void testFromProperties() {
+        Map<String, String> properties = Map.of(
+            ValidationEngine.PARALLELISM_PROPERTY, "1",
+            ValidationEngine.THRESHOLD_PROPERTY, "not-a-number");
+        
+        ValidationEngine engine = ValidationEngine.fromProperties(properties::get);
+        assertEquals(1, engine.getParallelism());
+        assertEquals(ValidationEngine.DEFAULT_THRESHOLD, engine.getThreshold());
+        
+        ValidationEngine defaults = ValidationEngine.fromProperties(name -> null);
+        assertTrue(defaults.run(new ArrayList<String>(), EVERY_THIRD_IS_MISSING).isEmpty());
+    }
+    
+    @Test
+    void testDedicatedPoolIsReusedAcrossValidations() {
+        int parallelism = ForkJoinPool.getCommonPoolParallelism() + 1;
+        Map<String, String> properties = Map.of(ValidationEngine.PARALLELISM_PROPERTY, String.valueOf(parallelism));
+        
+        ValidationEngine engine = ValidationEngine.fromProperties(properties::get);
+        ForkJoinPool first = engine.getPool();
+        assertEquals(parallelism, engine.getParallelism());
+        
+        assertSame(first, ValidationEngine.fromProperties(properties::get).getPool());
+        assertFalse(first.isShutdown());
+    }
+    
+    @Test
+    void testParallelSinkRunKeepsSequentialOrder() {
+        List<String> names = IntStream.range(0, 10_000)
+            .mapToObj(i -> "app.property" + i)
+            .collect(Collectors.toList());
+        
+        List<ConfigurationError> expected = ValidationEngine.sequential().run(names, EVERY_THIRD_IS_MISSING);
+        
+        ValidationEngine engine = ValidationEngine.builder().parallelism(4).threshold(16).build();
+        ErrorSink sink = ErrorSink.collectAll();
+        engine.run(names, sink, (name, entrySink) -> {
+            if (name.hashCode() % 3 == 0) {
+                entrySink.accept(() -> missing(name));
+            }
+        });
+        
+        assertEquals(names(expected), names(sink.toResult().getErrors()));
+    }
+    
+    @Test
+    void testFailFastStopsScanning() {
+        List<String> names = IntStream.range(0, 1_000)
+            .mapToObj(i -> "app.property" + i)
+            .collect(Collectors.toList());
+        AtomicInteger checked = new AtomicInteger();
+        
+        ValidationEngine engine = ValidationEngine.builder().parallelism(4).threshold(16).build();
+        ErrorSink sink = ErrorSink.failFast();
+        engine.run(names, sink, (name, entrySink) -> {
+            checked.incrementAndGet();
+            entrySink.accept(() -> missing(name));
+        });
+        
+        ValidationResult result = sink.toResult();
+        assertTrue(sink.isStopped());
+        assertEquals(List.of("app.property0"), names(result.getErrors()));
+        assertEquals(1, checked.get());
+    }
+    
+    @Test
+    void testCapCountsRemainingErrorsWithoutBuildingThem() {
+        List<String> names = IntStream.range(0, 1_000)
+            .mapToObj(i -> "app.property" + i)
+            .collect(Collectors.toList());
+        AtomicInteger built = new AtomicInteger();
+        
+        ErrorSink sink = ErrorSink.capped(10);
+        ValidationEngine.sequential().run(names, sink, (name, entrySink) -> entrySink.accept(() -> {
+            built.incrementAndGet();
+            return missing(name);
+        }));
+        
+        ValidationResult result = sink.toResult();
+        assertEquals(10, result.getErrorCount());
+        assertEquals(990, result.getSuppressedErrorCount());
+        assertEquals(10, built.get());
+        assertFalse(sink.isStopped());
+    }
+    
+    @Test
+    void testErrorSinkFromProperties() {
+        ErrorSink capped = ErrorSink.fromProperties(Map.of(
+            ErrorSink.MODE_PROPERTY, "cap",
+            ErrorSink.MAX_ERRORS_PROPERTY, "2")::get);
+        for (int i = 0; i < 5; i++) {
+            capped.accept(missing("app.property" + i));
+        }
+        assertEquals(2, capped.toResult().getErrorCount());
+        assertEquals(3, capped.toResult().getSuppressedErrorCount());
+        
+        ErrorSink failFast = ErrorSink.fromProperties(Map.of(ErrorSink.MODE_PROPERTY, "FAIL-FAST")::get);
+        assertFalse(failFast.accept(missing("app.url")));
+        
+        ErrorSink fallback = ErrorSink.fromProperties(Map.of(ErrorSink.MODE_PROPERTY, "unknown")::get);
+        assertTrue(fallback.isCollectingAll());
+        assertTrue(ErrorSink.fromProperties(name -> null).isCollectingAll());
+    }
+    
+    private static ConfigurationError missing(String name) {
+        return ConfigurationError.builder()
+            .type(ErrorType.MISSING_PROPERTY)
+            .propertyName(name)
+            .errorMessage("Property '" + name + "' is required but not defined")
+            .build();
+    }
+    
+    private static List<String> names(List<ConfigurationError> errors) {
+        return errors.stream().map(ConfigurationError::getPropertyName).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,68 @@
+package com.mycompany.validator.core.engine;
+
+import com.mycompany.validator.core.api.ValidationResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationRunTest {
+    
+    private static final ValidationRun.Key<String> SUMMARY = ValidationRun.Key.named("summary");
+    
+    @Test
+    void testResultIsComputedOncePerRun() {
+        ValidationRun run = new ValidationRun();
+        AtomicInteger computations = new AtomicInteger();
+        
+        String first = run.computeIfAbsent(SUMMARY, () -> "summary-" + computations.incrementAndGet());
+        String second = run.computeIfAbsent(SUMMARY, () -> "summary-" + computations.incrementAndGet());
+        
+        assertEquals("summary-1", first);
+        assertSame(first, second);
+        assertEquals(1, computations.get());
+    }
+    
+    @Test
+    void testComputationMayReadOtherResultsOfTheRun() {
+        ValidationRun run = new ValidationRun();
+        ValidationRun.Key<String> derived = ValidationRun.Key.named("derived");
+        
+        String value = run.computeIfAbsent(derived, () -> run.computeIfAbsent(SUMMARY, () -> "base") + "+derived");
+        
+        assertEquals("base+derived", value);
+        assertEquals("base", run.get(SUMMARY));
+    }
+    
+    @Test
+    void testPutKeepsFirstResult() {
+        ValidationRun run = new ValidationRun();
+        ValidationResult early = new ValidationResult(Collections.emptyList());
+        
+        assertNull(run.get(ValidationRun.PLACEHOLDER_SCAN));
+        run.put(ValidationRun.PLACEHOLDER_SCAN, early);
+        run.put(ValidationRun.PLACEHOLDER_SCAN, new ValidationResult(Collections.emptyList()));
+        
+        assertTrue(run.contains(ValidationRun.PLACEHOLDER_SCAN));
+        assertSame(early, run.get(ValidationRun.PLACEHOLDER_SCAN));
+    }
+    
+    @Test
+    void testRunsDoNotShareResults() {
+        ValidationRun previous = new ValidationRun();
+        previous.put(SUMMARY, "stale");
+        
+        assertNull(new ValidationRun().get(SUMMARY));
+    }
+    
+    @Test
+    void testKeysAreComparedByIdentity() {
+        ValidationRun run = new ValidationRun();
+        run.put(SUMMARY, "value");
+        
+        assertNull(run.get(ValidationRun.Key.<String>named("summary")));
+        assertEquals("summary", SUMMARY.toString());
+    }
+}
@@ -6,7 +6,16 @@ import com.mycompany.validator.core.model.ErrorType;
 import com.mycompany.validator.core.model.PropertySource;
 import org.junit.jupiter.api.Test;
 
+import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class BeautifulErrorFormatterTest {
     
@@ -46,4 +55,99 @@ public class BeautifulErrorFormatterTest {
         String formatted = formatter.format(result);
         System.out.println(formatted);
     }
+    
+    @Test
+    public void testFormatShowsSuppressedErrors() {
+        BeautifulErrorFormatter formatter = new BeautifulErrorFormatter();
+        ConfigurationError error = ConfigurationError.builder()
+                .type(ErrorType.UNRESOLVED_PLACEHOLDER)
+                .propertyName("app.database.url")
+                .errorMessage("Unresolved placeholder '${DB_URL}'")
+                .build();
+        
+        // Mode cap : une erreur conservée, 42 écartées
+        ValidationResult result = new ValidationResult(Arrays.asList(error), 42);
+        
+        assertTrue(formatter.format(result).contains("and 42 more error(s) not shown"));
+        assertTrue(formatter.formatCompact(result).contains("and 42 more error(s) not shown"));
+    }
+    
+    @Test
+    public void testBoxLinesAlignedWithEmoji() {
+        BeautifulErrorFormatter formatter = new BeautifulErrorFormatter();
+        ConfigurationError sensitive = ConfigurationError.builder()
+                .type(ErrorType.MISSING_PROPERTY)
+                .propertyName("app.datasource.password")
+                .errorMessage("Value is required ⚠️ (日本語の説明)")
+                .suggestion("Define property: app.datasource.password=<value>")
+                .isSensitive(true)
+                .build();
+        ConfigurationError longLine = ConfigurationError.builder()
+                .type(ErrorType.INVALID_VALUE_FORMAT)
+                .propertyName("app.emoji")
+                .errorMessage("✅❌✅❌✅❌✅❌✅❌✅❌✅❌✅❌✅❌✅❌✅❌✅❌✅❌✅❌✅❌✅❌✅❌✅❌✅❌✅❌")
+                .build();
+        
+        String formatted = formatter.format(new ValidationResult(Arrays.asList(sensitive, longLine)));
+        
+        for (String line : formatted.split("\n")) {
+            if (!line.isEmpty()) {
+                assertEquals(80, DisplayWidth.of(line), "Misaligned line: " + line);
+            }
+        }
+        assertTrue(formatted.contains("✅... ║"));
+        assertEquals(2, DisplayWidth.of("❌"));
+        assertEquals(2, DisplayWidth.of("⚠️"));
+        assertEquals(2, DisplayWidth.of("👉"));
+        assertEquals(1, DisplayWidth.of("é"));
+    }
+    
+    @Test
+    public void testMaxRenderedErrorsSummary() {
+        List<ConfigurationError> errors = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            errors.add(ConfigurationError.builder()
+                    .type(i < 3 ? ErrorType.MISSING_PROPERTY : ErrorType.EMPTY_VALUE)
+                    .propertyName("app.property" + i)
+                    .errorMessage("Value is required")
+                    .build());
+        }
+        ValidationResult result = new ValidationResult(errors, 10);
+        BeautifulErrorFormatter formatter = new BeautifulErrorFormatter()
+                .withProperties(Map.of(BeautifulErrorFormatter.MAX_RENDERED_ERRORS_PROPERTY, "2")::get);
+        
+        String formatted = formatter.format(result);
+        
+        assertTrue(formatted.contains("app.property1"));
+        assertFalse(formatted.contains("app.property2"));
+        assertTrue(formatted.contains("and 13 more error(s) not shown"));
+        assertTrue(formatted.contains("Total: 15 error(s)"));
+        assertTrue(formatted.contains("Missing Property: 3"));
+        assertTrue(formatted.contains("Empty Value: 2"));
+        assertTrue(formatter.formatCompact(result).contains("and 13 more error(s) not shown"));
+    }
+    
+    @Test
+    public void testWithPropertiesKeepsFormatterWhenUnset() {
+        BeautifulErrorFormatter formatter = new BeautifulErrorFormatter();
+        
+        assertSame(formatter, formatter.withProperties(name -> null));
+        assertSame(formatter, formatter.withProperties(name -> "not-a-number"));
+    }
+    
+    @Test
+    public void testFormatToAppendable() throws Exception {
+        BeautifulErrorFormatter formatter = new BeautifulErrorFormatter();
+        ValidationResult result = new ValidationResult(Arrays.asList(ConfigurationError.builder()
+                .type(ErrorType.UNRESOLVED_PLACEHOLDER)
+                .propertyName("app.database.url")
+                .errorMessage("Unresolved placeholder '${DB_URL}'")
+                .suggestion("Export env var: export DB_URL=<value>")
+                .build()));
+        StringWriter writer = new StringWriter();
+        
+        formatter.format(result, writer);
+        
+        assertEquals(formatter.format(result), writer.toString());
+    }
 }
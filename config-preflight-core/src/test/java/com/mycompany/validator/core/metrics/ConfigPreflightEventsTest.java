@@ -0,0 +1,91 @@
+package com.mycompany.validator.core.metrics;
+
+import com.mycompany.validator.core.api.ValidationResult;
+import com.mycompany.validator.core.model.ConfigurationError;
+import com.mycompany.validator.core.model.ErrorType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests des événements JFR émis par les validations.
+ */
+@DisplayName("ConfigPreflight JFR events")
+class ConfigPreflightEventsTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    @AfterEach
+    void removeListener() {
+        ValidationMetrics.clearListeners();
+    }
+    
+    @Test
+    @DisplayName("Validation et vérifications enregistrées avec leurs compteurs")
+    void testEventsRecorded() throws Exception {
+        ValidationMetrics.register(record -> { });
+        Path dump = tempDir.resolve("preflight.jfr");
+        
+        try (Recording recording = new Recording()) {
+            recording.enable(ConfigPreflightValidationEvent.class);
+            recording.enable(ConfigPreflightCheckEvent.class);
+            recording.start();
+            
+            ConfigPreflightValidationEvent.start(ValidationMetrics.FRAMEWORK_SPRING_BOOT, ConfigPreflightValidationEvent.VALIDATE_REQUIRED)
+                .finish(3, new ValidationResult(Collections.singletonList(ConfigurationError.builder()
+                    .type(ErrorType.MISSING_PROPERTY)
+                    .propertyName("app.url")
+                    .errorMessage("Property 'app.url' is required but not defined")
+                    .build())));
+            
+            PhaseTimer scan = ValidationMetrics.start(ValidationMetrics.FRAMEWORK_SPRING_BOOT, ValidationPhase.EARLY_PLACEHOLDER_SCAN);
+            scan.keysScanned(10);
+            scan.placeholderEvaluated();
+            scan.stop();
+            
+            ValidationMetrics.start(ValidationMetrics.FRAMEWORK_MICRONAUT, ValidationPhase.BEAN_PROPERTIES)
+                .bean(String.class)
+                .keysScanned(4)
+                .stop();
+            
+            recording.stop();
+            recording.dump(dump);
+        }
+        
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        List<RecordedEvent> validations = ofType(events, "com.mycompany.validator.Validation");
+        List<RecordedEvent> checks = ofType(events, "com.mycompany.validator.Check");
+        
+        assertThat(validations).hasSize(1);
+        assertThat(validations.get(0).getString("operation")).isEqualTo("validateRequired");
+        assertThat(validations.get(0).getLong("keyCount")).isEqualTo(3);
+        assertThat(validations.get(0).getInt("errorCount")).isEqualTo(1);
+        
+        assertThat(checks).hasSize(2);
+        assertThat(checks.get(0).getString("phase")).isEqualTo("early-placeholder-scan");
+        assertThat(checks.get(0).getLong("keysScanned")).isEqualTo(10);
+        assertThat(checks.get(0).getLong("placeholdersEvaluated")).isEqualTo(1);
+        assertThat(checks.get(0).getString("target")).isNull();
+        assertThat(checks.get(1).getString("framework")).isEqualTo("micronaut");
+        assertThat(checks.get(1).getString("target")).isEqualTo("java.lang.String");
+    }
+    
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream()
+            .filter(event -> event.getEventType().getName().equals(name))
+            .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,123 @@
+package com.mycompany.validator.core.metrics;
+
+import com.mycompany.validator.core.model.ConfigurationError;
+import com.mycompany.validator.core.model.ErrorType;
+import com.mycompany.validator.core.model.PropertySource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de la collecte des mesures de validation et de leur publication dans Micrometer.
+ */
+@DisplayName("ValidationMetrics")
+class ValidationMetricsTest {
+    
+    @BeforeEach
+    void clearBuffer() {
+        ValidationMetrics.register(record -> { });
+        ValidationMetrics.clearListeners();
+    }
+    
+    @AfterEach
+    void removeListener() {
+        ValidationMetrics.clearListeners();
+    }
+    
+    @Test
+    @DisplayName("Mesures conservées avant le listener, publiées à l'enregistrement")
+    void testBufferedUntilListener() {
+        PhaseTimer scan = ValidationMetrics.start(ValidationMetrics.FRAMEWORK_SPRING_BOOT, ValidationPhase.EARLY_PLACEHOLDER_SCAN);
+        scan.keysScanned(120);
+        scan.placeholderEvaluated();
+        scan.placeholderEvaluated();
+        scan.stop();
+        
+        // Un second arrêt est ignoré
+        assertThat(scan.stop()).isNull();
+        assertThat(ValidationMetrics.getBuffered()).hasSize(1);
+        
+        List<PhaseRecord> received = new ArrayList<>();
+        ValidationMetrics.register(received::add);
+        
+        assertThat(ValidationMetrics.getBuffered()).isEmpty();
+        assertThat(received).hasSize(1);
+        assertThat(received.get(0).getPhase()).isEqualTo(ValidationPhase.EARLY_PLACEHOLDER_SCAN);
+        assertThat(received.get(0).getKeysScanned()).isEqualTo(120);
+        assertThat(received.get(0).getPlaceholdersEvaluated()).isEqualTo(2);
+        
+        // Listener présent : publication immédiate
+        ValidationMetrics.start(ValidationMetrics.FRAMEWORK_SPRING_BOOT, ValidationPhase.FAILURE_FORMATTING).stop();
+        assertThat(received).hasSize(2);
+    }
+    
+    @Test
+    @DisplayName("Tampon borné sans listener")
+    void testBufferIsBounded() {
+        for (int i = 0; i < ValidationMetrics.MAX_BUFFERED + 10; i++) {
+            ValidationMetrics.start(ValidationMetrics.FRAMEWORK_QUARKUS, ValidationPhase.REQUIRED_PROPERTIES).stop();
+        }
+        
+        assertThat(ValidationMetrics.getBuffered()).hasSize(ValidationMetrics.MAX_BUFFERED);
+    }
+    
+    @Test
+    @DisplayName("Timer, compteurs et erreurs par type de source et type d'erreur dans Micrometer")
+    void testMicrometerMeters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerValidationMetrics.bindTo(registry);
+        
+        PropertySource yaml = new PropertySource("application.yml", "classpath:application.yml", PropertySource.SourceType.APPLICATION_YAML);
+        List<ConfigurationError> errors = Arrays.asList(
+            error(ErrorType.MISSING_PROPERTY, yaml),
+            error(ErrorType.MISSING_PROPERTY, yaml),
+            error(ErrorType.UNRESOLVED_PLACEHOLDER, null));
+        
+        ValidationMetrics.start(ValidationMetrics.FRAMEWORK_MICRONAUT, ValidationPhase.REQUIRED_PROPERTIES)
+            .keysScanned(40)
+            .errors(errors)
+            .stop();
+        
+        assertThat(registry.get(MicrometerValidationMetrics.PHASE_TIMER)
+            .tag("framework", "micronaut").tag("phase", "required-properties").timer().count()).isEqualTo(1);
+        assertThat(registry.get(MicrometerValidationMetrics.KEYS_SCANNED).counter().count()).isEqualTo(40.0);
+        assertThat(registry.get(MicrometerValidationMetrics.ERRORS)
+            .tag("source.type", "APPLICATION_YAML").tag("error.type", "MISSING_PROPERTY").counter().count()).isEqualTo(2.0);
+        assertThat(registry.get(MicrometerValidationMetrics.ERRORS)
+            .tag("source.type", "UNKNOWN").tag("error.type", "UNRESOLVED_PLACEHOLDER").counter().count()).isEqualTo(1.0);
+    }
+    
+    @Test
+    @DisplayName("Un registre dont l'enregistrement est fermé ne reçoit plus de mesures")
+    void testClosedRegistrationStopsPublishing() {
+        SimpleMeterRegistry closedContext = new SimpleMeterRegistry();
+        SimpleMeterRegistry liveContext = new SimpleMeterRegistry();
+        ValidationMetrics.Registration closed = MicrometerValidationMetrics.bindTo(closedContext);
+        MicrometerValidationMetrics.bindTo(liveContext);
+        
+        ValidationMetrics.start(ValidationMetrics.FRAMEWORK_SPRING_BOOT, ValidationPhase.REQUIRED_PROPERTIES).stop();
+        closed.close();
+        closed.close();
+        ValidationMetrics.start(ValidationMetrics.FRAMEWORK_SPRING_BOOT, ValidationPhase.REQUIRED_PROPERTIES).stop();
+        
+        assertThat(closedContext.get(MicrometerValidationMetrics.PHASE_TIMER).timer().count()).isEqualTo(1);
+        assertThat(liveContext.get(MicrometerValidationMetrics.PHASE_TIMER).timer().count()).isEqualTo(2);
+    }
+    
+    private static ConfigurationError error(ErrorType type, PropertySource source) {
+        return ConfigurationError.builder()
+            .type(type)
+            .propertyName("app.url")
+            .source(source)
+            .errorMessage("Property 'app.url' is not set")
+            .build();
+    }
+}
@@ -0,0 +1,135 @@
+package com.mycompany.validator.core.report;
+
+import com.mycompany.validator.core.api.ValidationResult;
+import com.mycompany.validator.core.model.ConfigurationError;
+import com.mycompany.validator.core.model.ErrorType;
+import com.mycompany.validator.core.model.PropertySource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests des rapports JSON Lines, SARIF et JUnit XML.
+ */
+@DisplayName("Report writers")
+class ReportWritersTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    private final ValidationResult result = new ValidationResult(Arrays.asList(
+        ConfigurationError.builder()
+            .type(ErrorType.UNRESOLVED_PLACEHOLDER)
+            .propertyName("app.url")
+            .errorMessage("Unresolved placeholder '${HOST}' in \"url\" <a&b>")
+            .suggestion("Export env var: export HOST=<value>")
+            .source(new PropertySource("application.yml", "classpath:/application.yml",
+                PropertySource.SourceType.APPLICATION_YAML, 12, 5))
+            .build(),
+        ConfigurationError.builder()
+            .type(ErrorType.INVALID_VALUE_FORMAT)
+            .propertyName("app.datasource.password")
+            .errorMessage("Invalid value 's3cr3t-token'")
+            .isSensitive(true)
+            .source(new PropertySource("Environment Variable", null, PropertySource.SourceType.ENVIRONMENT_VARIABLE))
+            .build()), 3);
+    
+    @Test
+    @DisplayName("JSON Lines : une ligne par erreur, synthèse, valeur sensible masquée")
+    void testJsonLines() throws Exception {
+        StringWriter out = new StringWriter();
+        new JsonLinesReportWriter().write(result, out);
+        
+        String[] lines = out.toString().split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0])
+            .startsWith("{\"record\":\"error\",\"type\":\"UNRESOLVED_PLACEHOLDER\",\"property\":\"app.url\"")
+            .contains("in \\\"url\\\" <a&b>")
+            .contains("\"source\":{\"name\":\"application.yml\",\"location\":\"classpath:/application.yml\",\"line\":12,\"column\":5}");
+        assertThat(lines[1]).contains("\"sensitive\":true").doesNotContain("s3cr3t-token");
+        assertThat(lines[2]).isEqualTo("{\"record\":\"summary\",\"valid\":false,\"errorCount\":2,\"suppressedErrorCount\":3,"
+            + "\"errorsByType\":{\"UNRESOLVED_PLACEHOLDER\":1,\"INVALID_VALUE_FORMAT\":1}}");
+    }
+    
+    @Test
+    @DisplayName("SARIF : règles, position dans le fichier et propriété en logicalLocation")
+    void testSarif() throws Exception {
+        StringWriter out = new StringWriter();
+        new SarifReportWriter().write(result, out);
+        String sarif = out.toString();
+        
+        assertThat(sarif)
+            .startsWith("{\"$schema\":\"" + SarifReportWriter.SCHEMA + "\",\"version\":\"2.1.0\"")
+            .contains("{\"id\":\"MISSING_PROPERTY\",\"shortDescription\":{\"text\":\"Missing Property\"}")
+            .contains("\"ruleId\":\"UNRESOLVED_PLACEHOLDER\",\"ruleIndex\":2")
+            .contains("\"artifactLocation\":{\"uri\":\"application.yml\"},\"region\":{\"startLine\":12,\"startColumn\":5}")
+            .contains("\"fullyQualifiedName\":\"app.datasource.password\"")
+            .contains("\"suppressedErrorCount\":3")
+            .doesNotContain("s3cr3t-token");
+        // La variable d'environnement n'a pas de fichier : pas de physicalLocation pour la 2e erreur
+        assertThat(sarif.split("physicalLocation", -1)).hasSize(2);
+    }
+    
+    @Test
+    @DisplayName("JUnit XML : un cas en échec par erreur, XML valide et échappé")
+    void testJUnitXml() throws Exception {
+        StringWriter out = new StringWriter();
+        new JUnitXmlReportWriter().write(result, out);
+        
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+            .parse(new ByteArrayInputStream(out.toString().getBytes(StandardCharsets.UTF_8)));
+        Element suite = document.getDocumentElement();
+        NodeList failures = suite.getElementsByTagName("failure");
+        
+        assertThat(suite.getAttribute("tests")).isEqualTo("2");
+        assertThat(suite.getAttribute("failures")).isEqualTo("2");
+        assertThat(failures.getLength()).isEqualTo(2);
+        assertThat(((Element) failures.item(0)).getAttribute("message")).isEqualTo("Unresolved placeholder '${HOST}' in \"url\" <a&b>");
+        assertThat(failures.item(0).getTextContent()).contains("Source: application.yml:12:5");
+        assertThat(((Element) failures.item(1)).getAttribute("message")).doesNotContain("s3cr3t-token");
+        assertThat(suite.getElementsByTagName("system-out").item(0).getTextContent()).startsWith("3 more error(s)");
+    }
+    
+    @Test
+    @DisplayName("JUnit XML : un cas réussi si la configuration est valide")
+    void testJUnitXmlValid() throws Exception {
+        StringWriter out = new StringWriter();
+        new JUnitXmlReportWriter().write(new ValidationResult(Collections.emptyList()), out);
+        
+        assertThat(out.toString())
+            .contains("tests=\"1\" failures=\"0\"")
+            .contains("<testcase classname=\"config-preflight\" name=\"configuration\"");
+    }
+    
+    @Test
+    @DisplayName("Publisher : format et chemin lus dans les propriétés")
+    void testPublisherFromProperties() throws Exception {
+        Path report = tempDir.resolve("reports/preflight.sarif");
+        ReportPublisher publisher = ReportPublisher.fromProperties(Map.of(
+            ReportPublisher.FORMAT_PROPERTY, "SARIF",
+            ReportPublisher.PATH_PROPERTY, report.toString())::get);
+        
+        publisher.publish(result);
+        
+        assertThat(publisher.getFormat()).isEqualTo(ReportFormat.SARIF);
+        assertThat(Files.readString(report)).contains("\"version\":\"2.1.0\"");
+        assertThat(ReportPublisher.fromProperties(name -> null).isEnabled()).isFalse();
+        assertThat(ReportPublisher.fromProperties(Map.of(ReportPublisher.FORMAT_PROPERTY, "jsonl")::get).getPath())
+            .isEqualTo(Path.of("config-preflight-report.jsonl"));
+    }
+}
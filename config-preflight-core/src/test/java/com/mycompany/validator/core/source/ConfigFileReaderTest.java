@@ -0,0 +1,242 @@
+package com.mycompany.validator.core.source;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests du lecteur en flux de fichiers .properties et YAML.
+ */
+@DisplayName("Config file reader")
+class ConfigFileReaderTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    @DisplayName("Properties : même résultat que java.util.Properties")
+    void testPropertiesLikeJavaUtilProperties() throws Exception {
+        String content = "# comment\n"
+            + "  ! other comment\n"
+            + "app.url = jdbc:${DB_HOST}/db\n"
+            + "app.name:demo\r\n"
+            + "app.list a,\\\n"
+            + "    b,\\\n"
+            + "    c\n"
+            + "app.escaped\\ key=tab\\there \\u00e9t\\u00E9\n"
+            + "app.empty=\n"
+            + "app.empty2\n"
+            + "app.trailing=value   \n"
+            + "   ";
+        
+        Properties expected = new Properties();
+        expected.load(new StringReader(content));
+        Recorder recorder = new Recorder();
+        ConfigFileReader.readProperties(content, recorder);
+        
+        assertThat(recorder.properties).containsExactlyInAnyOrderEntriesOf(toMap(expected));
+        assertThat(recorder.properties).containsEntry("app.list", "a,b,c").containsEntry("app.escaped key", "tab\there été");
+        assertThat(recorder.positions.get("app.name")).isEqualTo("4:1");
+        assertThat(recorder.positions.get("app.escaped key")).isEqualTo("8:1");
+    }
+    
+    @Test
+    @DisplayName("Properties : documents #--- et profil d'activation")
+    void testPropertiesDocuments() throws Exception {
+        Recorder recorder = new Recorder();
+        ConfigFileReader.readProperties("a=1\n#---\nspring.config.activate.on-profile=prod\nb=2\n!---\nc=3\n#--- not a separator\n", recorder);
+        
+        assertThat(recorder.events).containsExactly("doc 0", "a=1", "doc 1", "profile prod", "b=2", "doc 2", "c=3");
+    }
+    
+    @Test
+    @DisplayName("YAML : mappings, séquences, scalaires quotés et commentaires aplatis comme Spring Boot")
+    void testYamlStructures() throws Exception {
+        String yaml = "# header\n"
+            + "app:\n"
+            + "  name: demo   # comment\n"
+            + "  url: \"jdbc:${DB_HOST:localhost}/db # not a comment\"\n"
+            + "  quote: 'it''s'\n"
+            + "  hosts:\n"
+            + "  - a\n"
+            + "  - b\n"
+            + "  servers:\n"
+            + "    - name: one\n"
+            + "      port: 8080\n"
+            + "    - name: two\n"
+            + "    -\n"
+            + "      name: three\n"
+            + "  flow: [x, 'y', {k: v}]\n"
+            + "  map: {a: 1, b: \"2\"}\n"
+            + "  empty-list: []\n"
+            + "  empty-map: {}\n"
+            + "  nothing:\n"
+            + "  tilde: ~\n"
+            + "  \"[key.with.dots]\": value\n"
+            + "  escapes: \"tab\\tline\\nunicode\\u00e9\"\n"
+            + "server.port: 8080\n";
+        
+        Recorder recorder = new Recorder();
+        ConfigFileReader.readYaml(yaml, recorder);
+        
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("app.name", "demo");
+        expected.put("app.url", "jdbc:${DB_HOST:localhost}/db # not a comment");
+        expected.put("app.quote", "it's");
+        expected.put("app.hosts[0]", "a");
+        expected.put("app.hosts[1]", "b");
+        expected.put("app.servers[0].name", "one");
+        expected.put("app.servers[0].port", "8080");
+        expected.put("app.servers[1].name", "two");
+        expected.put("app.servers[2].name", "three");
+        expected.put("app.flow[0]", "x");
+        expected.put("app.flow[1]", "y");
+        expected.put("app.flow[2].k", "v");
+        expected.put("app.map.a", "1");
+        expected.put("app.map.b", "2");
+        expected.put("app.empty-list", "");
+        expected.put("app.nothing", "");
+        expected.put("app.tilde", "");
+        expected.put("app[key.with.dots]", "value");
+        expected.put("app.escapes", "tab\tline\nunicodeé");
+        expected.put("server.port", "8080");
+        assertThat(recorder.properties).containsExactlyEntriesOf(expected);
+        assertThat(recorder.positions.get("app.url")).isEqualTo("4:3");
+        assertThat(recorder.positions.get("app.servers[0].port")).isEqualTo("11:7");
+        assertThat(recorder.positions.get("app.hosts[1]")).isEqualTo("8:5");
+    }
+    
+    @Test
+    @DisplayName("YAML : blocs littéraux et repliés")
+    void testYamlBlockScalars() throws Exception {
+        String yaml = "literal: |\n"
+            + "  line 1\n"
+            + "    indented\n"
+            + "\n"
+            + "  line 3\n"
+            + "folded: >-\n"
+            + "  a\n"
+            + "  b\n"
+            + "\n"
+            + "  c\n"
+            + "keep: |+\n"
+            + "  x\n"
+            + "\n"
+            + "after: done\n";
+        
+        Recorder recorder = new Recorder();
+        ConfigFileReader.readYaml(yaml, recorder);
+        
+        assertThat(recorder.properties)
+            .containsEntry("literal", "line 1\n  indented\n\nline 3\n")
+            .containsEntry("folded", "a b\nc")
+            .containsEntry("keep", "x\n\n")
+            .containsEntry("after", "done");
+        assertThat(recorder.positions.get("folded")).isEqualTo("6:1");
+        assertThat(recorder.positions.get("after")).isEqualTo("14:1");
+    }
+    
+    @Test
+    @DisplayName("YAML : documents multiples et profil d'activation")
+    void testYamlDocuments() throws Exception {
+        String yaml = "---\n"
+            + "a: 1\n"
+            + "---\n"
+            + "spring:\n"
+            + "  config:\n"
+            + "    activate:\n"
+            + "      on-profile: prod\n"
+            + "b: 2\n"
+            + "...\n"
+            + "c: 3\n";
+        
+        Recorder recorder = new Recorder();
+        ConfigFileReader.readYaml(yaml, recorder);
+        
+        assertThat(recorder.events).containsExactly("doc 0", "a=1", "doc 1", "profile prod", "b=2", "doc 2", "c=3");
+    }
+    
+    @Test
+    @DisplayName("YAML : construction non supportée signalée avec sa ligne")
+    void testYamlErrors() {
+        assertThatThrownBy(() -> ConfigFileReader.readYaml("a: 1\nb: &anchor x\n", new Recorder()))
+            .isInstanceOf(IOException.class).hasMessage("line 2: anchors, aliases and tags are not supported");
+        assertThatThrownBy(() -> ConfigFileReader.readYaml("a:\n\tb: 1\n", new Recorder()))
+            .hasMessage("line 2: tabs are not allowed for indentation");
+        assertThatThrownBy(() -> ConfigFileReader.readYaml("a: one\n  two\n", new Recorder()))
+            .hasMessageStartingWith("line 2: unexpected indentation");
+        assertThatThrownBy(() -> ConfigFileReader.readYaml("a: [x, y\n", new Recorder()))
+            .hasMessageStartingWith("line 1: unterminated flow collection");
+    }
+    
+    @Test
+    @DisplayName("Fichier : BOM ignoré, gros fichier projeté en mémoire, chemin dans le message d'erreur")
+    void testReadFiles() throws Exception {
+        Path small = tempDir.resolve("application.yml");
+        Files.writeString(small, "\uFEFFapp:\n  name: démo\n");
+        Recorder recorder = new Recorder();
+        ConfigFileReader.read(small, recorder);
+        assertThat(recorder.properties).containsExactly(Map.entry("app.name", "démo"));
+        
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; content.length() < ConfigFileReader.MAPPING_THRESHOLD; i++) {
+            content.append("app.key").append(i).append("=${VALUE_").append(i).append("}\n");
+        }
+        Path large = tempDir.resolve("application-large.properties");
+        Files.writeString(large, content);
+        Recorder largeRecorder = new Recorder();
+        ConfigFileReader.read(large, largeRecorder);
+        assertThat(largeRecorder.properties).hasSizeGreaterThan(10_000).containsEntry("app.key42", "${VALUE_42}");
+        
+        Path invalid = tempDir.resolve("application-bad.yml");
+        Files.writeString(invalid, "a: *alias\n");
+        assertThatThrownBy(() -> ConfigFileReader.read(invalid, new Recorder()))
+            .hasMessage(invalid + ": line 1: anchors, aliases and tags are not supported");
+        assertThat(ConfigFileReader.sourceType("logback.xml")).isNull();
+    }
+    
+    private static Map<String, String> toMap(Properties properties) {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            map.put(name, properties.getProperty(name));
+        }
+        return map;
+    }
+    
+    private static final class Recorder implements ConfigEventHandler {
+        
+        final Map<String, String> properties = new LinkedHashMap<>();
+        final Map<String, String> positions = new LinkedHashMap<>();
+        final List<String> events = new ArrayList<>();
+        
+        @Override
+        public void onProperty(String key, String value, int line, int column) {
+            properties.put(key, value);
+            positions.put(key, line + ":" + column);
+            events.add(key + "=" + value);
+        }
+        
+        @Override
+        public void onDocument(int index) {
+            events.add("doc " + index);
+        }
+        
+        @Override
+        public void onProfile(String profile) {
+            events.add("profile " + profile);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.mycompany.validator.maven;
+
+import com.mycompany.validator.core.api.ValidationResult;
+import com.mycompany.validator.core.formatter.BeautifulErrorFormatter;
+import com.mycompany.validator.core.report.ReportFormat;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Goal config-preflight:check : valide la configuration du module au build, sans démarrer l'application.
+ *
+ * Le résultat est mis en cache par empreinte des entrées (voir {@link InputFingerprint}) : tant que
+ * les fichiers de configuration, les classes, le classpath de compilation et les paramètres ne changent
+ * pas, la validation n'est pas rejouée et seul le rapport demandé est réécrit. Seule une validation
+ * réussie est mise en cache, une configuration en erreur est revalidée (et signalée) à chaque build.
+ *
+ * Les paramètres sont injectés par Maven d'après META-INF/maven/plugin.xml.
+ */
+public class CheckMojo extends AbstractMojo {
+    
+    /**
+     * Propriété ajoutée à l'empreinte : un changement de version du plugin invalide le cache.
+     */
+    private static final String PLUGIN_VERSION = CheckMojo.class.getPackage().getImplementationVersion();
+    
+    private boolean skip;
+    private boolean failOnError = true;
+    private File outputDirectory;
+    private List<String> classpathElements = Collections.emptyList();
+    private List<String> profiles = Collections.emptyList();
+    private File envContract;
+    private List<String> environment = Collections.emptyList();
+    private File cacheFile;
+    private String reportFormat;
+    private File reportFile;
+    
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if (skip) {
+            getLog().info("Configuration preflight check skipped");
+            return;
+        }
+        Path classesDirectory = outputDirectory.toPath();
+        ReportFormat format = ReportFormat.fromPropertyValue(reportFormat);
+        if (reportFormat != null && !reportFormat.isBlank() && format == null) {
+            throw new MojoExecutionException("Unknown report format '" + reportFormat + "' (expected json-lines, sarif or junit)");
+        }
+        
+        try {
+            String fingerprint = fingerprint(classesDirectory, format);
+            Path cache = cacheFile != null ? cacheFile.toPath() : null;
+            if (cache != null && Files.isRegularFile(cache)
+                && fingerprint.equals(Files.readString(cache, StandardCharsets.UTF_8).trim())) {
+                getLog().info("Configuration preflight check up to date (inputs unchanged)");
+                if (format != null) {
+                    // Le cache peut survivre à un clean : le rapport d'une validation réussie est réécrit
+                    writeReport(format, new ValidationResult(List.of()), classesDirectory);
+                }
+                return;
+            }
+            
+            List<ConfigFile> files = ConfigFileLoader.load(classesDirectory);
+            Map<String, String> required;
+            try (URLClassLoader classLoader = classLoader(classesDirectory)) {
+                required = RequiredPropertiesCollector.collect(classesDirectory, classLoader,
+                    warning -> getLog().debug("Could not inspect class " + warning));
+            }
+            OfflineConfigurationValidator validator = new OfflineConfigurationValidator(files, required, envContractNames());
+            List<String> validatedProfiles = profilesToValidate(validator);
+            ValidationResult result = validator.validate(validatedProfiles);
+            
+            getLog().info("Validated " + files.size() + " configuration document(s) and " + required.size()
+                + " required properties for profile(s) " + validatedProfiles);
+            if (format != null) {
+                writeReport(format, result, classesDirectory);
+            }
+            
+            if (result.hasErrors()) {
+                if (cache != null) {
+                    Files.deleteIfExists(cache);
+                }
+                String report = new BeautifulErrorFormatter().format(result);
+                for (String line : report.split("\n")) {
+                    if (failOnError) {
+                        getLog().error(line);
+                    } else {
+                        getLog().warn(line);
+                    }
+                }
+                if (failOnError) {
+                    throw new MojoFailureException("Configuration validation failed with " + result.getErrorCount() + " error(s)");
+                }
+                return;
+            }
+            if (cache != null) {
+                Files.createDirectories(cache.toAbsolutePath().getParent());
+                Files.writeString(cache, fingerprint + System.lineSeparator(), StandardCharsets.UTF_8);
+            }
+        } catch (IOException e) {
+            throw new MojoExecutionException("Could not validate configuration in " + classesDirectory, e);
+        }
+    }
+    
+    private void writeReport(ReportFormat format, ValidationResult result, Path classesDirectory) throws IOException {
+        Path report = reportFile != null ? reportFile.toPath() : classesDirectory.resolveSibling(format.getDefaultFileName());
+        format.newWriter().write(result, report);
+        getLog().info("Configuration preflight report written to " + report);
+    }
+    
+    private String fingerprint(Path classesDirectory, ReportFormat format) throws IOException {
+        InputFingerprint fingerprint = new InputFingerprint().addClassesDirectory(classesDirectory);
+        if (classpathElements != null) {
+            for (String element : classpathElements) {
+                Path path = Path.of(element).toAbsolutePath().normalize();
+                // Le répertoire des classes du module est déjà haché (entrées de la validation uniquement)
+                if (!path.equals(classesDirectory.toAbsolutePath().normalize())) {
+                    fingerprint.addClasspathElement(path);
+                }
+            }
+        }
+        return fingerprint
+            .addFile("envContract", envContract != null ? envContract.toPath() : null)
+            .addParameter("pluginVersion", PLUGIN_VERSION)
+            .addParameter("profiles", profiles)
+            .addParameter("environment", environment)
+            .addParameter("failOnError", failOnError)
+            .addParameter("reportFormat", format)
+            .addParameter("reportFile", reportFile)
+            .toHex();
+    }
+    
+    /**
+     * Profils configurés, ou la configuration par défaut suivie de tous les profils découverts.
+     */
+    private List<String> profilesToValidate(OfflineConfigurationValidator validator) {
+        if (profiles != null && !profiles.isEmpty()) {
+            return profiles;
+        }
+        List<String> all = new ArrayList<>();
+        all.add(OfflineConfigurationValidator.DEFAULT_PROFILE);
+        all.addAll(validator.discoverProfiles());
+        return all;
+    }
+    
+    private Set<String> envContractNames() throws IOException {
+        Set<String> names = new LinkedHashSet<>();
+        if (environment != null) {
+            names.addAll(environment);
+        }
+        if (envContract != null) {
+            if (!envContract.isFile()) {
+                throw new IOException("Environment contract " + envContract + " does not exist");
+            }
+            names.addAll(parseEnvContract(Files.readAllLines(envContract.toPath(), StandardCharsets.UTF_8)));
+        }
+        return names;
+    }
+    
+    /**
+     * Un nom par ligne (format .env accepté) : les commentaires #, le mot-clé export
+     * et les valeurs après = sont ignorés.
+     */
+    static Set<String> parseEnvContract(List<String> lines) {
+        Set<String> names = new LinkedHashSet<>();
+        for (String line : lines) {
+            String name = line.trim();
+            if (name.isEmpty() || name.startsWith("#")) {
+                continue;
+            }
+            if (name.startsWith("export ")) {
+                name = name.substring("export ".length()).trim();
+            }
+            int equals = name.indexOf('=');
+            if (equals >= 0) {
+                name = name.substring(0, equals).trim();
+            }
+            if (!name.isEmpty()) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+    
+    /**
+     * Classes du module et classpath de compilation, sans le class loader de Maven :
+     * les annotations sont résolues dans les versions du projet.
+     */
+    private URLClassLoader classLoader(Path classesDirectory) throws MalformedURLException {
+        List<URL> urls = new ArrayList<>();
+        urls.add(classesDirectory.toUri().toURL());
+        if (classpathElements != null) {
+            for (String element : classpathElements) {
+                urls.add(new File(element).toURI().toURL());
+            }
+        }
+        return new URLClassLoader(urls.toArray(new URL[0]), ClassLoader.getPlatformClassLoader());
+    }
+}
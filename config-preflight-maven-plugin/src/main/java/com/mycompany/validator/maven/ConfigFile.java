@@ -0,0 +1,57 @@
+package com.mycompany.validator.maven;
+
+import com.mycompany.validator.core.model.PropertySource;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Propriétés d'un fichier de configuration (ou d'un document d'un fichier YAML multi-documents),
+ * aplaties en clés pointées et rattachées à un profil.
+ */
+final class ConfigFile {
+    
+    private final String name;
+    private final PropertySource.SourceType type;
+    private final String profile;
+    private final Map<String, String> properties;
+    
+    ConfigFile(String name, PropertySource.SourceType type, String profile, Map<String, String> properties) {
+        this.name = name;
+        this.type = type;
+        this.profile = profile;
+        this.properties = Collections.unmodifiableMap(properties);
+    }
+    
+    /**
+     * @return Chemin relatif au répertoire des classes (ex: config/application-dev.yml)
+     */
+    String getName() {
+        return name;
+    }
+    
+    /**
+     * @return Profil du fichier ou du document, null pour la configuration par défaut
+     */
+    String getProfile() {
+        return profile;
+    }
+    
+    /**
+     * @return Clés pointées et valeurs brutes, placeholders non résolus
+     */
+    Map<String, String> getProperties() {
+        return properties;
+    }
+    
+    /**
+     * @return Vrai si le fichier s'applique avec ce profil actif
+     */
+    boolean appliesTo(String activeProfile) {
+        return profile == null || profile.equals(activeProfile);
+    }
+    
+    PropertySource toPropertySource() {
+        return new PropertySource(name, "classpath:" + name, type);
+    }
+}
@@ -0,0 +1,121 @@
+package com.mycompany.validator.maven;
+
+import com.mycompany.validator.core.model.PropertySource;
+import com.mycompany.validator.core.source.ConfigEventHandler;
+import com.mycompany.validator.core.source.ConfigFileReader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Lit les fichiers application*.properties / application*.yml du répertoire des classes
+ * (et de son sous-répertoire config/), tels que copiés par maven-resources-plugin.
+ *
+ * Les fichiers sont lus en flux par {@link ConfigFileReader}. Le profil d'un document vient, dans l'ordre :
+ * - du nom du fichier (application-dev.yml)
+ * - de spring.config.activate.on-profile (ou spring.profiles) dans le document
+ * - du préfixe %profil. d'une clé (convention Quarkus), qui place la clé dans un document à part
+ */
+final class ConfigFileLoader {
+    
+    static final String[] CONFIG_DIRECTORIES = {"", "config/"};
+    
+    private static final Pattern CONFIG_FILE = Pattern.compile("application(?:-([^.]+))?\\.(properties|ya?ml)");
+    
+    private ConfigFileLoader() {
+    }
+    
+    /**
+     * @return Vrai si ce nom de fichier (sans répertoire) est un fichier de configuration lu par le plugin
+     */
+    static boolean isConfigFile(String fileName) {
+        return CONFIG_FILE.matcher(fileName).matches();
+    }
+    
+    /**
+     * @param classesDirectory Répertoire des classes compilées et ressources
+     * @return Documents de configuration, dans l'ordre des répertoires puis des noms de fichier
+     */
+    static List<ConfigFile> load(Path classesDirectory) throws IOException {
+        List<ConfigFile> files = new ArrayList<>();
+        for (String directory : CONFIG_DIRECTORIES) {
+            Path dir = classesDirectory.resolve(directory);
+            if (!Files.isDirectory(dir)) {
+                continue;
+            }
+            List<Path> candidates = new ArrayList<>();
+            try (var stream = Files.list(dir)) {
+                stream.filter(path -> Files.isRegularFile(path) && isConfigFile(path.getFileName().toString()))
+                    .sorted()
+                    .forEach(candidates::add);
+            }
+            for (Path path : candidates) {
+                load(directory + path.getFileName(), path, files);
+            }
+        }
+        return files;
+    }
+    
+    private static void load(String name, Path path, List<ConfigFile> files) throws IOException {
+        Matcher matcher = CONFIG_FILE.matcher(path.getFileName().toString());
+        if (!matcher.matches()) {
+            return;
+        }
+        PropertySource.SourceType type = ConfigFileReader.sourceType(name);
+        String fileProfile = matcher.group(1);
+        
+        List<Map<String, String>> documents = new ArrayList<>();
+        List<String> profiles = new ArrayList<>();
+        ConfigFileReader.read(path, new ConfigEventHandler() {
+            @Override
+            public void onDocument(int index) {
+                documents.add(new LinkedHashMap<>());
+                profiles.add(fileProfile);
+            }
+            
+            @Override
+            public void onProfile(String profile) {
+                int last = profiles.size() - 1;
+                if (profiles.get(last) == null && !profile.isBlank()) {
+                    profiles.set(last, profile.trim());
+                }
+            }
+            
+            @Override
+            public void onProperty(String key, String value, int line, int column) {
+                documents.get(documents.size() - 1).put(key, value);
+            }
+        });
+        for (int i = 0; i < documents.size(); i++) {
+            addDocument(name, type, profiles.get(i), documents.get(i), files);
+        }
+    }
+    
+    /**
+     * Ajoute un document, en séparant les clés %profil.xxx dans un document par profil.
+     */
+    private static void addDocument(String name, PropertySource.SourceType type, String profile,
+                                    Map<String, String> properties, List<ConfigFile> files) {
+        Map<String, Map<String, String>> byProfile = new LinkedHashMap<>();
+        Map<String, String> plain = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : properties.entrySet()) {
+            String key = entry.getKey();
+            int dot = key.indexOf('.');
+            if (profile == null && key.startsWith("%") && dot > 1) {
+                byProfile.computeIfAbsent(key.substring(1, dot), p -> new LinkedHashMap<>())
+                    .put(key.substring(dot + 1), entry.getValue());
+            } else {
+                plain.put(key, entry.getValue());
+            }
+        }
+        files.add(new ConfigFile(name, type, profile, plain));
+        byProfile.forEach((p, props) -> files.add(new ConfigFile(name, type, p, props)));
+    }
+}
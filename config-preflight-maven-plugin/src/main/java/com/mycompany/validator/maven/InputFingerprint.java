@@ -0,0 +1,152 @@
+package com.mycompany.validator.maven;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Empreinte SHA-256 des entrées d'une validation hors ligne : fichiers de configuration,
+ * liste manuelle des propriétés requises, classes compilées, classpath de compilation, contrat
+ * d'environnement et paramètres.
+ *
+ * Chaque entrée est hachée avec son nom : renommer un fichier ou déplacer une valeur d'un fichier
+ * à l'autre change l'empreinte, comme modifier son contenu. Les dates de modification ne sont pas
+ * prises en compte, pour qu'un clean suivi d'un build identique réutilise le résultat.
+ */
+final class InputFingerprint {
+    
+    private final MessageDigest digest;
+    
+    InputFingerprint() {
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+    
+    /**
+     * Ajoute les entrées lues par la validation dans le répertoire des classes.
+     */
+    InputFingerprint addClassesDirectory(Path classesDirectory) throws IOException {
+        if (!Files.isDirectory(classesDirectory)) {
+            return this;
+        }
+        List<Path> inputs = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(classesDirectory)) {
+            paths.filter(Files::isRegularFile)
+                .filter(path -> isInput(classesDirectory.relativize(path)))
+                .forEach(inputs::add);
+        }
+        inputs.sort((a, b) -> relativeName(classesDirectory, a).compareTo(relativeName(classesDirectory, b)));
+        for (Path input : inputs) {
+            addFile(relativeName(classesDirectory, input), input);
+        }
+        return this;
+    }
+    
+    /**
+     * Ajoute une entrée du classpath de compilation : les classes parentes et les annotations
+     * y sont résolues, une classe de base modifiée dans un module amont doit invalider le cache.
+     * Un répertoire est haché fichier par fichier, une archive par son contenu.
+     */
+    InputFingerprint addClasspathElement(Path element) throws IOException {
+        addString(element.toString());
+        if (Files.isDirectory(element)) {
+            List<Path> files = new ArrayList<>();
+            try (Stream<Path> paths = Files.walk(element)) {
+                paths.filter(Files::isRegularFile).forEach(files::add);
+            }
+            files.sort((a, b) -> relativeName(element, a).compareTo(relativeName(element, b)));
+            addLong(files.size());
+            for (Path file : files) {
+                addFile(relativeName(element, file), file);
+            }
+        } else if (Files.isRegularFile(element)) {
+            addLong(Files.size(element));
+            byte[] buffer = new byte[8192];
+            try (InputStream in = Files.newInputStream(element)) {
+                for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+        } else {
+            addLong(-1);
+        }
+        return this;
+    }
+    
+    /**
+     * Ajoute un fichier hors du répertoire des classes (contrat d'environnement). Un fichier absent
+     * est haché comme tel, pour que sa création invalide le cache.
+     */
+    InputFingerprint addFile(String name, Path file) throws IOException {
+        addString(name);
+        if (file != null && Files.isRegularFile(file)) {
+            byte[] content = Files.readAllBytes(file);
+            addLong(content.length);
+            digest.update(content);
+        } else {
+            addLong(-1);
+        }
+        return this;
+    }
+    
+    /**
+     * Ajoute un paramètre de la validation (profils, format de rapport...).
+     */
+    InputFingerprint addParameter(String name, Object value) {
+        addString(name);
+        addString(String.valueOf(value));
+        return this;
+    }
+    
+    /**
+     * @return Empreinte hexadécimale ; l'objet ne doit plus être utilisé ensuite
+     */
+    String toHex() {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+    
+    private static boolean isInput(Path relative) {
+        String name = relative.toString().replace('\\', '/');
+        if (name.endsWith(".class") || name.equals(RequiredPropertiesCollector.REQUIRED_PROPERTIES_FILE)) {
+            return true;
+        }
+        String fileName = relative.getFileName().toString();
+        String directory = name.substring(0, name.length() - fileName.length());
+        for (String configDirectory : ConfigFileLoader.CONFIG_DIRECTORIES) {
+            if (configDirectory.equals(directory)) {
+                return ConfigFileLoader.isConfigFile(fileName);
+            }
+        }
+        return false;
+    }
+    
+    private static String relativeName(Path root, Path path) {
+        return root.relativize(path).toString().replace('\\', '/');
+    }
+    
+    /**
+     * Longueur puis octets : "ab" + "c" et "a" + "bc" ne produisent pas la même empreinte.
+     */
+    private void addString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        addLong(bytes.length);
+        digest.update(bytes);
+    }
+    
+    private void addLong(long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            digest.update((byte) (value >>> shift));
+        }
+    }
+}
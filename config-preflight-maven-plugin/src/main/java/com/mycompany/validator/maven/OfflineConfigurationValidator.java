@@ -0,0 +1,196 @@
+package com.mycompany.validator.maven;
+
+import com.mycompany.validator.core.api.ValidationResult;
+import com.mycompany.validator.core.detector.CanonicalPropertyIndex;
+import com.mycompany.validator.core.detector.PlaceholderDetector;
+import com.mycompany.validator.core.detector.SecretDetector;
+import com.mycompany.validator.core.model.ConfigurationError;
+import com.mycompany.validator.core.model.ErrorType;
+import com.mycompany.validator.core.model.PropertySource;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Valide les fichiers de configuration d'un module au build, pour la configuration par défaut
+ * puis pour chaque profil : propriétés requises définies, placeholders ${...} résolus.
+ *
+ * Une propriété est connue si un fichier applicable la définit (sous n'importe quelle variante
+ * de nom, voir {@link CanonicalPropertyIndex}), ou l'un de ses éléments pour une liste ou un objet,
+ * ou si le contrat d'environnement la déclare :
+ * variables d'environnement et propriétés fournies au déploiement. L'environnement de la machine
+ * de build n'est pas consulté, pour que le résultat ne dépende que des entrées hachées.
+ */
+final class OfflineConfigurationValidator {
+    
+    static final String ENV_CONTRACT_SOURCE = "env-contract";
+    
+    /**
+     * Profil actif quand aucun n'est demandé : fichiers sans profil et application-default.*.
+     */
+    static final String DEFAULT_PROFILE = "default";
+    
+    /**
+     * Préfixes résolus par la JVM ou le framework sans déclaration (${user.home}, ${random.uuid}...).
+     */
+    private static final String[] BUILT_IN_PREFIXES = {"java.", "user.", "os.", "file.", "line.", "path.", "random."};
+    
+    private final List<ConfigFile> files;
+    private final Map<String, String> requiredProperties;
+    private final Collection<String> envContract;
+    private final PlaceholderDetector placeholderDetector = new PlaceholderDetector();
+    private final SecretDetector secretDetector = new SecretDetector();
+    
+    /**
+     * @param files Documents de configuration du module
+     * @param requiredProperties Propriété requise → origine de la déclaration
+     * @param envContract Noms fournis au déploiement (APP_DB_URL, app.db.url...)
+     */
+    OfflineConfigurationValidator(List<ConfigFile> files, Map<String, String> requiredProperties, Collection<String> envContract) {
+        this.files = files;
+        this.requiredProperties = requiredProperties;
+        this.envContract = envContract;
+    }
+    
+    /**
+     * @return Profils déclarés par les noms de fichiers et les documents, dans l'ordre de découverte
+     */
+    Set<String> discoverProfiles() {
+        Set<String> profiles = new LinkedHashSet<>();
+        for (ConfigFile file : files) {
+            if (file.getProfile() != null && !DEFAULT_PROFILE.equals(file.getProfile())) {
+                profiles.add(file.getProfile());
+            }
+        }
+        return profiles;
+    }
+    
+    /**
+     * Valide chaque profil. Une erreur présente dans plusieurs profils (placeholder d'un fichier
+     * commun, par exemple) n'est rapportée qu'une fois.
+     *
+     * @param profiles Profils à valider ({@link #DEFAULT_PROFILE} pour la configuration par défaut)
+     */
+    ValidationResult validate(Collection<String> profiles) {
+        Map<String, ConfigurationError> errors = new LinkedHashMap<>();
+        for (String profile : profiles) {
+            validate(profile, errors);
+        }
+        return new ValidationResult(new ArrayList<>(errors.values()));
+    }
+    
+    private void validate(String profile, Map<String, ConfigurationError> errors) {
+        CanonicalPropertyIndex index = buildIndex(profile);
+        Set<String> parents = parentNames(profile);
+        String scope = DEFAULT_PROFILE.equals(profile) ? "" : " (profile '" + profile + "')";
+        
+        for (Map.Entry<String, String> required : requiredProperties.entrySet()) {
+            String propertyName = required.getKey();
+            if (index.contains(propertyName) || parents.contains(CanonicalPropertyIndex.normalize(propertyName))) {
+                continue;
+            }
+            errors.putIfAbsent("required:" + propertyName, ConfigurationError.builder()
+                .type(ErrorType.MISSING_PROPERTY)
+                .propertyName(propertyName)
+                .source(new PropertySource(required.getValue(), required.getValue(), PropertySource.SourceType.UNKNOWN))
+                .errorMessage("Property '" + propertyName + "' is required but not defined" + scope)
+                .suggestion(suggestion(propertyName))
+                .isSensitive(secretDetector.isSensitive(propertyName))
+                .build());
+        }
+        
+        for (ConfigFile file : files) {
+            if (!file.appliesTo(profile)) {
+                continue;
+            }
+            for (Map.Entry<String, String> property : file.getProperties().entrySet()) {
+                String propertyName = property.getKey();
+                placeholderDetector.forEachRequiredPlaceholder(property.getValue(), placeholder -> {
+                    if (index.contains(placeholder) || isBuiltIn(placeholder)) {
+                        return;
+                    }
+                    errors.putIfAbsent("placeholder:" + file.getName() + ":" + propertyName + ":" + placeholder,
+                        ConfigurationError.builder()
+                            .type(ErrorType.UNRESOLVED_PLACEHOLDER)
+                            .propertyName(propertyName)
+                            .source(file.toPropertySource())
+                            .errorMessage("Unresolved placeholder '${" + placeholder + "}'" + scope)
+                            .suggestion(suggestion(placeholder))
+                            .isSensitive(secretDetector.isSensitive(propertyName))
+                            .build());
+                });
+            }
+        }
+    }
+    
+    /**
+     * Fichiers du profil d'abord (ils l'emportent), puis fichiers par défaut, puis contrat.
+     */
+    private CanonicalPropertyIndex buildIndex(String profile) {
+        CanonicalPropertyIndex.Builder builder = CanonicalPropertyIndex.builder();
+        for (ConfigFile file : files) {
+            if (profile.equals(file.getProfile())) {
+                builder.addAll(file.getName(), file.getProperties());
+            }
+        }
+        for (ConfigFile file : files) {
+            if (file.getProfile() == null) {
+                builder.addAll(file.getName(), file.getProperties());
+            }
+        }
+        for (String name : envContract) {
+            builder.add(ENV_CONTRACT_SOURCE, name, "");
+        }
+        return builder.build();
+    }
+    
+    /**
+     * Formes canoniques des propriétés qui ont des descendants dans les fichiers du profil ou le contrat :
+     * une liste (app.hosts[0]) ou un objet imbriqué (app.pool.size) définit app.hosts et app.pool,
+     * comme le binding du framework.
+     */
+    private Set<String> parentNames(String profile) {
+        Set<String> parents = new HashSet<>();
+        for (ConfigFile file : files) {
+            if (file.appliesTo(profile)) {
+                for (String key : file.getProperties().keySet()) {
+                    addParentNames(parents, key);
+                }
+            }
+        }
+        for (String name : envContract) {
+            addParentNames(parents, name);
+        }
+        return parents;
+    }
+    
+    private static void addParentNames(Set<String> parents, String key) {
+        String canonical = CanonicalPropertyIndex.normalize(key);
+        for (int dot = canonical.lastIndexOf('.'); dot > 0; dot = canonical.lastIndexOf('.', dot - 1)) {
+            if (!parents.add(canonical.substring(0, dot))) {
+                return;
+            }
+        }
+    }
+    
+    private static boolean isBuiltIn(String placeholder) {
+        for (String prefix : BUILT_IN_PREFIXES) {
+            if (placeholder.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static String suggestion(String propertyName) {
+        String envVarName = propertyName.replace('.', '_').replace('-', '_').toUpperCase();
+        return String.format("Add to application.yml: %s: <value>\nOR declare %s in the environment contract",
+            propertyName, envVarName);
+    }
+}
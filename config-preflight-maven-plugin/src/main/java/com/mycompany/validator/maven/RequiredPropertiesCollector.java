@@ -0,0 +1,160 @@
+package com.mycompany.validator.maven;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Collecte les propriétés requises d'un module, sans démarrer l'application :
+ * - la liste manuelle META-INF/config-preflight.properties (required.properties.xxx)
+ * - les champs @NotNull / @NotBlank / @NotEmpty des classes @ConfigurationProperties compilées
+ *   (Spring Boot ou Micronaut), reconnues par nom simple d'annotation comme à l'exécution
+ *
+ * Les classes sont chargées sans initialisation, dans un class loader fourni par l'appelant
+ * (classes du module et classpath de compilation).
+ */
+final class RequiredPropertiesCollector {
+    
+    static final String REQUIRED_PROPERTIES_FILE = "META-INF/config-preflight.properties";
+    private static final String REQUIRED_PROPERTIES_PREFIX = "required.properties.";
+    
+    private static final String CONFIGURATION_PROPERTIES = "ConfigurationProperties";
+    private static final Set<String> REQUIRED_CONSTRAINTS = Set.of("NotNull", "NotBlank", "NotEmpty");
+    
+    private RequiredPropertiesCollector() {
+    }
+    
+    /**
+     * @param classesDirectory Répertoire des classes compilées et ressources
+     * @param classLoader Class loader capable de charger les classes du module
+     * @param warnings Reçoit les classes qui n'ont pas pu être chargées
+     * @return Propriété requise → origine (fichier ou classe qui la déclare), triées par nom
+     */
+    static Map<String, String> collect(Path classesDirectory, ClassLoader classLoader, Consumer<String> warnings) throws IOException {
+        Map<String, String> required = new LinkedHashMap<>();
+        
+        Path manual = classesDirectory.resolve(REQUIRED_PROPERTIES_FILE);
+        if (Files.isRegularFile(manual)) {
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(manual, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+            for (String key : new TreeSet<>(properties.stringPropertyNames())) {
+                if (key.startsWith(REQUIRED_PROPERTIES_PREFIX)) {
+                    required.putIfAbsent(key.substring(REQUIRED_PROPERTIES_PREFIX.length()), REQUIRED_PROPERTIES_FILE);
+                }
+            }
+        }
+        
+        for (String className : classNames(classesDirectory)) {
+            try {
+                collect(Class.forName(className, false, classLoader), required);
+            } catch (ClassNotFoundException | LinkageError e) {
+                warnings.accept(className + ": " + e);
+            }
+        }
+        return required;
+    }
+    
+    private static void collect(Class<?> type, Map<String, String> required) {
+        String prefix = prefix(type);
+        if (prefix == null) {
+            return;
+        }
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic() && isRequired(field)) {
+                    String name = toKebabCase(field.getName());
+                    required.putIfAbsent(prefix.isEmpty() ? name : prefix + "." + name, type.getName());
+                }
+            }
+        }
+    }
+    
+    /**
+     * @return Préfixe de @ConfigurationProperties (prefix ou value), null si la classe n'est pas annotée
+     */
+    private static String prefix(Class<?> type) {
+        for (Annotation annotation : type.getAnnotations()) {
+            if (!CONFIGURATION_PROPERTIES.equals(annotation.annotationType().getSimpleName())) {
+                continue;
+            }
+            String prefix = attribute(annotation, "prefix");
+            return prefix != null && !prefix.isEmpty() ? prefix : nullToEmpty(attribute(annotation, "value"));
+        }
+        return null;
+    }
+    
+    private static String attribute(Annotation annotation, String name) {
+        try {
+            Method method = annotation.annotationType().getMethod(name);
+            Object value = method.invoke(annotation);
+            return value instanceof String ? (String) value : null;
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+    
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+    
+    private static boolean isRequired(Field field) {
+        for (Annotation annotation : field.getAnnotations()) {
+            if (REQUIRED_CONSTRAINTS.contains(annotation.annotationType().getSimpleName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static List<String> classNames(Path classesDirectory) throws IOException {
+        List<String> names = new ArrayList<>();
+        if (!Files.isDirectory(classesDirectory)) {
+            return names;
+        }
+        try (Stream<Path> paths = Files.walk(classesDirectory)) {
+            paths.filter(path -> path.toString().endsWith(".class"))
+                .map(path -> classesDirectory.relativize(path).toString())
+                .filter(name -> !name.endsWith("module-info.class") && !name.endsWith("package-info.class"))
+                .sorted()
+                .forEach(name -> names.add(name.substring(0, name.length() - ".class".length())
+                    .replace('/', '.').replace('\\', '.')));
+        }
+        return names;
+    }
+    
+    /**
+     * maxPoolSize → max-pool-size
+     */
+    static String toKebabCase(String camelCase) {
+        StringBuilder result = new StringBuilder(camelCase.length() + 4);
+        for (int i = 0; i < camelCase.length(); i++) {
+            char c = camelCase.charAt(i);
+            if (Character.isUpperCase(c)) {
+                if (i > 0) {
+                    result.append('-');
+                }
+                result.append(Character.toLowerCase(c));
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,87 @@
+package com.mycompany.validator.maven;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de l'empreinte utilisée par le cache incrémental.
+ */
+@DisplayName("Input fingerprint")
+class InputFingerprintTest {
+    
+    @TempDir
+    Path classes;
+    
+    @Test
+    @DisplayName("Seules les entrées de la validation modifient l'empreinte")
+    void testFingerprintInputs() throws Exception {
+        Files.writeString(classes.resolve("application.yml"), "app:\n  name: demo\n");
+        String initial = fingerprint("dev");
+        
+        Files.writeString(classes.resolve("logback.xml"), "<configuration/>");
+        assertThat(fingerprint("dev")).isEqualTo(initial);
+        
+        assertThat(fingerprint("prod")).isNotEqualTo(initial);
+        
+        Files.createDirectories(classes.resolve("config"));
+        Files.writeString(classes.resolve("config/application-prod.properties"), "app.name=prod\n");
+        String withProfileFile = fingerprint("dev");
+        assertThat(withProfileFile).isNotEqualTo(initial);
+        
+        Files.writeString(classes.resolve("application.yml"), "app:\n  name: other\n");
+        assertThat(fingerprint("dev")).isNotEqualTo(withProfileFile).hasSize(64);
+    }
+    
+    @Test
+    @DisplayName("Déplacer un contenu d'un fichier à l'autre change l'empreinte")
+    void testFingerprintFileBoundaries() throws Exception {
+        Files.writeString(classes.resolve("application.properties"), "a=1\n");
+        Files.writeString(classes.resolve("application.yml"), "b: 2\n");
+        String before = fingerprint("dev");
+        
+        Files.writeString(classes.resolve("application.properties"), "a=1\nb: 2\n");
+        Files.writeString(classes.resolve("application.yml"), "");
+        assertThat(fingerprint("dev")).isNotEqualTo(before);
+    }
+    
+    @Test
+    @DisplayName("Classpath : une classe ou une archive amont modifiée change l'empreinte")
+    void testFingerprintClasspath(@TempDir Path classpath) throws Exception {
+        Path upstream = classpath.resolve("upstream/classes");
+        Files.createDirectories(upstream.resolve("com/example"));
+        Files.write(upstream.resolve("com/example/BaseProperties.class"), new byte[] {1, 2, 3});
+        Path jar = classpath.resolve("library.jar");
+        Files.write(jar, new byte[] {4, 5, 6});
+        String before = classpathFingerprint(upstream, jar);
+        assertThat(classpathFingerprint(upstream, jar)).isEqualTo(before);
+        
+        Files.write(upstream.resolve("com/example/BaseProperties.class"), new byte[] {1, 2, 4});
+        String withChangedClass = classpathFingerprint(upstream, jar);
+        assertThat(withChangedClass).isNotEqualTo(before);
+        
+        Files.write(jar, new byte[] {4, 5, 7});
+        assertThat(classpathFingerprint(upstream, jar)).isNotEqualTo(withChangedClass);
+    }
+    
+    private String classpathFingerprint(Path... elements) throws Exception {
+        InputFingerprint fingerprint = new InputFingerprint().addClassesDirectory(classes);
+        for (Path element : elements) {
+            fingerprint.addClasspathElement(element);
+        }
+        return fingerprint.toHex();
+    }
+    
+    private String fingerprint(String profiles) throws Exception {
+        return new InputFingerprint()
+            .addClassesDirectory(classes)
+            .addFile("envContract", classes.resolveSibling("missing.env"))
+            .addParameter("profiles", profiles)
+            .toHex();
+    }
+}
@@ -0,0 +1,150 @@
+package com.mycompany.validator.maven;
+
+import com.mycompany.validator.core.api.ValidationResult;
+import com.mycompany.validator.core.model.ConfigurationError;
+import com.mycompany.validator.core.model.ErrorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de la validation hors ligne : lecture des fichiers, profils, contrat d'environnement.
+ */
+@DisplayName("Offline configuration validator")
+class OfflineConfigurationValidatorTest {
+    
+    @TempDir
+    Path classes;
+    
+    @Test
+    @DisplayName("Profils : nom de fichier, document YAML et préfixe %profil")
+    void testLoadProfiles() throws Exception {
+        write("application.yml", "app:\n  name: demo\n  hosts:\n    - a\n    - b\n"
+            + "---\nspring:\n  config:\n    activate:\n      on-profile: prod\napp:\n  url: ${DB_URL}\n");
+        write("config/application-dev.properties", "app.url=jdbc:h2:mem\n");
+        write("application.properties", "%test.app.url=jdbc:test\nserver.port=8080\n");
+        
+        List<ConfigFile> files = ConfigFileLoader.load(classes);
+        OfflineConfigurationValidator validator = new OfflineConfigurationValidator(files, Map.of(), Set.of());
+        
+        assertThat(validator.discoverProfiles()).containsExactlyInAnyOrder("prod", "test", "dev");
+        ConfigFile base = files.stream()
+            .filter(file -> file.getName().equals("application.yml") && file.getProfile() == null)
+            .findFirst().orElseThrow();
+        assertThat(base.getProperties()).containsEntry("app.hosts[1]", "b");
+        ConfigFile prod = files.stream().filter(file -> "prod".equals(file.getProfile())).findFirst().orElseThrow();
+        assertThat(prod.getProperties()).containsOnlyKeys("app.url");
+        assertThat(prod.toPropertySource().getLocation()).isEqualTo("classpath:application.yml");
+    }
+    
+    @Test
+    @DisplayName("Placeholder non résolu signalé pour son profil uniquement")
+    void testPlaceholderPerProfile() throws Exception {
+        write("application.yml", "app:\n  home: ${user.home}\n  url: ${DB_URL:jdbc:h2:mem}\n");
+        write("application-prod.yml", "app:\n  url: ${DB_URL}\n  secret: ${app.missing}\n");
+        write("application-dev.yml", "app:\n  missing: here\n");
+        
+        ValidationResult result = validate(Map.of(), Set.of(), List.of("default", "dev", "prod"));
+        
+        assertThat(result.getErrors()).hasSize(2);
+        assertThat(result.getErrors()).allMatch(error -> error.getType() == ErrorType.UNRESOLVED_PLACEHOLDER);
+        assertThat(result.getErrors()).allMatch(error -> error.getErrorMessage().endsWith("(profile 'prod')"));
+        assertThat(result.getErrors().get(0).getSource().getName()).isEqualTo("application-prod.yml");
+    }
+    
+    @Test
+    @DisplayName("Contrat d'environnement : variable ou propriété déclarée, sous n'importe quelle forme")
+    void testEnvContract() throws Exception {
+        write("application.properties", "app.url=${DB_URL}\napp.password=${app.db.password}\n");
+        
+        assertThat(validate(Map.of(), Set.of(), List.of("default")).getErrorCount()).isEqualTo(2);
+        assertThat(validate(Map.of(), Set.of("DB_URL", "APP_DB_PASSWORD"), List.of("default")).isValid()).isTrue();
+        assertThat(CheckMojo.parseEnvContract(List.of("# deployment", "export DB_URL=jdbc:x", "", " APP_DB_PASSWORD ")))
+            .containsExactly("DB_URL", "APP_DB_PASSWORD");
+    }
+    
+    @Test
+    @DisplayName("Propriété requise : définie par le profil ou par la configuration par défaut")
+    void testRequiredProperties() throws Exception {
+        write("application.yml", "app:\n  datasource:\n    url: jdbc:h2:mem\n");
+        write("application-prod.yml", "APP_API_KEY: key\n");
+        
+        ValidationResult result = validate(Map.of("app.datasource.url", "manual", "app.api-key", "manual"),
+            Set.of(), List.of("default", "prod"));
+        
+        assertThat(result.getErrors()).hasSize(1);
+        ConfigurationError error = result.getErrors().get(0);
+        assertThat(error.getType()).isEqualTo(ErrorType.MISSING_PROPERTY);
+        assertThat(error.getPropertyName()).isEqualTo("app.api-key");
+        assertThat(error.isSensitive()).isTrue();
+        assertThat(error.getSuggestion()).contains("APP_API_KEY");
+    }
+    
+    @Test
+    @DisplayName("Propriété requise de type liste ou objet : définie par ses éléments")
+    void testRequiredCollectionAndNestedProperties() throws Exception {
+        write("application.yml", "app:\n  hosts:\n    - a\n    - b\n  pool:\n    max-size: 10\n");
+        write("application-prod.yml", "app:\n  name: prod\n");
+        
+        Map<String, String> required = Map.of("app.hosts", "manual", "app.pool", "manual",
+            "app.mail", "manual", "app.credentials", "manual");
+        ValidationResult result = validate(required, Set.of("APP_MAIL_HOST"), List.of("default", "prod"));
+        
+        assertThat(result.getErrors()).extracting(ConfigurationError::getPropertyName).containsExactly("app.credentials");
+        assertThat(result.getErrors().get(0).getType()).isEqualTo(ErrorType.MISSING_PROPERTY);
+    }
+    
+    @Test
+    @DisplayName("Propriétés requises collectées du fichier manuel et des classes @ConfigurationProperties")
+    void testCollectRequiredProperties() throws Exception {
+        write(RequiredPropertiesCollector.REQUIRED_PROPERTIES_FILE, "required.properties.app.token=true\n");
+        Path testClasses = Path.of(SampleProperties.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        Path source = testClasses.resolve(SampleProperties.class.getName().replace('.', '/') + ".class");
+        Path target = classes.resolve(testClasses.relativize(source).toString());
+        Files.createDirectories(target.getParent());
+        Files.copy(source, target);
+        
+        Map<String, String> required = RequiredPropertiesCollector.collect(classes, getClass().getClassLoader(), warning -> {
+        });
+        
+        assertThat(required).containsOnly(
+            Map.entry("app.token", RequiredPropertiesCollector.REQUIRED_PROPERTIES_FILE),
+            Map.entry("sample.max-pool-size", SampleProperties.class.getName()));
+    }
+    
+    private ValidationResult validate(Map<String, String> required, Set<String> envContract, List<String> profiles) throws Exception {
+        return new OfflineConfigurationValidator(ConfigFileLoader.load(classes), required, envContract).validate(profiles);
+    }
+    
+    private void write(String name, String content) throws Exception {
+        Path file = classes.resolve(name);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+    
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface ConfigurationProperties {
+        String prefix() default "";
+    }
+    
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface NotNull {
+    }
+    
+    @ConfigurationProperties(prefix = "sample")
+    static class SampleProperties {
+        @NotNull
+        private Integer maxPoolSize;
+        private String optional;
+    }
+}
@@ -0,0 +1,162 @@
+package com.mycompany.validator.micronaut;
+
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanIntrospector;
+import io.micronaut.core.beans.BeanProperty;
+import io.micronaut.core.naming.NameUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Propriétés d'un bean @ConfigurationProperties, calculées une seule fois par classe et préfixe.
+ * 
+ * Source des métadonnées :
+ * - la BeanIntrospection générée à la compilation (@Introspected) : aucun accès réflexif,
+ *   compatible image native sans configuration de réflexion
+ * - à défaut, les champs déclarés de la classe (ancien comportement, résultat mis en cache)
+ * 
+ * Les noms de propriétés complets (prefix.kebab-case) sont précalculés : la validation
+ * ne fait plus aucune conversion de nom.
+ */
+final class ConfigurationPropertiesMetadata {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ConfigurationPropertiesMetadata.class);
+    
+    /**
+     * Métadonnées par classe puis par préfixe. Le {@link ClassValue} ne retient ni la classe
+     * ni son class loader au-delà de leur durée de vie (contextes successifs, tests).
+     */
+    private static final ClassValue<ConcurrentHashMap<String, ConfigurationPropertiesMetadata>> CACHE = new ClassValue<>() {
+        @Override
+        protected ConcurrentHashMap<String, ConfigurationPropertiesMetadata> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>(2);
+        }
+    };
+    
+    private final List<ConfiguredProperty> properties;
+    
+    private ConfigurationPropertiesMetadata(List<ConfiguredProperty> properties) {
+        this.properties = Collections.unmodifiableList(properties);
+    }
+    
+    /**
+     * @param beanClass Classe du bean @ConfigurationProperties
+     * @param prefix Préfixe de configuration du bean
+     * @return Métadonnées de la classe pour ce préfixe (calculées au premier appel)
+     */
+    static ConfigurationPropertiesMetadata forClass(Class<?> beanClass, String prefix) {
+        return CACHE.get(beanClass).computeIfAbsent(prefix, key -> compute(beanClass, key));
+    }
+    
+    /**
+     * @return Propriétés configurables, dans l'ordre de déclaration
+     */
+    List<ConfiguredProperty> getProperties() {
+        return properties;
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ConfigurationPropertiesMetadata compute(Class<?> beanClass, String prefix) {
+        Optional<BeanIntrospection<Object>> introspection =
+            BeanIntrospector.SHARED.findIntrospection((Class) beanClass);
+        
+        List<ConfiguredProperty> properties = new ArrayList<>();
+        
+        if (introspection.isPresent()) {
+            for (BeanProperty<Object, Object> property : introspection.get().getBeanProperties()) {
+                if (property.isWriteOnly()) {
+                    continue;
+                }
+                properties.add(new ConfiguredProperty(property.getName(), qualify(prefix, property.getName()), property::get));
+            }
+            return new ConfigurationPropertiesMetadata(properties);
+        }
+        
+        logger.debug("No BeanIntrospection for {}, falling back to field reflection (annotate it with @Introspected)",
+            beanClass.getName());
+        
+        for (Field field : beanClass.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                continue;
+            }
+            properties.add(new ConfiguredProperty(field.getName(), qualify(prefix, field.getName()), fieldReader(beanClass, field)));
+        }
+        return new ConfigurationPropertiesMetadata(properties);
+    }
+    
+    /**
+     * Accès au champ ouvert une fois à la construction des métadonnées, pas à chaque lecture.
+     */
+    private static Function<Object, Object> fieldReader(Class<?> beanClass, Field field) {
+        try {
+            field.setAccessible(true);
+        } catch (RuntimeException e) {
+            logger.warn("Cannot access field {} in {}", field.getName(), beanClass.getSimpleName());
+            return bean -> ConfiguredProperty.UNREADABLE;
+        }
+        return bean -> {
+            try {
+                return field.get(bean);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                logger.warn("Cannot access field {} in {}", field.getName(), beanClass.getSimpleName());
+                return ConfiguredProperty.UNREADABLE;
+            }
+        };
+    }
+    
+    private static String qualify(String prefix, String name) {
+        String kebabCaseName = NameUtils.hyphenate(name);
+        return prefix.isEmpty() ? kebabCaseName : prefix + "." + kebabCaseName;
+    }
+    
+    /**
+     * Propriété d'un bean : nom Java, nom de configuration complet et accès à la valeur.
+     */
+    static final class ConfiguredProperty {
+        
+        /**
+         * Valeur retournée quand la propriété ne peut pas être lue.
+         */
+        static final Object UNREADABLE = new Object();
+        
+        private final String name;
+        private final String propertyName;
+        private final Function<Object, Object> reader;
+        
+        ConfiguredProperty(String name, String propertyName, Function<Object, Object> reader) {
+            this.name = name;
+            this.propertyName = propertyName;
+            this.reader = reader;
+        }
+        
+        /**
+         * @return Nom de la propriété Java (ex: maxConnections)
+         */
+        String getName() {
+            return name;
+        }
+        
+        /**
+         * @return Nom de configuration complet (ex: app.pool.max-connections)
+         */
+        String getPropertyName() {
+            return propertyName;
+        }
+        
+        /**
+         * @return Valeur de la propriété sur ce bean, ou {@link #UNREADABLE}
+         */
+        Object read(Object bean) {
+            return reader.apply(bean);
+        }
+    }
+}
@@ -3,167 +3,241 @@ package com.mycompany.validator.micronaut;
 import com.mycompany.validator.core.api.ValidationResult;
 import com.mycompany.validator.core.detector.SecretDetector;
 import com.mycompany.validator.core.formatter.BeautifulErrorFormatter;
+import com.mycompany.validator.core.metrics.PhaseTimer;
+import com.mycompany.validator.core.metrics.ValidationMetrics;
+import com.mycompany.validator.core.metrics.ValidationPhase;
 import com.mycompany.validator.core.model.ConfigurationError;
 import com.mycompany.validator.core.model.ErrorType;
 import com.mycompany.validator.core.model.PropertySource;
+import com.mycompany.validator.core.report.ReportPublisher;
+import com.mycompany.validator.micronaut.ConfigurationPropertiesMetadata.ConfiguredProperty;
 import io.micronaut.context.BeanContext;
+import io.micronaut.context.BeanRegistration;
+import io.micronaut.context.Qualifier;
 import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.context.annotation.Context;
+import io.micronaut.context.event.ApplicationEventListener;
 import io.micronaut.context.event.BeanInitializingEvent;
 import io.micronaut.context.event.BeanInitializedEventListener;
+import io.micronaut.context.event.StartupEvent;
 import io.micronaut.core.order.Ordered;
+import io.micronaut.core.value.PropertyResolver;
+import io.micronaut.inject.BeanDefinition;
+import io.micronaut.inject.qualifiers.Qualifiers;
 import jakarta.inject.Singleton;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
 
 /**
  * Validator qui intercepte tous les beans @ConfigurationProperties
  * après leur initialisation (property injection) et vérifie que leurs propriétés ne sont pas null.
+ * 
+ * Micronaut ne filtre les listeners que par type de bean : celui-ci reçoit donc tous les beans.
+ * Les types @ConfigurationProperties sont lus une fois dans les définitions (index des stéréotypes),
+ * puis le verdict de chaque classe est mis en cache dans un {@link ClassValue} : pour un bean
+ * ordinaire, le coût se limite à une lecture de ce cache.
+ * 
+ * Les erreurs sont collectées sans verrou et rapportées ensemble à la fin du démarrage du contexte
+ * (StartupEvent), avec celles des beans déjà créés que le listener n'a pas vus. Un bean créé
+ * à la demande après le démarrage est rapporté dès sa création.
  */
 @Context
 @Singleton
-public class MicronautConfigurationPropertiesValidator implements BeanInitializedEventListener<Object>, Ordered {
+public class MicronautConfigurationPropertiesValidator
+        implements BeanInitializedEventListener<Object>, ApplicationEventListener<StartupEvent>, Ordered {
     
     private static final Logger logger = LoggerFactory.getLogger(MicronautConfigurationPropertiesValidator.class);
     
+    private static final Qualifier<Object> CONFIGURATION_PROPERTIES = Qualifiers.byStereotype(ConfigurationProperties.class);
+    
+    private final BeanContext beanContext;
     private final SecretDetector secretDetector = new SecretDetector();
     private final BeautifulErrorFormatter formatter = new BeautifulErrorFormatter();
-    private final ConcurrentHashMap<Class<?>, Boolean> validatedClasses = new ConcurrentHashMap<>();
-    private final List<ConfigurationError> allErrors = new ArrayList<>();
-    private final AtomicBoolean hasReportedErrors = new AtomicBoolean(false);
+    private final Map<Class<?>, String> configurationTypes;
+    private final Set<Class<?>> validatedClasses = ConcurrentHashMap.newKeySet();
+    private final ConcurrentLinkedQueue<ConfigurationError> pendingErrors = new ConcurrentLinkedQueue<>();
+    private volatile boolean started;
+    
+    /**
+     * Type @ConfigurationProperties par classe de bean, vide si la classe n'en est pas un.
+     * La hiérarchie est parcourue une seule fois par classe : un proxy AOP (@Refreshable...)
+     * est rattaché au type configuré qu'il étend.
+     */
+    private final ClassValue<Optional<ConfigurationType>> configurationTypeByClass = new ClassValue<>() {
+        @Override
+        protected Optional<ConfigurationType> computeValue(Class<?> type) {
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                String prefix = configurationTypes.get(current);
+                if (prefix != null) {
+                    return Optional.of(new ConfigurationType(current, prefix));
+                }
+            }
+            return Optional.empty();
+        }
+    };
     
-    public MicronautConfigurationPropertiesValidator() {
-        logger.info("🔍 MicronautConfigurationPropertiesValidator initialized");
+    public MicronautConfigurationPropertiesValidator(BeanContext beanContext) {
+        this.beanContext = beanContext;
+        this.configurationTypes = findConfigurationTypes(beanContext);
+        logger.info("🔍 MicronautConfigurationPropertiesValidator initialized ({} @ConfigurationProperties type(s))",
+            configurationTypes.size());
     }
     
     @Override
     public Object onInitialized(BeanInitializingEvent<Object> event) {
         Object bean = event.getBean();
-        Class<?> beanClass = bean.getClass();
+        if (validate(bean) && started) {
+            // Bean créé à la demande après le démarrage : plus rien à attendre, rapporter tout de suite
+            reportErrors();
+        }
+        return bean;
+    }
+    
+    @Override
+    public void onApplicationEvent(StartupEvent event) {
+        // Micronaut ne notifie les listeners d'initialisation que pour les beans ayant un @PostConstruct :
+        // les autres beans @ConfigurationProperties déjà créés sont validés ici
+        for (BeanRegistration<?> registration : beanContext.getActiveBeanRegistrations(CONFIGURATION_PROPERTIES)) {
+            validate(registration.getBean());
+        }
+        started = true;
+        reportErrors();
+    }
+    
+    /**
+     * Valide un bean s'il est @ConfigurationProperties et n'a pas encore été validé.
+     * 
+     * @return true si des erreurs ont été collectées
+     */
+    private boolean validate(Object bean) {
+        Optional<ConfigurationType> match = configurationTypeByClass.get(bean.getClass());
+        if (match.isEmpty() || !validatedClasses.add(match.get().type)) {
+            return false;
+        }
         
-        logger.debug("onInitialized called for bean: {}", beanClass.getSimpleName());
+        // Métadonnées du type configuré, pas du proxy : seul le type déclaré a une BeanIntrospection
+        Class<?> beanClass = match.get().type;
+        String prefix = match.get().prefix;
+        logger.info("Validating @ConfigurationProperties bean: {} with prefix: {}", beanClass.getSimpleName(), prefix);
         
-        // Ignorer les beans internes de Micronaut
-        if (isInternalMicronautBean(beanClass)) {
-            return bean;
-        }
+        // Valider les propriétés de ce bean (une mesure par bean : ils sont initialisés à la demande)
+        PhaseTimer phaseTimer = ValidationMetrics.start(ValidationMetrics.FRAMEWORK_MICRONAUT, ValidationPhase.BEAN_PROPERTIES);
+        ConfigurationPropertiesMetadata metadata = ConfigurationPropertiesMetadata.forClass(beanClass, prefix);
+        List<ConfigurationError> errors = validateBean(bean, metadata, beanClass);
+        phaseTimer.bean(beanClass)
+            .keysScanned(metadata.getProperties().size())
+            .errors(errors)
+            .stop();
         
-        // Vérifier si la classe a @ConfigurationProperties
-        ConfigurationProperties annotation = findConfigurationPropertiesAnnotation(beanClass);
-        if (annotation != null && !validatedClasses.containsKey(beanClass)) {
-            validatedClasses.put(beanClass, true);
-            String prefix = annotation.value();
-            logger.info("Validating @ConfigurationProperties bean: {} with prefix: {}", beanClass.getSimpleName(), prefix);
-            
-            // Valider les propriétés de ce bean
-            List<ConfigurationError> errors = validateBean(bean, prefix, beanClass);
-            
-            if (!errors.isEmpty()) {
-                synchronized (allErrors) {
-                    allErrors.addAll(errors);
-                }
-                
-                // Rapporter les erreurs immédiatement
-                if (hasReportedErrors.compareAndSet(false, true)) {
-                    reportErrors();
-                }
-            }
+        pendingErrors.addAll(errors);
+        return !errors.isEmpty();
+    }
+    
+    /**
+     * Rapporte en une fois les erreurs collectées depuis le dernier rapport.
+     */
+    private void reportErrors() {
+        List<ConfigurationError> errors = new ArrayList<>();
+        for (ConfigurationError error = pendingErrors.poll(); error != null; error = pendingErrors.poll()) {
+            errors.add(error);
+        }
+        if (errors.isEmpty()) {
+            return;
         }
         
-        return bean;
+        ValidationResult result = new ValidationResult(errors);
+        // Le contexte d'application donne accès à la configuration du formatter et du rapport
+        Function<String, String> properties = beanContext instanceof PropertyResolver
+            ? name -> ((PropertyResolver) beanContext).getProperty(name, String.class).orElse(null)
+            : name -> null;
+        PhaseTimer formatting = ValidationMetrics.start(ValidationMetrics.FRAMEWORK_MICRONAUT, ValidationPhase.FAILURE_FORMATTING);
+        formatter.withProperties(properties).print(result, System.err);
+        formatting.stop();
+        ReportPublisher.fromProperties(properties).publish(result);
+        
+        logger.error("❌ Configuration validation failed with {} error(s)", errors.size());
+        
+        // Arrêter l'application
+        throw new ConfigurationValidationException(
+            "Configuration validation failed with " + errors.size() + " error(s)",
+            result
+        );
     }
     
-    private void reportErrors() {
-        if (!allErrors.isEmpty()) {
-            ValidationResult result = new ValidationResult(allErrors);
-            String formattedErrors = formatter.format(result);
-            
-            System.err.println(formattedErrors);
-            logger.error("❌ Configuration validation failed with {} error(s)", allErrors.size());
-            
-            // Arrêter l'application
-            throw new ConfigurationValidationException(
-                "Configuration validation failed with " + allErrors.size() + " error(s)",
-                result
-            );
+    /**
+     * Types des beans @ConfigurationProperties et leur préfixe, lus dans les métadonnées
+     * générées à la compilation (aucune instanciation).
+     */
+    private static Map<Class<?>, String> findConfigurationTypes(BeanContext beanContext) {
+        Map<Class<?>, String> types = new HashMap<>();
+        Collection<BeanDefinition<Object>> definitions =
+            beanContext.getBeanDefinitions(Object.class, CONFIGURATION_PROPERTIES);
+        for (BeanDefinition<Object> definition : definitions) {
+            Class<?> beanClass = definition.getBeanType();
+            // Ignorer les beans internes de Micronaut
+            if (!isInternalMicronautBean(beanClass)) {
+                types.putIfAbsent(beanClass, definition.stringValue(ConfigurationProperties.class).orElse(""));
+            }
         }
+        return types;
     }
     
     /**
      * Vérifie si un bean fait partie des packages internes de Micronaut.
      */
-    private boolean isInternalMicronautBean(Class<?> beanClass) {
+    private static boolean isInternalMicronautBean(Class<?> beanClass) {
         String packageName = beanClass.getPackage() != null ? beanClass.getPackage().getName() : "";
         return packageName.startsWith("io.micronaut.") 
             || packageName.startsWith("com.fasterxml.jackson.")
             || packageName.startsWith("io.netty.");
     }
     
-    private ConfigurationProperties findConfigurationPropertiesAnnotation(Class<?> clazz) {
-        Class<?> current = clazz;
-        while (current != null && current != Object.class) {
-            ConfigurationProperties annotation = current.getAnnotation(ConfigurationProperties.class);
-            if (annotation != null) {
-                return annotation;
-            }
-            current = current.getSuperclass();
-        }
-        return null;
-    }
-    
-    private List<ConfigurationError> validateBean(Object bean, String prefix, Class<?> beanClass) {
+    private List<ConfigurationError> validateBean(Object bean, ConfigurationPropertiesMetadata metadata, Class<?> beanClass) {
         List<ConfigurationError> errors = new ArrayList<>();
         
-        // Parcourir tous les champs
-        for (Field field : beanClass.getDeclaredFields()) {
-            field.setAccessible(true);
+        // Propriétés et noms kebab-case précalculés une fois par classe (BeanIntrospection)
+        for (ConfiguredProperty property : metadata.getProperties()) {
+            Object value = property.read(bean);
+            if (value == ConfiguredProperty.UNREADABLE) {
+                continue;
+            }
             
-            try {
-                Object value = field.get(bean);
-                String fieldName = field.getName();
-                String fullPropertyName = prefix.isEmpty() ? fieldName : prefix + "." + convertToKebabCase(fieldName);
+            // Vérifier si la valeur est null
+            if (value == null) {
+                String fullPropertyName = property.getPropertyName();
+                boolean isSensitive = secretDetector.isSensitive(fullPropertyName);
                 
-                // Vérifier si la valeur est null
-                if (value == null) {
-                    boolean isSensitive = secretDetector.isSensitive(fullPropertyName);
-                    
-                    errors.add(ConfigurationError.builder()
-                            .type(ErrorType.MISSING_PROPERTY)
-                            .propertyName(fullPropertyName)
-                            .errorMessage(String.format("Property '%s' is not set", fullPropertyName))
-                            .suggestion(generateSuggestion(fullPropertyName))
-                            .source(new PropertySource(
-                                    "application.yml",
-                                    "classpath:/application.yml",
-                                    PropertySource.SourceType.APPLICATION_YAML
-                            ))
-                            .isSensitive(isSensitive)
-                            .build());
-                    
-                    logger.warn("Property '{}' is null in bean {}", fullPropertyName, beanClass.getSimpleName());
-                }
-            } catch (IllegalAccessException e) {
-                logger.warn("Cannot access field {} in {}", field.getName(), beanClass.getSimpleName());
+                errors.add(ConfigurationError.builder()
+                        .type(ErrorType.MISSING_PROPERTY)
+                        .propertyName(fullPropertyName)
+                        .errorMessage(String.format("Property '%s' is not set", fullPropertyName))
+                        .suggestion(generateSuggestion(fullPropertyName))
+                        .source(new PropertySource(
+                                "application.yml",
+                                "classpath:/application.yml",
+                                PropertySource.SourceType.APPLICATION_YAML
+                        ))
+                        .isSensitive(isSensitive)
+                        .build());
+                
+                logger.warn("Property '{}' is null in bean {}", fullPropertyName, beanClass.getSimpleName());
             }
         }
         
         return errors;
     }
     
-    private String convertToKebabCase(String camelCase) {
-        // Convertir camelCase en kebab-case
-        // maxConnections -> max-connections
-        // apiKey -> api-key
-        return camelCase.replaceAll("([a-z0-9])([A-Z])", "$1-$2").toLowerCase();
-    }
-    
     private String generateSuggestion(String propertyName) {
         String envVarName = propertyName.replace('.', '_').replace('-', '_').toUpperCase();
         return String.format("Add to application.yml: %s: <value>\nOR set environment variable: export %s=<value>",
@@ -172,10 +246,24 @@ public class MicronautConfigurationPropertiesValidator implements BeanInitialize
     
     @Override
     public int getOrder() {
-        // S'exécuter en tout premier pour valider les beans dès leur création
+        // S'exécuter en tout premier : valider les beans dès leur création, rapporter avant les autres listeners
         return Ordered.HIGHEST_PRECEDENCE;
     }
     
+    /**
+     * Classe portant @ConfigurationProperties et son préfixe.
+     */
+    private static final class ConfigurationType {
+        
+        private final Class<?> type;
+        private final String prefix;
+        
+        private ConfigurationType(Class<?> type, String prefix) {
+            this.type = type;
+            this.prefix = prefix;
+        }
+    }
+    
     public static class ConfigurationValidationException extends RuntimeException {
         private final ValidationResult validationResult;
         
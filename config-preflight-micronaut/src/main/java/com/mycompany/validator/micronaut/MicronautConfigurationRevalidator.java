@@ -0,0 +1,106 @@
+package com.mycompany.validator.micronaut;
+
+import com.mycompany.validator.core.api.ValidationDelta;
+import com.mycompany.validator.core.detector.CanonicalPropertyIndex;
+import com.mycompany.validator.core.detector.SecretDetector;
+import com.mycompany.validator.core.engine.IncrementalValidator;
+import com.mycompany.validator.core.formatter.BeautifulErrorFormatter;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.runtime.context.scope.refresh.RefreshEvent;
+import io.micronaut.runtime.event.annotation.EventListener;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Revalide la configuration après un RefreshEvent Micronaut.
+ * 
+ * L'état de référence (graphe des placeholders + erreurs) est pris au démarrage.
+ * À chaque rafraîchissement, seules les clés modifiées et les propriétés dont les placeholders
+ * en dépendent sont revérifiées ; la différence est publiée comme événement {@link ValidationDelta}.
+ * 
+ * Contrairement au démarrage, une erreur n'arrête pas l'application : elle est journalisée et publiée.
+ */
+@Singleton
+@Requires(property = "configuration.validator.enabled", value = "true", defaultValue = "true")
+@Requires(property = "configuration.validator.revalidate-on-refresh", value = "true", defaultValue = "true")
+public class MicronautConfigurationRevalidator {
+    
+    private static final Logger logger = LoggerFactory.getLogger(MicronautConfigurationRevalidator.class);
+    
+    private final MicronautConfigurationValidator validator;
+    private final ApplicationEventPublisher<ValidationDelta> publisher;
+    private final IncrementalValidator incrementalValidator;
+    private final BeautifulErrorFormatter formatter = new BeautifulErrorFormatter();
+    
+    public MicronautConfigurationRevalidator(MicronautConfigurationValidator validator,
+                                             ApplicationEventPublisher<ValidationDelta> publisher) {
+        this.validator = validator;
+        this.publisher = publisher;
+        this.incrementalValidator = new IncrementalValidator(validator::checkProperty, new SecretDetector());
+    }
+    
+    @EventListener
+    public void onStartup(StartupEvent event) {
+        initialize();
+    }
+    
+    @EventListener
+    public void onRefresh(RefreshEvent event) {
+        Map<String, Object> changes = event.getSource();
+        if (changes.size() == 1 && "*".equals(changes.get("all"))) {
+            // Rafraîchissement complet : toutes les clés connues sont considérées comme modifiées
+            validator.startRun();
+            revalidate(validator.getSnapshot().getRawProperties().keySet());
+        } else {
+            revalidate(changes.keySet());
+        }
+    }
+    
+    /**
+     * Prend l'état de référence : validation complète des placeholders, ou celle déjà réussie
+     * par {@link MicronautEarlyValidator} dans le run du démarrage.
+     */
+    void initialize() {
+        MicronautValidationCoordinator.PropertySnapshot snapshot = validator.getSnapshot();
+        incrementalValidator.initialize(snapshot.getGraph(), validator.validatePlaceholders(snapshot).getErrors());
+    }
+    
+    /**
+     * Revalide les clés modifiées et leurs dépendants, puis publie la différence.
+     * 
+     * @param changedKeys Clés modifiées par le rafraîchissement
+     * @return Différence publiée, ou null si l'état de référence vient d'être pris
+     */
+    ValidationDelta revalidate(Collection<String> changedKeys) {
+        if (!incrementalValidator.isInitialized()) {
+            initialize();
+            return null;
+        }
+        
+        validator.startRun();
+        CanonicalPropertyIndex index = validator.getBindingResolver().getIndex();
+        Map<String, String> changes = new LinkedHashMap<>();
+        for (String key : changedKeys) {
+            CanonicalPropertyIndex.Entry entry = index.find(key);
+            changes.put(key, entry == null ? null : entry.getValue() != null ? entry.getValue() : "");
+        }
+        
+        ValidationDelta delta = incrementalValidator.revalidate(changes);
+        
+        if (delta.getNewErrors().hasErrors()) {
+            logger.error(formatter.format(delta.getNewErrors()));
+        } else if (delta.hasChanges()) {
+            logger.info("✅ Configuration refresh resolved {} error(s)", delta.getResolvedErrors().getErrorCount());
+        }
+        publisher.publishEvent(delta);
+        
+        return delta;
+    }
+}
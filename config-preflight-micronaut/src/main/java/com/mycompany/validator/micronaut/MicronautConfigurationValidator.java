@@ -1,10 +1,16 @@
 package com.mycompany.validator.micronaut;
 
 import com.mycompany.validator.core.api.ConfigurationValidator;
+import com.mycompany.validator.core.api.ErrorSink;
 import com.mycompany.validator.core.api.ValidationResult;
 import com.mycompany.validator.core.model.*;
-import com.mycompany.validator.core.detector.PlaceholderDetector;
+import com.mycompany.validator.core.detector.PlaceholderGraph;
+import com.mycompany.validator.core.engine.ValidationEngine;
+import com.mycompany.validator.core.engine.ValidationRun;
+import com.mycompany.validator.core.metrics.ConfigPreflightValidationEvent;
+import com.mycompany.validator.core.metrics.ValidationMetrics;
 import io.micronaut.context.env.Environment;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 import java.util.*;
@@ -17,57 +23,46 @@ import java.util.*;
 public class MicronautConfigurationValidator implements ConfigurationValidator {
     
     private final Environment environment;
-    private final PlaceholderDetector placeholderDetector;
     private final MicronautPropertyBindingResolver bindingResolver;
+    private final MicronautValidationCoordinator coordinator;
+    
+    /**
+     * @param coordinator Run partagé avec les autres phases du démarrage
+     */
+    @Inject
+    public MicronautConfigurationValidator(MicronautValidationCoordinator coordinator) {
+        this.coordinator = coordinator;
+        this.environment = coordinator.getEnvironment();
+        this.bindingResolver = coordinator.getBindingResolver();
+    }
     
     public MicronautConfigurationValidator(Environment environment) {
-        this.environment = environment;
-        this.placeholderDetector = new PlaceholderDetector();
-        this.bindingResolver = new MicronautPropertyBindingResolver(environment);
+        this(new MicronautValidationCoordinator(environment));
     }
     
     @Override
     public ValidationResult validateAll() {
-        List<ConfigurationError> errors = new ArrayList<>();
-        
-        // Valider toutes les propriétés connues
-        Map<String, Object> properties = environment.getProperties(null);
-        
-        for (Map.Entry<String, Object> entry : properties.entrySet()) {
-            String propertyName = entry.getKey();
-            Object value = entry.getValue();
-            
-            if (value instanceof String) {
-                String stringValue = (String) value;
-                
-                // Vérifier les placeholders
-                List<String> placeholders = placeholderDetector.detectPlaceholders(stringValue);
-                for (String placeholder : placeholders) {
-                    if (!bindingResolver.propertyExists(placeholder)) {
-                        errors.add(ConfigurationError.builder()
-                            .type(ErrorType.UNRESOLVED_PLACEHOLDER)
-                            .propertyName(propertyName)
-                            .errorMessage(String.format(
-                                "Cannot resolve placeholder '${%s}' in property '%s'",
-                                placeholder, propertyName
-                            ))
-                            .suggestion(bindingResolver.generateSuggestion(placeholder))
-                            .build());
-                    }
-                }
-            }
-        }
+        ConfigPreflightValidationEvent event = ConfigPreflightValidationEvent.start(ValidationMetrics.FRAMEWORK_MICRONAUT, ConfigPreflightValidationEvent.VALIDATE_ALL);
+        coordinator.startRun();
+        ErrorSink sink = newErrorSink();
         
-        return new ValidationResult(errors);
+        // Cycles puis placeholders requis des valeurs brutes, vérifiés comme dans les autres phases
+        ValidationResult result = coordinator.scanPlaceholders(sink, newEngine(), null);
+        return event.finish(coordinator.getSnapshot().getRawProperties().size(), result);
     }
     
     @Override
     public ValidationResult validateRequired(String... requiredProperties) {
-        List<ConfigurationError> errors = new ArrayList<>();
+        ConfigPreflightValidationEvent event = ConfigPreflightValidationEvent.start(ValidationMetrics.FRAMEWORK_MICRONAUT, ConfigPreflightValidationEvent.VALIDATE_REQUIRED);
+        coordinator.startRun();
+        ErrorSink sink = newErrorSink();
         
         for (String property : requiredProperties) {
+            if (sink.isStopped()) {
+                break;
+            }
             if (!bindingResolver.propertyExists(property)) {
-                errors.add(ConfigurationError.builder()
+                sink.accept(() -> ConfigurationError.builder()
                     .type(ErrorType.MISSING_PROPERTY)
                     .propertyName(property)
                     .errorMessage(String.format(
@@ -83,7 +78,7 @@ public class MicronautConfigurationValidator implements ConfigurationValidator {
                 String value = bindingResolver.getPropertyValue(property);
                 if (value != null && value.trim().isEmpty()) {
                     String actualName = bindingResolver.findActualPropertyName(property);
-                    errors.add(ConfigurationError.builder()
+                    sink.accept(() -> ConfigurationError.builder()
                         .type(ErrorType.EMPTY_VALUE)
                         .propertyName(property)
                         .errorMessage(String.format(
@@ -96,43 +91,80 @@ public class MicronautConfigurationValidator implements ConfigurationValidator {
             }
         }
         
-        return new ValidationResult(errors);
+        return event.finish(requiredProperties.length, sink.toResult());
     }
     
     @Override
     public ValidationResult validatePlaceholders() {
-        List<ConfigurationError> errors = new ArrayList<>();
-        
-        Map<String, Object> properties = environment.getProperties(null);
-        
-        for (Map.Entry<String, Object> entry : properties.entrySet()) {
-            String propertyName = entry.getKey();
-            Object value = entry.getValue();
-            
-            if (value instanceof String) {
-                String stringValue = (String) value;
-                // Utiliser detectRequiredPlaceholders pour ignorer ceux avec valeur par défaut
-                List<String> requiredPlaceholders = placeholderDetector.detectRequiredPlaceholders(stringValue);
-                
-                for (String placeholder : requiredPlaceholders) {
-                    if (!bindingResolver.propertyExists(placeholder)) {
-                        String envVarName = bindingResolver.getBaseResolver().toEnvironmentVariableName(placeholder);
-                        
-                        errors.add(ConfigurationError.builder()
-                            .type(ErrorType.UNRESOLVED_PLACEHOLDER)
-                            .propertyName(propertyName)
-                            .errorMessage(String.format(
-                                "Cannot resolve placeholder '${%s}' in property '%s' " +
-                                "(tried: %s, %s, and other variants)",
-                                placeholder, propertyName, placeholder, envVarName
-                            ))
-                            .suggestion(bindingResolver.generateSuggestion(placeholder))
-                            .build());
-                    }
-                }
-            }
+        ConfigPreflightValidationEvent event = ConfigPreflightValidationEvent.start(ValidationMetrics.FRAMEWORK_MICRONAUT, ConfigPreflightValidationEvent.VALIDATE_PLACEHOLDERS);
+        coordinator.startRun();
+        MicronautValidationCoordinator.PropertySnapshot snapshot = coordinator.getSnapshot();
+        return event.finish(snapshot.getRawProperties().size(), coordinator.scanPlaceholders(newErrorSink(), newEngine(), null));
+    }
+    
+    /**
+     * Valide les placeholders dans le run du démarrage, sans reparcourir les sources :
+     * le scan déjà réussi de {@link MicronautEarlyValidator} est réutilisé tel quel.
+     */
+    ValidationResult validatePlaceholdersOnStartup() {
+        ValidationRun run = coordinator.currentRun();
+        ValidationResult previous = run.get(ValidationRun.PLACEHOLDER_SCAN);
+        if (previous != null) {
+            return previous;
         }
         
-        return new ValidationResult(errors);
+        ConfigPreflightValidationEvent event = ConfigPreflightValidationEvent.start(ValidationMetrics.FRAMEWORK_MICRONAUT, ConfigPreflightValidationEvent.VALIDATE_PLACEHOLDERS);
+        MicronautValidationCoordinator.PropertySnapshot snapshot = coordinator.getSnapshot();
+        ValidationResult result = event.finish(snapshot.getRawProperties().size(), coordinator.scanPlaceholders(newErrorSink(), newEngine(), null));
+        if (!result.hasErrors()) {
+            run.put(ValidationRun.PLACEHOLDER_SCAN, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Valide les placeholders des valeurs brutes du run courant, en conservant toutes les erreurs
+     * (état de référence de la revalidation incrémentale). Le scan déjà réussi au démarrage
+     * dans ce run est réutilisé.
+     */
+    ValidationResult validatePlaceholders(MicronautValidationCoordinator.PropertySnapshot snapshot) {
+        return coordinator.currentRun().computeIfAbsent(ValidationRun.PLACEHOLDER_SCAN,
+            () -> coordinator.scanPlaceholders(ErrorSink.collectAll(), newEngine(), null));
+    }
+    
+    /**
+     * Revérifie les placeholders de la valeur brute d'une seule propriété, comme le scan complet.
+     */
+    void checkProperty(String propertyName, PlaceholderGraph graph, List<ConfigurationError> errors) {
+        coordinator.checkProperty(propertyName, graph, errors);
+    }
+    
+    /**
+     * Début d'une validation : un nouveau run est ouvert, l'index des propriétés est reconstruit.
+     */
+    void startRun() {
+        coordinator.startRun();
+    }
+    
+    /**
+     * Valeurs brutes et graphe du run courant.
+     */
+    MicronautValidationCoordinator.PropertySnapshot getSnapshot() {
+        return coordinator.getSnapshot();
+    }
+    
+    MicronautPropertyBindingResolver getBindingResolver() {
+        return bindingResolver;
+    }
+    
+    /**
+     * Sink du mode configuré (configuration.validator.error-mode), un par validation.
+     */
+    private ErrorSink newErrorSink() {
+        return ErrorSink.fromProperties(name -> environment.getProperty(name, String.class).orElse(null));
+    }
+    
+    private ValidationEngine newEngine() {
+        return ValidationEngine.fromProperties(name -> environment.getProperty(name, String.class).orElse(null));
     }
 }
@@ -1,18 +1,20 @@
 package com.mycompany.validator.micronaut;
 
+import com.mycompany.validator.core.api.ErrorSink;
 import com.mycompany.validator.core.api.ValidationResult;
-import com.mycompany.validator.core.detector.PlaceholderDetector;
-import com.mycompany.validator.core.detector.SecretDetector;
+import com.mycompany.validator.core.engine.ValidationEngine;
+import com.mycompany.validator.core.engine.ValidationRun;
 import com.mycompany.validator.core.formatter.BeautifulErrorFormatter;
-import com.mycompany.validator.core.model.ConfigurationError;
-import com.mycompany.validator.core.model.ErrorType;
+import com.mycompany.validator.core.metrics.PhaseTimer;
+import com.mycompany.validator.core.metrics.ValidationMetrics;
+import com.mycompany.validator.core.metrics.ValidationPhase;
+import com.mycompany.validator.core.report.ReportPublisher;
 import io.micronaut.context.event.ApplicationEventListener;
 import io.micronaut.context.event.StartupEvent;
 import io.micronaut.core.order.Ordered;
 import jakarta.inject.Singleton;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.function.Function;
 
 /**
  * Validateur précoce pour Micronaut.
@@ -24,12 +26,15 @@ import java.util.List;
 public class MicronautEarlyValidator implements ApplicationEventListener<StartupEvent>, Ordered {
     
     private final io.micronaut.context.env.Environment environment;
-    private final PlaceholderDetector placeholderDetector = new PlaceholderDetector();
-    private final SecretDetector secretDetector = new SecretDetector();
+    private final MicronautValidationCoordinator coordinator;
     private final BeautifulErrorFormatter formatter = new BeautifulErrorFormatter();
     
-    public MicronautEarlyValidator(io.micronaut.context.env.Environment environment) {
-        this.environment = environment;
+    /**
+     * @param coordinator Run partagé avec les phases suivantes du démarrage
+     */
+    public MicronautEarlyValidator(MicronautValidationCoordinator coordinator) {
+        this.environment = coordinator.getEnvironment();
+        this.coordinator = coordinator;
     }
     
     @Override
@@ -49,59 +54,39 @@ public class MicronautEarlyValidator implements ApplicationEventListener<Startup
         }
         
         // Valider les placeholders
-        List<ConfigurationError> errors = validatePlaceholders();
+        PhaseTimer scan = ValidationMetrics.start(ValidationMetrics.FRAMEWORK_MICRONAUT, ValidationPhase.EARLY_PLACEHOLDER_SCAN);
+        ValidationResult result = validatePlaceholders(scan);
+        scan.errors(result.getErrors()).stop();
+        ReportPublisher.fromProperties(name -> environment.getProperty(name, String.class).orElse(null)).publish(result);
         
-        if (!errors.isEmpty()) {
-            ValidationResult result = new ValidationResult(errors);
-            String formattedErrors = formatter.format(result);
+        if (result.hasErrors()) {
+            PhaseTimer formatting = ValidationMetrics.start(ValidationMetrics.FRAMEWORK_MICRONAUT, ValidationPhase.FAILURE_FORMATTING);
+            formatter.withProperties(name -> environment.getProperty(name, String.class).orElse(null)).print(result, System.err);
+            formatting.stop();
             
-            System.err.println(formattedErrors);
             System.err.println("⚠️  Configuration validation failed during early startup phase.");
             System.err.println("💡 Fix the errors above before starting the application.");
             
             // Arrêter l'application immédiatement
             throw new ConfigurationValidationException(
-                "Configuration validation failed with " + errors.size() + " error(s)",
+                "Configuration validation failed with " + result.getErrorCount() + " error(s)",
                 result
             );
         }
     }
     
-    private List<ConfigurationError> validatePlaceholders() {
-        List<ConfigurationError> errors = new ArrayList<>();
-        MicronautPropertyBindingResolver bindingResolver = new MicronautPropertyBindingResolver(environment);
+    private ValidationResult validatePlaceholders(PhaseTimer scan) {
+        Function<String, String> configProperties = name -> environment.getProperty(name, String.class).orElse(null);
+        // Erreurs transmises au fil du scan (collect-all, fail-fast ou cap selon la configuration)
+        ErrorSink sink = ErrorSink.fromProperties(configProperties);
         
-        // Parcourir toutes les propriétés
-        java.util.Map<String, Object> properties = environment.getProperties(null);
-        for (java.util.Map.Entry<String, Object> entry : properties.entrySet()) {
-            String propertyName = entry.getKey();
-            Object valueObj = entry.getValue();
-            String value = valueObj instanceof String ? (String) valueObj : null;
-            
-            if (value != null) {
-                // Utiliser detectRequiredPlaceholders pour ignorer ceux avec valeur par défaut
-                List<String> requiredPlaceholders = placeholderDetector.detectRequiredPlaceholders(value);
-                
-                for (String placeholder : requiredPlaceholders) {
-                    if (!bindingResolver.propertyExists(placeholder)) {
-                        boolean isSensitive = secretDetector.isSensitive(placeholder);
-                        
-                        errors.add(ConfigurationError.builder()
-                            .type(ErrorType.UNRESOLVED_PLACEHOLDER)
-                            .propertyName(propertyName)
-                            .errorMessage(String.format(
-                                "Cannot resolve placeholder '${%s}' in property '%s'",
-                                placeholder, propertyName
-                            ))
-                            .suggestion(bindingResolver.generateSuggestion(placeholder))
-                            .isSensitive(isSensitive)
-                            .build());
-                    }
-                }
-            }
+        // Valeurs brutes, graphe et index lus en un seul parcours des sources, partagés avec les phases suivantes
+        ValidationResult result = coordinator.scanPlaceholders(sink, ValidationEngine.fromProperties(configProperties), scan);
+        if (!result.hasErrors()) {
+            // Scan complet sans erreur : la revalidation et MicronautValidatorConfiguration le réutilisent
+            coordinator.currentRun().put(ValidationRun.PLACEHOLDER_SCAN, result);
         }
-        
-        return errors;
+        return result;
     }
     
     @Override
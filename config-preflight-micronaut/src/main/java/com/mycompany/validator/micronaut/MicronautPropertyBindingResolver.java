@@ -1,18 +1,32 @@
 package com.mycompany.validator.micronaut;
 
+import com.mycompany.validator.core.detector.CanonicalPropertyIndex;
+import com.mycompany.validator.core.detector.PlaceholderScanner;
 import com.mycompany.validator.core.detector.PropertyBindingResolver;
 import io.micronaut.context.env.Environment;
+import io.micronaut.context.env.PropertySource;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Résout les bindings de propriétés pour Micronaut.
+ * 
+ * Les PropertySources sont indexées une fois par validation ({@link CanonicalPropertyIndex}) :
+ * chaque requête coûte une seule recherche, quelle que soit la variante de nom utilisée.
  */
 public class MicronautPropertyBindingResolver {
     
+    /**
+     * Valeurs aléatoires générées par le résolveur de placeholders de Micronaut (${random.port}, ${random.uuid}...) :
+     * elles n'existent dans aucune PropertySource.
+     */
+    private static final String RANDOM_PREFIX = "random.";
+    
     private final Environment environment;
     private final PropertyBindingResolver baseResolver;
+    private volatile CanonicalPropertyIndex index;
     
     public MicronautPropertyBindingResolver(Environment environment) {
         this.environment = environment;
@@ -20,72 +34,90 @@ public class MicronautPropertyBindingResolver {
     }
     
     public boolean propertyExists(String propertyName) {
-        // Test 1 : Nom original
-        Optional<String> value = environment.getProperty(propertyName, String.class);
-        if (value.isPresent()) {
+        if (getIndex().contains(propertyName)) {
             return true;
         }
-        
-        // Test 2 : Variable d'environnement
-        String envVarName = baseResolver.toEnvironmentVariableName(propertyName);
-        value = environment.getProperty(envVarName, String.class);
-        if (value.isPresent()) {
-            return true;
-        }
-        
-        // Test 3 : Toutes les variantes
-        List<String> variants = baseResolver.getAllVariants(propertyName);
-        for (String variant : variants) {
-            value = environment.getProperty(variant, String.class);
-            if (value.isPresent()) {
-                return true;
-            }
-        }
-        
-        return false;
+        // Propriétés calculées hors des PropertySources : un seul accès direct
+        return propertyName.startsWith(RANDOM_PREFIX) || environment.containsProperty(propertyName);
     }
     
     public String getPropertyValue(String propertyName) {
-        Optional<String> value = environment.getProperty(propertyName, String.class);
-        if (value.isPresent()) {
-            return value.get();
+        CanonicalPropertyIndex.Entry entry = getIndex().find(propertyName);
+        if (entry == null) {
+            return environment.getProperty(propertyName, String.class).orElse(null);
         }
         
-        String envVarName = baseResolver.toEnvironmentVariableName(propertyName);
-        value = environment.getProperty(envVarName, String.class);
-        if (value.isPresent()) {
-            return value.get();
+        String value = entry.getValue();
+        if (value == null || PlaceholderScanner.mayContainPlaceholder(value)) {
+            // Valeur structurée ou à résoudre : déléguer à l'Environment
+            return environment.getProperty(entry.getKey(), String.class).orElse(null);
         }
-        
-        List<String> variants = baseResolver.getAllVariants(propertyName);
-        for (String variant : variants) {
-            value = environment.getProperty(variant, String.class);
-            if (value.isPresent()) {
-                return value.get();
-            }
-        }
-        
-        return null;
+        return value;
     }
     
     public String findActualPropertyName(String propertyName) {
-        if (environment.getProperty(propertyName, String.class).isPresent()) {
-            return propertyName;
+        CanonicalPropertyIndex.Entry entry = getIndex().find(propertyName);
+        if (entry != null) {
+            return entry.getKey();
         }
-        
-        String envVarName = baseResolver.toEnvironmentVariableName(propertyName);
-        if (environment.getProperty(envVarName, String.class).isPresent()) {
-            return envVarName;
+        return environment.containsProperty(propertyName) ? propertyName : null;
+    }
+    
+    /**
+     * Retourne l'index des propriétés, construit au premier appel à partir des PropertySources
+     * (ordre décroissant : la plus prioritaire d'abord). Les variables d'environnement n'y figurent
+     * que si l'Environment expose leur PropertySource.
+     */
+    public CanonicalPropertyIndex getIndex() {
+        CanonicalPropertyIndex current = index;
+        if (current == null) {
+            CanonicalPropertyIndex.Builder builder = CanonicalPropertyIndex.builder();
+            forEachRawProperty(builder::add);
+            current = builder.build();
+            index = current;
         }
+        return current;
+    }
+    
+    /**
+     * Invalide l'index : il sera reconstruit à la prochaine requête.
+     */
+    public void refreshIndex() {
+        index = null;
+    }
+    
+    /**
+     * Installe un index construit pendant le parcours des sources d'un run
+     * ({@link MicronautValidationCoordinator}), au lieu de les parcourir à nouveau.
+     */
+    void useIndex(CanonicalPropertyIndex index) {
+        this.index = index;
+    }
+    
+    /**
+     * Parcourt les valeurs brutes (placeholders non résolus) de chaque PropertySource,
+     * la plus prioritaire d'abord. Une même propriété peut être rapportée plusieurs fois :
+     * la première occurrence l'emporte.
+     *
+     * @param consumer Reçoit la source, le nom et la valeur brute
+     */
+    public void forEachRawProperty(RawPropertyConsumer consumer) {
+        List<PropertySource> sources = new ArrayList<>(environment.getPropertySources());
+        sources.sort(Comparator.comparingInt(PropertySource::getOrder).reversed());
         
-        List<String> variants = baseResolver.getAllVariants(propertyName);
-        for (String variant : variants) {
-            if (environment.getProperty(variant, String.class).isPresent()) {
-                return variant;
+        for (PropertySource source : sources) {
+            for (String name : source) {
+                consumer.accept(source.getName(), name, source.get(name));
             }
         }
-        
-        return null;
+    }
+    
+    /**
+     * Reçoit une valeur brute pendant {@link #forEachRawProperty(RawPropertyConsumer)}.
+     */
+    @FunctionalInterface
+    public interface RawPropertyConsumer {
+        void accept(String sourceName, String name, Object rawValue);
     }
     
     public String generateSuggestion(String propertyName) {
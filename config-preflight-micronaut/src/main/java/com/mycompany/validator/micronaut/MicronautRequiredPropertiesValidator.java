@@ -1,11 +1,16 @@
 package com.mycompany.validator.micronaut;
 
 import com.mycompany.validator.core.api.ValidationResult;
-import com.mycompany.validator.core.detector.SecretDetector;
 import com.mycompany.validator.core.formatter.BeautifulErrorFormatter;
+import com.mycompany.validator.core.metrics.ConfigPreflightCheckEvent;
+import com.mycompany.validator.core.metrics.PhaseTimer;
+import com.mycompany.validator.core.metrics.ValidationMetrics;
+import com.mycompany.validator.core.metrics.ValidationPhase;
 import com.mycompany.validator.core.model.ConfigurationError;
 import com.mycompany.validator.core.model.ErrorType;
 import com.mycompany.validator.core.model.PropertySource;
+import com.mycompany.validator.core.report.ReportPublisher;
+import com.mycompany.validator.micronaut.ConfigurationPropertiesMetadata.ConfiguredProperty;
 import io.micronaut.context.BeanContext;
 import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.context.annotation.Requires;
@@ -17,10 +22,10 @@ import jakarta.inject.Singleton;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * Validator qui scanne automatiquement tous les beans @ConfigurationProperties
@@ -34,11 +39,15 @@ public class MicronautRequiredPropertiesValidator implements ApplicationEventLis
     
     private final Environment environment;
     private final BeanContext beanContext;
-    private final SecretDetector secretDetector = new SecretDetector();
+    private final MicronautValidationCoordinator coordinator;
     private final BeautifulErrorFormatter formatter = new BeautifulErrorFormatter();
     
-    public MicronautRequiredPropertiesValidator(Environment environment, BeanContext beanContext) {
-        this.environment = environment;
+    /**
+     * @param coordinator Run partagé avec les phases précédentes (trie des fichiers)
+     */
+    public MicronautRequiredPropertiesValidator(MicronautValidationCoordinator coordinator, BeanContext beanContext) {
+        this.environment = coordinator.getEnvironment();
+        this.coordinator = coordinator;
         this.beanContext = beanContext;
     }
     
@@ -46,6 +55,7 @@ public class MicronautRequiredPropertiesValidator implements ApplicationEventLis
     public void onApplicationEvent(ServerStartupEvent event) {
         logger.info("🔍 Scanning @ConfigurationProperties beans for null values...");
         
+        PhaseTimer phaseTimer = ValidationMetrics.start(ValidationMetrics.FRAMEWORK_MICRONAUT, ValidationPhase.REQUIRED_PROPERTIES);
         List<ConfigurationError> errors = new ArrayList<>();
         
         // Récupérer tous les bean definitions avec @ConfigurationProperties
@@ -59,22 +69,30 @@ public class MicronautRequiredPropertiesValidator implements ApplicationEventLis
                 continue;
             }
             
-            // Vérifier si la classe a @ConfigurationProperties
-            ConfigurationProperties annotation = findConfigurationPropertiesAnnotation(beanClass);
-            if (annotation != null) {
-                String prefix = annotation.value();
+            // Préfixe lu dans les métadonnées de la définition (générées à la compilation)
+            if (definition.hasStereotype(ConfigurationProperties.class)) {
+                String prefix = definition.stringValue(ConfigurationProperties.class).orElse("");
                 logger.debug("Found @ConfigurationProperties bean: {} with prefix: {}", beanClass.getSimpleName(), prefix);
                 
                 // Valider via l'Environment (pas besoin d'instancier le bean)
-                errors.addAll(validateBeanProperties(beanClass, prefix));
+                ConfigPreflightCheckEvent check = ConfigPreflightCheckEvent.start(ValidationMetrics.FRAMEWORK_MICRONAUT, ValidationPhase.REQUIRED_PROPERTIES);
+                List<ConfigurationError> beanErrors = validateBeanProperties(beanClass, prefix);
+                int keys = ConfigurationPropertiesMetadata.forClass(beanClass, prefix).getProperties().size();
+                check.finishBean(beanClass, keys, beanErrors.size());
+                errors.addAll(beanErrors);
+                phaseTimer.keysScanned(keys);
             }
         }
+        phaseTimer.errors(errors).stop();
         
         if (!errors.isEmpty()) {
             ValidationResult result = new ValidationResult(errors);
-            String formattedErrors = formatter.format(result);
+            PhaseTimer formatting = ValidationMetrics.start(ValidationMetrics.FRAMEWORK_MICRONAUT, ValidationPhase.FAILURE_FORMATTING);
+            Function<String, String> properties = name -> environment.getProperty(name, String.class).orElse(null);
+            formatter.withProperties(properties).print(result, System.err);
+            formatting.stop();
+            ReportPublisher.fromProperties(properties).publish(result);
             
-            System.err.println(formattedErrors);
             logger.error("❌ Configuration validation failed with {} error(s)", errors.size());
             
             // Arrêter l'application
@@ -94,39 +112,25 @@ public class MicronautRequiredPropertiesValidator implements ApplicationEventLis
             || packageName.startsWith("io.netty.");
     }
     
-    private ConfigurationProperties findConfigurationPropertiesAnnotation(Class<?> clazz) {
-        Class<?> current = clazz;
-        while (current != null && current != Object.class) {
-            ConfigurationProperties annotation = current.getAnnotation(ConfigurationProperties.class);
-            if (annotation != null) {
-                return annotation;
-            }
-            current = current.getSuperclass();
-        }
-        return null;
-    }
-    
     private List<ConfigurationError> validateBeanProperties(Class<?> beanClass, String prefix) {
         List<ConfigurationError> errors = new ArrayList<>();
         
-        // Parcourir tous les champs déclarés
-        for (Field field : beanClass.getDeclaredFields()) {
-            String fieldName = field.getName();
-            String kebabCaseName = convertToKebabCase(fieldName);
-            String propertyName = prefix.isEmpty() ? kebabCaseName : prefix + "." + kebabCaseName;
+        // Noms kebab-case précalculés une fois par classe (BeanIntrospection), sans instancier le bean
+        for (ConfiguredProperty property : ConfigurationPropertiesMetadata.forClass(beanClass, prefix).getProperties()) {
+            String propertyName = property.getPropertyName();
             
             // Vérifier si la propriété existe dans l'Environment
             String value = environment.getProperty(propertyName, String.class).orElse(null);
             
             if (value == null) {
-                boolean isSensitive = secretDetector.isSensitive(propertyName);
+                boolean isSensitive = coordinator.getSecretDetector().isSensitive(propertyName);
                 
                 logger.warn("Property '{}' is not set for bean {}", propertyName, beanClass.getSimpleName());
                 
                 errors.add(ConfigurationError.builder()
                     .type(ErrorType.MISSING_PROPERTY)
                     .propertyName(propertyName)
-                    .source(new PropertySource("application.yml", "classpath:application.yml", PropertySource.SourceType.APPLICATION_YAML))
+                    .source(detectPropertySource(propertyName))
                     .errorMessage("Property '" + propertyName + "' is not set")
                     .suggestion(generateSuggestion(propertyName))
                     .isSensitive(isSensitive)
@@ -137,8 +141,27 @@ public class MicronautRequiredPropertiesValidator implements ApplicationEventLis
         return errors;
     }
     
-    private String convertToKebabCase(String camelCase) {
-        return camelCase.replaceAll("([a-z0-9])([A-Z])", "$1-$2").toLowerCase();
+    /**
+     * Attribue une propriété absente au fichier qui définit ses voisines
+     * (application-dev.yml si seul le profil dev définit le préfixe), sinon à application.yml.
+     */
+    private PropertySource detectPropertySource(String propertyName) {
+        // Trie des fichiers de configuration, construit une seule fois par run
+        List<String> sources = coordinator.getConfigFileTrie().findClosestSources(propertyName);
+        String fileName = sources.isEmpty() ? "application.yml" : sources.get(0);
+        
+        // Micronaut nomme ses sources sans extension (application, application-dev)
+        if (fileName.indexOf('.') < 0) {
+            fileName = fileName + ".yml";
+        }
+        
+        return new PropertySource(
+            fileName,
+            "classpath:" + fileName,
+            fileName.endsWith(".properties") ?
+                PropertySource.SourceType.APPLICATION_PROPERTIES :
+                PropertySource.SourceType.APPLICATION_YAML
+        );
     }
     
     private String generateSuggestion(String propertyName) {
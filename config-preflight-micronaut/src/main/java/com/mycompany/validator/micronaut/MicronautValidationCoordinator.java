@@ -0,0 +1,221 @@
+package com.mycompany.validator.micronaut;
+
+import com.mycompany.validator.core.api.ErrorSink;
+import com.mycompany.validator.core.api.ValidationResult;
+import com.mycompany.validator.core.detector.CanonicalPropertyIndex;
+import com.mycompany.validator.core.detector.PlaceholderDetector;
+import com.mycompany.validator.core.detector.PlaceholderGraph;
+import com.mycompany.validator.core.detector.PropertyPrefixTrie;
+import com.mycompany.validator.core.detector.SecretDetector;
+import com.mycompany.validator.core.engine.ValidationEngine;
+import com.mycompany.validator.core.engine.ValidationRun;
+import com.mycompany.validator.core.metrics.PhaseTimer;
+import com.mycompany.validator.core.model.ConfigurationError;
+import com.mycompany.validator.core.model.ErrorType;
+import io.micronaut.context.env.Environment;
+import io.micronaut.context.env.PropertySource;
+import jakarta.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Coordonne les phases de validation d'un contexte Micronaut : {@link MicronautEarlyValidator},
+ * {@link MicronautConfigurationRevalidator}, {@link MicronautRequiredPropertiesValidator}
+ * et {@link MicronautValidatorConfiguration}.
+ *
+ * Les PropertySources sont parcourues une seule fois par run ({@link ValidationRun}) : valeurs brutes,
+ * graphe des placeholders et index du {@link MicronautPropertyBindingResolver} partagé sont construits
+ * dans le même parcours. Le trie des fichiers et le scan des placeholders réussi y sont conservés
+ * pour les phases suivantes.
+ *
+ * La vérification des placeholders ({@link #scanPlaceholders}, {@link #checkProperty}) est commune
+ * à toutes les phases et à la revalidation : les erreurs sont identiques quelle que soit la phase
+ * qui les trouve.
+ *
+ * Un RefreshEvent ou une validation explicite ouvre un nouveau run.
+ */
+@Singleton
+public class MicronautValidationCoordinator {
+    
+    static final ValidationRun.Key<PropertySnapshot> SNAPSHOT = ValidationRun.Key.named("micronaut-snapshot");
+    
+    static final ValidationRun.Key<PropertyPrefixTrie> CONFIG_FILE_TRIE = ValidationRun.Key.named("micronaut-config-file-trie");
+    
+    private final Environment environment;
+    private final MicronautPropertyBindingResolver bindingResolver;
+    private final PlaceholderDetector placeholderDetector = new PlaceholderDetector();
+    private final SecretDetector secretDetector = new SecretDetector();
+    
+    private volatile ValidationRun run = new ValidationRun();
+    
+    public MicronautValidationCoordinator(Environment environment) {
+        this.environment = environment;
+        this.bindingResolver = new MicronautPropertyBindingResolver(environment);
+    }
+    
+    /**
+     * @return Run partagé par les phases depuis le démarrage ou le dernier rafraîchissement
+     */
+    public ValidationRun currentRun() {
+        return run;
+    }
+    
+    /**
+     * Ouvre un nouveau run : index et résultats du run précédent sont abandonnés.
+     */
+    public synchronized ValidationRun startRun() {
+        bindingResolver.refreshIndex();
+        run = new ValidationRun();
+        return run;
+    }
+    
+    /**
+     * Valeurs brutes et graphe du run ; l'index du résolveur partagé est construit dans le même parcours.
+     */
+    public PropertySnapshot getSnapshot() {
+        return run.computeIfAbsent(SNAPSHOT, this::enumerate);
+    }
+    
+    private PropertySnapshot enumerate() {
+        CanonicalPropertyIndex.Builder index = CanonicalPropertyIndex.builder();
+        PlaceholderGraph.Builder graph = PlaceholderGraph.builder();
+        Map<String, String> rawProperties = new LinkedHashMap<>();
+        
+        bindingResolver.forEachRawProperty((sourceName, name, value) -> {
+            index.add(sourceName, name, value);
+            CharSequence text = value instanceof CharSequence ? (CharSequence) value : null;
+            graph.addProperty(name, text);
+            rawProperties.putIfAbsent(name, text != null ? text.toString() : "");
+        });
+        
+        bindingResolver.useIndex(index.build());
+        return new PropertySnapshot(Collections.unmodifiableMap(rawProperties), graph.build());
+    }
+    
+    /**
+     * Trie des noms définis par les fichiers application*, le plus prioritaire d'abord.
+     */
+    public PropertyPrefixTrie getConfigFileTrie() {
+        return run.computeIfAbsent(CONFIG_FILE_TRIE, () -> {
+            List<PropertySource> sources = new ArrayList<>(environment.getPropertySources());
+            sources.sort(Comparator.comparingInt(PropertySource::getOrder).reversed());
+            
+            PropertyPrefixTrie.Builder builder = PropertyPrefixTrie.builder();
+            for (PropertySource source : sources) {
+                if (source.getName().startsWith("application")) {
+                    builder.addSource(source.getName(), source);
+                }
+            }
+            return builder.build();
+        });
+    }
+    
+    /**
+     * Scan des placeholders des valeurs brutes du run : références circulaires d'abord,
+     * puis chaque valeur, par blocs sur le pool (ordre des erreurs inchangé).
+     *
+     * @param sink Destination des erreurs, dans le mode configuré
+     * @param engine Moteur de la validation
+     * @param scan Mesures de la phase, ou null
+     * @return Résultat du sink
+     */
+    public ValidationResult scanPlaceholders(ErrorSink sink, ValidationEngine engine, PhaseTimer scan) {
+        PropertySnapshot snapshot = getSnapshot();
+        
+        // Détecter les références circulaires avant toute résolution par l'Environment
+        PlaceholderGraph graph = snapshot.getGraph();
+        for (ConfigurationError cycleError : graph.toCircularReferenceErrors(secretDetector)) {
+            sink.accept(cycleError);
+        }
+        
+        Map<String, String> properties = snapshot.getRawProperties();
+        if (scan != null) {
+            scan.keysScanned(properties.size());
+        }
+        engine.run(new ArrayList<>(properties.entrySet()), sink,
+            (entry, entrySink) -> checkPlaceholders(entry.getKey(), entry.getValue(), graph, entrySink, scan));
+        return sink.toResult();
+    }
+    
+    /**
+     * Revérifie les placeholders de la valeur brute d'une seule propriété
+     * (revalidation incrémentale après un rafraîchissement).
+     */
+    public void checkProperty(String propertyName, PlaceholderGraph graph, List<ConfigurationError> errors) {
+        String value = bindingResolver.getIndex().getValue(propertyName);
+        if (value == null) {
+            return;
+        }
+        ErrorSink sink = ErrorSink.collectAll();
+        checkPlaceholders(propertyName, value, graph, sink, null);
+        errors.addAll(sink.toResult().getErrors());
+    }
+    
+    private void checkPlaceholders(String propertyName, String value, PlaceholderGraph graph, ErrorSink sink, PhaseTimer scan) {
+        // Scan mono-passe : ignore les placeholders avec valeur par défaut, sans liste intermédiaire
+        placeholderDetector.forEachRequiredPlaceholder(value, placeholder -> {
+            // Un placeholder pris dans un cycle est déjà rapporté comme CIRCULAR_REFERENCE
+            if (graph.dependsOnCycle(placeholder)) {
+                return;
+            }
+            if (scan != null) {
+                scan.placeholderEvaluated();
+            }
+            
+            if (!bindingResolver.propertyExists(placeholder)) {
+                // Construite seulement si le sink la conserve
+                sink.accept(() -> ConfigurationError.builder()
+                    .type(ErrorType.UNRESOLVED_PLACEHOLDER)
+                    .propertyName(propertyName)
+                    .errorMessage(String.format(
+                        "Cannot resolve placeholder '${%s}' in property '%s' " +
+                        "(tried: %s, %s, and other variants)",
+                        placeholder, propertyName, placeholder,
+                        bindingResolver.getBaseResolver().toEnvironmentVariableName(placeholder)
+                    ))
+                    .suggestion(bindingResolver.generateSuggestion(placeholder))
+                    .isSensitive(secretDetector.isSensitive(placeholder))
+                    .build());
+            }
+        });
+    }
+    
+    public Environment getEnvironment() {
+        return environment;
+    }
+    
+    public MicronautPropertyBindingResolver getBindingResolver() {
+        return bindingResolver;
+    }
+    
+    public SecretDetector getSecretDetector() {
+        return secretDetector;
+    }
+    
+    /**
+     * Valeur brute qui l'emporte pour chaque propriété (dans l'ordre des sources)
+     * et graphe des placeholders.
+     */
+    public static final class PropertySnapshot {
+        private final Map<String, String> rawProperties;
+        private final PlaceholderGraph graph;
+        
+        PropertySnapshot(Map<String, String> rawProperties, PlaceholderGraph graph) {
+            this.rawProperties = rawProperties;
+            this.graph = graph;
+        }
+        
+        public Map<String, String> getRawProperties() {
+            return rawProperties;
+        }
+        
+        public PlaceholderGraph getGraph() {
+            return graph;
+        }
+    }
+}
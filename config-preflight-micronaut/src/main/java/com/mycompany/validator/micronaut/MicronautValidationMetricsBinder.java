@@ -0,0 +1,32 @@
+package com.mycompany.validator.micronaut;
+
+import com.mycompany.validator.core.metrics.MicrometerValidationMetrics;
+import com.mycompany.validator.core.metrics.ValidationMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Requires;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Publie les mesures de validation dans le MeterRegistry de l'application (micronaut-micrometer).
+ * Absent si Micrometer ou le registre ne sont pas présents ; les mesures prises avant
+ * sa création (StartupEvent) sont publiées à l'initialisation.
+ * Le registre est détaché à la fermeture du contexte.
+ */
+@Context
+@Requires(classes = MeterRegistry.class)
+@Requires(beans = MeterRegistry.class)
+@Requires(property = "configuration.validator.metrics.enabled", value = "true", defaultValue = "true")
+public class MicronautValidationMetricsBinder {
+    
+    private final ValidationMetrics.Registration registration;
+    
+    public MicronautValidationMetricsBinder(MeterRegistry meterRegistry) {
+        this.registration = MicrometerValidationMetrics.bindTo(meterRegistry);
+    }
+    
+    @PreDestroy
+    void close() {
+        registration.close();
+    }
+}
@@ -3,7 +3,6 @@ package com.mycompany.validator.micronaut;
 import com.mycompany.validator.core.api.ValidationResult;
 import com.mycompany.validator.core.formatter.BeautifulErrorFormatter;
 import io.micronaut.context.annotation.Requires;
-import io.micronaut.context.env.Environment;
 import io.micronaut.context.event.ApplicationEventListener;
 import io.micronaut.runtime.server.event.ServerStartupEvent;
 import jakarta.inject.Singleton;
@@ -23,8 +22,11 @@ public class MicronautValidatorConfiguration implements ApplicationEventListener
     private final MicronautConfigurationValidator validator;
     private final BeautifulErrorFormatter formatter;
     
-    public MicronautValidatorConfiguration(Environment environment) {
-        this.validator = new MicronautConfigurationValidator(environment);
+    /**
+     * @param validator Validateur partagé : le run du démarrage n'est pas reconstruit
+     */
+    public MicronautValidatorConfiguration(MicronautConfigurationValidator validator) {
+        this.validator = validator;
         this.formatter = new BeautifulErrorFormatter();
     }
     
@@ -32,8 +34,8 @@ public class MicronautValidatorConfiguration implements ApplicationEventListener
     public void onApplicationEvent(ServerStartupEvent event) {
         logger.info("Running configuration validation...");
         
-        // Valider les placeholders
-        ValidationResult result = validator.validatePlaceholders();
+        // Valider les placeholders (run partagé : déjà fait si MicronautEarlyValidator l'a réussi)
+        ValidationResult result = validator.validatePlaceholdersOnStartup();
         
         if (result.hasErrors()) {
             String formattedErrors = formatter.format(result);
@@ -0,0 +1,82 @@
+package com.mycompany.validator.micronaut;
+
+import com.mycompany.validator.core.model.ConfigurationError;
+import com.mycompany.validator.micronaut.MicronautConfigurationPropertiesValidator.ConfigurationValidationException;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.context.event.BeanInitializingEvent;
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.inject.BeanDefinition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicronautConfigurationPropertiesValidatorTest {
+    
+    @ConfigurationProperties("proxied")
+    @Introspected
+    public static class ProxiedProperties {
+        
+        private String url;
+        
+        public String getUrl() {
+            return url;
+        }
+        
+        public void setUrl(String url) {
+            this.url = url;
+        }
+    }
+    
+    private ApplicationContext context;
+    
+    @BeforeEach
+    void setUp() {
+        context = ApplicationContext.run(Map.of("configuration.validator.enabled", "false"));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+    
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void testProxiedBeanIsValidatedAgainstItsConfigurationType() {
+        MicronautConfigurationPropertiesValidator validator = context.getBean(MicronautConfigurationPropertiesValidator.class);
+        BeanDefinition<Object> definition = (BeanDefinition) context.getBeanDefinition(ProxiedProperties.class);
+        
+        // Sous-classe sans BeanIntrospection, comme un proxy AOP (@Refreshable) : les propriétés
+        // sont lues par l'introspection du type configuré, une seule fois par type
+        ProxiedProperties proxy = new ProxiedProperties() {
+        };
+        ConfigurationValidationException exception = assertThrows(ConfigurationValidationException.class,
+            () -> validator.onInitialized(new BeanInitializingEvent<>(context, definition, proxy)));
+        
+        assertEquals(List.of("proxied.url"), propertyNames(exception.getValidationResult().getErrors()));
+        ProxiedProperties otherProxy = new ProxiedProperties() {
+        };
+        assertSame(otherProxy, validator.onInitialized(new BeanInitializingEvent<>(context, definition, otherProxy)));
+    }
+    
+    @Test
+    void testMetadataIsQualifiedPerPrefix() {
+        // Une même classe liée sous deux préfixes garde des noms distincts
+        assertEquals("proxied.url",
+            ConfigurationPropertiesMetadata.forClass(ProxiedProperties.class, "proxied").getProperties().get(0).getPropertyName());
+        assertEquals("other.url",
+            ConfigurationPropertiesMetadata.forClass(ProxiedProperties.class, "other").getProperties().get(0).getPropertyName());
+    }
+    
+    private static List<String> propertyNames(List<ConfigurationError> errors) {
+        return errors.stream()
+            .map(ConfigurationError::getPropertyName)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,61 @@
+package com.mycompany.validator.micronaut;
+
+import com.mycompany.validator.core.api.ValidationDelta;
+import com.mycompany.validator.core.model.ConfigurationError;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.env.PropertySource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicronautConfigurationRevalidatorTest {
+    
+    private ApplicationContext context;
+    private final List<ValidationDelta> published = new ArrayList<>();
+    private MicronautConfigurationRevalidator revalidator;
+    
+    @BeforeEach
+    void setUp() {
+        context = ApplicationContext.run(Map.of(
+            "configuration.validator.enabled", "false",
+            "app.db.url", "jdbc:postgresql://${db.host}/app",
+            "app.cache.host", "${cache.host}"
+        ));
+        revalidator = new MicronautConfigurationRevalidator(
+            new MicronautConfigurationValidator(context.getEnvironment()), published::add);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+    
+    @Test
+    void testRefreshResolvesPlaceholder() {
+        revalidator.initialize();
+        
+        // Le rafraîchissement définit db.host
+        context.getEnvironment().addPropertySource(PropertySource.of("refresh", Map.of("db.host", "localhost")));
+        ValidationDelta delta = revalidator.revalidate(Set.of("db.host"));
+        
+        // L'état de référence a bien été pris sur les sources : l'erreur de app.db.url est résolue
+        assertEquals(List.of("app.db.url"), propertyNames(delta.getResolvedErrors().getErrors()));
+        assertFalse(delta.getNewErrors().hasErrors());
+        assertEquals(List.of("app.cache.host"), propertyNames(delta.getCurrentResult().getErrors()));
+        assertEquals(List.of(delta), published);
+    }
+    
+    private static List<String> propertyNames(List<ConfigurationError> errors) {
+        return errors.stream()
+            .map(ConfigurationError::getPropertyName)
+            .collect(Collectors.toList());
+    }
+}
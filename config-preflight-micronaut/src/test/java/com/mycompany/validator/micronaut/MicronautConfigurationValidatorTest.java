@@ -0,0 +1,78 @@
+package com.mycompany.validator.micronaut;
+
+import com.mycompany.validator.core.api.ValidationResult;
+import com.mycompany.validator.core.model.ConfigurationError;
+import com.mycompany.validator.core.model.ErrorType;
+import io.micronaut.context.ApplicationContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicronautConfigurationValidatorTest {
+    
+    private ApplicationContext context;
+    private MicronautConfigurationValidator validator;
+    
+    @BeforeEach
+    void setUp() {
+        // Validation au démarrage désactivée : le test appelle le validateur lui-même
+        context = ApplicationContext.run(Map.of(
+            "configuration.validator.enabled", "false",
+            "app.db.url", "jdbc:postgresql://${db.host}/app",
+            "app.db.user", "${db.user:sa}",
+            "app.port", "${random.port}",
+            "app.name", "demo"
+        ));
+        validator = new MicronautConfigurationValidator(context.getEnvironment());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+    
+    @Test
+    void testValidateAllScansPropertySources() {
+        ValidationResult result = validator.validateAll();
+        
+        // Même vérification que validatePlaceholders : ${db.user:sa} a une valeur par défaut
+        assertEquals(List.of("app.db.url"), propertyNames(result, ErrorType.UNRESOLVED_PLACEHOLDER));
+    }
+    
+    @Test
+    void testValidateAllReportsCyclesOnce() {
+        try (ApplicationContext cyclic = ApplicationContext.run(Map.of(
+                "configuration.validator.enabled", "false",
+                "app.a", "${app.b}",
+                "app.b", "${app.a}",
+                "app.c", "${app.a}-${missing.key}"))) {
+            ValidationResult result = new MicronautConfigurationValidator(cyclic.getEnvironment()).validateAll();
+            
+            // Le cycle est rapporté une fois ; ${missing.key} reste vérifié à côté de ${app.a}
+            assertEquals(1, propertyNames(result, ErrorType.CIRCULAR_REFERENCE).size());
+            assertEquals(List.of("app.c"), propertyNames(result, ErrorType.UNRESOLVED_PLACEHOLDER));
+        }
+    }
+    
+    @Test
+    void testValidatePlaceholdersScansRawValues() {
+        ValidationResult result = validator.validatePlaceholders();
+        
+        // ${db.user:sa} a une valeur par défaut, ${random.port} est calculé par Micronaut
+        assertEquals(List.of("app.db.url"), propertyNames(result, ErrorType.UNRESOLVED_PLACEHOLDER));
+        assertTrue(validator.getSnapshot().getRawProperties().containsKey("app.name"));
+    }
+    
+    private static List<String> propertyNames(ValidationResult result, ErrorType type) {
+        return result.getErrors().stream()
+            .filter(error -> error.getType() == type)
+            .map(ConfigurationError::getPropertyName)
+            .collect(Collectors.toList());
+    }
+}
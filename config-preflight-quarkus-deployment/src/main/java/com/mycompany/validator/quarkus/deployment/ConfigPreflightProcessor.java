@@ -0,0 +1,91 @@
+package com.mycompany.validator.quarkus.deployment;
+
+import com.mycompany.validator.quarkus.QuarkusValidationPlan;
+import com.mycompany.validator.quarkus.QuarkusValidationPlanRecorder;
+import io.quarkus.deployment.ApplicationArchive;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.FeatureBuildItem;
+import org.jboss.logging.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.Properties;
+
+/**
+ * Build steps de l'extension : calcule le plan de validation au build et l'enregistre
+ * pour l'initialisation statique de l'application.
+ */
+class ConfigPreflightProcessor {
+    
+    private static final Logger logger = Logger.getLogger(ConfigPreflightProcessor.class);
+    
+    private static final String FEATURE = "config-preflight";
+    
+    /**
+     * Fichiers de configuration embarqués dans l'application, analysés au build.
+     */
+    private static final String[] CONFIG_FILES = {
+        "application.properties",
+        "META-INF/microprofile-config.properties"
+    };
+    
+    /**
+     * Liste manuelle des propriétés requises (required.properties.xxx), toujours prise en compte.
+     */
+    private static final String REQUIRED_PROPERTIES_FILE = "META-INF/config-preflight.properties";
+    private static final String REQUIRED_PROPERTIES_PREFIX = "required.properties.";
+    
+    @BuildStep
+    FeatureBuildItem feature() {
+        return new FeatureBuildItem(FEATURE);
+    }
+    
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void recordValidationPlan(CombinedIndexBuildItem combinedIndex,
+                              ApplicationArchivesBuildItem applicationArchives,
+                              QuarkusValidationPlanRecorder recorder) {
+        ValidationPlanCollector collector = new ValidationPlanCollector();
+        
+        // 1. Points d'injection découverts dans l'index Jandex
+        collector.collectConfigMappings(combinedIndex.getIndex());
+        collector.collectConfigProperties(combinedIndex.getIndex());
+        
+        // 2. Fichiers de l'application : liste manuelle et valeurs connues au build
+        ApplicationArchive root = applicationArchives.getRootArchive();
+        Properties required = load(root, REQUIRED_PROPERTIES_FILE);
+        for (String key : required.stringPropertyNames()) {
+            if (key.startsWith(REQUIRED_PROPERTIES_PREFIX)) {
+                collector.addRequired(key.substring(REQUIRED_PROPERTIES_PREFIX.length()));
+            }
+        }
+        for (String file : CONFIG_FILES) {
+            collector.addBuildTimeProperties(load(root, file));
+        }
+        
+        QuarkusValidationPlan plan = collector.build();
+        logger.debugf("Config preflight validation plan: %s", plan);
+        recorder.setPlan(plan);
+    }
+    
+    private static Properties load(ApplicationArchive archive, String relativePath) {
+        Properties properties = new Properties();
+        archive.accept(tree -> tree.accept(relativePath, visit -> {
+            if (visit == null) {
+                return;
+            }
+            try (InputStream is = Files.newInputStream(visit.getPath())) {
+                properties.load(is);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read " + relativePath, e);
+            }
+        }));
+        return properties;
+    }
+}
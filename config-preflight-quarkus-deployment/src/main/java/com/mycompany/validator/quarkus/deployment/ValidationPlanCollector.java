@@ -0,0 +1,250 @@
+package com.mycompany.validator.quarkus.deployment;
+
+import com.mycompany.validator.core.detector.PlaceholderDetector;
+import com.mycompany.validator.quarkus.QuarkusValidationPlan;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.MethodParameterInfo;
+import org.jboss.jandex.Type;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Construit le plan de validation à partir de l'index Jandex et des fichiers de build.
+ * 
+ * Règles de nommage reprises de SmallRye Config / MicroProfile Config :
+ * - @ConfigMapping : préfixe + nom de méthode en kebab-case (ou @WithName), groupes imbriqués
+ *   parcourus récursivement ; Optional et Map ne sont jamais requis
+ * - @ConfigProperty : attribut name, sinon nom qualifié de la classe + nom du champ ;
+ *   Optional, Provider, Instance et Supplier ne sont pas requis
+ */
+final class ValidationPlanCollector {
+    
+    static final DotName CONFIG_MAPPING = DotName.createSimple("io.smallrye.config.ConfigMapping");
+    static final DotName WITH_NAME = DotName.createSimple("io.smallrye.config.WithName");
+    static final DotName WITH_PARENT_NAME = DotName.createSimple("io.smallrye.config.WithParentName");
+    static final DotName WITH_DEFAULT = DotName.createSimple("io.smallrye.config.WithDefault");
+    static final DotName CONFIG_PROPERTY = DotName.createSimple("org.eclipse.microprofile.config.inject.ConfigProperty");
+    static final DotName CONFIG_PROPERTIES = DotName.createSimple("org.eclipse.microprofile.config.inject.ConfigProperties");
+    
+    /**
+     * Valeur de defaultValue signifiant "pas de valeur par défaut" (ConfigProperty.UNCONFIGURED_VALUE).
+     */
+    private static final String UNCONFIGURED_VALUE = "org.eclipse.microprofile.config.configproperty.unconfigureddvalue";
+    
+    private static final Set<DotName> NOT_REQUIRED_TYPES = Set.of(
+        DotName.createSimple("java.util.Optional"),
+        DotName.createSimple("java.util.OptionalInt"),
+        DotName.createSimple("java.util.OptionalLong"),
+        DotName.createSimple("java.util.OptionalDouble"),
+        DotName.createSimple("java.util.Map"),
+        DotName.createSimple("java.util.function.Supplier"),
+        DotName.createSimple("jakarta.inject.Provider"),
+        DotName.createSimple("jakarta.enterprise.inject.Instance")
+    );
+    
+    private final PlaceholderDetector placeholderDetector = new PlaceholderDetector();
+    
+    private final Set<String> required = new LinkedHashSet<>();
+    private final Map<String, String> defaults = new LinkedHashMap<>();
+    private final Map<String, String> buildTimeProperties = new LinkedHashMap<>();
+    
+    /**
+     * Parcourt les interfaces @ConfigMapping de l'index.
+     */
+    void collectConfigMappings(IndexView index) {
+        for (AnnotationInstance mapping : index.getAnnotations(CONFIG_MAPPING)) {
+            if (mapping.target().kind() != AnnotationTarget.Kind.CLASS) {
+                continue;
+            }
+            AnnotationValue prefix = mapping.value("prefix");
+            collectGroup(index, mapping.target().asClass(), prefix != null ? prefix.asString() : "", new HashSet<>());
+        }
+    }
+    
+    /**
+     * Parcourt les points d'injection @ConfigProperty (champs et paramètres) de l'index.
+     */
+    void collectConfigProperties(IndexView index) {
+        for (AnnotationInstance property : index.getAnnotations(CONFIG_PROPERTY)) {
+            AnnotationTarget target = property.target();
+            AnnotationValue nameValue = property.value("name");
+            String name = nameValue != null ? nameValue.asString() : "";
+            Type type;
+            
+            if (target.kind() == AnnotationTarget.Kind.FIELD) {
+                FieldInfo field = target.asField();
+                // Dans un bean @ConfigProperties, le nom est relatif au préfixe du bean
+                if (field.declaringClass().hasDeclaredAnnotation(CONFIG_PROPERTIES)) {
+                    continue;
+                }
+                type = field.type();
+                if (name.isEmpty()) {
+                    name = field.declaringClass().name().toString().replace('$', '.') + "." + field.name();
+                }
+            } else if (target.kind() == AnnotationTarget.Kind.METHOD_PARAMETER) {
+                MethodParameterInfo parameter = target.asMethodParameter();
+                type = parameter.method().parameterType(parameter.position());
+            } else {
+                continue;
+            }
+            
+            if (name.isEmpty()) {
+                continue;
+            }
+            
+            AnnotationValue defaultValue = property.value("defaultValue");
+            if (defaultValue != null && !UNCONFIGURED_VALUE.equals(defaultValue.asString())) {
+                defaults.putIfAbsent(name, defaultValue.asString());
+            } else if (!NOT_REQUIRED_TYPES.contains(type.name())) {
+                required.add(name);
+            }
+        }
+    }
+    
+    /**
+     * Ajoute une propriété requise déclarée manuellement.
+     */
+    void addRequired(String propertyName) {
+        required.add(propertyName);
+    }
+    
+    /**
+     * Ajoute les propriétés d'un fichier de configuration embarqué (la première définition gagne).
+     */
+    void addBuildTimeProperties(Properties properties) {
+        for (String key : properties.stringPropertyNames()) {
+            buildTimeProperties.putIfAbsent(key, properties.getProperty(key));
+        }
+    }
+    
+    /**
+     * Produit le plan : seules restent les vérifications que les fichiers de build
+     * et les valeurs par défaut ne satisfont pas déjà.
+     */
+    QuarkusValidationPlan build() {
+        QuarkusValidationPlan plan = new QuarkusValidationPlan();
+        
+        for (String name : required) {
+            if (!isKnownAtBuildTime(name)) {
+                plan.getRequiredProperties().add(name);
+            }
+        }
+        plan.getDefaults().putAll(defaults);
+        
+        // Les clés de profil (%prod.x) sont gardées telles quelles : le profil actif est filtré au démarrage
+        for (Map.Entry<String, String> property : buildTimeProperties.entrySet()) {
+            List<String> unresolved = new ArrayList<>();
+            placeholderDetector.forEachRequiredPlaceholder(property.getValue(), placeholder -> {
+                if (!isKnownAtBuildTime(placeholder) && !unresolved.contains(placeholder)) {
+                    unresolved.add(placeholder);
+                }
+            });
+            if (!unresolved.isEmpty()) {
+                plan.getPlaceholders().put(property.getKey(), unresolved);
+            }
+        }
+        
+        return plan;
+    }
+    
+    /**
+     * Une valeur vide (app.url=) compte comme absente, comme pour SmallRye Config :
+     * la clé reste dans le plan et est vérifiée au démarrage.
+     */
+    private boolean isKnownAtBuildTime(String name) {
+        return hasValue(buildTimeProperties.get(name)) || hasValue(defaults.get(name));
+    }
+    
+    private static boolean hasValue(String value) {
+        return value != null && !value.isEmpty();
+    }
+    
+    private void collectGroup(IndexView index, ClassInfo group, String prefix, Set<DotName> visiting) {
+        // Protection contre un groupe qui se référence lui-même
+        if (!visiting.add(group.name())) {
+            return;
+        }
+        
+        for (MethodInfo method : group.methods()) {
+            if (method.parametersCount() != 0 || Modifier.isStatic(method.flags())
+                    || !Modifier.isAbstract(method.flags())) {
+                continue;
+            }
+            
+            String name = propertyName(prefix, method);
+            AnnotationInstance withDefault = method.annotation(WITH_DEFAULT);
+            if (withDefault != null) {
+                defaults.putIfAbsent(name, withDefault.value().asString());
+                continue;
+            }
+            
+            Type type = method.returnType();
+            if (NOT_REQUIRED_TYPES.contains(type.name())) {
+                continue;
+            }
+            
+            ClassInfo nested = type.kind() == Type.Kind.CLASS ? index.getClassByName(type.name()) : null;
+            if (nested != null && Modifier.isInterface(nested.flags())) {
+                collectGroup(index, nested, name, visiting);
+            } else {
+                required.add(name);
+            }
+        }
+        
+        // Méthodes héritées des interfaces parentes
+        for (DotName parent : group.interfaceNames()) {
+            ClassInfo parentInfo = index.getClassByName(parent);
+            if (parentInfo != null) {
+                collectGroup(index, parentInfo, prefix, visiting);
+            }
+        }
+        
+        visiting.remove(group.name());
+    }
+    
+    private static String propertyName(String prefix, MethodInfo method) {
+        if (method.hasDeclaredAnnotation(WITH_PARENT_NAME)) {
+            return prefix;
+        }
+        AnnotationInstance withName = method.annotation(WITH_NAME);
+        String name = withName != null ? withName.value().asString() : toKebabCase(method.name());
+        return prefix.isEmpty() ? name : prefix + "." + name;
+    }
+    
+    /**
+     * Stratégie de nommage par défaut de SmallRye Config : databaseURL → database-url.
+     */
+    static String toKebabCase(String methodName) {
+        StringBuilder name = new StringBuilder(methodName.length() + 4);
+        for (int i = 0; i < methodName.length(); i++) {
+            char c = methodName.charAt(i);
+            if (Character.isUpperCase(c)) {
+                boolean afterLower = i > 0 && !Character.isUpperCase(methodName.charAt(i - 1));
+                boolean beforeLower = i > 0 && i + 1 < methodName.length()
+                    && Character.isLowerCase(methodName.charAt(i + 1));
+                if (afterLower || beforeLower) {
+                    name.append('-');
+                }
+                name.append(Character.toLowerCase(c));
+            } else {
+                name.append(c);
+            }
+        }
+        return name.toString();
+    }
+}
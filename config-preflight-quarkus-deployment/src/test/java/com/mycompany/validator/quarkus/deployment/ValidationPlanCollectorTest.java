@@ -0,0 +1,148 @@
+package com.mycompany.validator.quarkus.deployment;
+
+import com.mycompany.validator.quarkus.QuarkusValidationPlan;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
+import io.smallrye.config.WithParentName;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationPlanCollectorTest {
+    
+    @ConfigMapping(prefix = "app")
+    interface AppConfig {
+        
+        String databaseURL();
+        
+        @WithName("pool")
+        int poolSize();
+        
+        @WithDefault("8080")
+        int port();
+        
+        Optional<String> description();
+        
+        Map<String, String> labels();
+        
+        Db db();
+        
+        interface Db {
+            
+            String host();
+            
+            @WithParentName
+            Credentials credentials();
+        }
+        
+        interface Credentials {
+            
+            String user();
+        }
+    }
+    
+    static class GreetingBean {
+        
+        @ConfigProperty(name = "greeting.message")
+        String message;
+        
+        @ConfigProperty(name = "greeting.suffix", defaultValue = "!")
+        String suffix;
+        
+        @ConfigProperty(name = "greeting.name")
+        Optional<String> name;
+        
+        @ConfigProperty
+        String unnamed;
+    }
+    
+    @Test
+    void testToKebabCase() {
+        assertEquals("database-url", ValidationPlanCollector.toKebabCase("databaseURL"));
+        assertEquals("max-http-connections", ValidationPlanCollector.toKebabCase("maxHTTPConnections"));
+        assertEquals("host", ValidationPlanCollector.toKebabCase("host"));
+    }
+    
+    @Test
+    void testConfigMappingNamingRules() throws IOException {
+        ValidationPlanCollector collector = new ValidationPlanCollector();
+        collector.collectConfigMappings(index(AppConfig.class, AppConfig.Db.class, AppConfig.Credentials.class));
+        QuarkusValidationPlan plan = collector.build();
+        
+        // Groupes imbriqués parcourus ; @WithParentName garde le préfixe du groupe parent ;
+        // Optional, Map et @WithDefault ne sont pas requis
+        assertEquals(Set.of("app.database-url", "app.pool", "app.db.host", "app.db.user"),
+            new HashSet<>(plan.getRequiredProperties()));
+        assertEquals(Map.of("app.port", "8080"), plan.getDefaults());
+    }
+    
+    @Test
+    void testConfigPropertyInjectionPoints() throws IOException {
+        ValidationPlanCollector collector = new ValidationPlanCollector();
+        collector.collectConfigProperties(index(GreetingBean.class));
+        QuarkusValidationPlan plan = collector.build();
+        
+        String unnamed = GreetingBean.class.getName().replace('$', '.') + ".unnamed";
+        assertEquals(Set.of("greeting.message", unnamed), new HashSet<>(plan.getRequiredProperties()));
+        assertEquals(Map.of("greeting.suffix", "!"), plan.getDefaults());
+    }
+    
+    @Test
+    void testBuildTimePropertiesSatisfyChecks() throws IOException {
+        ValidationPlanCollector collector = new ValidationPlanCollector();
+        collector.collectConfigMappings(index(AppConfig.class, AppConfig.Db.class, AppConfig.Credentials.class));
+        
+        Properties properties = new Properties();
+        properties.setProperty("app.database-url", "jdbc:postgresql://${app.db.host}/app");
+        properties.setProperty("app.pool", "10");
+        properties.setProperty("%prod.app.endpoint", "${remote.host}/api");
+        properties.setProperty("app.banner", "${app.port} ${app.title:demo}");
+        collector.addBuildTimeProperties(properties);
+        QuarkusValidationPlan plan = collector.build();
+        
+        // Les clés définies dans les fichiers de build ne sont plus vérifiées au démarrage
+        assertEquals(Set.of("app.db.host", "app.db.user"), new HashSet<>(plan.getRequiredProperties()));
+        
+        // La clé de profil est gardée telle quelle ; ${app.port} a une valeur par défaut
+        assertEquals(Map.of(
+            "app.database-url", List.of("app.db.host"),
+            "%prod.app.endpoint", List.of("remote.host")
+        ), plan.getPlaceholders());
+    }
+    
+    @Test
+    void testEmptyBuildTimeValueIsNotKnown() throws IOException {
+        ValidationPlanCollector collector = new ValidationPlanCollector();
+        collector.collectConfigProperties(index(GreetingBean.class));
+        
+        Properties properties = new Properties();
+        properties.setProperty("greeting.message", "");
+        properties.setProperty("greeting.banner", "${greeting.message}");
+        collector.addBuildTimeProperties(properties);
+        QuarkusValidationPlan plan = collector.build();
+        
+        // greeting.message= est vide : SmallRye la considère absente, elle reste à vérifier au démarrage
+        assertTrue(plan.getRequiredProperties().contains("greeting.message"));
+        assertEquals(Map.of("greeting.banner", List.of("greeting.message")), plan.getPlaceholders());
+    }
+    
+    private static Index index(Class<?>... classes) throws IOException {
+        Indexer indexer = new Indexer();
+        for (Class<?> type : classes) {
+            indexer.indexClass(type);
+        }
+        return indexer.complete();
+    }
+}
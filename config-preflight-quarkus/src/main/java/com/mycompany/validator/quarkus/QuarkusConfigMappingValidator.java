@@ -1,15 +1,20 @@
 package com.mycompany.validator.quarkus;
 
 import com.mycompany.validator.core.api.ValidationResult;
-import com.mycompany.validator.core.detector.SecretDetector;
 import com.mycompany.validator.core.formatter.BeautifulErrorFormatter;
+import com.mycompany.validator.core.metrics.PhaseTimer;
+import com.mycompany.validator.core.metrics.ValidationMetrics;
+import com.mycompany.validator.core.metrics.ValidationPhase;
 import com.mycompany.validator.core.model.ConfigurationError;
 import com.mycompany.validator.core.model.ErrorType;
 import com.mycompany.validator.core.model.PropertySource;
+import com.mycompany.validator.core.report.ReportPublisher;
 import io.quarkus.runtime.StartupEvent;
+import io.quarkus.runtime.configuration.ConfigUtils;
 import jakarta.annotation.Priority;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.slf4j.Logger;
@@ -19,19 +24,29 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Properties;
+import java.util.function.Function;
 
 /**
  * Validator pour les interfaces @ConfigMapping de Quarkus.
  * Vérifie que toutes les propriétés requises sont définies.
+ * 
+ * Avec le module config-preflight-quarkus-deployment, la liste des propriétés requises provient
+ * du plan calculé au build ({@link QuarkusValidationPlan}) : aucune lecture de fichier ni
+ * introspection au démarrage. Sinon, elle est lue dans META-INF/config-preflight.properties.
  */
 @ApplicationScoped
 public class QuarkusConfigMappingValidator {
     
     private static final Logger logger = LoggerFactory.getLogger(QuarkusConfigMappingValidator.class);
     
-    private final SecretDetector secretDetector = new SecretDetector();
+    /**
+     * Run partagé avec les phases précédentes : trie des fichiers construit au plus une fois.
+     */
+    @Inject
+    QuarkusValidationCoordinator coordinator;
+    
     private final BeautifulErrorFormatter formatter = new BeautifulErrorFormatter();
     
     /**
@@ -50,12 +65,14 @@ public class QuarkusConfigMappingValidator {
         
         logger.info("🔍 Validating required configuration properties...");
         
+        PhaseTimer phaseTimer = ValidationMetrics.start(ValidationMetrics.FRAMEWORK_QUARKUS, ValidationPhase.REQUIRED_PROPERTIES);
         List<ConfigurationError> errors = new ArrayList<>();
         
-        // Charger la liste des propriétés requises depuis config-preflight.properties
-        List<String> requiredProperties = loadRequiredProperties();
+        // Plan précalculé au build par l'extension ; à défaut, lecture de config-preflight.properties
+        QuarkusValidationPlan plan = QuarkusValidationPlan.recorded();
+        List<String> requiredProperties = plan != null ? plan.getRequiredProperties() : loadRequiredProperties();
         
-        if (requiredProperties.isEmpty()) {
+        if (requiredProperties.isEmpty() && (plan == null || plan.getPlaceholders().isEmpty())) {
             logger.debug("No required properties defined in META-INF/config-preflight.properties");
             return;
         }
@@ -64,17 +81,22 @@ public class QuarkusConfigMappingValidator {
         
         // Vérifier chaque propriété requise
         for (String propertyName : requiredProperties) {
-            Optional<String> value = config.getOptionalValue(propertyName, String.class);
+            if (plan != null && plan.hasDefault(propertyName)) {
+                continue;
+            }
             
-            if (!value.isPresent()) {
-                boolean isSensitive = secretDetector.isSensitive(propertyName);
+            // Valeur brute : une expression non résolue ne doit pas lever d'exception ici
+            String value = QuarkusPropertyBindingResolver.rawValue(config, propertyName);
+            
+            if (value == null || value.isEmpty()) {
+                boolean isSensitive = coordinator.getSecretDetector().isSensitive(propertyName);
                 
                 logger.warn("Property '{}' is not set", propertyName);
                 
                 errors.add(ConfigurationError.builder()
                     .type(ErrorType.MISSING_PROPERTY)
                     .propertyName(propertyName)
-                    .source(new PropertySource("application.properties", "classpath:application.properties", PropertySource.SourceType.APPLICATION_PROPERTIES))
+                    .source(detectPropertySource(propertyName))
                     .errorMessage("Property '" + propertyName + "' is not set")
                     .suggestion(generateSuggestion(propertyName))
                     .isSensitive(isSensitive)
@@ -82,11 +104,23 @@ public class QuarkusConfigMappingValidator {
             }
         }
         
+        // Sans validation précoce, les placeholders des fichiers de build restent à vérifier :
+        // le plan ne contient que ceux que ces fichiers ne résolvent pas eux-mêmes
+        String earlyValidation = config.getOptionalValue("configuration.validator.early-validation", String.class)
+                                       .orElse("true");
+        if (plan != null && "false".equalsIgnoreCase(earlyValidation)) {
+            checkPlaceholders(plan, config, errors, phaseTimer);
+        }
+        phaseTimer.keysScanned(requiredProperties.size()).errors(errors).stop();
+        
         if (!errors.isEmpty()) {
             ValidationResult result = new ValidationResult(errors);
-            String formattedErrors = formatter.format(result);
+            PhaseTimer formatting = ValidationMetrics.start(ValidationMetrics.FRAMEWORK_QUARKUS, ValidationPhase.FAILURE_FORMATTING);
+            Function<String, String> properties = name -> config.getOptionalValue(name, String.class).orElse(null);
+            formatter.withProperties(properties).print(result, System.err);
+            formatting.stop();
+            ReportPublisher.fromProperties(properties).publish(result);
             
-            System.err.println(formattedErrors);
             logger.error("❌ Configuration validation failed with {} error(s)", errors.size());
             
             // Arrêter l'application
@@ -99,6 +133,67 @@ public class QuarkusConfigMappingValidator {
         }
     }
     
+    /**
+     * Vérifie les placeholders du plan par simple recherche de clé (sans expansion).
+     */
+    private void checkPlaceholders(QuarkusValidationPlan plan, Config config, List<ConfigurationError> errors,
+                                   PhaseTimer phaseTimer) {
+        List<String> profiles = ConfigUtils.getProfiles();
+        
+        for (Map.Entry<String, List<String>> entry : plan.getPlaceholders().entrySet()) {
+            String propertyName = QuarkusValidationCoordinator.activeName(entry.getKey(), profiles);
+            if (propertyName == null) {
+                continue;
+            }
+            for (String placeholder : entry.getValue()) {
+                phaseTimer.placeholderEvaluated();
+                if (plan.hasDefault(placeholder) || QuarkusPropertyBindingResolver.rawValue(config, placeholder) != null) {
+                    continue;
+                }
+                
+                errors.add(ConfigurationError.builder()
+                    .type(ErrorType.UNRESOLVED_PLACEHOLDER)
+                    .propertyName(propertyName)
+                    .source(detectPropertySource(propertyName))
+                    .errorMessage(String.format(
+                        "Cannot resolve placeholder '${%s}' in property '%s'",
+                        placeholder, propertyName
+                    ))
+                    .suggestion(generateSuggestion(placeholder))
+                    .isSensitive(coordinator.getSecretDetector().isSensitive(placeholder))
+                    .build());
+            }
+        }
+    }
+    
+    /**
+     * Attribue une propriété au fichier application.* qui définit ses voisines,
+     * sinon à application.properties.
+     */
+    private PropertySource detectPropertySource(String propertyName) {
+        // Construit à la première erreur du run, puis réutilisé pour les suivantes
+        List<String> sources = coordinator.getConfigFileTrie().findClosestSources(propertyName);
+        String fileName = sources.isEmpty() ? "application.properties" : extractFileName(sources.get(0));
+        
+        return new PropertySource(
+            fileName,
+            "classpath:" + fileName,
+            fileName.endsWith(".properties") ?
+                PropertySource.SourceType.APPLICATION_PROPERTIES :
+                PropertySource.SourceType.APPLICATION_YAML
+        );
+    }
+    
+    /**
+     * Extrait le nom du fichier d'un nom de ConfigSource
+     * (ex: "PropertiesConfigSource[source=jar:file:/app.jar!/application.properties]" → "application.properties")
+     */
+    private static String extractFileName(String sourceName) {
+        String name = sourceName.endsWith("]") ? sourceName.substring(0, sourceName.length() - 1) : sourceName;
+        int slash = Math.max(name.lastIndexOf('/'), name.lastIndexOf('='));
+        return slash >= 0 ? name.substring(slash + 1) : name;
+    }
+    
     /**
      * Charge la liste des propriétés requises depuis META-INF/config-preflight.properties
      */
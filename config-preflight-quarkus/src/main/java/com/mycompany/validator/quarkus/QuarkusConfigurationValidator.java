@@ -1,16 +1,18 @@
 package com.mycompany.validator.quarkus;
 
 import com.mycompany.validator.core.api.ConfigurationValidator;
+import com.mycompany.validator.core.api.ErrorSink;
 import com.mycompany.validator.core.api.ValidationResult;
 import com.mycompany.validator.core.model.*;
-import com.mycompany.validator.core.detector.PlaceholderDetector;
+import com.mycompany.validator.core.engine.ValidationEngine;
+import com.mycompany.validator.core.engine.ValidationRun;
+import com.mycompany.validator.core.metrics.ConfigPreflightValidationEvent;
+import com.mycompany.validator.core.metrics.ValidationMetrics;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
 
-import java.util.*;
-
 /**
  * Validateur pour Quarkus.
  * Utilise MicroProfile Config pour accéder aux propriétés.
@@ -19,14 +21,21 @@ import java.util.*;
 public class QuarkusConfigurationValidator implements ConfigurationValidator {
     
     private final Config config;
-    private final PlaceholderDetector placeholderDetector;
     private final QuarkusPropertyBindingResolver bindingResolver;
+    private final QuarkusValidationCoordinator coordinator;
     
+    /**
+     * @param coordinator Run partagé avec les autres phases du démarrage
+     */
     @Inject
+    public QuarkusConfigurationValidator(QuarkusValidationCoordinator coordinator) {
+        this.coordinator = coordinator;
+        this.config = coordinator.getConfig();
+        this.bindingResolver = coordinator.getBindingResolver();
+    }
+    
     public QuarkusConfigurationValidator(Config config) {
-        this.config = config;
-        this.placeholderDetector = new PlaceholderDetector();
-        this.bindingResolver = new QuarkusPropertyBindingResolver(config);
+        this(new QuarkusValidationCoordinator(config));
     }
     
     public QuarkusConfigurationValidator() {
@@ -35,43 +44,27 @@ public class QuarkusConfigurationValidator implements ConfigurationValidator {
     
     @Override
     public ValidationResult validateAll() {
-        List<ConfigurationError> errors = new ArrayList<>();
-        
-        // Valider toutes les propriétés connues
-        for (String propertyName : config.getPropertyNames()) {
-            Optional<String> value = config.getOptionalValue(propertyName, String.class);
-            
-            if (value.isPresent()) {
-                String stringValue = value.get();
-                
-                // Vérifier les placeholders
-                List<String> placeholders = placeholderDetector.detectPlaceholders(stringValue);
-                for (String placeholder : placeholders) {
-                    if (!bindingResolver.propertyExists(placeholder)) {
-                        errors.add(ConfigurationError.builder()
-                            .type(ErrorType.UNRESOLVED_PLACEHOLDER)
-                            .propertyName(propertyName)
-                            .errorMessage(String.format(
-                                "Cannot resolve placeholder '${%s}' in property '%s'",
-                                placeholder, propertyName
-                            ))
-                            .suggestion(bindingResolver.generateSuggestion(placeholder))
-                            .build());
-                    }
-                }
-            }
-        }
+        ConfigPreflightValidationEvent event = ConfigPreflightValidationEvent.start(ValidationMetrics.FRAMEWORK_QUARKUS, ConfigPreflightValidationEvent.VALIDATE_ALL);
+        coordinator.startRun();
+        ErrorSink sink = newErrorSink();
         
-        return new ValidationResult(errors);
+        // Cycles puis placeholders requis des valeurs brutes, vérifiés comme dans les autres phases
+        ValidationResult result = coordinator.scanPlaceholders(sink, newEngine(), null);
+        return event.finish(bindingResolver.getRawProperties().size(), result);
     }
     
     @Override
     public ValidationResult validateRequired(String... requiredProperties) {
-        List<ConfigurationError> errors = new ArrayList<>();
+        ConfigPreflightValidationEvent event = ConfigPreflightValidationEvent.start(ValidationMetrics.FRAMEWORK_QUARKUS, ConfigPreflightValidationEvent.VALIDATE_REQUIRED);
+        coordinator.startRun();
+        ErrorSink sink = newErrorSink();
         
         for (String property : requiredProperties) {
+            if (sink.isStopped()) {
+                break;
+            }
             if (!bindingResolver.propertyExists(property)) {
-                errors.add(ConfigurationError.builder()
+                sink.accept(() -> ConfigurationError.builder()
                     .type(ErrorType.MISSING_PROPERTY)
                     .propertyName(property)
                     .errorMessage(String.format(
@@ -87,7 +80,7 @@ public class QuarkusConfigurationValidator implements ConfigurationValidator {
                 String value = bindingResolver.getPropertyValue(property);
                 if (value != null && value.trim().isEmpty()) {
                     String actualName = bindingResolver.findActualPropertyName(property);
-                    errors.add(ConfigurationError.builder()
+                    sink.accept(() -> ConfigurationError.builder()
                         .type(ErrorType.EMPTY_VALUE)
                         .propertyName(property)
                         .errorMessage(String.format(
@@ -100,40 +93,47 @@ public class QuarkusConfigurationValidator implements ConfigurationValidator {
             }
         }
         
-        return new ValidationResult(errors);
+        return event.finish(requiredProperties.length, sink.toResult());
     }
     
     @Override
     public ValidationResult validatePlaceholders() {
-        List<ConfigurationError> errors = new ArrayList<>();
-        
-        for (String propertyName : config.getPropertyNames()) {
-            Optional<String> value = config.getOptionalValue(propertyName, String.class);
-            
-            if (value.isPresent()) {
-                String stringValue = value.get();
-                // Utiliser detectRequiredPlaceholders pour ignorer ceux avec valeur par défaut
-                List<String> requiredPlaceholders = placeholderDetector.detectRequiredPlaceholders(stringValue);
-                
-                for (String placeholder : requiredPlaceholders) {
-                    if (!bindingResolver.propertyExists(placeholder)) {
-                        String envVarName = bindingResolver.getBaseResolver().toEnvironmentVariableName(placeholder);
-                        
-                        errors.add(ConfigurationError.builder()
-                            .type(ErrorType.UNRESOLVED_PLACEHOLDER)
-                            .propertyName(propertyName)
-                            .errorMessage(String.format(
-                                "Cannot resolve placeholder '${%s}' in property '%s' " +
-                                "(tried: %s, %s, and other variants)",
-                                placeholder, propertyName, placeholder, envVarName
-                            ))
-                            .suggestion(bindingResolver.generateSuggestion(placeholder))
-                            .build());
-                    }
-                }
-            }
+        ConfigPreflightValidationEvent event = ConfigPreflightValidationEvent.start(ValidationMetrics.FRAMEWORK_QUARKUS, ConfigPreflightValidationEvent.VALIDATE_PLACEHOLDERS);
+        coordinator.startRun();
+        return event.finish(bindingResolver.getRawProperties().size(), scanPlaceholders());
+    }
+    
+    /**
+     * Valide les placeholders dans le run du démarrage, sans relire les ConfigSources :
+     * le scan déjà réussi de {@link QuarkusEarlyValidator} est réutilisé tel quel.
+     */
+    ValidationResult validatePlaceholdersOnStartup() {
+        ValidationRun run = coordinator.currentRun();
+        ValidationResult previous = run.get(ValidationRun.PLACEHOLDER_SCAN);
+        if (previous != null) {
+            return previous;
         }
         
-        return new ValidationResult(errors);
+        ConfigPreflightValidationEvent event = ConfigPreflightValidationEvent.start(ValidationMetrics.FRAMEWORK_QUARKUS, ConfigPreflightValidationEvent.VALIDATE_PLACEHOLDERS);
+        ValidationResult result = event.finish(bindingResolver.getRawProperties().size(), scanPlaceholders());
+        if (!result.hasErrors()) {
+            run.put(ValidationRun.PLACEHOLDER_SCAN, result);
+        }
+        return result;
+    }
+    
+    private ValidationResult scanPlaceholders() {
+        return coordinator.scanPlaceholders(newErrorSink(), newEngine(), null);
+    }
+    
+    /**
+     * Sink du mode configuré (configuration.validator.error-mode), un par validation.
+     */
+    private ErrorSink newErrorSink() {
+        return ErrorSink.fromProperties(name -> config.getOptionalValue(name, String.class).orElse(null));
+    }
+    
+    private ValidationEngine newEngine() {
+        return ValidationEngine.fromProperties(name -> config.getOptionalValue(name, String.class).orElse(null));
     }
 }
@@ -1,20 +1,23 @@
 package com.mycompany.validator.quarkus;
 
+import com.mycompany.validator.core.api.ErrorSink;
 import com.mycompany.validator.core.api.ValidationResult;
-import com.mycompany.validator.core.detector.PlaceholderDetector;
-import com.mycompany.validator.core.detector.SecretDetector;
+import com.mycompany.validator.core.engine.ValidationEngine;
+import com.mycompany.validator.core.engine.ValidationRun;
 import com.mycompany.validator.core.formatter.BeautifulErrorFormatter;
-import com.mycompany.validator.core.model.ConfigurationError;
-import com.mycompany.validator.core.model.ErrorType;
+import com.mycompany.validator.core.metrics.PhaseTimer;
+import com.mycompany.validator.core.metrics.ValidationMetrics;
+import com.mycompany.validator.core.metrics.ValidationPhase;
+import com.mycompany.validator.core.report.ReportPublisher;
 import io.quarkus.runtime.StartupEvent;
 import jakarta.annotation.Priority;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.function.Function;
 
 /**
  * Validateur précoce pour Quarkus.
@@ -25,8 +28,12 @@ import java.util.List;
 @ApplicationScoped
 public class QuarkusEarlyValidator {
     
-    private final PlaceholderDetector placeholderDetector = new PlaceholderDetector();
-    private final SecretDetector secretDetector = new SecretDetector();
+    /**
+     * Run partagé avec QuarkusValidatorExtension et QuarkusConfigMappingValidator.
+     */
+    @Inject
+    QuarkusValidationCoordinator coordinator;
+    
     private final BeautifulErrorFormatter formatter = new BeautifulErrorFormatter();
     
     /**
@@ -53,55 +60,38 @@ public class QuarkusEarlyValidator {
         }
         
         // Valider les placeholders
-        List<ConfigurationError> errors = validatePlaceholders(config);
+        PhaseTimer scan = ValidationMetrics.start(ValidationMetrics.FRAMEWORK_QUARKUS, ValidationPhase.EARLY_PLACEHOLDER_SCAN);
+        ValidationResult result = validatePlaceholders(config, scan);
+        scan.errors(result.getErrors()).stop();
+        ReportPublisher.fromProperties(name -> config.getOptionalValue(name, String.class).orElse(null)).publish(result);
         
-        if (!errors.isEmpty()) {
-            ValidationResult result = new ValidationResult(errors);
-            String formattedErrors = formatter.format(result);
+        if (result.hasErrors()) {
+            PhaseTimer formatting = ValidationMetrics.start(ValidationMetrics.FRAMEWORK_QUARKUS, ValidationPhase.FAILURE_FORMATTING);
+            formatter.withProperties(name -> config.getOptionalValue(name, String.class).orElse(null)).print(result, System.err);
+            formatting.stop();
             
-            System.err.println(formattedErrors);
             System.err.println("⚠️  Configuration validation failed during early startup phase.");
             System.err.println("💡 Fix the errors above before starting the application.");
             
             // Arrêter l'application immédiatement
             throw new ConfigurationValidationException(
-                "Configuration validation failed with " + errors.size() + " error(s)",
+                "Configuration validation failed with " + result.getErrorCount() + " error(s)",
                 result
             );
         }
     }
     
-    private List<ConfigurationError> validatePlaceholders(Config config) {
-        List<ConfigurationError> errors = new ArrayList<>();
-        QuarkusPropertyBindingResolver bindingResolver = new QuarkusPropertyBindingResolver(config);
-        
-        for (String propertyName : config.getPropertyNames()) {
-            String value = config.getOptionalValue(propertyName, String.class).orElse(null);
-            
-            if (value != null) {
-                // Utiliser detectRequiredPlaceholders pour ignorer ceux avec valeur par défaut
-                List<String> requiredPlaceholders = placeholderDetector.detectRequiredPlaceholders(value);
-                
-                for (String placeholder : requiredPlaceholders) {
-                    if (!bindingResolver.propertyExists(placeholder)) {
-                        boolean isSensitive = secretDetector.isSensitive(placeholder);
-                        
-                        errors.add(ConfigurationError.builder()
-                            .type(ErrorType.UNRESOLVED_PLACEHOLDER)
-                            .propertyName(propertyName)
-                            .errorMessage(String.format(
-                                "Cannot resolve placeholder '${%s}' in property '%s'",
-                                placeholder, propertyName
-                            ))
-                            .suggestion(bindingResolver.generateSuggestion(placeholder))
-                            .isSensitive(isSensitive)
-                            .build());
-                    }
-                }
-            }
+    private ValidationResult validatePlaceholders(Config config, PhaseTimer scan) {
+        Function<String, String> properties = name -> config.getOptionalValue(name, String.class).orElse(null);
+        // Erreurs transmises au fil du scan (collect-all, fail-fast ou cap selon la configuration)
+        ErrorSink sink = ErrorSink.fromProperties(properties);
+        // Valeurs brutes, index et graphe lus une fois pour toutes les phases du démarrage
+        ValidationResult result = coordinator.scanPlaceholders(sink, ValidationEngine.fromProperties(properties), scan);
+        if (!result.hasErrors()) {
+            // Scan complet sans erreur : QuarkusValidatorExtension n'a pas à le refaire
+            coordinator.currentRun().put(ValidationRun.PLACEHOLDER_SCAN, result);
         }
-        
-        return errors;
+        return result;
     }
     
     /**
@@ -1,91 +1,269 @@
 package com.mycompany.validator.quarkus;
 
+import com.mycompany.validator.core.detector.CanonicalPropertyIndex;
+import com.mycompany.validator.core.detector.PlaceholderGraph;
+import com.mycompany.validator.core.detector.PlaceholderScanner;
 import com.mycompany.validator.core.detector.PropertyBindingResolver;
+import io.quarkus.runtime.configuration.ConfigUtils;
+import io.smallrye.config.Expressions;
 import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.spi.ConfigSource;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 /**
  * Résout les bindings de propriétés pour Quarkus.
+ * 
+ * Les valeurs brutes des ConfigSources sont lues une fois par validation, en un seul parcours
+ * de chaque source ({@link #getRawProperties()}), puis indexées ({@link CanonicalPropertyIndex}) :
+ * chaque requête coûte une seule recherche, quelle que soit la variante de nom utilisée.
+ * Aucune expression n'est développée : une valeur ${...} non résolue ne lève pas d'exception.
  */
 public class QuarkusPropertyBindingResolver {
     
     private final Config config;
     private final PropertyBindingResolver baseResolver;
+    private volatile List<RawProperty> rawProperties;
+    private volatile CanonicalPropertyIndex index;
     
     public QuarkusPropertyBindingResolver(Config config) {
         this.config = config;
         this.baseResolver = new PropertyBindingResolver();
     }
     
+    /**
+     * Vérifie si une propriété est définie, sous n'importe quelle variante de nom,
+     * avec une valeur non vide (SmallRye Config traite une valeur vide comme absente).
+     */
     public boolean propertyExists(String propertyName) {
-        // Test 1 : Nom original
-        Optional<String> value = config.getOptionalValue(propertyName, String.class);
-        if (value.isPresent()) {
-            return true;
+        CanonicalPropertyIndex.Entry entry = getIndex().find(propertyName);
+        if (entry != null) {
+            return entry.getValue() != null && !entry.getValue().isEmpty();
         }
         
-        // Test 2 : Variable d'environnement
-        String envVarName = baseResolver.toEnvironmentVariableName(propertyName);
-        value = config.getOptionalValue(envVarName, String.class);
-        if (value.isPresent()) {
-            return true;
+        // Sources non énumérables : un seul accès direct par le nom original
+        String value = rawValue(config, propertyName);
+        return value != null && !value.isEmpty();
+    }
+    
+    /**
+     * Valeur brute d'une propriété, telle que SmallRye Config la sélectionne (profils, ordinaux)
+     * mais sans développer ses expressions ni appliquer de converter.
+     *
+     * @return Valeur brute, ou null si la propriété n'est pas définie
+     */
+    static String rawValue(Config config, String propertyName) {
+        try {
+            return Expressions.withoutExpansion(() -> config.getConfigValue(propertyName)).getRawValue();
+        } catch (RuntimeException e) {
+            return null;
         }
+    }
+    
+    public String getPropertyValue(String propertyName) {
+        CanonicalPropertyIndex.Entry entry = getIndex().find(propertyName);
+        String key = entry != null ? entry.getKey() : propertyName;
+        // Sources non énumérables : un seul accès direct par le nom original, comme propertyExists
+        String value = entry != null ? entry.getValue() : rawValue(config, propertyName);
         
-        // Test 3 : Toutes les variantes
-        List<String> variants = baseResolver.getAllVariants(propertyName);
-        for (String variant : variants) {
-            value = config.getOptionalValue(variant, String.class);
-            if (value.isPresent()) {
-                return true;
-            }
+        if (value != null && PlaceholderScanner.mayContainPlaceholder(value)) {
+            // Expression à développer : déléguer à SmallRye Config
+            return config.getOptionalValue(key, String.class).orElse(null);
         }
-        
-        return false;
+        return value;
     }
     
-    public String getPropertyValue(String propertyName) {
-        Optional<String> value = config.getOptionalValue(propertyName, String.class);
-        if (value.isPresent()) {
-            return value.get();
+    public String findActualPropertyName(String propertyName) {
+        CanonicalPropertyIndex.Entry entry = getIndex().find(propertyName);
+        if (entry != null) {
+            return entry.getKey();
         }
-        
-        String envVarName = baseResolver.toEnvironmentVariableName(propertyName);
-        value = config.getOptionalValue(envVarName, String.class);
-        if (value.isPresent()) {
-            return value.get();
+        return rawValue(config, propertyName) != null ? propertyName : null;
+    }
+    
+    /**
+     * Retourne l'index des propriétés, construit au premier appel à partir des valeurs
+     * brutes des ConfigSources (variables d'environnement comprises si une ConfigSource les expose).
+     */
+    public CanonicalPropertyIndex getIndex() {
+        CanonicalPropertyIndex current = index;
+        if (current == null) {
+            CanonicalPropertyIndex.Builder builder = CanonicalPropertyIndex.builder();
+            forEachRawProperty(builder::add);
+            current = builder.build();
+            index = current;
+        }
+        return current;
+    }
+    
+    /**
+     * Invalide les valeurs brutes et l'index : ils seront relus à la prochaine requête.
+     */
+    public void refreshIndex() {
+        rawProperties = null;
+        index = null;
+    }
+    
+    /**
+     * Retourne la définition qui l'emporte pour chaque propriété (nom effectif, valeur brute non
+     * expansée, source), lue au premier appel.
+     *
+     * Chaque ConfigSource est parcourue une seule fois, par ordinal décroissant. Dans une même source,
+     * une clé d'un profil actif (%dev.app.url) l'emporte sur la clé générique, le dernier profil déclaré
+     * en premier ; les clés des profils inactifs sont ignorées.
+     *
+     * @return Propriétés dans l'ordre de précédence de leur source (liste indexable, non modifiable)
+     */
+    public List<RawProperty> getRawProperties() {
+        List<RawProperty> current = rawProperties;
+        if (current == null) {
+            current = readRawProperties();
+            rawProperties = current;
         }
+        return current;
+    }
+    
+    private List<RawProperty> readRawProperties() {
+        List<String> profiles = ConfigUtils.getProfiles();
+        Map<String, RawProperty> winners = new LinkedHashMap<>();
         
-        List<String> variants = baseResolver.getAllVariants(propertyName);
-        for (String variant : variants) {
-            value = config.getOptionalValue(variant, String.class);
-            if (value.isPresent()) {
-                return value.get();
+        int sourceIndex = 0;
+        for (ConfigSource source : config.getConfigSources()) {
+            String sourceName = source.getName();
+            List<String> profileNames = null;
+            
+            for (String name : source.getPropertyNames()) {
+                if (name.startsWith("%")) {
+                    // Peu nombreuses : départagées après le parcours de la source
+                    if (profileNames == null) {
+                        profileNames = new ArrayList<>();
+                    }
+                    profileNames.add(name);
+                } else if (!winners.containsKey(name)) {
+                    // Valeur lue seulement si aucune source plus prioritaire ne définit la clé
+                    winners.put(name, new RawProperty(name, source.getValue(name), sourceName, sourceIndex, -1));
+                }
+            }
+            
+            if (profileNames != null) {
+                for (String name : profileNames) {
+                    int rank = profileRank(name, profiles);
+                    if (rank < 0) {
+                        continue;
+                    }
+                    String stripped = name.substring(name.indexOf('.') + 1);
+                    RawProperty existing = winners.get(stripped);
+                    if (existing == null || (existing.sourceIndex == sourceIndex && existing.profileRank < rank)) {
+                        winners.put(stripped, new RawProperty(stripped, source.getValue(name), sourceName, sourceIndex, rank));
+                    }
+                }
+            }
+            sourceIndex++;
+        }
+        return List.copyOf(winners.values());
+    }
+    
+    /**
+     * @return Rang du profil actif le plus prioritaire cité par le préfixe (%dev,test.), -1 si aucun
+     */
+    private static int profileRank(String name, List<String> profiles) {
+        int dot = name.indexOf('.');
+        if (dot < 0) {
+            return -1;
+        }
+        int rank = -1;
+        for (String candidate : name.substring(1, dot).split(",")) {
+            rank = Math.max(rank, profiles.indexOf(candidate.trim()));
+        }
+        return rank;
+    }
+    
+    /**
+     * Parcourt les définitions qui l'emportent (voir {@link #getRawProperties()}).
+     *
+     * @param consumer Reçoit la source, le nom effectif et la valeur brute
+     */
+    public void forEachRawProperty(RawPropertyConsumer consumer) {
+        for (RawProperty property : getRawProperties()) {
+            consumer.accept(property.getSourceName(), property.getName(), property.getValue());
+        }
+    }
+    
+    /**
+     * Retire le préfixe de profil (%dev. ou %dev,test.) si le profil donné en fait partie.
+     *
+     * @return Nom sans préfixe, ou null si la clé ne concerne pas ce profil
+     */
+    static String stripProfile(String name, String profile) {
+        if (!name.startsWith("%")) {
+            return null;
+        }
+        int dot = name.indexOf('.');
+        if (dot < 0) {
+            return null;
+        }
+        for (String candidate : name.substring(1, dot).split(",")) {
+            if (candidate.trim().equals(profile)) {
+                return name.substring(dot + 1);
             }
         }
-        
         return null;
     }
     
-    public String findActualPropertyName(String propertyName) {
-        if (config.getOptionalValue(propertyName, String.class).isPresent()) {
-            return propertyName;
+    /**
+     * Construit le graphe des placeholders à partir des valeurs brutes (non expansées),
+     * profils actifs compris : seule la définition qui l'emporte compte pour la détection de cycles.
+     */
+    public PlaceholderGraph buildPlaceholderGraph() {
+        PlaceholderGraph.Builder builder = PlaceholderGraph.builder();
+        forEachRawProperty((sourceName, name, value) -> builder.addProperty(name, value));
+        return builder.build();
+    }
+    
+    /**
+     * Définition d'une propriété : nom effectif (sans préfixe de profil), valeur brute et source.
+     */
+    public static final class RawProperty {
+        
+        private final String name;
+        private final String value;
+        private final String sourceName;
+        private final int sourceIndex;
+        private final int profileRank;
+        
+        RawProperty(String name, String value, String sourceName, int sourceIndex, int profileRank) {
+            this.name = name;
+            this.value = value;
+            this.sourceName = sourceName;
+            this.sourceIndex = sourceIndex;
+            this.profileRank = profileRank;
         }
         
-        String envVarName = baseResolver.toEnvironmentVariableName(propertyName);
-        if (config.getOptionalValue(envVarName, String.class).isPresent()) {
-            return envVarName;
+        public String getName() {
+            return name;
         }
         
-        List<String> variants = baseResolver.getAllVariants(propertyName);
-        for (String variant : variants) {
-            if (config.getOptionalValue(variant, String.class).isPresent()) {
-                return variant;
-            }
+        /**
+         * @return Valeur telle que définie dans la source, expressions non développées
+         */
+        public String getValue() {
+            return value;
         }
         
-        return null;
+        public String getSourceName() {
+            return sourceName;
+        }
+    }
+    
+    /**
+     * Reçoit une valeur brute pendant {@link #forEachRawProperty(RawPropertyConsumer)}.
+     */
+    @FunctionalInterface
+    public interface RawPropertyConsumer {
+        void accept(String sourceName, String name, String rawValue);
     }
     
     public String generateSuggestion(String propertyName) {
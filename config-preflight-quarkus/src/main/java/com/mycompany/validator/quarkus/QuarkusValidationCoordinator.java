@@ -0,0 +1,198 @@
+package com.mycompany.validator.quarkus;
+
+import com.mycompany.validator.core.api.ErrorSink;
+import com.mycompany.validator.core.api.ValidationResult;
+import com.mycompany.validator.core.detector.PlaceholderDetector;
+import com.mycompany.validator.core.detector.PlaceholderGraph;
+import com.mycompany.validator.core.detector.PropertyPrefixTrie;
+import com.mycompany.validator.core.detector.SecretDetector;
+import com.mycompany.validator.core.engine.ValidationEngine;
+import com.mycompany.validator.core.engine.ValidationRun;
+import com.mycompany.validator.core.metrics.PhaseTimer;
+import com.mycompany.validator.core.model.ConfigurationError;
+import com.mycompany.validator.core.model.ErrorType;
+import io.quarkus.runtime.configuration.ConfigUtils;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Coordonne les phases de validation d'une application Quarkus : {@link QuarkusEarlyValidator},
+ * {@link QuarkusValidatorExtension} (via {@link QuarkusConfigurationValidator})
+ * et {@link QuarkusConfigMappingValidator}.
+ *
+ * Les ConfigSources sont lues une seule fois par run ({@link ValidationRun}) dans un
+ * {@link QuarkusPropertyBindingResolver} partagé ; le graphe des placeholders, le trie des fichiers
+ * et le scan des placeholders réussi y sont conservés pour les phases suivantes.
+ *
+ * La vérification des placeholders ({@link #scanPlaceholders}) est commune à toutes les phases :
+ * les erreurs sont identiques quelle que soit la phase qui les trouve.
+ *
+ * La configuration ne change pas après le démarrage : un seul run suffit, sauf validation explicite
+ * (API {@link QuarkusConfigurationValidator}) qui en ouvre un nouveau.
+ */
+@ApplicationScoped
+public class QuarkusValidationCoordinator {
+    
+    static final ValidationRun.Key<PropertyPrefixTrie> CONFIG_FILE_TRIE = ValidationRun.Key.named("quarkus-config-file-trie");
+    
+    private final Config config;
+    private final QuarkusPropertyBindingResolver bindingResolver;
+    private final PlaceholderDetector placeholderDetector = new PlaceholderDetector();
+    private final SecretDetector secretDetector = new SecretDetector();
+    
+    private volatile ValidationRun run = new ValidationRun();
+    
+    @Inject
+    public QuarkusValidationCoordinator(Config config) {
+        this.config = config;
+        this.bindingResolver = new QuarkusPropertyBindingResolver(config);
+    }
+    
+    public QuarkusValidationCoordinator() {
+        this(ConfigProvider.getConfig());
+    }
+    
+    /**
+     * @return Run partagé par les phases du démarrage
+     */
+    public ValidationRun currentRun() {
+        return run;
+    }
+    
+    /**
+     * Ouvre un nouveau run : valeurs brutes, index et résultats du run précédent sont abandonnés.
+     */
+    public synchronized ValidationRun startRun() {
+        bindingResolver.refreshIndex();
+        run = new ValidationRun();
+        return run;
+    }
+    
+    /**
+     * Graphe des placeholders des valeurs brutes du run, construit une fois.
+     */
+    public PlaceholderGraph getPlaceholderGraph() {
+        return run.computeIfAbsent(ValidationRun.PLACEHOLDER_GRAPH, bindingResolver::buildPlaceholderGraph);
+    }
+    
+    /**
+     * Scan des placeholders des valeurs brutes du run : références circulaires d'abord,
+     * puis chaque valeur, par blocs sur le pool (ordre des erreurs inchangé).
+     *
+     * @param sink Destination des erreurs, dans le mode configuré
+     * @param engine Moteur de la validation
+     * @param scan Mesures de la phase, ou null
+     * @return Résultat du sink
+     */
+    public ValidationResult scanPlaceholders(ErrorSink sink, ValidationEngine engine, PhaseTimer scan) {
+        // Détecter les références circulaires AVANT toute expansion par SmallRye Config
+        PlaceholderGraph graph = getPlaceholderGraph();
+        for (ConfigurationError cycleError : graph.toCircularReferenceErrors(secretDetector)) {
+            sink.accept(cycleError);
+        }
+        
+        // Valeurs brutes : une expression non résolue est détectée ici, sans exception de SmallRye Config
+        List<QuarkusPropertyBindingResolver.RawProperty> rawProperties = bindingResolver.getRawProperties();
+        if (scan != null) {
+            scan.keysScanned(rawProperties.size());
+        }
+        engine.run(rawProperties, sink, (property, entrySink) -> {
+            if (property.getValue() != null) {
+                checkPlaceholders(property.getName(), property.getValue(), graph, entrySink, scan);
+            }
+        });
+        return sink.toResult();
+    }
+    
+    private void checkPlaceholders(String propertyName, String value, PlaceholderGraph graph, ErrorSink sink, PhaseTimer scan) {
+        // Scan mono-passe : ignore les placeholders avec valeur par défaut, sans liste intermédiaire
+        placeholderDetector.forEachRequiredPlaceholder(value, placeholder -> {
+            // Un placeholder pris dans un cycle est déjà rapporté comme CIRCULAR_REFERENCE ;
+            // les autres placeholders de la même valeur restent vérifiés
+            if (graph.dependsOnCycle(placeholder)) {
+                return;
+            }
+            if (scan != null) {
+                scan.placeholderEvaluated();
+            }
+            
+            if (!bindingResolver.propertyExists(placeholder)) {
+                // Construite seulement si le sink la conserve
+                sink.accept(() -> ConfigurationError.builder()
+                    .type(ErrorType.UNRESOLVED_PLACEHOLDER)
+                    .propertyName(propertyName)
+                    .errorMessage(String.format(
+                        "Cannot resolve placeholder '${%s}' in property '%s' " +
+                        "(tried: %s, %s, and other variants)",
+                        placeholder, propertyName, placeholder,
+                        bindingResolver.getBaseResolver().toEnvironmentVariableName(placeholder)
+                    ))
+                    .suggestion(bindingResolver.generateSuggestion(placeholder))
+                    .isSensitive(secretDetector.isSensitive(placeholder))
+                    .build());
+            }
+        });
+    }
+    
+    /**
+     * Trie des noms définis par les fichiers application.*, par ordinal décroissant.
+     * Les clés des profils actifs sont indexées sans leur préfixe (%dev.app.url → app.url).
+     */
+    public PropertyPrefixTrie getConfigFileTrie() {
+        return run.computeIfAbsent(CONFIG_FILE_TRIE, () -> {
+            List<String> profiles = ConfigUtils.getProfiles();
+            PropertyPrefixTrie.Builder builder = PropertyPrefixTrie.builder();
+            
+            for (ConfigSource source : config.getConfigSources()) {
+                String sourceName = source.getName();
+                if (sourceName == null || !sourceName.contains("application.")) {
+                    continue;
+                }
+                
+                List<String> names = new ArrayList<>();
+                for (String name : source.getPropertyNames()) {
+                    String activeName = activeName(name, profiles);
+                    if (activeName != null) {
+                        names.add(activeName);
+                    }
+                }
+                builder.addSource(sourceName, names);
+            }
+            return builder.build();
+        });
+    }
+    
+    /**
+     * @return Nom sans préfixe de profil, ou null si la clé ne concerne aucun profil actif
+     */
+    static String activeName(String name, List<String> profiles) {
+        if (!name.startsWith("%")) {
+            return name;
+        }
+        for (String profile : profiles) {
+            String stripped = QuarkusPropertyBindingResolver.stripProfile(name, profile);
+            if (stripped != null) {
+                return stripped;
+            }
+        }
+        return null;
+    }
+    
+    public Config getConfig() {
+        return config;
+    }
+    
+    public QuarkusPropertyBindingResolver getBindingResolver() {
+        return bindingResolver;
+    }
+    
+    public SecretDetector getSecretDetector() {
+        return secretDetector;
+    }
+}
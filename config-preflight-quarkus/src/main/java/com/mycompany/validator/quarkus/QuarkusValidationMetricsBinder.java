@@ -0,0 +1,41 @@
+package com.mycompany.validator.quarkus;
+
+import com.mycompany.validator.core.metrics.MicrometerValidationMetrics;
+import com.mycompany.validator.core.metrics.ValidationMetrics;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import org.eclipse.microprofile.config.ConfigProvider;
+
+/**
+ * Publie les mesures de validation dans Micrometer si l'extension quarkus-micrometer est présente.
+ *
+ * Quarkus ajoute ses registres à Metrics.globalRegistry : aucun type Micrometer n'apparaît
+ * dans ce bean, qui reste donc valide sans Micrometer sur le classpath.
+ * S'exécute avant QuarkusEarlyValidator (priorité 25) pour publier les mesures directement.
+ * Le listener est retiré à l'arrêt (rechargements du mode dev, tests).
+ */
+@ApplicationScoped
+public class QuarkusValidationMetricsBinder {
+
+    private ValidationMetrics.Registration registration;
+
+    public void onStart(@Observes @Priority(10) StartupEvent event) {
+        boolean enabled = ConfigProvider.getConfig()
+            .getOptionalValue("configuration.validator.metrics.enabled", Boolean.class)
+            .orElse(true);
+
+        if (enabled && ValidationMetrics.isMicrometerPresent()) {
+            registration = MicrometerValidationMetrics.bindToGlobalRegistry();
+        }
+    }
+
+    public void onStop(@Observes ShutdownEvent event) {
+        if (registration != null) {
+            registration.close();
+            registration = null;
+        }
+    }
+}
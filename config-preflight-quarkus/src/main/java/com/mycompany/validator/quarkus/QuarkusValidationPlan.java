@@ -0,0 +1,78 @@
+package com.mycompany.validator.quarkus;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plan de validation précalculé au build par l'extension Quarkus (module deployment).
+ * 
+ * Le build step découvre via Jandex les interfaces @ConfigMapping et les points d'injection
+ * @ConfigProperty, et analyse les fichiers de configuration embarqués. Au démarrage, il ne reste
+ * donc qu'à chercher les clés listées ici (variables d'environnement, propriétés système...) :
+ * - requiredProperties : clés sans valeur par défaut, absentes des fichiers de build
+ * - defaults : valeurs par défaut déclarées (@WithDefault, defaultValue de @ConfigProperty)
+ * - placeholders : placeholders obligatoires des fichiers de build, par propriété,
+ *   non résolus par ces mêmes fichiers
+ * 
+ * JavaBean mutable pour pouvoir être enregistré par le recorder de bytecode.
+ */
+public class QuarkusValidationPlan {
+    
+    private static volatile QuarkusValidationPlan recorded;
+    
+    private List<String> requiredProperties = new ArrayList<>();
+    private Map<String, String> defaults = new LinkedHashMap<>();
+    private Map<String, List<String>> placeholders = new LinkedHashMap<>();
+    
+    /**
+     * @return Plan enregistré au build, ou null si l'extension n'a pas été appliquée
+     *         (mode sans build Quarkus, tests unitaires...)
+     */
+    public static QuarkusValidationPlan recorded() {
+        return recorded;
+    }
+    
+    static void record(QuarkusValidationPlan plan) {
+        recorded = plan;
+    }
+    
+    public List<String> getRequiredProperties() {
+        return requiredProperties;
+    }
+    
+    public void setRequiredProperties(List<String> requiredProperties) {
+        this.requiredProperties = requiredProperties;
+    }
+    
+    public Map<String, String> getDefaults() {
+        return defaults;
+    }
+    
+    public void setDefaults(Map<String, String> defaults) {
+        this.defaults = defaults;
+    }
+    
+    public Map<String, List<String>> getPlaceholders() {
+        return placeholders;
+    }
+    
+    public void setPlaceholders(Map<String, List<String>> placeholders) {
+        this.placeholders = placeholders;
+    }
+    
+    /**
+     * @param propertyName Nom de la propriété
+     * @return true si une valeur par défaut est déclarée pour cette propriété
+     */
+    public boolean hasDefault(String propertyName) {
+        return defaults.containsKey(propertyName);
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("QuarkusValidationPlan{required=%d, defaults=%d, placeholders=%d}",
+            requiredProperties.size(), defaults.size(), placeholders.size());
+    }
+}
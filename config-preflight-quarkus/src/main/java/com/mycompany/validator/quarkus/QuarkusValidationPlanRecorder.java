@@ -0,0 +1,15 @@
+package com.mycompany.validator.quarkus;
+
+import io.quarkus.runtime.annotations.Recorder;
+
+/**
+ * Recorder du plan de validation : le build step l'appelle au build, le bytecode généré
+ * rejoue l'appel à l'initialisation statique de l'application (image native comprise).
+ */
+@Recorder
+public class QuarkusValidationPlanRecorder {
+    
+    public void setPlan(QuarkusValidationPlan plan) {
+        QuarkusValidationPlan.record(plan);
+    }
+}
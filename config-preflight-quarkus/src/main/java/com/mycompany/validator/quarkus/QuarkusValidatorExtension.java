@@ -37,8 +37,8 @@ public class QuarkusValidatorExtension {
         
         logger.info("Running configuration validation...");
         
-        // Valider les placeholders
-        ValidationResult result = validator.validatePlaceholders();
+        // Valider les placeholders (run partagé : déjà fait si QuarkusEarlyValidator l'a réussi)
+        ValidationResult result = validator.validatePlaceholdersOnStartup();
         
         if (result.hasErrors()) {
             String formattedErrors = formatter.format(result);
@@ -15,7 +15,7 @@ import org.springframework.boot.diagnostics.FailureAnalysis;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
-import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Environment;
 import org.springframework.validation.FieldError;
 import org.springframework.validation.ObjectError;
 
@@ -32,6 +32,9 @@ import java.util.List;
  * Au lieu d'afficher les erreurs une par une, il extrait TOUTES les erreurs
  * et les affiche avec BeautifulErrorFormatter.
  * 
+ * Les sources sont lues dans les origines Spring (fichier, ligne, colonne) ; le profil actif
+ * ne sert plus qu'à deviner le fichier quand aucune origine n'est connue.
+ * 
  * @Order(Ordered.HIGHEST_PRECEDENCE) ensures this runs BEFORE Spring Boot's default BindFailureAnalyzer
  */
 @Order(Ordered.HIGHEST_PRECEDENCE)
@@ -39,6 +42,14 @@ public class ConfigPreflightBindFailureAnalyzer extends AbstractFailureAnalyzer<
     
     private final SecretDetector secretDetector = new SecretDetector();
     private final BeautifulErrorFormatter formatter = new BeautifulErrorFormatter();
+    private final Environment environment;
+    
+    /**
+     * @param environment Environment de l'application, injecté par Spring Boot (null si le contexte n'existe pas)
+     */
+    public ConfigPreflightBindFailureAnalyzer(Environment environment) {
+        this.environment = environment;
+    }
     
     @Override
     protected FailureAnalysis analyze(Throwable rootFailure, BindException cause) {
@@ -73,6 +84,10 @@ public class ConfigPreflightBindFailureAnalyzer extends AbstractFailureAnalyzer<
         
         // Récupérer tous les ObjectError (qui incluent les FieldError)
         List<ObjectError> allErrors = validationException.getValidationErrors().getAllErrors();
+        // Origines partagées avec les phases du run courant (l'Environment est null sans contexte)
+        PropertyOriginResolver originResolver = environment != null
+            ? SpringBootValidationCoordinator.forEnvironment(environment).getOriginResolver()
+            : PropertyOriginResolver.forEnvironment(null);
         
         for (ObjectError error : allErrors) {
             if (error instanceof FieldError) {
@@ -84,8 +99,8 @@ public class ConfigPreflightBindFailureAnalyzer extends AbstractFailureAnalyzer<
                 // Détecter si c'est une propriété sensible
                 boolean isSensitive = secretDetector.isSensitive(propertyName);
                 
-                // Détecter la source réelle
-                PropertySource source = detectPropertySource();
+                // Origine exacte, sinon fichier du profil actif
+                PropertySource source = originResolver.resolve(propertyName, this::detectPropertySource);
                 
                 // Créer le ConfigurationError
                 errors.add(ConfigurationError.builder()
@@ -170,7 +185,7 @@ public class ConfigPreflightBindFailureAnalyzer extends AbstractFailureAnalyzer<
      * Convertit un nom camelCase en kebab-case.
      */
     private String convertToKebabCase(String camelCase) {
-        return camelCase.replaceAll("([a-z0-9])([A-Z])", "$1-$2").toLowerCase();
+        return ConfigurationPropertiesMetadata.toKebabCase(camelCase);
     }
     
     /**
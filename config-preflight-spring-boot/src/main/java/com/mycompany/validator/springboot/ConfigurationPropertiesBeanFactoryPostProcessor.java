@@ -3,9 +3,14 @@ package com.mycompany.validator.springboot;
 import com.mycompany.validator.core.api.ValidationResult;
 import com.mycompany.validator.core.detector.SecretDetector;
 import com.mycompany.validator.core.formatter.BeautifulErrorFormatter;
+import com.mycompany.validator.core.metrics.ConfigPreflightCheckEvent;
+import com.mycompany.validator.core.metrics.PhaseTimer;
+import com.mycompany.validator.core.metrics.ValidationMetrics;
+import com.mycompany.validator.core.metrics.ValidationPhase;
 import com.mycompany.validator.core.model.ConfigurationError;
 import com.mycompany.validator.core.model.ErrorType;
 import com.mycompany.validator.core.model.PropertySource;
+import com.mycompany.validator.core.report.ReportPublisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
@@ -15,21 +20,26 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.core.Ordered;
 import org.springframework.core.env.Environment;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 
 /**
  * BeanFactoryPostProcessor qui valide les @ConfigurationProperties AVANT la création des beans.
- * S'exécute très tôt dans le cycle de vie Spring Boot.
+ * S'exécute pendant refresh(), avant l'instanciation du moindre singleton.
+ * 
+ * Seules les métadonnées sont lues : type et annotation de chaque définition de bean
+ * (classe annotée ou méthode @Bean annotée), sans instanciation, ce qui respecte
+ * spring.main.lazy-initialization. Les champs requis (@NotNull, @NotBlank, @NotEmpty)
+ * sont vérifiés via le Binder ; les valeurs null sans contrainte restent vérifiées
+ * sur les instances par {@link SpringBootConfigurationPropertiesValidator}.
  */
 public class ConfigurationPropertiesBeanFactoryPostProcessor implements BeanFactoryPostProcessor, Ordered {
     
     private static final Logger logger = LoggerFactory.getLogger(ConfigurationPropertiesBeanFactoryPostProcessor.class);
     
     private final Environment environment;
-    private final SecretDetector secretDetector = new SecretDetector();
     private final BeautifulErrorFormatter formatter = new BeautifulErrorFormatter();
     
     public ConfigurationPropertiesBeanFactoryPostProcessor(Environment environment) {
@@ -45,35 +55,48 @@ public class ConfigurationPropertiesBeanFactoryPostProcessor implements BeanFact
     public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
         logger.info("🔍 Validating @ConfigurationProperties BEFORE bean creation...");
         
+        PhaseTimer phaseTimer = ValidationMetrics.start(ValidationMetrics.FRAMEWORK_SPRING_BOOT, ValidationPhase.REQUIRED_PROPERTIES);
+        // Run ouvert par l'EnvironmentPostProcessor : Binder et origines déjà consultés sont réutilisés
+        SpringBootValidationCoordinator coordinator = SpringBootValidationCoordinator.forEnvironment(environment);
         List<ConfigurationError> errors = new ArrayList<>();
+        Set<String> checkedPrefixes = new HashSet<>();
         
-        // Récupérer tous les noms de beans avec @ConfigurationProperties
-        Map<String, Object> configBeans = beanFactory.getBeansWithAnnotation(ConfigurationProperties.class);
-        
-        for (Map.Entry<String, Object> entry : configBeans.entrySet()) {
-            Object bean = entry.getValue();
-            Class<?> beanClass = bean.getClass();
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            // Lecture des métadonnées uniquement : aucune FactoryBean n'est initialisée
+            ConfigurationProperties annotation = beanFactory.findAnnotationOnBean(beanName, ConfigurationProperties.class, false);
+            if (annotation == null) {
+                continue;
+            }
+            Class<?> beanClass = beanFactory.getType(beanName, false);
             
             // Ignorer les beans internes de Spring
-            if (isInternalSpringBean(beanClass)) {
+            if (beanClass == null || isInternalSpringBean(beanClass)) {
                 continue;
             }
             
-            ConfigurationProperties annotation = findConfigurationPropertiesAnnotation(beanClass);
-            if (annotation != null) {
-                String prefix = annotation.value().isEmpty() ? annotation.prefix() : annotation.value();
-                logger.debug("Validating @ConfigurationProperties: {} with prefix: {}", beanClass.getSimpleName(), prefix);
-                
-                // Valider les propriétés de ce bean
-                errors.addAll(validateBean(bean, prefix, beanClass));
+            String prefix = annotation.value().isEmpty() ? annotation.prefix() : annotation.value();
+            if (!checkedPrefixes.add(beanClass.getName() + "|" + prefix)) {
+                continue;
             }
+            logger.debug("Validating @ConfigurationProperties: {} with prefix: {}", beanClass.getSimpleName(), prefix);
+            
+            // Valider les propriétés requises de ce type
+            ConfigPreflightCheckEvent check = ConfigPreflightCheckEvent.start(ValidationMetrics.FRAMEWORK_SPRING_BOOT, ValidationPhase.REQUIRED_PROPERTIES);
+            List<ConfigurationError> beanErrors = validateDefinition(beanClass, prefix, coordinator);
+            int keys = ConfigurationPropertiesMetadata.forClass(beanClass).getProperties().size();
+            check.finishBean(beanClass, keys, beanErrors.size());
+            errors.addAll(beanErrors);
+            phaseTimer.keysScanned(keys);
         }
+        phaseTimer.errors(errors).stop();
         
         if (!errors.isEmpty()) {
             ValidationResult result = new ValidationResult(errors);
-            String formattedErrors = formatter.format(result);
+            PhaseTimer formatting = ValidationMetrics.start(ValidationMetrics.FRAMEWORK_SPRING_BOOT, ValidationPhase.FAILURE_FORMATTING);
+            formatter.withProperties(environment::getProperty).print(result, System.err);
+            formatting.stop();
+            ReportPublisher.fromProperties(environment::getProperty).publish(result);
             
-            System.err.println(formattedErrors);
             logger.error("❌ Configuration validation failed with {} error(s)", errors.size());
             
             // Arrêter l'application
@@ -93,57 +116,70 @@ public class ConfigurationPropertiesBeanFactoryPostProcessor implements BeanFact
             || packageName.startsWith("com.fasterxml.jackson.");
     }
     
-    private ConfigurationProperties findConfigurationPropertiesAnnotation(Class<?> clazz) {
-        Class<?> current = clazz;
-        while (current != null && current != Object.class) {
-            ConfigurationProperties annotation = current.getAnnotation(ConfigurationProperties.class);
-            if (annotation != null) {
-                return annotation;
-            }
-            current = current.getSuperclass();
-        }
-        return null;
-    }
-    
-    private List<ConfigurationError> validateBean(Object bean, String prefix, Class<?> beanClass) {
+    private List<ConfigurationError> validateDefinition(Class<?> beanClass, String prefix,
+                                                        SpringBootValidationCoordinator coordinator) {
+        SpringBootBinderPropertyResolver binderResolver = coordinator.getBinderResolver();
+        SecretDetector secretDetector = coordinator.getSecretDetector();
         List<ConfigurationError> errors = new ArrayList<>();
         
-        // Parcourir tous les champs déclarés
-        for (Field field : beanClass.getDeclaredFields()) {
-            field.setAccessible(true);
+        // Champs requis de la classe et de ses superclasses, métadonnées en cache par classe
+        for (ConfigurationPropertiesMetadata.ConfiguredProperty property
+                : ConfigurationPropertiesMetadata.forClass(beanClass).getProperties()) {
+            if (!property.isRequired()) {
+                continue;
+            }
             
-            try {
-                Object value = field.get(bean);
-                
-                // Si la valeur est null, c'est une erreur
-                if (value == null) {
-                    String fieldName = field.getName();
-                    String kebabCaseName = convertToKebabCase(fieldName);
-                    String propertyName = prefix.isEmpty() ? kebabCaseName : prefix + "." + kebabCaseName;
-                    
-                    boolean isSensitive = secretDetector.isSensitive(propertyName);
-                    
-                    logger.warn("Property '{}' is null in bean {}", propertyName, beanClass.getSimpleName());
-                    
-                    errors.add(ConfigurationError.builder()
-                        .type(ErrorType.MISSING_PROPERTY)
-                        .propertyName(propertyName)
-                        .source(new PropertySource("application.yml", "classpath:application.yml", PropertySource.SourceType.APPLICATION_YAML))
-                        .errorMessage("Property '" + propertyName + "' is not set")
-                        .suggestion(generateSuggestion(propertyName))
-                        .isSensitive(isSensitive)
-                        .build());
-                }
-            } catch (IllegalAccessException e) {
-                logger.warn("Cannot access field {} in {}", field.getName(), beanClass.getSimpleName());
+            // Valeur simple ou objet imbriqué / liste / map défini par ses descendants
+            String propertyName = property.qualify(prefix);
+            if (binderResolver.propertyExists(propertyName) || binderResolver.hasDescendants(propertyName)) {
+                continue;
             }
+            
+            boolean isSensitive = secretDetector.isSensitive(propertyName);
+            
+            logger.warn("Required property '{}' is not set for {}", propertyName, beanClass.getSimpleName());
+            
+            errors.add(ConfigurationError.builder()
+                .type(ErrorType.MISSING_PROPERTY)
+                .propertyName(propertyName)
+                .source(coordinator.getOriginResolver().resolve(propertyName, () -> detectPropertySource(coordinator, propertyName)))
+                .errorMessage("Property '" + propertyName + "' is not set")
+                .suggestion(generateSuggestion(propertyName))
+                .isSensitive(isSensitive)
+                .build());
         }
         
         return errors;
     }
     
-    private String convertToKebabCase(String camelCase) {
-        return camelCase.replaceAll("([a-z0-9])([A-Z])", "$1-$2").toLowerCase();
+    /**
+     * Source d'une propriété sans origine connue : fichier application* qui définit ses voisines
+     * (trie du run), sinon source inconnue plutôt qu'un application.yml deviné.
+     */
+    private static PropertySource detectPropertySource(SpringBootValidationCoordinator coordinator, String propertyName) {
+        List<String> sources = coordinator.getConfigFileTrie().findClosestSources(propertyName);
+        if (sources.isEmpty()) {
+            return new PropertySource("unknown", null, PropertySource.SourceType.UNKNOWN);
+        }
+        
+        // Ex: "Config resource 'class path resource [application-dev.yml]' via location ..."
+        String sourceName = sources.get(0);
+        int start = sourceName.indexOf('[');
+        int end = sourceName.indexOf(']', start + 1);
+        if (start < 0 || end < 0) {
+            return new PropertySource(sourceName, null, PropertySource.SourceType.UNKNOWN);
+        }
+        String path = sourceName.substring(start + 1, end);
+        String fileName = path.substring(path.lastIndexOf('/') + 1);
+        String location = sourceName.contains("class path resource") ? "classpath:" + path : path;
+        
+        return new PropertySource(
+            fileName,
+            location,
+            fileName.endsWith(".properties") ?
+                PropertySource.SourceType.APPLICATION_PROPERTIES :
+                PropertySource.SourceType.APPLICATION_YAML
+        );
     }
     
     private String generateSuggestion(String propertyName) {
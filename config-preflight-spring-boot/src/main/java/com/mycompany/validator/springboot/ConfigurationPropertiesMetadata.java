@@ -0,0 +1,240 @@
+package com.mycompany.validator.springboot;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.ClassUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Métadonnées d'une classe @ConfigurationProperties, calculées une seule fois par classe.
+ * 
+ * Le cache repose sur un {@link ClassValue} : partagé par tous les contextes Spring d'une même JVM
+ * (suites de tests qui en créent des centaines), sans empêcher le déchargement des classes.
+ * 
+ * Pour chaque classe :
+ * - le préfixe de l'annotation (cherchée dans la hiérarchie, proxys CGLIB compris)
+ * - les champs de la classe ET de ses superclasses, avec leur nom kebab-case complet précalculé
+ * - un accesseur MethodHandle par champ : plus de setAccessible ni de Field.get à chaque validation
+ * - les champs requis (@NotNull, @NotBlank, @NotEmpty), vérifiables sans instance
+ * 
+ * Une classe non annotée (bean créé par une méthode @Bean annotée) a les mêmes métadonnées,
+ * sans préfixe : le nom complet se construit alors avec {@link ConfiguredProperty#qualify(String)}.
+ */
+final class ConfigurationPropertiesMetadata {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ConfigurationPropertiesMetadata.class);
+    
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    
+    /**
+     * Contraintes rendant un champ obligatoire, reconnues par nom simple (jakarta.validation ou javax.validation).
+     */
+    private static final Set<String> REQUIRED_CONSTRAINTS = Set.of("NotNull", "NotBlank", "NotEmpty");
+    
+    private static final ClassValue<ConfigurationPropertiesMetadata> CACHE = new ClassValue<>() {
+        @Override
+        protected ConfigurationPropertiesMetadata computeValue(Class<?> type) {
+            return compute(type);
+        }
+    };
+    
+    private final String prefix;
+    private final List<ConfiguredProperty> properties;
+    
+    private ConfigurationPropertiesMetadata(String prefix, List<ConfiguredProperty> properties) {
+        this.prefix = prefix;
+        this.properties = properties;
+    }
+    
+    /**
+     * @param beanClass Classe du bean (éventuellement un proxy CGLIB)
+     * @return Métadonnées de la classe, calculées au premier appel
+     */
+    static ConfigurationPropertiesMetadata forClass(Class<?> beanClass) {
+        return CACHE.get(beanClass);
+    }
+    
+    /**
+     * @return true si la classe (ou une superclasse) porte @ConfigurationProperties
+     */
+    boolean isConfigurationProperties() {
+        return prefix != null;
+    }
+    
+    /**
+     * @return Préfixe de l'annotation (value ou prefix), null si la classe n'est pas annotée
+     */
+    String getPrefix() {
+        return prefix;
+    }
+    
+    /**
+     * @return Propriétés lisibles, superclasses comprises (vide si aucun champ)
+     */
+    List<ConfiguredProperty> getProperties() {
+        return properties;
+    }
+    
+    private static ConfigurationPropertiesMetadata compute(Class<?> beanClass) {
+        Class<?> userClass = ClassUtils.getUserClass(beanClass);
+        ConfigurationProperties annotation = findConfigurationPropertiesAnnotation(userClass);
+        String prefix = annotation == null ? null
+            : annotation.value().isEmpty() ? annotation.prefix() : annotation.value();
+        
+        // Superclasses d'abord ; un champ redéfini garde la position du parent mais l'accès de l'enfant
+        Deque<Class<?>> hierarchy = new ArrayDeque<>();
+        for (Class<?> current = userClass; current != null && current != Object.class; current = current.getSuperclass()) {
+            hierarchy.push(current);
+        }
+        Map<String, Field> fields = new LinkedHashMap<>();
+        for (Class<?> type : hierarchy) {
+            for (Field field : type.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                    fields.put(field.getName(), field);
+                }
+            }
+        }
+        
+        List<ConfiguredProperty> properties = new ArrayList<>(fields.size());
+        for (Field field : fields.values()) {
+            MethodHandle getter = getter(field);
+            if (getter != null) {
+                String kebabCaseName = toKebabCase(field.getName());
+                properties.add(new ConfiguredProperty(kebabCaseName, qualify(prefix, kebabCaseName),
+                    isRequired(field), getter));
+            }
+        }
+        
+        return new ConfigurationPropertiesMetadata(prefix, Collections.unmodifiableList(properties));
+    }
+    
+    private static boolean isRequired(Field field) {
+        for (Annotation annotation : field.getAnnotations()) {
+            if (REQUIRED_CONSTRAINTS.contains(annotation.annotationType().getSimpleName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static String qualify(String prefix, String kebabCaseName) {
+        return prefix == null || prefix.isEmpty() ? kebabCaseName : prefix + "." + kebabCaseName;
+    }
+    
+    private static ConfigurationProperties findConfigurationPropertiesAnnotation(Class<?> clazz) {
+        Class<?> current = clazz;
+        while (current != null && current != Object.class) {
+            ConfigurationProperties annotation = current.getAnnotation(ConfigurationProperties.class);
+            if (annotation != null) {
+                return annotation;
+            }
+            current = current.getSuperclass();
+        }
+        return null;
+    }
+    
+    /**
+     * Accesseur typé (Object) → Object, invocable avec invokeExact.
+     * 
+     * @return null si le champ n'est pas accessible (module non ouvert)
+     */
+    private static MethodHandle getter(Field field) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+            return lookup.unreflectGetter(field).asType(GETTER_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            logger.warn("Cannot access field {} in {}", field.getName(), field.getDeclaringClass().getSimpleName());
+            return null;
+        }
+    }
+    
+    /**
+     * camelCase → kebab-case, sans expression régulière : maxConnections → max-connections.
+     */
+    static String toKebabCase(String camelCase) {
+        StringBuilder name = new StringBuilder(camelCase.length() + 4);
+        char previous = 0;
+        for (int i = 0; i < camelCase.length(); i++) {
+            char c = camelCase.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                if ((previous >= 'a' && previous <= 'z') || (previous >= '0' && previous <= '9')) {
+                    name.append('-');
+                }
+                name.append((char) (c + ('a' - 'A')));
+            } else {
+                name.append(Character.toLowerCase(c));
+            }
+            previous = c;
+        }
+        return name.toString();
+    }
+    
+    /**
+     * Champ d'un bean : nom de configuration complet et accesseur compilé.
+     */
+    static final class ConfiguredProperty {
+        
+        private final String kebabCaseName;
+        private final String propertyName;
+        private final boolean required;
+        private final MethodHandle getter;
+        
+        ConfiguredProperty(String kebabCaseName, String propertyName, boolean required, MethodHandle getter) {
+            this.kebabCaseName = kebabCaseName;
+            this.propertyName = propertyName;
+            this.required = required;
+            this.getter = getter;
+        }
+        
+        /**
+         * @return Nom de configuration complet (ex: database.max-connections)
+         */
+        String getPropertyName() {
+            return propertyName;
+        }
+        
+        /**
+         * @param prefix Préfixe déclaré ailleurs que sur la classe (méthode @Bean)
+         * @return Nom de configuration complet sous ce préfixe
+         */
+        String qualify(String prefix) {
+            return ConfigurationPropertiesMetadata.qualify(prefix, kebabCaseName);
+        }
+        
+        /**
+         * @return true si le champ porte une contrainte @NotNull, @NotBlank ou @NotEmpty
+         */
+        boolean isRequired() {
+            return required;
+        }
+        
+        /**
+         * @param bean Instance de la classe (ou d'un proxy)
+         * @return Valeur du champ
+         */
+        Object read(Object bean) {
+            try {
+                return (Object) getter.invokeExact(bean);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Cannot read " + propertyName, e);
+            }
+        }
+    }
+}
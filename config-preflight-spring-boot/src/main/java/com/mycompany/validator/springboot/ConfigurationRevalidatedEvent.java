@@ -0,0 +1,24 @@
+package com.mycompany.validator.springboot;
+
+import com.mycompany.validator.core.api.ValidationDelta;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Publié après la revalidation incrémentale qui suit un rafraîchissement de la configuration.
+ */
+public class ConfigurationRevalidatedEvent extends ApplicationEvent {
+    
+    private final ValidationDelta delta;
+    
+    public ConfigurationRevalidatedEvent(Object source, ValidationDelta delta) {
+        super(source);
+        this.delta = delta;
+    }
+    
+    /**
+     * @return Erreurs apparues et disparues avec ce rafraîchissement
+     */
+    public ValidationDelta getDelta() {
+        return delta;
+    }
+}
@@ -0,0 +1,194 @@
+package com.mycompany.validator.springboot;
+
+import com.mycompany.validator.core.model.PropertySource;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.origin.Origin;
+import org.springframework.boot.origin.OriginLookup;
+import org.springframework.boot.origin.TextResourceOrigin;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Retrouve la position exacte (fichier, ligne, colonne) d'une propriété via l'{@link OriginLookup}
+ * des PropertySources Spring, au lieu de deviner le fichier à partir des noms de sources.
+ *
+ * Limité à une validation (partagé par ses phases via {@link SpringBootValidationCoordinator}) et appelé uniquement pour les propriétés en erreur :
+ * - propriété définie : origine de la définition qui l'emporte
+ * - propriété absente : origine de la première clé définie sous son plus proche ancêtre
+ *   (app.database.url absente → première clé sous app.database dans application-dev.yml)
+ *
+ * L'index des ancêtres n'est construit qu'à la première propriété absente ; une configuration
+ * valide ne coûte donc rien. Les résultats sont mis en cache par propriété.
+ */
+final class PropertyOriginResolver {
+    
+    private final MutablePropertySources propertySources;
+    private final Map<String, PropertySource> cache = new HashMap<>();
+    
+    /**
+     * Préfixe → origine de la première clé définie en dessous, construit à la demande.
+     */
+    private Map<String, TextResourceOrigin> prefixOrigins;
+    
+    private PropertyOriginResolver(MutablePropertySources propertySources) {
+        this.propertySources = propertySources;
+    }
+    
+    /**
+     * @param environment Environment Spring (les origines ne sont connues que s'il est configurable)
+     * @return Résolveur pour une validation
+     */
+    static PropertyOriginResolver forEnvironment(Environment environment) {
+        return new PropertyOriginResolver(
+            environment instanceof ConfigurableEnvironment ? ((ConfigurableEnvironment) environment).getPropertySources() : null);
+    }
+    
+    /**
+     * @param propertySources Sources de l'Environment, par ordre de précédence
+     * @return Résolveur pour une validation, partageable entre ses phases
+     */
+    static PropertyOriginResolver forPropertySources(MutablePropertySources propertySources) {
+        return new PropertyOriginResolver(propertySources);
+    }
+    
+    /**
+     * Résout la source d'une propriété en erreur.
+     *
+     * @param propertyName Nom de la propriété
+     * @param fallback Source devinée, utilisée si aucune origine textuelle n'est connue
+     * @return Source avec fichier, ligne et colonne si l'origine est connue
+     */
+    synchronized PropertySource resolve(String propertyName, Supplier<PropertySource> fallback) {
+        PropertySource cached = cache.get(propertyName);
+        if (cached != null) {
+            return cached;
+        }
+        
+        TextResourceOrigin origin = findOrigin(propertyName);
+        PropertySource source = origin != null ? toPropertySource(origin) : fallback.get();
+        cache.put(propertyName, source);
+        return source;
+    }
+    
+    private TextResourceOrigin findOrigin(String propertyName) {
+        if (propertySources == null) {
+            return null;
+        }
+        
+        // 1. Définition qui l'emporte
+        for (org.springframework.core.env.PropertySource<?> ps : propertySources) {
+            if (isOriginTracked(ps) && ps.containsProperty(propertyName)) {
+                return textOrigin(OriginLookup.getOrigin(ps, propertyName));
+            }
+        }
+        
+        // 2. Propriété absente : plus proche ancêtre défini
+        Map<String, TextResourceOrigin> origins = getPrefixOrigins();
+        String prefix = parentOf(propertyName);
+        while (prefix != null) {
+            TextResourceOrigin origin = origins.get(prefix);
+            if (origin != null) {
+                return origin;
+            }
+            prefix = parentOf(prefix);
+        }
+        return null;
+    }
+    
+    private Map<String, TextResourceOrigin> getPrefixOrigins() {
+        if (prefixOrigins != null) {
+            return prefixOrigins;
+        }
+        
+        // Sources par ordre de précédence : la première à définir un préfixe l'emporte
+        Map<String, TextResourceOrigin> origins = new HashMap<>();
+        for (org.springframework.core.env.PropertySource<?> ps : propertySources) {
+            if (!(ps instanceof EnumerablePropertySource) || !isOriginTracked(ps)) {
+                continue;
+            }
+            for (String name : ((EnumerablePropertySource<?>) ps).getPropertyNames()) {
+                TextResourceOrigin origin = textOrigin(OriginLookup.getOrigin(ps, name));
+                if (origin == null) {
+                    continue;
+                }
+                // Dans un fichier, la première clé sous un préfixe est la plus haute
+                for (String prefix = parentOf(name); prefix != null; prefix = parentOf(prefix)) {
+                    if (origins.putIfAbsent(prefix, origin) != null) {
+                        break;
+                    }
+                }
+            }
+        }
+        
+        prefixOrigins = origins;
+        return prefixOrigins;
+    }
+    
+    /**
+     * La source attachée "configurationProperties" délègue aux autres : elle est ignorée.
+     */
+    private static boolean isOriginTracked(org.springframework.core.env.PropertySource<?> ps) {
+        return ps instanceof OriginLookup && !ConfigurationPropertySources.isAttachedConfigurationPropertySource(ps);
+    }
+    
+    /**
+     * Remonte la chaîne des origines jusqu'à une position dans un fichier.
+     */
+    private static TextResourceOrigin textOrigin(Origin origin) {
+        while (origin != null) {
+            if (origin instanceof TextResourceOrigin && ((TextResourceOrigin) origin).getResource() != null) {
+                return (TextResourceOrigin) origin;
+            }
+            origin = origin.getParent();
+        }
+        return null;
+    }
+    
+    /**
+     * @return Préfixe parent (app.database.url → app.database, servers[0] → servers), null à la racine
+     */
+    static String parentOf(String propertyName) {
+        int separator = Math.max(propertyName.lastIndexOf('.'), propertyName.lastIndexOf('['));
+        return separator > 0 ? propertyName.substring(0, separator) : null;
+    }
+    
+    private static PropertySource toPropertySource(TextResourceOrigin origin) {
+        Resource resource = origin.getResource();
+        String fileName = resource.getFilename() != null ? resource.getFilename() : resource.getDescription();
+        String location = location(resource);
+        
+        PropertySource.SourceType type = fileName.endsWith(".yml") || fileName.endsWith(".yaml")
+            ? PropertySource.SourceType.APPLICATION_YAML
+            : PropertySource.SourceType.APPLICATION_PROPERTIES;
+        
+        // Les positions de Spring commencent à 0
+        TextResourceOrigin.Location position = origin.getLocation();
+        return position != null
+            ? new PropertySource(fileName, location, type, position.getLine() + 1, position.getColumn() + 1)
+            : new PropertySource(fileName, location, type);
+    }
+    
+    /**
+     * Emplacement repris tel quel comme artifactLocation.uri du rapport SARIF :
+     * classpath:, chemin du fichier ou URI, jamais la description de la ressource.
+     */
+    private static String location(Resource resource) {
+        if (resource instanceof ClassPathResource) {
+            return "classpath:" + ((ClassPathResource) resource).getPath();
+        }
+        try {
+            return resource.isFile() ? resource.getFile().getPath() : resource.getURI().toString();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -2,8 +2,18 @@ package com.mycompany.validator.springboot;
 
 import org.springframework.boot.context.properties.bind.BindResult;
 import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySource;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyState;
 import org.springframework.core.env.Environment;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Résolveur de propriétés utilisant l'API Binder de Spring Boot.
  * 
@@ -18,12 +28,45 @@ import org.springframework.core.env.Environment;
  */
 public class SpringBootBinderPropertyResolver {
     
+    /**
+     * Marqueur des propriétés non bindées dans le cache (ConcurrentHashMap n'accepte pas null).
+     */
+    private static final Object UNBOUND = new Object();
+    
+    /**
+     * Vue partagée par Environment : l'EnvironmentPostProcessor et le validateur utilisent le même Binder.
+     * Le résolveur ne référence pas l'Environment (seulement ses sources), la clé faible peut donc être collectée.
+     */
+    private static final Map<Environment, SpringBootBinderPropertyResolver> SHARED =
+        Collections.synchronizedMap(new WeakHashMap<>());
+    
+    private final Iterable<ConfigurationPropertySource> sources;
     private final Binder binder;
+    private final Map<String, Object> boundValues = new ConcurrentHashMap<>();
     
     public SpringBootBinderPropertyResolver(Environment environment) {
+        this.sources = ConfigurationPropertySources.get(environment);
         this.binder = Binder.get(environment);
     }
     
+    /**
+     * Retourne la vue Binder partagée pour cet Environment, créée au premier appel.
+     * 
+     * @param environment Environment Spring
+     * @return Résolveur partagé
+     */
+    public static SpringBootBinderPropertyResolver forEnvironment(Environment environment) {
+        return SHARED.computeIfAbsent(environment, SpringBootBinderPropertyResolver::new);
+    }
+    
+    /**
+     * Vide le cache des résultats de binding.
+     * À appeler au début de chaque validation, les PropertySources ayant pu changer.
+     */
+    public void clearCache() {
+        boundValues.clear();
+    }
+    
     /**
      * Vérifie si une propriété existe en utilisant l'API Binder.
      * 
@@ -33,17 +76,14 @@ public class SpringBootBinderPropertyResolver {
      * - Conversions de types
      * - Valeurs par défaut
      * 
+     * Le résultat est mémorisé jusqu'au prochain {@link #clearCache()} : un placeholder
+     * référencé par 300 propriétés n'est bindé qu'une fois.
+     * 
      * @param propertyName Nom de la propriété
      * @return true si la propriété peut être bindée
      */
     public boolean propertyExists(String propertyName) {
-        try {
-            BindResult<String> result = binder.bind(propertyName, String.class);
-            return result.isBound();
-        } catch (Exception e) {
-            // En cas d'erreur de binding, considérer que la propriété n'existe pas
-            return false;
-        }
+        return resolve(propertyName) != UNBOUND;
     }
     
     /**
@@ -53,12 +93,69 @@ public class SpringBootBinderPropertyResolver {
      * @return Valeur de la propriété, ou null si elle n'existe pas
      */
     public String getPropertyValue(String propertyName) {
+        Object value = resolve(propertyName);
+        return value != UNBOUND ? (String) value : null;
+    }
+    
+    /**
+     * Résout une liste de propriétés en un seul appel.
+     * 
+     * @param propertyNames Noms des propriétés
+     * @return Valeur de chaque propriété (null si elle n'est pas bindée), dans l'ordre demandé
+     */
+    public Map<String, String> resolveAll(String... propertyNames) {
+        Map<String, String> values = new LinkedHashMap<>(propertyNames.length * 2);
+        for (String propertyName : propertyNames) {
+            values.put(propertyName, getPropertyValue(propertyName));
+        }
+        return values;
+    }
+    
+    private Object resolve(String propertyName) {
+        if (propertyName == null) {
+            return UNBOUND;
+        }
+        Object cached = boundValues.get(propertyName);
+        if (cached != null) {
+            return cached;
+        }
+        Object value = bind(propertyName);
+        boundValues.put(propertyName, value);
+        return value;
+    }
+    
+    private Object bind(String propertyName) {
+        // Un nom invalide (ex: APP_DATABASE_URL) ferait lever une exception au Binder
+        if (!ConfigurationPropertyName.isValid(propertyName)) {
+            return UNBOUND;
+        }
         try {
             BindResult<String> result = binder.bind(propertyName, String.class);
-            return result.orElse(null);
+            return result.isBound() ? result.get() : UNBOUND;
         } catch (Exception e) {
-            return null;
+            // En cas d'erreur de binding, considérer que la propriété n'existe pas
+            return UNBOUND;
+        }
+    }
+    
+    /**
+     * Vérifie si des propriétés sont définies sous ce nom (objet imbriqué, liste, map),
+     * sans binder ni instancier le type cible.
+     * 
+     * @param propertyName Nom de la propriété (ex: app.pool pour app.pool.size)
+     * @return true si une source énumérable définit au moins une propriété descendante
+     */
+    public boolean hasDescendants(String propertyName) {
+        if (propertyName == null || !ConfigurationPropertyName.isValid(propertyName)) {
+            return false;
+        }
+        ConfigurationPropertyName name = ConfigurationPropertyName.of(propertyName);
+        for (ConfigurationPropertySource source : sources) {
+            if (source.containsDescendantOf(name) == ConfigurationPropertyState.PRESENT) {
+                return true;
+            }
         }
+        return false;
     }
     
     /**
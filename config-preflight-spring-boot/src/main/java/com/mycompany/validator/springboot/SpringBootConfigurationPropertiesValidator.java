@@ -1,11 +1,16 @@
 package com.mycompany.validator.springboot;
 
 import com.mycompany.validator.core.api.ValidationResult;
-import com.mycompany.validator.core.detector.SecretDetector;
+import com.mycompany.validator.core.detector.PropertyPrefixTrie;
 import com.mycompany.validator.core.formatter.BeautifulErrorFormatter;
+import com.mycompany.validator.core.metrics.ConfigPreflightCheckEvent;
+import com.mycompany.validator.core.metrics.PhaseTimer;
+import com.mycompany.validator.core.metrics.ValidationMetrics;
+import com.mycompany.validator.core.metrics.ValidationPhase;
 import com.mycompany.validator.core.model.ConfigurationError;
 import com.mycompany.validator.core.model.ErrorType;
 import com.mycompany.validator.core.model.PropertySource;
+import com.mycompany.validator.core.report.ReportPublisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.context.event.ApplicationStartedEvent;
@@ -13,10 +18,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationListener;
 import org.springframework.core.Ordered;
-import org.springframework.core.env.ConfigurableEnvironment;
-import org.springframework.core.env.EnumerablePropertySource;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -31,9 +33,14 @@ public class SpringBootConfigurationPropertiesValidator implements ApplicationLi
     private static final Logger logger = LoggerFactory.getLogger(SpringBootConfigurationPropertiesValidator.class);
     
     private final ApplicationContext applicationContext;
-    private final SecretDetector secretDetector = new SecretDetector();
     private final BeautifulErrorFormatter formatter = new BeautifulErrorFormatter();
     
+    /**
+     * Run partagé avec les phases précédentes : trie des fichiers et origines exactes
+     * des propriétés en erreur, construits au plus une fois par validation.
+     */
+    private SpringBootValidationCoordinator coordinator;
+    
     public SpringBootConfigurationPropertiesValidator(ApplicationContext applicationContext) {
         this.applicationContext = applicationContext;
     }
@@ -47,7 +54,9 @@ public class SpringBootConfigurationPropertiesValidator implements ApplicationLi
     public void onApplicationEvent(ApplicationStartedEvent event) {
         logger.info("🔍 Scanning @ConfigurationProperties beans for null values...");
         
+        PhaseTimer phaseTimer = ValidationMetrics.start(ValidationMetrics.FRAMEWORK_SPRING_BOOT, ValidationPhase.BEAN_PROPERTIES);
         List<ConfigurationError> errors = new ArrayList<>();
+        coordinator = SpringBootValidationCoordinator.forEnvironment(applicationContext.getEnvironment());
         
         // Récupérer tous les beans avec @ConfigurationProperties
         Map<String, Object> configBeans = applicationContext.getBeansWithAnnotation(ConfigurationProperties.class);
@@ -61,21 +70,29 @@ public class SpringBootConfigurationPropertiesValidator implements ApplicationLi
                 continue;
             }
             
-            ConfigurationProperties annotation = findConfigurationPropertiesAnnotation(beanClass);
-            if (annotation != null) {
-                String prefix = annotation.value().isEmpty() ? annotation.prefix() : annotation.value();
+            // Préfixe, champs et accesseurs mis en cache par classe (ClassValue)
+            ConfigurationPropertiesMetadata metadata = ConfigurationPropertiesMetadata.forClass(beanClass);
+            if (metadata.isConfigurationProperties()) {
+                String prefix = metadata.getPrefix();
                 logger.debug("Found @ConfigurationProperties bean: {} with prefix: {}", beanClass.getSimpleName(), prefix);
                 
                 // Valider les propriétés de ce bean
-                errors.addAll(validateBean(bean, prefix, beanClass));
+                ConfigPreflightCheckEvent check = ConfigPreflightCheckEvent.start(ValidationMetrics.FRAMEWORK_SPRING_BOOT, ValidationPhase.BEAN_PROPERTIES);
+                List<ConfigurationError> beanErrors = validateBean(bean, metadata, beanClass);
+                check.finishBean(beanClass, metadata.getProperties().size(), beanErrors.size());
+                errors.addAll(beanErrors);
+                phaseTimer.keysScanned(metadata.getProperties().size());
             }
         }
+        phaseTimer.errors(errors).stop();
         
         if (!errors.isEmpty()) {
             ValidationResult result = new ValidationResult(errors);
-            String formattedErrors = formatter.format(result);
+            PhaseTimer formatting = ValidationMetrics.start(ValidationMetrics.FRAMEWORK_SPRING_BOOT, ValidationPhase.FAILURE_FORMATTING);
+            formatter.withProperties(applicationContext.getEnvironment()::getProperty).print(result, System.err);
+            formatting.stop();
+            ReportPublisher.fromProperties(applicationContext.getEnvironment()::getProperty).publish(result);
             
-            System.err.println(formattedErrors);
             logger.error("❌ Configuration validation failed with {} error(s)", errors.size());
             
             // Arrêter l'application
@@ -95,62 +112,38 @@ public class SpringBootConfigurationPropertiesValidator implements ApplicationLi
             || packageName.startsWith("com.fasterxml.jackson.");
     }
     
-    private ConfigurationProperties findConfigurationPropertiesAnnotation(Class<?> clazz) {
-        Class<?> current = clazz;
-        while (current != null && current != Object.class) {
-            ConfigurationProperties annotation = current.getAnnotation(ConfigurationProperties.class);
-            if (annotation != null) {
-                return annotation;
-            }
-            current = current.getSuperclass();
-        }
-        return null;
-    }
-    
-    private List<ConfigurationError> validateBean(Object bean, String prefix, Class<?> beanClass) {
+    private List<ConfigurationError> validateBean(Object bean, ConfigurationPropertiesMetadata metadata, Class<?> beanClass) {
         List<ConfigurationError> errors = new ArrayList<>();
         
-        // Parcourir tous les champs déclarés
-        for (Field field : beanClass.getDeclaredFields()) {
-            field.setAccessible(true);
+        // Champs de la classe et de ses superclasses, noms kebab-case précalculés
+        for (ConfigurationPropertiesMetadata.ConfiguredProperty property : metadata.getProperties()) {
+            Object value = property.read(bean);
             
-            try {
-                Object value = field.get(bean);
+            // Si la valeur est null, c'est une erreur
+            if (value == null) {
+                String propertyName = property.getPropertyName();
+                
+                boolean isSensitive = coordinator.getSecretDetector().isSensitive(propertyName);
                 
-                // Si la valeur est null, c'est une erreur
-                if (value == null) {
-                    String fieldName = field.getName();
-                    String kebabCaseName = convertToKebabCase(fieldName);
-                    String propertyName = prefix.isEmpty() ? kebabCaseName : prefix + "." + kebabCaseName;
-                    
-                    boolean isSensitive = secretDetector.isSensitive(propertyName);
-                    
-                    logger.warn("Property '{}' is null in bean {}", propertyName, beanClass.getSimpleName());
-                    
-                    // Détecter la source réelle de la propriété
-                    PropertySource source = detectPropertySource(propertyName);
-                    
-                    errors.add(ConfigurationError.builder()
-                        .type(ErrorType.MISSING_PROPERTY)
-                        .propertyName(propertyName)
-                        .source(source)
-                        .errorMessage("Property '" + propertyName + "' is not set")
-                        .suggestion(generateSuggestion(propertyName))
-                        .isSensitive(isSensitive)
-                        .build());
-                }
-            } catch (IllegalAccessException e) {
-                logger.warn("Cannot access field {} in {}", field.getName(), beanClass.getSimpleName());
+                logger.warn("Property '{}' is null in bean {}", propertyName, beanClass.getSimpleName());
+                
+                // Détecter la source réelle de la propriété
+                PropertySource source = coordinator.getOriginResolver().resolve(propertyName, () -> detectPropertySource(propertyName));
+                
+                errors.add(ConfigurationError.builder()
+                    .type(ErrorType.MISSING_PROPERTY)
+                    .propertyName(propertyName)
+                    .source(source)
+                    .errorMessage("Property '" + propertyName + "' is not set")
+                    .suggestion(generateSuggestion(propertyName))
+                    .isSensitive(isSensitive)
+                    .build());
             }
         }
         
         return errors;
     }
     
-    private String convertToKebabCase(String camelCase) {
-        return camelCase.replaceAll("([a-z0-9])([A-Z])", "$1-$2").toLowerCase();
-    }
-    
     private String generateSuggestion(String propertyName) {
         String envVarName = propertyName.replace('.', '_').replace('-', '_').toUpperCase();
         return String.format("Add to application.yml: %s: <value>\nOR set environment variable: export %s=<value>",
@@ -162,46 +155,22 @@ public class SpringBootConfigurationPropertiesValidator implements ApplicationLi
      * Vérifie dans quel fichier les autres propriétés du même prefix sont définies.
      */
     private PropertySource detectPropertySource(String propertyName) {
-        org.springframework.core.env.Environment environment = applicationContext.getEnvironment();
-        if (!(environment instanceof ConfigurableEnvironment)) {
-            return new PropertySource("application.yml", "classpath:application.yml", PropertySource.SourceType.APPLICATION_YAML);
-        }
-        ConfigurableEnvironment env = (ConfigurableEnvironment) environment;
+        PropertyPrefixTrie trie = coordinator.getConfigFileTrie();
         
         // Extraire le prefix (ex: "database" de "database.max-connections")
         String prefix = propertyName.contains(".") ? propertyName.substring(0, propertyName.indexOf(".")) : propertyName;
         
-        // Chercher dans les PropertySources pour trouver où ce prefix est défini
+        // Fichiers qui définissent ce prefix, par ordre de précédence (une descente dans le trie)
         String profileSpecificFile = null;
         String defaultFile = null;
         
-        for (org.springframework.core.env.PropertySource<?> ps : env.getPropertySources()) {
-            String sourceName = ps.getName();
-            
-            if (sourceName.contains("application") && 
-                (sourceName.contains(".yml") || sourceName.contains(".yaml") || sourceName.contains(".properties"))) {
-                
-                String fileName = extractFileName(sourceName);
-                
-                // Vérifier si ce PropertySource contient des propriétés avec notre prefix
-                if (ps instanceof EnumerablePropertySource) {
-                    EnumerablePropertySource<?> enumPs = (EnumerablePropertySource<?>) ps;
-                    for (String propName : enumPs.getPropertyNames()) {
-                        if (propName.startsWith(prefix + ".") || propName.startsWith(prefix + "[")) {
-                            // Cette source contient des propriétés de notre prefix
-                            if (fileName.contains("-") && !fileName.equals("application.yml")) {
-                                profileSpecificFile = fileName;
-                                break;
-                            } else if (fileName.equals("application.yml") || fileName.equals("application.properties")) {
-                                defaultFile = fileName;
-                            }
-                        }
-                    }
-                    
-                    if (profileSpecificFile != null) {
-                        break; // On a trouvé le fichier spécifique au profil
-                    }
-                }
+        for (String sourceName : trie.findSources(prefix)) {
+            String fileName = extractFileName(sourceName);
+            if (fileName.contains("-") && !fileName.equals("application.yml")) {
+                profileSpecificFile = fileName;
+                break; // On a trouvé le fichier spécifique au profil
+            } else if (fileName.equals("application.yml") || fileName.equals("application.properties")) {
+                defaultFile = fileName;
             }
         }
         
@@ -0,0 +1,96 @@
+package com.mycompany.validator.springboot;
+
+import com.mycompany.validator.core.api.ValidationDelta;
+import com.mycompany.validator.core.detector.SecretDetector;
+import com.mycompany.validator.core.engine.IncrementalValidator;
+import com.mycompany.validator.core.formatter.BeautifulErrorFormatter;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.core.env.MutablePropertySources;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Revalide la configuration après un rafraîchissement Spring Cloud (EnvironmentChangeEvent).
+ * 
+ * L'état de référence (graphe des placeholders + erreurs) est pris une fois l'application prête.
+ * À chaque rafraîchissement, seules les clés modifiées et les propriétés dont les placeholders
+ * en dépendent sont revérifiées ; le résultat est publié sous forme de
+ * {@link ConfigurationRevalidatedEvent} (erreurs nouvelles / résolues).
+ * 
+ * Contrairement au démarrage, une erreur n'arrête pas l'application : elle est affichée et publiée.
+ */
+public class SpringBootConfigurationRevalidator implements SmartApplicationListener {
+    
+    private final SpringBootConfigurationValidator validator;
+    private final ApplicationEventPublisher publisher;
+    private final IncrementalValidator incrementalValidator;
+    private final BeautifulErrorFormatter formatter = new BeautifulErrorFormatter();
+    
+    public SpringBootConfigurationRevalidator(SpringBootConfigurationValidator validator,
+                                              ApplicationEventPublisher publisher) {
+        this.validator = validator;
+        this.publisher = publisher;
+        this.incrementalValidator = new IncrementalValidator(validator::checkProperty, new SecretDetector());
+    }
+    
+    @Override
+    public boolean supportsEventType(Class<? extends ApplicationEvent> eventType) {
+        return ApplicationReadyEvent.class.isAssignableFrom(eventType)
+            || EnvironmentChangeEvent.class.isAssignableFrom(eventType);
+    }
+    
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        if (event instanceof ApplicationReadyEvent) {
+            initialize();
+        } else if (event instanceof EnvironmentChangeEvent) {
+            revalidate(((EnvironmentChangeEvent) event).getKeys());
+        }
+    }
+    
+    /**
+     * Prend l'état de référence : validation complète des placeholders, ou celle déjà faite
+     * dans le run courant si les sources n'ont pas changé depuis le démarrage.
+     */
+    void initialize() {
+        SpringBootValidationCoordinator.PropertySnapshot snapshot = validator.getSnapshot();
+        incrementalValidator.initialize(snapshot.getGraph(), validator.validatePlaceholders(snapshot).getErrors());
+    }
+    
+    /**
+     * Revalide les clés modifiées et leurs dépendants, puis publie la différence.
+     * 
+     * @param changedKeys Clés modifiées par le rafraîchissement
+     * @return Différence publiée, ou null si l'état de référence vient d'être pris
+     */
+    ValidationDelta revalidate(Collection<String> changedKeys) {
+        if (!incrementalValidator.isInitialized()) {
+            // Rafraîchissement avant ApplicationReadyEvent : rien à comparer
+            initialize();
+            return null;
+        }
+        
+        validator.startRun();
+        MutablePropertySources propertySources = validator.getPropertySources();
+        Map<String, String> changes = new LinkedHashMap<>();
+        for (String key : changedKeys) {
+            changes.put(key, SpringBootConfigurationValidator.findRawValue(propertySources, key));
+        }
+        
+        ValidationDelta delta = incrementalValidator.revalidate(changes);
+        
+        if (delta.getNewErrors().hasErrors()) {
+            formatter.print(delta.getNewErrors(), System.err);
+            System.err.println("⚠️  Configuration refresh introduced " + delta.getNewErrors().getErrorCount() + " error(s).");
+        }
+        publisher.publishEvent(new ConfigurationRevalidatedEvent(this, delta));
+        
+        return delta;
+    }
+}
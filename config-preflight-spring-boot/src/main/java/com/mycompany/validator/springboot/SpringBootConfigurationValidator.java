@@ -1,9 +1,15 @@
 package com.mycompany.validator.springboot;
 
 import com.mycompany.validator.core.api.ConfigurationValidator;
+import com.mycompany.validator.core.api.ErrorSink;
 import com.mycompany.validator.core.api.ValidationResult;
 import com.mycompany.validator.core.model.*;
-import com.mycompany.validator.core.detector.PlaceholderDetector;
+import com.mycompany.validator.core.detector.CanonicalPropertyIndex;
+import com.mycompany.validator.core.detector.PlaceholderGraph;
+import com.mycompany.validator.core.engine.ValidationEngine;
+import com.mycompany.validator.core.engine.ValidationRun;
+import com.mycompany.validator.core.metrics.ConfigPreflightValidationEvent;
+import com.mycompany.validator.core.metrics.ValidationMetrics;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.EnumerablePropertySource;
@@ -23,20 +29,22 @@ import java.util.*;
 public class SpringBootConfigurationValidator implements ConfigurationValidator {
     
     private final Environment environment;
-    private final PlaceholderDetector placeholderDetector;
     private final SpringBootPropertyBindingResolver bindingResolver;
     private final SpringBootBinderPropertyResolver binderResolver;
+    private final SpringBootValidationCoordinator coordinator;
     
     @Autowired
     public SpringBootConfigurationValidator(Environment environment) {
         this.environment = environment;
-        this.placeholderDetector = new PlaceholderDetector();
+        this.coordinator = SpringBootValidationCoordinator.forEnvironment(environment);
         this.bindingResolver = new SpringBootPropertyBindingResolver(environment);
-        this.binderResolver = new SpringBootBinderPropertyResolver(environment);
+        this.binderResolver = coordinator.getBinderResolver();
     }
     
     @Override
     public ValidationResult validateAll() {
+        ConfigPreflightValidationEvent event = ConfigPreflightValidationEvent.start(ValidationMetrics.FRAMEWORK_SPRING_BOOT, ConfigPreflightValidationEvent.VALIDATE_ALL);
+        startRun();
         List<ConfigurationError> errors = new ArrayList<>();
         
         if (environment instanceof ConfigurableEnvironment) {
@@ -48,17 +56,27 @@ public class SpringBootConfigurationValidator implements ConfigurationValidator
             }
         }
         
-        return new ValidationResult(errors);
+        // Seuls les noms des sources sont examinés
+        return event.finish(0, new ValidationResult(errors));
     }
     
     @Override
     public ValidationResult validateRequired(String... requiredProperties) {
-        List<ConfigurationError> errors = new ArrayList<>();
+        ConfigPreflightValidationEvent event = ConfigPreflightValidationEvent.start(ValidationMetrics.FRAMEWORK_SPRING_BOOT, ConfigPreflightValidationEvent.VALIDATE_REQUIRED);
+        startRun();
+        ErrorSink sink = newErrorSink();
+        
+        // ✅ Utiliser le Binder API pour une résolution 100% fidèle à Spring Boot, en un seul appel :
+        // une valeur null signifie que la propriété n'est pas bindée
+        Map<String, String> values = binderResolver.resolveAll(requiredProperties);
         
         for (String property : requiredProperties) {
-            // ✅ Utiliser le Binder API pour une résolution 100% fidèle à Spring Boot
-            if (!binderResolver.propertyExists(property)) {
-                errors.add(ConfigurationError.builder()
+            if (sink.isStopped()) {
+                break;
+            }
+            String value = values.get(property);
+            if (value == null) {
+                sink.accept(() -> ConfigurationError.builder()
                     .type(ErrorType.MISSING_PROPERTY)
                     .propertyName(property)
                     .errorMessage(String.format(
@@ -70,9 +88,8 @@ public class SpringBootConfigurationValidator implements ConfigurationValidator
                     .build());
             } else {
                 // La propriété existe, vérifier si elle est vide
-                String value = binderResolver.getPropertyValue(property);
-                if (value != null && value.trim().isEmpty()) {
-                    errors.add(ConfigurationError.builder()
+                if (value.trim().isEmpty()) {
+                    sink.accept(() -> ConfigurationError.builder()
                         .type(ErrorType.EMPTY_VALUE)
                         .propertyName(property)
                         .errorMessage(String.format(
@@ -85,52 +102,82 @@ public class SpringBootConfigurationValidator implements ConfigurationValidator
             }
         }
         
-        return new ValidationResult(errors);
+        return event.finish(requiredProperties.length, sink.toResult());
     }
     
     @Override
     public ValidationResult validatePlaceholders() {
-        List<ConfigurationError> errors = new ArrayList<>();
+        ConfigPreflightValidationEvent event = ConfigPreflightValidationEvent.start(ValidationMetrics.FRAMEWORK_SPRING_BOOT, ConfigPreflightValidationEvent.VALIDATE_PLACEHOLDERS);
+        startRun();
         
         if (environment instanceof ConfigurableEnvironment) {
-            ConfigurableEnvironment configurableEnv = (ConfigurableEnvironment) environment;
-            MutablePropertySources propertySources = configurableEnv.getPropertySources();
-            
-            for (org.springframework.core.env.PropertySource<?> propertySource : propertySources) {
-                if (propertySource instanceof EnumerablePropertySource) {
-                    EnumerablePropertySource<?> enumerable = (EnumerablePropertySource<?>) propertySource;
-                    
-                    for (String propertyName : enumerable.getPropertyNames()) {
-                        Object value = propertySource.getProperty(propertyName);
-                        
-                        if (value instanceof String) {
-                            String stringValue = (String) value;
-                            // Utiliser detectRequiredPlaceholders pour ignorer ceux avec valeur par défaut
-                            List<String> requiredPlaceholders = placeholderDetector.detectRequiredPlaceholders(stringValue);
-                            
-                            for (String placeholder : requiredPlaceholders) {
-                                // ✅ Utiliser le Binder API pour vérifier l'existence
-                                if (!binderResolver.propertyExists(placeholder)) {
-                                    errors.add(ConfigurationError.builder()
-                                        .type(ErrorType.UNRESOLVED_PLACEHOLDER)
-                                        .propertyName(propertyName)
-                                        .errorMessage(String.format(
-                                            "Cannot resolve placeholder '${%s}' in property '%s' " +
-                                            "(Spring Boot Binder could not find this property)",
-                                            placeholder, propertyName
-                                        ))
-                                        .suggestion(bindingResolver.generateSuggestion(placeholder))
-                                        .source(toPropertySource(propertySource))
-                                        .build());
-                                }
-                            }
-                        }
-                    }
-                }
-            }
+            // Détecter les références circulaires AVANT toute résolution par le Binder
+            SpringBootValidationCoordinator.PropertySnapshot snapshot = coordinator.getSnapshot();
+            return event.finish(snapshot.getGraph().getPropertyCount(),
+                coordinator.scanPlaceholders(newErrorSink(), newEngine(), null));
         }
         
-        return new ValidationResult(errors);
+        return event.finish(0, new ValidationResult(new ArrayList<>()));
+    }
+    
+    /**
+     * Valide les placeholders de toutes les sources du run courant, en conservant toutes les erreurs
+     * (état de référence de la revalidation incrémentale). Un scan complet déjà fait dans ce run,
+     * par exemple sans erreur par l'EnvironmentPostProcessor, est réutilisé.
+     */
+    ValidationResult validatePlaceholders(SpringBootValidationCoordinator.PropertySnapshot snapshot) {
+        return coordinator.currentRun().computeIfAbsent(ValidationRun.PLACEHOLDER_SCAN,
+            () -> coordinator.scanPlaceholders(ErrorSink.collectAll(), newEngine(), null));
+    }
+    
+    /**
+     * Revérifie une seule propriété (revalidation incrémentale), comme le scan complet.
+     */
+    void checkProperty(String propertyName, PlaceholderGraph graph, List<ConfigurationError> errors) {
+        coordinator.checkProperty(propertyName, graph, errors);
+    }
+    
+    MutablePropertySources getPropertySources() {
+        return coordinator.getPropertySources();
+    }
+    
+    /**
+     * Entrées et graphe du run courant, partagés avec les autres phases de la validation.
+     */
+    SpringBootValidationCoordinator.PropertySnapshot getSnapshot() {
+        return coordinator.getSnapshot();
+    }
+    
+    /**
+     * Sink du mode configuré (configuration.validator.error-mode), un par validation.
+     */
+    private ErrorSink newErrorSink() {
+        return ErrorSink.fromProperties(environment::getProperty);
+    }
+    
+    private ValidationEngine newEngine() {
+        return ValidationEngine.fromProperties(environment::getProperty);
+    }
+    
+    /**
+     * Début d'une validation : les résultats mémorisés d'une validation précédente sont invalidés.
+     */
+    void startRun() {
+        coordinator.startRun();
+    }
+    
+    /**
+     * Valeur brute qui l'emporte pour une propriété : null si aucune source ne la définit,
+     * chaîne vide si sa valeur n'est pas textuelle.
+     */
+    static String findRawValue(MutablePropertySources propertySources, String propertyName) {
+        for (org.springframework.core.env.PropertySource<?> propertySource : propertySources) {
+            if (propertySource instanceof EnumerablePropertySource && propertySource.containsProperty(propertyName)) {
+                Object value = propertySource.getProperty(propertyName);
+                return value instanceof String ? (String) value : "";
+            }
+        }
+        return null;
     }
     
     private List<ConfigurationError> validatePropertySource(
@@ -156,13 +203,19 @@ public class SpringBootConfigurationValidator implements ConfigurationValidator
             ConfigurableEnvironment configurableEnv = (ConfigurableEnvironment) environment;
             MutablePropertySources propertySources = configurableEnv.getPropertySources();
             
-            // Chercher sous toutes les variantes
-            String actualName = bindingResolver.findActualPropertyName(propertyName);
-            if (actualName != null) {
-                for (org.springframework.core.env.PropertySource<?> ps : propertySources) {
-                    if (ps.containsProperty(actualName)) {
-                        return toPropertySource(ps);
-                    }
+            // L'index du run connaît la clé et la source qui l'emportent
+            CanonicalPropertyIndex.Entry entry = coordinator.getIndex().find(propertyName);
+            String actualName = propertyName;
+            if (entry != null) {
+                if (propertySources.contains(entry.getSourceName())) {
+                    return toPropertySource(entry.getSourceName());
+                }
+                actualName = entry.getKey();
+            }
+            
+            for (org.springframework.core.env.PropertySource<?> ps : propertySources) {
+                if (ps.containsProperty(actualName)) {
+                    return toPropertySource(ps.getName());
                 }
             }
         }
@@ -170,14 +223,13 @@ public class SpringBootConfigurationValidator implements ConfigurationValidator
         return null;
     }
     
-    private PropertySource toPropertySource(org.springframework.core.env.PropertySource<?> springSource) {
-        String name = springSource.getName();
+    static PropertySource toPropertySource(String name) {
         PropertySource.SourceType type = determineSourceType(name);
         
         return new PropertySource(name, extractLocation(name), type);
     }
     
-    private PropertySource.SourceType determineSourceType(String sourceName) {
+    private static PropertySource.SourceType determineSourceType(String sourceName) {
         if (sourceName.contains("applicationConfig")) {
             if (sourceName.contains(".yml") || sourceName.contains(".yaml")) {
                 return PropertySource.SourceType.APPLICATION_YAML;
@@ -200,7 +252,7 @@ public class SpringBootConfigurationValidator implements ConfigurationValidator
         return PropertySource.SourceType.UNKNOWN;
     }
     
-    private String extractLocation(String sourceName) {
+    private static String extractLocation(String sourceName) {
         if (sourceName.contains("'")) {
             int start = sourceName.indexOf("'") + 1;
             int end = sourceName.lastIndexOf("'");
@@ -210,4 +262,32 @@ public class SpringBootConfigurationValidator implements ConfigurationValidator
         }
         return sourceName;
     }
+    
+    /**
+     * Propriété textuelle d'une PropertySource, unité de travail du {@link ValidationEngine}.
+     * Seul le nom de la source est gardé : le run ne retient pas les sources elles-mêmes.
+     */
+    static final class PropertyEntry {
+        private final String sourceName;
+        private final String name;
+        private final String value;
+        
+        PropertyEntry(String sourceName, String name, String value) {
+            this.sourceName = sourceName;
+            this.name = name;
+            this.value = value;
+        }
+        
+        String getSourceName() {
+            return sourceName;
+        }
+        
+        String getName() {
+            return name;
+        }
+        
+        String getValue() {
+            return value;
+        }
+    }
 }
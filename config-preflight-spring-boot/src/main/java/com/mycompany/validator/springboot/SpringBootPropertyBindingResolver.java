@@ -1,18 +1,28 @@
 package com.mycompany.validator.springboot;
 
+import com.mycompany.validator.core.detector.CanonicalPropertyIndex;
+import com.mycompany.validator.core.detector.PlaceholderScanner;
 import com.mycompany.validator.core.detector.PropertyBindingResolver;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
 import org.springframework.core.env.Environment;
-
-import java.util.List;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.env.PropertySources;
 
 /**
  * Résout les bindings de propriétés pour Spring Boot.
  * Vérifie si une propriété existe sous n'importe quelle forme supportée par Spring Boot.
+ * 
+ * Les PropertySources énumérables sont indexées une fois par validation
+ * ({@link CanonicalPropertyIndex}) : chaque requête coûte une seule recherche,
+ * quelle que soit la variante de nom utilisée.
  */
 public class SpringBootPropertyBindingResolver {
     
     private final Environment environment;
     private final PropertyBindingResolver baseResolver;
+    private volatile CanonicalPropertyIndex index;
     
     public SpringBootPropertyBindingResolver(Environment environment) {
         this.environment = environment;
@@ -21,75 +31,38 @@ public class SpringBootPropertyBindingResolver {
     
     /**
      * Vérifie si une propriété existe dans l'environnement Spring Boot,
-     * en testant TOUTES les variantes possibles.
+     * sous n'importe quelle variante :
+     * app.database.url, APP_DATABASE_URL, app_database_url, appDatabaseUrl, app-database-url...
      * 
-     * Pour "app.database.url", vérifie :
-     * 1. app.database.url (property directe)
-     * 2. APP_DATABASE_URL (env var)
-     * 3. app_database_url (env var lowercase)
-     * 4. appDatabaseUrl (camelCase)
-     * 5. app-database-url (kebab-case)
+     * Les sources non énumérables (ex: random.*) ne sont pas indexées :
+     * en cas d'absence dans l'index, le nom original est vérifié directement.
      * 
      * @param propertyName Nom de la propriété à chercher
      * @return true si la propriété existe sous n'importe quelle forme
      */
     public boolean propertyExists(String propertyName) {
-        // Spring Boot résout automatiquement les variantes via son PropertyResolver
-        // On peut donc utiliser directement environment.containsProperty()
-        // qui gère déjà app.database.url → APP_DATABASE_URL
-        
-        // Test 1 : Nom original
-        if (environment.containsProperty(propertyName)) {
-            return true;
-        }
-        
-        // Test 2 : Variable d'environnement (convention principale)
-        String envVarName = baseResolver.toEnvironmentVariableName(propertyName);
-        if (environment.containsProperty(envVarName)) {
-            return true;
-        }
-        
-        // Test 3 : Toutes les autres variantes
-        List<String> variants = baseResolver.getAllVariants(propertyName);
-        for (String variant : variants) {
-            if (environment.containsProperty(variant)) {
-                return true;
-            }
-        }
-        
-        return false;
+        return getIndex().contains(propertyName) || environment.containsProperty(propertyName);
     }
     
     /**
-     * Récupère la valeur d'une propriété en testant toutes les variantes.
+     * Récupère la valeur d'une propriété, quelle que soit la variante sous laquelle elle est définie.
+     * Les placeholders de la valeur sont résolus par l'Environment.
      * 
      * @param propertyName Nom de la propriété
      * @return Valeur de la propriété, ou null si elle n'existe pas
      */
     public String getPropertyValue(String propertyName) {
-        // Spring Boot gère automatiquement les variantes
-        String value = environment.getProperty(propertyName);
-        if (value != null) {
-            return value;
+        CanonicalPropertyIndex.Entry entry = getIndex().find(propertyName);
+        if (entry == null) {
+            return environment.getProperty(propertyName);
         }
         
-        // Tester explicitement la variante env var si Spring Boot ne l'a pas trouvée
-        String envVarName = baseResolver.toEnvironmentVariableName(propertyName);
-        value = environment.getProperty(envVarName);
-        if (value != null) {
-            return value;
+        String value = entry.getValue();
+        if (value == null || PlaceholderScanner.mayContainPlaceholder(value)) {
+            // Valeur non textuelle ou à résoudre : déléguer à l'Environment
+            return environment.getProperty(entry.getKey());
         }
-        
-        // Tester toutes les autres variantes
-        List<String> variants = baseResolver.getAllVariants(propertyName);
-        for (String variant : variants) {
-            value = environment.getProperty(variant);
-            if (value != null) {
-                return value;
-            }
-        }
-        
-        return null;
+        return value;
     }
     
     /**
@@ -99,23 +72,54 @@ public class SpringBootPropertyBindingResolver {
      * @return Le nom sous lequel la propriété a été trouvée, ou null
      */
     public String findActualPropertyName(String propertyName) {
-        if (environment.containsProperty(propertyName)) {
-            return propertyName;
+        CanonicalPropertyIndex.Entry entry = getIndex().find(propertyName);
+        if (entry != null) {
+            return entry.getKey();
         }
-        
-        String envVarName = baseResolver.toEnvironmentVariableName(propertyName);
-        if (environment.containsProperty(envVarName)) {
-            return envVarName;
+        return environment.containsProperty(propertyName) ? propertyName : null;
+    }
+    
+    /**
+     * Retourne l'index des propriétés, construit au premier appel depuis les PropertySources
+     * énumérables (par ordre de précédence). Les variables d'environnement n'y figurent que
+     * si l'Environment expose la source systemEnvironment.
+     */
+    public CanonicalPropertyIndex getIndex() {
+        CanonicalPropertyIndex current = index;
+        if (current == null) {
+            current = buildIndex(environment);
+            index = current;
         }
+        return current;
+    }
+    
+    /**
+     * Invalide l'index : il sera reconstruit à la prochaine requête.
+     * À appeler au début de chaque validation, les PropertySources ayant pu changer.
+     */
+    public void refreshIndex() {
+        index = null;
+    }
+    
+    static CanonicalPropertyIndex buildIndex(Environment environment) {
+        return buildIndex(environment instanceof ConfigurableEnvironment
+            ? ((ConfigurableEnvironment) environment).getPropertySources()
+            : new MutablePropertySources());
+    }
+    
+    static CanonicalPropertyIndex buildIndex(PropertySources propertySources) {
+        CanonicalPropertyIndex.Builder builder = CanonicalPropertyIndex.builder();
         
-        List<String> variants = baseResolver.getAllVariants(propertyName);
-        for (String variant : variants) {
-            if (environment.containsProperty(variant)) {
-                return variant;
+        for (PropertySource<?> source : propertySources) {
+            if (source instanceof EnumerablePropertySource) {
+                EnumerablePropertySource<?> enumerable = (EnumerablePropertySource<?>) source;
+                for (String name : enumerable.getPropertyNames()) {
+                    builder.add(source.getName(), name, enumerable.getProperty(name));
+                }
             }
         }
         
-        return null;
+        return builder.build();
     }
     
     /**
@@ -0,0 +1,317 @@
+package com.mycompany.validator.springboot;
+
+import com.mycompany.validator.core.api.ErrorSink;
+import com.mycompany.validator.core.api.ValidationResult;
+import com.mycompany.validator.core.detector.CanonicalPropertyIndex;
+import com.mycompany.validator.core.detector.PlaceholderDetector;
+import com.mycompany.validator.core.detector.PlaceholderGraph;
+import com.mycompany.validator.core.detector.PropertyPrefixTrie;
+import com.mycompany.validator.core.detector.SecretDetector;
+import com.mycompany.validator.core.engine.ValidationEngine;
+import com.mycompany.validator.core.engine.ValidationRun;
+import com.mycompany.validator.core.metrics.PhaseTimer;
+import com.mycompany.validator.core.model.ConfigurationError;
+import com.mycompany.validator.core.model.ErrorType;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Coordonne les phases de validation d'un même Environment : EnvironmentPostProcessor,
+ * BeanFactoryPostProcessor, validation des beans, FailureAnalyzer et validateur.
+ *
+ * Les PropertySources sont énumérées une seule fois par run ({@link ValidationRun}) : les entrées
+ * textuelles, le graphe des placeholders, l'index canonique, le trie des fichiers et les origines
+ * y sont conservés, ainsi que les résultats du Binder. Une phase ne rejoue donc que ses propres
+ * vérifications.
+ *
+ * La vérification des placeholders ({@link #scanPlaceholders}, {@link #checkProperty}) est commune
+ * à l'EnvironmentPostProcessor, au validateur et à la revalidation : les erreurs sont identiques
+ * quelle que soit la phase qui les trouve.
+ *
+ * Le run courant reste valable tant que les sources n'ont pas changé (mêmes instances, mêmes tailles
+ * pour les sources de type Map) ; sinon, la phase suivante en ouvre un nouveau.
+ */
+final class SpringBootValidationCoordinator {
+    
+    /**
+     * Entrées textuelles et graphe des placeholders, construits dans la même énumération.
+     */
+    static final ValidationRun.Key<PropertySnapshot> SNAPSHOT = ValidationRun.Key.named("spring-boot-snapshot");
+    
+    static final ValidationRun.Key<CanonicalPropertyIndex> INDEX = ValidationRun.Key.named("spring-boot-index");
+    
+    static final ValidationRun.Key<PropertyOriginResolver> ORIGINS = ValidationRun.Key.named("spring-boot-origins");
+    
+    static final ValidationRun.Key<PropertyPrefixTrie> CONFIG_FILE_TRIE = ValidationRun.Key.named("spring-boot-config-file-trie");
+    
+    /**
+     * Coordinateur partagé par Environment, comme {@link SpringBootBinderPropertyResolver#forEnvironment}.
+     * Il ne référence que les sources de l'Environment : la clé faible peut être collectée.
+     */
+    private static final Map<Environment, SpringBootValidationCoordinator> SHARED =
+        Collections.synchronizedMap(new WeakHashMap<>());
+    
+    private final MutablePropertySources propertySources;
+    private final SpringBootBinderPropertyResolver binderResolver;
+    private final SpringBootPropertyBindingResolver bindingResolver;
+    private final PlaceholderDetector placeholderDetector = new PlaceholderDetector();
+    private final SecretDetector secretDetector = new SecretDetector();
+    
+    private ValidationRun run;
+    private PropertySource<?>[] runSources = new PropertySource<?>[0];
+    private int[] runSourceSizes = new int[0];
+    
+    private SpringBootValidationCoordinator(Environment environment) {
+        this.propertySources = environment instanceof ConfigurableEnvironment
+            ? ((ConfigurableEnvironment) environment).getPropertySources()
+            : new MutablePropertySources();
+        this.binderResolver = SpringBootBinderPropertyResolver.forEnvironment(environment);
+        this.bindingResolver = new SpringBootPropertyBindingResolver(environment);
+    }
+    
+    /**
+     * @param environment Environment Spring
+     * @return Coordinateur partagé, créé au premier appel
+     */
+    static SpringBootValidationCoordinator forEnvironment(Environment environment) {
+        return SHARED.computeIfAbsent(environment, SpringBootValidationCoordinator::new);
+    }
+    
+    /**
+     * Run courant, réutilisé par la phase appelante si les sources n'ont pas changé depuis son ouverture.
+     * La comparaison se fait sur les instances et tailles relevées à l'ouverture, sans allocation :
+     * elle est faite à chaque accès, y compris sur les chemins par erreur.
+     */
+    synchronized ValidationRun currentRun() {
+        if (run == null || sourcesChanged()) {
+            return startRun();
+        }
+        return run;
+    }
+    
+    /**
+     * Ouvre un nouveau run : les résultats du run précédent et du Binder sont abandonnés.
+     * À appeler par une validation explicite, les sources ayant pu changer sans changer de taille.
+     */
+    synchronized ValidationRun startRun() {
+        binderResolver.clearCache();
+        int count = propertySources.size();
+        PropertySource<?>[] sources = new PropertySource<?>[count];
+        int[] sizes = new int[count];
+        int i = 0;
+        for (PropertySource<?> ps : propertySources) {
+            if (i == count) {
+                break;
+            }
+            sources[i] = ps;
+            sizes[i] = sizeOf(ps);
+            i++;
+        }
+        runSources = i == count ? sources : Arrays.copyOf(sources, i);
+        runSourceSizes = i == count ? sizes : Arrays.copyOf(sizes, i);
+        run = new ValidationRun();
+        return run;
+    }
+    
+    PropertySnapshot getSnapshot() {
+        return currentRun().computeIfAbsent(SNAPSHOT, () -> PropertySnapshot.enumerate(propertySources));
+    }
+    
+    /**
+     * Index des sources énumérables puis des variables d'environnement, construit à la première recherche du run.
+     */
+    CanonicalPropertyIndex getIndex() {
+        return currentRun().computeIfAbsent(INDEX,
+            () -> SpringBootPropertyBindingResolver.buildIndex(propertySources));
+    }
+    
+    PropertyOriginResolver getOriginResolver() {
+        return currentRun().computeIfAbsent(ORIGINS, () -> PropertyOriginResolver.forPropertySources(propertySources));
+    }
+    
+    /**
+     * Trie des noms définis par les fichiers application*.yml|yaml|properties.
+     */
+    PropertyPrefixTrie getConfigFileTrie() {
+        return currentRun().computeIfAbsent(CONFIG_FILE_TRIE, () -> {
+            PropertyPrefixTrie.Builder builder = PropertyPrefixTrie.builder();
+            for (PropertySource<?> ps : propertySources) {
+                String sourceName = ps.getName();
+                if (ps instanceof EnumerablePropertySource && sourceName.contains("application") &&
+                    (sourceName.contains(".yml") || sourceName.contains(".yaml") || sourceName.contains(".properties"))) {
+                    builder.addSource(sourceName, Arrays.asList(((EnumerablePropertySource<?>) ps).getPropertyNames()));
+                }
+            }
+            return builder.build();
+        });
+    }
+    
+    /**
+     * Scan des placeholders de toutes les sources du run : références circulaires d'abord,
+     * puis chaque valeur textuelle, par blocs sur le pool (ordre des erreurs inchangé).
+     *
+     * @param sink Destination des erreurs, dans le mode configuré
+     * @param engine Moteur de la validation
+     * @param scan Mesures de la phase, ou null
+     * @return Résultat du sink
+     */
+    ValidationResult scanPlaceholders(ErrorSink sink, ValidationEngine engine, PhaseTimer scan) {
+        PropertySnapshot snapshot = getSnapshot();
+        
+        // Détecter les références circulaires AVANT toute résolution par le Binder
+        PlaceholderGraph graph = snapshot.getGraph();
+        for (ConfigurationError cycleError : graph.toCircularReferenceErrors(secretDetector)) {
+            sink.accept(cycleError);
+        }
+        
+        if (scan != null) {
+            scan.keysScanned(snapshot.getEntries().size());
+        }
+        engine.run(snapshot.getEntries(), sink, (entry, entrySink) -> checkPlaceholders(entry, graph, entrySink, scan));
+        return sink.toResult();
+    }
+    
+    /**
+     * Revérifie une seule propriété, dans toutes les sources qui la définissent
+     * (revalidation incrémentale après un rafraîchissement).
+     */
+    void checkProperty(String propertyName, PlaceholderGraph graph, List<ConfigurationError> errors) {
+        ErrorSink sink = ErrorSink.collectAll();
+        for (PropertySource<?> propertySource : propertySources) {
+            if (propertySource instanceof EnumerablePropertySource) {
+                Object value = propertySource.getProperty(propertyName);
+                if (value instanceof String) {
+                    checkPlaceholders(new SpringBootConfigurationValidator.PropertyEntry(
+                        propertySource.getName(), propertyName, (String) value), graph, sink, null);
+                }
+            }
+        }
+        errors.addAll(sink.toResult().getErrors());
+    }
+    
+    private void checkPlaceholders(SpringBootConfigurationValidator.PropertyEntry entry, PlaceholderGraph graph,
+                                   ErrorSink sink, PhaseTimer scan) {
+        // Scan mono-passe : ignore les placeholders avec valeur par défaut, sans liste intermédiaire
+        placeholderDetector.forEachRequiredPlaceholder(entry.getValue(), placeholder -> {
+            // Un placeholder pris dans un cycle est déjà rapporté comme CIRCULAR_REFERENCE
+            if (graph.dependsOnCycle(placeholder)) {
+                return;
+            }
+            if (scan != null) {
+                scan.placeholderEvaluated();
+            }
+            
+            // ✅ Utiliser le Binder API pour vérifier l'existence
+            if (!binderResolver.propertyExists(placeholder)) {
+                // Construite seulement si le sink la conserve
+                sink.accept(() -> ConfigurationError.builder()
+                    .type(ErrorType.UNRESOLVED_PLACEHOLDER)
+                    .propertyName(entry.getName())
+                    .errorMessage(String.format(
+                        "Cannot resolve placeholder '${%s}' in property '%s' " +
+                        "(Spring Boot Binder could not find this property)",
+                        placeholder, entry.getName()
+                    ))
+                    .suggestion(bindingResolver.generateSuggestion(placeholder))
+                    .source(SpringBootConfigurationValidator.toPropertySource(entry.getSourceName()))
+                    .isSensitive(secretDetector.isSensitive(placeholder))
+                    .build());
+            }
+        });
+    }
+    
+    MutablePropertySources getPropertySources() {
+        return propertySources;
+    }
+    
+    SpringBootBinderPropertyResolver getBinderResolver() {
+        return binderResolver;
+    }
+    
+    PlaceholderDetector getPlaceholderDetector() {
+        return placeholderDetector;
+    }
+    
+    SecretDetector getSecretDetector() {
+        return secretDetector;
+    }
+    
+    /**
+     * Compare les sources actuelles aux instances relevées à l'ouverture du run, et leur taille
+     * pour les sources de type Map (TestPropertyValues, MockEnvironment... modifient une source existante).
+     */
+    private boolean sourcesChanged() {
+        if (propertySources.size() != runSources.length) {
+            return true;
+        }
+        int i = 0;
+        for (PropertySource<?> ps : propertySources) {
+            if (i == runSources.length || ps != runSources[i] || sizeOf(ps) != runSourceSizes[i]) {
+                return true;
+            }
+            i++;
+        }
+        return i != runSources.length;
+    }
+    
+    private static int sizeOf(PropertySource<?> source) {
+        return source instanceof MapPropertySource ? ((MapPropertySource) source).getSource().size() : -1;
+    }
+    
+    /**
+     * Propriétés textuelles de toutes les sources énumérables (dans l'ordre des sources)
+     * et graphe des placeholders (seule la définition qui l'emporte compte).
+     */
+    static final class PropertySnapshot {
+        private final List<SpringBootConfigurationValidator.PropertyEntry> entries;
+        private final PlaceholderGraph graph;
+        
+        private PropertySnapshot(List<SpringBootConfigurationValidator.PropertyEntry> entries, PlaceholderGraph graph) {
+            this.entries = entries;
+            this.graph = graph;
+        }
+        
+        static PropertySnapshot enumerate(MutablePropertySources propertySources) {
+            List<SpringBootConfigurationValidator.PropertyEntry> entries = new ArrayList<>();
+            PlaceholderGraph.Builder graph = PlaceholderGraph.builder();
+            
+            for (PropertySource<?> propertySource : propertySources) {
+                if (propertySource instanceof EnumerablePropertySource) {
+                    EnumerablePropertySource<?> enumerable = (EnumerablePropertySource<?>) propertySource;
+                    
+                    for (String propertyName : enumerable.getPropertyNames()) {
+                        Object value = propertySource.getProperty(propertyName);
+                        if (value instanceof String) {
+                            entries.add(new SpringBootConfigurationValidator.PropertyEntry(
+                                propertySource.getName(), propertyName, (String) value));
+                            graph.addProperty(propertyName, (String) value);
+                        } else {
+                            graph.addProperty(propertyName, null);
+                        }
+                    }
+                }
+            }
+            
+            return new PropertySnapshot(Collections.unmodifiableList(entries), graph.build());
+        }
+        
+        List<SpringBootConfigurationValidator.PropertyEntry> getEntries() {
+            return entries;
+        }
+        
+        PlaceholderGraph getGraph() {
+            return graph;
+        }
+    }
+}
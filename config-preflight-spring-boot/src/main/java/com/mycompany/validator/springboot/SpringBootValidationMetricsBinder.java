@@ -0,0 +1,34 @@
+package com.mycompany.validator.springboot;
+
+import com.mycompany.validator.core.metrics.MicrometerValidationMetrics;
+import com.mycompany.validator.core.metrics.ValidationMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Publie les mesures de validation dans chaque MeterRegistry auquel Spring Boot lie ce binder.
+ * 
+ * Les enregistrements sont retirés à la fermeture du contexte : après un redémarrage
+ * (devtools, tests), le registre de l'ancien contexte n'est plus référencé.
+ */
+public class SpringBootValidationMetricsBinder implements MeterBinder, DisposableBean {
+    
+    private final List<ValidationMetrics.Registration> registrations = new ArrayList<>();
+    
+    @Override
+    public synchronized void bindTo(MeterRegistry registry) {
+        registrations.add(MicrometerValidationMetrics.bindTo(registry));
+    }
+    
+    @Override
+    public synchronized void destroy() {
+        for (ValidationMetrics.Registration registration : registrations) {
+            registration.close();
+        }
+        registrations.clear();
+    }
+}
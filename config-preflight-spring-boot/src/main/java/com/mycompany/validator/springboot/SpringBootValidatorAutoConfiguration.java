@@ -2,11 +2,15 @@ package com.mycompany.validator.springboot;
 
 import com.mycompany.validator.core.api.ValidationResult;
 import com.mycompany.validator.core.formatter.BeautifulErrorFormatter;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
 
 /**
@@ -33,12 +37,68 @@ public class SpringBootValidatorAutoConfiguration {
         return new BeautifulErrorFormatter();
     }
     
+    /**
+     * Validation des @ConfigurationProperties sur les définitions de beans, avant toute instanciation.
+     * Méthode statique : un BeanFactoryPostProcessor ne doit pas forcer la création de cette configuration.
+     */
+    @Bean
+    @ConditionalOnProperty(
+        name = "configuration.validator.early-validation",
+        havingValue = "true",
+        matchIfMissing = true
+    )
+    public static ConfigurationPropertiesBeanFactoryPostProcessor configPreflightDefinitionValidator(
+            Environment environment) {
+        return new ConfigurationPropertiesBeanFactoryPostProcessor(environment);
+    }
+    
     @Bean
     public SpringBootConfigurationPropertiesValidator configPreflightPropertiesScanner(
             org.springframework.context.ApplicationContext applicationContext) {
         return new SpringBootConfigurationPropertiesValidator(applicationContext);
     }
     
+    /**
+     * Revalidation incrémentale sur rafraîchissement, si Spring Cloud Context est présent.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.cloud.context.environment.EnvironmentChangeEvent")
+    @ConditionalOnProperty(
+        name = "configuration.validator.revalidate-on-refresh",
+        havingValue = "true",
+        matchIfMissing = true
+    )
+    static class RefreshRevalidationConfiguration {
+        
+        @Bean
+        public SpringBootConfigurationRevalidator configurationRevalidator(
+                SpringBootConfigurationValidator configurationValidator,
+                ApplicationEventPublisher applicationEventPublisher) {
+            return new SpringBootConfigurationRevalidator(configurationValidator, applicationEventPublisher);
+        }
+    }
+    
+    /**
+     * Publication des mesures de validation dans Micrometer, si présent.
+     * Le MeterBinder est lié par Spring Boot à chaque MeterRegistry ; les mesures des phases
+     * précoces (EnvironmentPostProcessor, BeanFactoryPostProcessor) sont publiées à ce moment.
+     * Les registres sont détachés à la fermeture du contexte.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnProperty(
+        name = "configuration.validator.metrics.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+    )
+    static class MetricsConfiguration {
+        
+        @Bean
+        public MeterBinder configPreflightMetrics() {
+            return new SpringBootValidationMetricsBinder();
+        }
+    }
+    
     /**
      * Exception levée quand la validation échoue.
      */
@@ -1,19 +1,17 @@
 package com.mycompany.validator.springboot;
 
+import com.mycompany.validator.core.api.ErrorSink;
 import com.mycompany.validator.core.api.ValidationResult;
-import com.mycompany.validator.core.detector.PlaceholderDetector;
-import com.mycompany.validator.core.detector.SecretDetector;
+import com.mycompany.validator.core.engine.ValidationEngine;
+import com.mycompany.validator.core.engine.ValidationRun;
 import com.mycompany.validator.core.formatter.BeautifulErrorFormatter;
-import com.mycompany.validator.core.model.ConfigurationError;
-import com.mycompany.validator.core.model.ErrorType;
+import com.mycompany.validator.core.metrics.PhaseTimer;
+import com.mycompany.validator.core.metrics.ValidationMetrics;
+import com.mycompany.validator.core.metrics.ValidationPhase;
+import com.mycompany.validator.core.report.ReportPublisher;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.env.EnvironmentPostProcessor;
 import org.springframework.core.env.ConfigurableEnvironment;
-import org.springframework.core.env.EnumerablePropertySource;
-import org.springframework.core.env.MutablePropertySources;
-
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * EnvironmentPostProcessor pour valider la configuration TRÈS TÔT dans le cycle de vie Spring Boot.
@@ -24,8 +22,6 @@ import java.util.List;
  */
 public class SpringBootValidatorEnvironmentPostProcessor implements EnvironmentPostProcessor {
     
-    private final PlaceholderDetector placeholderDetector = new PlaceholderDetector();
-    private final SecretDetector secretDetector = new SecretDetector();
     private final BeautifulErrorFormatter formatter = new BeautifulErrorFormatter();
     
     @Override
@@ -42,74 +38,44 @@ public class SpringBootValidatorEnvironmentPostProcessor implements EnvironmentP
             return;
         }
         
-        // Valider les placeholders
-        List<ConfigurationError> errors = validatePlaceholders(environment);
+        // Valider les placeholders (mesures conservées jusqu'à la création du MeterRegistry)
+        PhaseTimer scan = ValidationMetrics.start(ValidationMetrics.FRAMEWORK_SPRING_BOOT, ValidationPhase.EARLY_PLACEHOLDER_SCAN);
+        ValidationResult result = validatePlaceholders(environment, scan);
+        scan.errors(result.getErrors()).stop();
+        ReportPublisher.fromProperties(environment::getProperty).publish(result);
         
-        if (!errors.isEmpty()) {
-            ValidationResult result = new ValidationResult(errors);
-            String formattedErrors = formatter.format(result);
+        if (result.hasErrors()) {
+            PhaseTimer formatting = ValidationMetrics.start(ValidationMetrics.FRAMEWORK_SPRING_BOOT, ValidationPhase.FAILURE_FORMATTING);
+            formatter.withProperties(environment::getProperty).print(result, System.err);
+            formatting.stop();
             
-            System.err.println(formattedErrors);
             System.err.println("⚠️  Configuration validation failed during early startup phase.");
             System.err.println("💡 Fix the errors above before starting the application.");
             
             // Arrêter l'application immédiatement
             throw new ConfigurationValidationException(
-                "Configuration validation failed with " + errors.size() + " error(s)",
+                "Configuration validation failed with " + result.getErrorCount() + " error(s)",
                 result
             );
         }
     }
     
-    private List<ConfigurationError> validatePlaceholders(ConfigurableEnvironment environment) {
-        List<ConfigurationError> errors = new ArrayList<>();
-        
-        // Utiliser l'API Binder pour une résolution 100% fidèle à Spring Boot
-        SpringBootBinderPropertyResolver binderResolver = new SpringBootBinderPropertyResolver(environment);
+    private ValidationResult validatePlaceholders(ConfigurableEnvironment environment, PhaseTimer scan) {
+        // Erreurs transmises au fil du scan (collect-all, fail-fast ou cap selon la configuration)
+        ErrorSink sink = ErrorSink.fromProperties(environment::getProperty);
         
-        // Garder aussi l'ancien resolver pour la génération de suggestions
-        SpringBootPropertyBindingResolver bindingResolver = new SpringBootPropertyBindingResolver(environment);
+        // Première phase : ouvre le run partagé avec le BeanFactoryPostProcessor et les phases suivantes
+        // (sources énumérées une fois, résultats du Binder mémorisés pour toute la validation)
+        SpringBootValidationCoordinator coordinator = SpringBootValidationCoordinator.forEnvironment(environment);
+        ValidationRun run = coordinator.startRun();
         
-        MutablePropertySources propertySources = environment.getPropertySources();
-        
-        for (org.springframework.core.env.PropertySource<?> propertySource : propertySources) {
-            if (propertySource instanceof EnumerablePropertySource) {
-                EnumerablePropertySource<?> enumerable = (EnumerablePropertySource<?>) propertySource;
-                
-                for (String propertyName : enumerable.getPropertyNames()) {
-                    Object value = propertySource.getProperty(propertyName);
-                    
-                    if (value instanceof String) {
-                        String stringValue = (String) value;
-                        
-                        // Utiliser detectRequiredPlaceholders pour ignorer ceux avec valeur par défaut
-                        List<String> requiredPlaceholders = placeholderDetector.detectRequiredPlaceholders(stringValue);
-                        
-                        for (String placeholder : requiredPlaceholders) {
-                            // Utiliser le Binder API pour vérifier l'existence
-                            if (!binderResolver.propertyExists(placeholder)) {
-                                String envVarName = bindingResolver.getBaseResolver().toEnvironmentVariableName(placeholder);
-                                boolean isSensitive = secretDetector.isSensitive(placeholder);
-                                
-                                errors.add(ConfigurationError.builder()
-                                    .type(ErrorType.UNRESOLVED_PLACEHOLDER)
-                                    .propertyName(propertyName)
-                                    .errorMessage(String.format(
-                                        "Cannot resolve placeholder '${%s}' in property '%s' " +
-                                        "(Spring Boot Binder could not find this property)",
-                                        placeholder, propertyName
-                                    ))
-                                    .suggestion(bindingResolver.generateSuggestion(placeholder))
-                                    .isSensitive(isSensitive)
-                                    .build());
-                            }
-                        }
-                    }
-                }
-            }
+        // Cycles puis placeholders requis, vérifiés comme dans les phases suivantes
+        ValidationResult result = coordinator.scanPlaceholders(sink, ValidationEngine.fromProperties(environment::getProperty), scan);
+        if (!result.hasErrors()) {
+            // Scan complet sans erreur : les phases suivantes du run n'ont pas à le refaire
+            run.put(ValidationRun.PLACEHOLDER_SCAN, result);
         }
-        
-        return errors;
+        return result;
     }
     
     /**
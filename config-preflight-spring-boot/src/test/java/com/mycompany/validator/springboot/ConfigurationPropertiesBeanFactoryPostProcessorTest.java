@@ -0,0 +1,127 @@
+package com.mycompany.validator.springboot;
+
+import com.mycompany.validator.core.model.ConfigurationError;
+import com.mycompany.validator.core.model.PropertySource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests de la validation des @ConfigurationProperties sur les définitions de beans.
+ */
+@DisplayName("Validation des définitions @ConfigurationProperties")
+class ConfigurationPropertiesBeanFactoryPostProcessorTest {
+    
+    /**
+     * Reconnue par son nom simple, comme jakarta.validation.constraints.NotNull.
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface NotNull {
+    }
+    
+    static class Pool {
+        private Integer size;
+    }
+    
+    @ConfigurationProperties(prefix = "app.database")
+    static class DatabaseProperties {
+        static int instances;
+        
+        @NotNull
+        private String url;
+        @NotNull
+        private String apiKey;
+        @NotNull
+        private Pool pool;
+        private Integer timeout;
+        
+        DatabaseProperties() {
+            instances++;
+        }
+    }
+    
+    @BeforeEach
+    void resetInstances() {
+        DatabaseProperties.instances = 0;
+    }
+    
+    @Test
+    @DisplayName("[TEST-DEF-01] Propriétés requises manquantes détectées sans instancier le bean")
+    void testDef01_MissingRequiredWithoutInstantiation() {
+        // Given
+        MockEnvironment env = new MockEnvironment();
+        env.setProperty("app.database.url", "jdbc:postgresql://localhost:5432/mydb");
+        
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("databaseProperties", new RootBeanDefinition(DatabaseProperties.class));
+        
+        // When / Then
+        assertThatThrownBy(() -> new ConfigurationPropertiesBeanFactoryPostProcessor(env).postProcessBeanFactory(beanFactory))
+            .isInstanceOfSatisfying(ConfigurationPropertiesBeanFactoryPostProcessor.ConfigurationValidationException.class, e -> {
+                List<String> missing = e.getValidationResult().getErrors().stream()
+                    .map(ConfigurationError::getPropertyName)
+                    .collect(Collectors.toList());
+                // timeout n'a pas de contrainte : vérifié plus tard sur l'instance
+                assertThat(missing).containsExactly("app.database.api-key", "app.database.pool");
+                // Aucun fichier application* ne définit app.database : source inconnue, pas application.yml
+                assertThat(e.getValidationResult().getErrors().get(0).getSource().getType())
+                    .isEqualTo(PropertySource.SourceType.UNKNOWN);
+            });
+        assertThat(DatabaseProperties.instances).isZero();
+    }
+    
+    @Test
+    @DisplayName("[TEST-DEF-02] Relaxed binding et objet imbriqué défini par ses descendants")
+    void testDef02_RelaxedBindingAndNestedObject() {
+        // Given
+        MockEnvironment env = new MockEnvironment();
+        env.setProperty("app.database.url", "jdbc:postgresql://localhost:5432/mydb");
+        env.setProperty("app.database.apiKey", "secret");
+        env.setProperty("app.database.pool.size", "10");
+        
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("databaseProperties", new RootBeanDefinition(DatabaseProperties.class));
+        
+        // When
+        new ConfigurationPropertiesBeanFactoryPostProcessor(env).postProcessBeanFactory(beanFactory);
+        
+        // Then
+        assertThat(DatabaseProperties.instances).isZero();
+    }
+    
+    @Test
+    @DisplayName("[TEST-DEF-03] Propriété absente attribuée au fichier qui définit ses voisines")
+    void testDef03_MissingPropertyAttributedToConfigFile() {
+        // Given
+        MockEnvironment env = new MockEnvironment();
+        env.getPropertySources().addFirst(new MapPropertySource(
+            "Config resource 'class path resource [application-dev.properties]' via location 'optional:classpath:/'",
+            Map.of("app.database.url", "jdbc:postgresql://localhost:5432/mydb", "app.database.pool.size", "10")));
+        
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("databaseProperties", new RootBeanDefinition(DatabaseProperties.class));
+        
+        // When / Then
+        assertThatThrownBy(() -> new ConfigurationPropertiesBeanFactoryPostProcessor(env).postProcessBeanFactory(beanFactory))
+            .isInstanceOfSatisfying(ConfigurationPropertiesBeanFactoryPostProcessor.ConfigurationValidationException.class, e -> {
+                PropertySource source = e.getValidationResult().getErrors().get(0).getSource();
+                assertThat(source.getName()).isEqualTo("application-dev.properties");
+                assertThat(source.getLocation()).isEqualTo("classpath:application-dev.properties");
+                assertThat(source.getType()).isEqualTo(PropertySource.SourceType.APPLICATION_PROPERTIES);
+            });
+    }
+}
@@ -0,0 +1,89 @@
+package com.mycompany.validator.springboot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests du cache de métadonnées des classes @ConfigurationProperties.
+ */
+@DisplayName("ConfigurationPropertiesMetadata")
+class ConfigurationPropertiesMetadataTest {
+    
+    static class BaseProperties {
+        private String sharedSecret;
+    }
+    
+    @ConfigurationProperties(prefix = "app.database")
+    static class DatabaseProperties extends BaseProperties {
+        private static final String IGNORED = "constant";
+        private String url = "jdbc:h2:mem:test";
+        private Integer maxConnections;
+    }
+    
+    static class NotConfigured {
+        private String value;
+    }
+    
+    @Test
+    @DisplayName("[TEST-META-01] Champs des superclasses inclus, noms kebab-case précalculés")
+    void testSuperclassFieldsAndNames() {
+        // Given
+        ConfigurationPropertiesMetadata metadata = ConfigurationPropertiesMetadata.forClass(DatabaseProperties.class);
+        
+        // When
+        List<String> names = new ArrayList<>();
+        for (ConfigurationPropertiesMetadata.ConfiguredProperty property : metadata.getProperties()) {
+            names.add(property.getPropertyName());
+        }
+        
+        // Then
+        assertThat(metadata.isConfigurationProperties()).isTrue();
+        assertThat(metadata.getPrefix()).isEqualTo("app.database");
+        assertThat(names).containsExactly(
+            "app.database.shared-secret",
+            "app.database.url",
+            "app.database.max-connections");
+    }
+    
+    @Test
+    @DisplayName("[TEST-META-02] Lecture des champs privés via les accesseurs compilés")
+    void testReadValues() {
+        // Given
+        DatabaseProperties bean = new DatabaseProperties();
+        List<ConfigurationPropertiesMetadata.ConfiguredProperty> properties =
+            ConfigurationPropertiesMetadata.forClass(DatabaseProperties.class).getProperties();
+        
+        // Then
+        assertThat(properties.get(0).read(bean)).isNull();
+        assertThat(properties.get(1).read(bean)).isEqualTo("jdbc:h2:mem:test");
+        assertThat(properties.get(2).read(bean)).isNull();
+    }
+    
+    @Test
+    @DisplayName("[TEST-META-03] Calcul unique par classe, préfixe d'une méthode @Bean pour une classe non annotée")
+    void testCachedPerClass() {
+        assertThat(ConfigurationPropertiesMetadata.forClass(DatabaseProperties.class))
+            .isSameAs(ConfigurationPropertiesMetadata.forClass(DatabaseProperties.class));
+        
+        ConfigurationPropertiesMetadata none = ConfigurationPropertiesMetadata.forClass(NotConfigured.class);
+        assertThat(none.isConfigurationProperties()).isFalse();
+        assertThat(none.getProperties()).hasSize(1);
+        assertThat(none.getProperties().get(0).qualify("app.other")).isEqualTo("app.other.value");
+    }
+    
+    @Test
+    @DisplayName("[TEST-META-04] Conversion kebab-case identique à l'ancienne expression régulière")
+    void testKebabCase() {
+        assertThat(ConfigurationPropertiesMetadata.toKebabCase("maxConnections")).isEqualTo("max-connections");
+        assertThat(ConfigurationPropertiesMetadata.toKebabCase("apiKey")).isEqualTo("api-key");
+        assertThat(ConfigurationPropertiesMetadata.toKebabCase("retry2Count")).isEqualTo("retry2-count");
+        assertThat(ConfigurationPropertiesMetadata.toKebabCase("pool.maxSize")).isEqualTo("pool.max-size");
+        assertThat(ConfigurationPropertiesMetadata.toKebabCase("URL")).isEqualTo("url");
+    }
+}
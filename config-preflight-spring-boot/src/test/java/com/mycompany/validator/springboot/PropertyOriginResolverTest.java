@@ -0,0 +1,141 @@
+package com.mycompany.validator.springboot;
+
+import com.mycompany.validator.core.model.PropertySource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.env.OriginTrackedMapPropertySource;
+import org.springframework.boot.origin.OriginTrackedValue;
+import org.springframework.boot.origin.TextResourceOrigin;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de la résolution des origines exactes (fichier:ligne:colonne).
+ */
+@DisplayName("PropertyOriginResolver")
+class PropertyOriginResolverTest {
+    
+    private static final PropertySource GUESSED =
+        new PropertySource("application.yml", "classpath:application.yml", PropertySource.SourceType.APPLICATION_YAML);
+    
+    private MockEnvironment environment;
+    
+    @BeforeEach
+    void setUp() {
+        environment = new MockEnvironment();
+        
+        Map<String, Object> dev = new LinkedHashMap<>();
+        dev.put("app.database.username", tracked("sa", "application-dev.yml", 11, 4));
+        dev.put("app.database.pool.size", tracked("10", "application-dev.yml", 13, 6));
+        environment.getPropertySources().addLast(
+            new OriginTrackedMapPropertySource("Config resource 'class path resource [application-dev.yml]'", dev));
+        
+        Map<String, Object> defaults = new LinkedHashMap<>();
+        defaults.put("app.name", tracked("demo", "application.yml", 1, 2));
+        defaults.put("app.database.username", tracked("root", "application.yml", 4, 4));
+        environment.getPropertySources().addLast(
+            new OriginTrackedMapPropertySource("Config resource 'class path resource [application.yml]'", defaults));
+    }
+    
+    @Test
+    @DisplayName("[TEST-ORIG-01] Propriété définie : position de la définition qui l'emporte")
+    void testDefinedProperty() {
+        // Given
+        PropertyOriginResolver resolver = PropertyOriginResolver.forEnvironment(environment);
+        
+        // When
+        PropertySource source = resolver.resolve("app.database.username", () -> GUESSED);
+        
+        // Then
+        assertThat(source.getName()).isEqualTo("application-dev.yml");
+        assertThat(source.getLocation()).isEqualTo("classpath:application-dev.yml");
+        assertThat(source.getLine()).isEqualTo(12);
+        assertThat(source.getColumn()).isEqualTo(5);
+        assertThat(source.getDisplayName()).isEqualTo("application-dev.yml:12:5");
+    }
+    
+    @Test
+    @DisplayName("[TEST-ORIG-02] Propriété absente : première clé du plus proche ancêtre défini")
+    void testMissingProperty() {
+        // Given
+        PropertyOriginResolver resolver = PropertyOriginResolver.forEnvironment(environment);
+        
+        // When
+        PropertySource database = resolver.resolve("app.database.url", () -> GUESSED);
+        PropertySource app = resolver.resolve("app.api-key", () -> GUESSED);
+        
+        // Then
+        assertThat(database.getDisplayName()).isEqualTo("application-dev.yml:12:5");
+        assertThat(app.getDisplayName()).isEqualTo("application-dev.yml:12:5");
+        assertThat(database.getType()).isEqualTo(PropertySource.SourceType.APPLICATION_YAML);
+    }
+    
+    @Test
+    @DisplayName("[TEST-ORIG-03] Sans origine connue : source devinée, calculée une seule fois")
+    void testFallbackIsCached() {
+        // Given
+        PropertyOriginResolver resolver = PropertyOriginResolver.forEnvironment(environment);
+        AtomicInteger guesses = new AtomicInteger();
+        
+        // When
+        PropertySource first = resolver.resolve("other.url", () -> {
+            guesses.incrementAndGet();
+            return GUESSED;
+        });
+        PropertySource second = resolver.resolve("other.url", () -> {
+            guesses.incrementAndGet();
+            return GUESSED;
+        });
+        
+        // Then
+        assertThat(first).isSameAs(GUESSED);
+        assertThat(second).isSameAs(GUESSED);
+        assertThat(guesses).hasValue(1);
+        assertThat(first.hasPosition()).isFalse();
+    }
+    
+    @Test
+    @DisplayName("[TEST-ORIG-04] Fichier hors classpath : chemin ou URI, pas la description de la ressource")
+    void testLocationOutsideClasspath(@TempDir Path directory) throws IOException {
+        // Given
+        Path file = Files.writeString(directory.resolve("application-prod.yml"), "app:\n  url: x\n");
+        Map<String, Object> external = new LinkedHashMap<>();
+        external.put("app.url", tracked("x", new FileSystemResource(file), 1, 2));
+        external.put("app.token", tracked("y", new UrlResource("https://config.example.com/application.yml"), 3, 2));
+        environment.getPropertySources().addFirst(
+            new OriginTrackedMapPropertySource("Config resource 'file [" + file + "]'", external));
+        PropertyOriginResolver resolver = PropertyOriginResolver.forEnvironment(environment);
+        
+        // When
+        PropertySource onDisk = resolver.resolve("app.url", () -> GUESSED);
+        PropertySource remote = resolver.resolve("app.token", () -> GUESSED);
+        
+        // Then
+        assertThat(onDisk.getName()).isEqualTo("application-prod.yml");
+        assertThat(onDisk.getLocation()).isEqualTo(file.toString());
+        assertThat(remote.getLocation()).isEqualTo("https://config.example.com/application.yml");
+    }
+    
+    private static OriginTrackedValue tracked(String value, String file, int line, int column) {
+        return tracked(value, new ClassPathResource(file), line, column);
+    }
+    
+    private static OriginTrackedValue tracked(String value, Resource resource, int line, int column) {
+        return OriginTrackedValue.of(value,
+            new TextResourceOrigin(resource, new TextResourceOrigin.Location(line, column)));
+    }
+}
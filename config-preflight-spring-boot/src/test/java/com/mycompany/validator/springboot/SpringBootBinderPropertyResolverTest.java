@@ -3,6 +3,9 @@ package com.mycompany.validator.springboot;
 import org.junit.jupiter.api.Test;
 import org.springframework.mock.env.MockEnvironment;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class SpringBootBinderPropertyResolverTest {
@@ -72,4 +75,34 @@ class SpringBootBinderPropertyResolverTest {
         assertTrue(resolver.propertyExists("app.database.url"));
         assertEquals("jdbc:h2:mem:testdb", resolver.getPropertyValue("app.database.url"));
     }
+    
+    @Test
+    void testResultsAreMemoizedUntilCacheCleared() {
+        MockEnvironment env = new MockEnvironment();
+        SpringBootBinderPropertyResolver resolver = new SpringBootBinderPropertyResolver(env);
+        assertFalse(resolver.propertyExists("app.late.property"));
+        
+        // Le résultat négatif est mémorisé pour la validation en cours
+        env.setProperty("app.late.property", "value");
+        assertFalse(resolver.propertyExists("app.late.property"));
+        
+        resolver.clearCache();
+        assertTrue(resolver.propertyExists("app.late.property"));
+    }
+    
+    @Test
+    void testSharedViewAndBatchResolution() {
+        MockEnvironment env = new MockEnvironment();
+        env.setProperty("app.name", "MyApp");
+        
+        SpringBootBinderPropertyResolver resolver = SpringBootBinderPropertyResolver.forEnvironment(env);
+        assertSame(resolver, SpringBootBinderPropertyResolver.forEnvironment(env));
+        
+        Map<String, String> values = resolver.resolveAll("app.name", "app.missing", "APP_NAME");
+        assertEquals(List.of("app.name", "app.missing", "APP_NAME"), List.copyOf(values.keySet()));
+        assertEquals("MyApp", values.get("app.name"));
+        assertNull(values.get("app.missing"));
+        // Nom invalide pour le Binder : non bindé, sans exception
+        assertNull(values.get("APP_NAME"));
+    }
 }
@@ -0,0 +1,114 @@
+package com.mycompany.validator.springboot;
+
+import com.mycompany.validator.core.api.ValidationDelta;
+import com.mycompany.validator.core.model.ErrorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.env.SystemEnvironmentPropertySource;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests de la revalidation incrémentale après un rafraîchissement de configuration.
+ */
+@DisplayName("Spring Boot Revalidation Incrémentale")
+class SpringBootConfigurationRevalidatorTest {
+    
+    @Test
+    @DisplayName("[TEST-REFRESH-01] Placeholder résolu par un rafraîchissement")
+    void testRefresh01_PlaceholderResoluParRafraichissement() {
+        // Given
+        MockEnvironment env = new MockEnvironment();
+        Map<String, Object> appProps = new HashMap<>();
+        appProps.put("app.database.url", "${db.url}");
+        appProps.put("app.cache.host", "${cache.host}");
+        env.getPropertySources().addFirst(new MapPropertySource("applicationConfig: [classpath:/application.properties]", appProps));
+        
+        List<Object> published = new ArrayList<>();
+        SpringBootConfigurationRevalidator revalidator =
+            new SpringBootConfigurationRevalidator(new SpringBootConfigurationValidator(env), published::add);
+        revalidator.initialize();
+        
+        // When - db.url est ajoutée par le rafraîchissement
+        env.setProperty("db.url", "jdbc:postgresql://localhost:5432/mydb");
+        ValidationDelta delta = revalidator.revalidate(Set.of("db.url"));
+        
+        // Then
+        assertThat(delta.getResolvedErrors().getErrors())
+            .extracting("propertyName")
+            .containsExactly("app.database.url");
+        assertThat(delta.getNewErrors().hasErrors()).isFalse();
+        
+        assertThat(delta.getRevalidatedProperties())
+            .as("Seuls db.url et ses dépendants sont revérifiés")
+            .containsExactlyInAnyOrder("db.url", "app.database.url");
+        
+        assertThat(delta.getCurrentResult().getErrors())
+            .extracting("propertyName")
+            .containsExactly("app.cache.host");
+        
+        assertThat(published).hasSize(1);
+        assertThat(((ConfigurationRevalidatedEvent) published.get(0)).getDelta()).isSameAs(delta);
+    }
+    
+    @Test
+    @DisplayName("[TEST-REFRESH-02] Référence circulaire introduite par un rafraîchissement")
+    void testRefresh02_ReferenceCirculaireIntroduite() {
+        // Given
+        MockEnvironment env = new MockEnvironment();
+        env.setProperty("app.url", "${base.url}/api");
+        env.setProperty("base.url", "http://localhost");
+        
+        SpringBootConfigurationRevalidator revalidator =
+            new SpringBootConfigurationRevalidator(new SpringBootConfigurationValidator(env), event -> { });
+        revalidator.initialize();
+        
+        // When
+        env.setProperty("base.url", "${app.url}");
+        ValidationDelta delta = revalidator.revalidate(Set.of("base.url"));
+        
+        // Then
+        assertThat(delta.getNewErrors().getErrors())
+            .extracting("type")
+            .containsExactly(ErrorType.CIRCULAR_REFERENCE);
+        assertThat(delta.getNewErrors().getErrors().get(0).getErrorMessage())
+            .contains("app.url")
+            .contains("base.url");
+        assertThat(delta.getResolvedErrors().hasErrors()).isFalse();
+    }
+    
+    @Test
+    @DisplayName("[TEST-REFRESH-03] Variable d'environnement modifiée sous sa forme relâchée")
+    void testRefresh03_VariableEnvironnementFormeRelachee() {
+        // Given - ${app.url} n'est défini nulle part
+        MockEnvironment env = new MockEnvironment();
+        env.setProperty("app.endpoint", "${app.url}/api");
+        Map<String, Object> systemEnv = new HashMap<>();
+        env.getPropertySources().addLast(new SystemEnvironmentPropertySource(
+            StandardEnvironment.SYSTEM_ENVIRONMENT_PROPERTY_SOURCE_NAME, systemEnv));
+        
+        SpringBootConfigurationRevalidator revalidator =
+            new SpringBootConfigurationRevalidator(new SpringBootConfigurationValidator(env), event -> { });
+        revalidator.initialize();
+        
+        // When - le rafraîchissement rapporte la clé brute APP_URL
+        systemEnv.put("APP_URL", "http://localhost");
+        ValidationDelta delta = revalidator.revalidate(Set.of("APP_URL"));
+        
+        // Then - app.endpoint, qui référence ${app.url}, est revérifiée
+        assertThat(delta.getRevalidatedProperties()).contains("app.endpoint");
+        assertThat(delta.getResolvedErrors().getErrors())
+            .extracting("propertyName")
+            .containsExactly("app.endpoint");
+        assertThat(delta.getCurrentResult().hasErrors()).isFalse();
+    }
+}
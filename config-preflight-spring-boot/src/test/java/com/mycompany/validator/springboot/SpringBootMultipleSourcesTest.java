@@ -189,4 +189,37 @@ class SpringBootMultipleSourcesTest {
             .as("Ne doit pas avoir d'erreurs")
             .isEmpty();
     }
+    
+    @Test
+    @DisplayName("[TEST-IMP-EXTRA-03] Référence Circulaire entre Sources")
+    void testImpExtra03_ReferenceCirculaireEntreSources() {
+        // Given - a=${b} dans une source, b=${a} dans une autre
+        MockEnvironment env = new MockEnvironment();
+        MutablePropertySources propertySources = env.getPropertySources();
+        
+        Map<String, Object> source1 = new HashMap<>();
+        source1.put("app.a", "${app.b}");
+        source1.put("app.c", "${app.a}"); // Dépend du cycle
+        propertySources.addFirst(new MapPropertySource("source1", source1));
+        
+        Map<String, Object> source2 = new HashMap<>();
+        source2.put("app.b", "prefix-${app.a}");
+        propertySources.addLast(new MapPropertySource("source2", source2));
+        
+        SpringBootConfigurationValidator validator = new SpringBootConfigurationValidator(env);
+        
+        // When
+        ValidationResult result = validator.validatePlaceholders();
+        
+        // Then
+        assertThat(result.getErrors())
+            .as("Le cycle doit être rapporté une seule fois, sans erreurs de résolution en cascade")
+            .hasSize(1);
+        
+        ConfigurationError error = result.getErrors().get(0);
+        assertThat(error.getType()).isEqualTo(ErrorType.CIRCULAR_REFERENCE);
+        assertThat(error.getErrorMessage())
+            .as("Le message doit contenir la chaîne complète")
+            .contains("app.a -> app.b -> app.a");
+    }
 }
@@ -1,6 +1,7 @@
 package com.mycompany.validator.springboot;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
 import org.springframework.mock.env.MockEnvironment;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -60,6 +61,42 @@ class SpringBootPropertyBindingResolverTest {
             resolver.findActualPropertyName("app.database.url"));
     }
     
+    @Test
+    void testPropertyExistsViaCamelCaseAndKebabCase() {
+        MockEnvironment env = new MockEnvironment();
+        env.setProperty("appDatabaseUrl", "jdbc:postgresql://localhost:5432/mydb");
+        env.setProperty("app.redis-host", "localhost");
+        
+        SpringBootPropertyBindingResolver resolver = new SpringBootPropertyBindingResolver(env);
+        
+        // ✅ Une seule recherche dans l'index, quelle que soit la variante
+        assertTrue(resolver.propertyExists("app.database.url"));
+        assertTrue(resolver.propertyExists("APP_REDIS_HOST"));
+        assertEquals("app.redis-host", resolver.findActualPropertyName("app.redisHost"));
+    }
+    
+    @Test
+    void testProcessEnvironmentOnlyWhenExposedByEnvironment() {
+        assertNotNull(System.getenv("PATH"));
+        
+        // MockEnvironment n'a pas de source systemEnvironment : PATH n'y est pas défini
+        assertFalse(new SpringBootPropertyBindingResolver(new MockEnvironment()).propertyExists("path"));
+        assertTrue(new SpringBootPropertyBindingResolver(new StandardEnvironment()).propertyExists("path"));
+    }
+    
+    @Test
+    void testRefreshIndex() {
+        MockEnvironment env = new MockEnvironment();
+        SpringBootPropertyBindingResolver resolver = new SpringBootPropertyBindingResolver(env);
+        assertFalse(resolver.propertyExists("app.late.property"));
+        
+        env.setProperty("APP_LATE_PROPERTY", "value");
+        resolver.refreshIndex();
+        
+        // ✅ L'index est reconstruit pour la validation suivante
+        assertTrue(resolver.propertyExists("app.late.property"));
+    }
+    
     @Test
     void testGenerateSuggestion() {
         MockEnvironment env = new MockEnvironment();
@@ -0,0 +1,42 @@
+package com.mycompany.validator.springboot;
+
+import com.mycompany.validator.core.engine.ValidationRun;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests du partage d'un run entre les phases d'un même Environment.
+ */
+@DisplayName("SpringBootValidationCoordinator")
+class SpringBootValidationCoordinatorTest {
+    
+    @Test
+    @DisplayName("Le run est réutilisé tant que les sources ne changent pas")
+    void testRunFollowsPropertySources() {
+        MockEnvironment environment = new MockEnvironment();
+        Map<String, Object> values = new HashMap<>();
+        values.put("app.name", "demo");
+        environment.getPropertySources().addFirst(new MapPropertySource("test", values));
+        SpringBootValidationCoordinator coordinator = SpringBootValidationCoordinator.forEnvironment(environment);
+        
+        ValidationRun run = coordinator.currentRun();
+        assertThat(coordinator.currentRun()).isSameAs(run);
+        
+        // Source de type Map modifiée sur place
+        values.put("app.url", "jdbc:h2:mem");
+        ValidationRun afterPut = coordinator.currentRun();
+        assertThat(afterPut).isNotSameAs(run);
+        assertThat(coordinator.currentRun()).isSameAs(afterPut);
+        
+        // Source ajoutée
+        environment.getPropertySources().addLast(new MapPropertySource("other", Map.of("app.port", "8080")));
+        assertThat(coordinator.currentRun()).isNotSameAs(afterPut);
+    }
+}
@@ -2,10 +2,12 @@ package io.github.tourem.test.micronaut.config;
 
 import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.context.annotation.Context;
+import io.micronaut.core.annotation.Introspected;
 import jakarta.inject.Singleton;
 
 @Context
 @Singleton
+@Introspected
 @ConfigurationProperties("api")
 public class ApiConfig {
     private String endpoint;